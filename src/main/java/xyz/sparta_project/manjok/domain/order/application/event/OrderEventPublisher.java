@@ -4,11 +4,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import xyz.sparta_project.manjok.global.infrastructure.event.dto.OrderCancelRequestedEvent;
+import xyz.sparta_project.manjok.global.infrastructure.event.dto.OrderCompletedEvent;
 import xyz.sparta_project.manjok.global.infrastructure.event.dto.OrderPaymentRequestedEvent;
 import xyz.sparta_project.manjok.domain.order.domain.model.Order;
 import xyz.sparta_project.manjok.global.infrastructure.event.service.EventPublisher;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Order 도메인 이벤트 발행자
@@ -65,6 +67,33 @@ public class OrderEventPublisher {
                 order.getId(), order.getPayment().getPaymentId(), order.getTotalPrice());
     }
 
+    /**
+     * 주문 완료 이벤트 발행 (Order → Restaurant)
+     * - 식당/메뉴 구매 통계, 랭킹, 트렌딩 집계용
+     */
+    public void publishOrderCompleted(Order order) {
+        if (order.getItems().isEmpty()) {
+            return;
+        }
+
+        List<OrderCompletedEvent.OrderMenuItem> menuItems = order.getItems().stream()
+                .map(item -> new OrderCompletedEvent.OrderMenuItem(item.getMenuId(), item.getQuantity()))
+                .toList();
+
+        OrderCompletedEvent event = new OrderCompletedEvent(
+                order.getId(),
+                order.getItems().get(0).getRestaurantId(),
+                menuItems,
+                order.getTotalPrice(),
+                order.getCompletedAt()
+        );
+
+        eventPublisher.publish(event);
+
+        log.info("주문 완료 이벤트 발행: orderId={}, restaurantId={}",
+                order.getId(), event.getRestaurantId());
+    }
+
     /**
      * 주문명 생성
      */
@@ -0,0 +1,38 @@
+package xyz.sparta_project.manjok.domain.order.application.event.handler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.domain.order.application.service.OrderCommandService;
+import xyz.sparta_project.manjok.global.infrastructure.event.dto.PaymentFailedEvent;
+import xyz.sparta_project.manjok.global.infrastructure.event.handler.EventHandler;
+import xyz.sparta_project.manjok.global.infrastructure.event.handler.EventHandlerProcessor;
+
+/**
+ * 결제 실패 이벤트 핸들러 (Payment → Order)
+ * 결제 검증/승인이 실패한 주문을 취소하고 예약한 재고를 반환
+ */
+@Slf4j
+@Component
+@EventHandler(eventType = PaymentFailedEvent.class)
+@RequiredArgsConstructor
+public class PaymentFailedEventHandler implements EventHandlerProcessor<PaymentFailedEvent> {
+
+    private final OrderCommandService orderCommandService;
+
+    @Override
+    public void handle(PaymentFailedEvent event) throws Exception {
+        log.info("결제 실패 이벤트 수신: orderId={}, paymentId={}, reason={}",
+                event.getOrderId(), event.getPaymentId(), event.getFailureReason());
+
+        try {
+            orderCommandService.failPayment(event.getOrderId(), event.getFailureReason());
+
+            log.info("결제 실패 이벤트 처리 성공: orderId={}", event.getOrderId());
+
+        } catch (Exception e) {
+            log.error("결제 실패 이벤트 처리 실패: orderId={}", event.getOrderId(), e);
+            throw e;
+        }
+    }
+}
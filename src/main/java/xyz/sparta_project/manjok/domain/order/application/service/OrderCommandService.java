@@ -9,9 +9,13 @@ import xyz.sparta_project.manjok.domain.order.domain.exception.OrderErrorCode;
 import xyz.sparta_project.manjok.domain.order.domain.exception.OrderException;
 import xyz.sparta_project.manjok.domain.order.domain.model.*;
 import xyz.sparta_project.manjok.domain.order.domain.repository.OrderRepository;
+import xyz.sparta_project.manjok.domain.order.domain.service.MenuStockClient;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Order Command Service
@@ -25,6 +29,22 @@ public class OrderCommandService {
 
     private final OrderRepository orderRepository;
     private final OrderEventPublisher orderEventPublisher;
+    private final MenuStockClient menuStockClient;
+    private final OrderPricingEngine orderPricingEngine;
+
+    /**
+     * 주문 요청 (가격 계산 후 결제 대기 상태로 생성)
+     * - 주문 라인의 이름/가격은 식당 가격표로 다시 계산
+     */
+    public Order placeOrder(
+            Orderer orderer,
+            List<OrderLine> lines,
+            String paymentKey,
+            String createdBy
+    ) {
+        List<OrderItem> items = orderPricingEngine.price(lines);
+        return createOrder(orderer, items, paymentKey, createdBy);
+    }
 
     /**
      * 주문 생성 (결제 대기 상태)
@@ -49,6 +69,9 @@ public class OrderCommandService {
                 createdBy
         );
 
+        // 메뉴 일일 재고 예약 (품절이면 주문 실패, 앞서 예약한 메뉴는 트랜잭션 롤백으로 복구)
+        reserveStock(order);
+
         // 저장
         Order savedOrder = orderRepository.save(order);
 
@@ -184,6 +207,9 @@ public class OrderCommandService {
         order.complete(LocalDateTime.now(), userId);
         orderRepository.save(order);
 
+        // 식당 통계 반영 이벤트 발행
+        orderEventPublisher.publishOrderCompleted(order);
+
         log.info("주문 완료 처리 완료: orderId={}, status=COMPLETED", orderId);
     }
 
@@ -220,6 +246,7 @@ public class OrderCommandService {
 //        orderEventPublisher.publishOrderCancelRequested(order, cancelReason, userId);
         order.cancel(cancelReason,LocalDateTime.now(), userId);
         orderRepository.save(order);
+        releaseStock(order);
         log.info("환불 요청 이벤트 발행 완료: orderId={}, paymentId={}",
                 orderId, order.getPayment().getPaymentId());
     }
@@ -254,6 +281,7 @@ public class OrderCommandService {
         order.cancel(cancelReason, LocalDateTime.now(), "SYSTEM");
 
         orderRepository.save(order);
+        releaseStock(order);
 
         log.info("주문 취소 완료 처리 완료: orderId={}, status=CANCELED", orderId);
     }
@@ -292,6 +320,35 @@ public class OrderCommandService {
         // 임시: 로그만 남기고 추후 보상 로직 추가
     }
 
+    /**
+     * 결제 실패 처리
+     * Payment에서 결제 검증/승인이 실패한 경우 호출됨 (PaymentFailedEvent 수신 시)
+     * - 결제 대기 주문을 취소하고 예약한 재고 반환
+     */
+    public void failPayment(String orderId, String failureReason) {
+        log.info("결제 실패 처리 시작: orderId={}, reason={}", orderId, failureReason);
+
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderException(OrderErrorCode.ORDER_NOT_FOUND));
+
+        cancelPaymentPending(order, "결제 실패: " + failureReason);
+    }
+
+    /**
+     * 결제 미완료 주문 만료
+     * 결제 대기 상태로 만료 시각이 지난 주문을 취소하고 예약한 재고 반환 (결제 이탈 주문)
+     * - 그 사이 결제가 완료되었거나 취소된 주문은 건너뜀
+     *
+     * @return 만료 처리 여부
+     */
+    public boolean expirePaymentPending(String orderId, LocalDateTime createdBefore) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || order.getCreatedAt() == null || !order.getCreatedAt().isBefore(createdBefore)) {
+            return false;
+        }
+        return cancelPaymentPending(order, "결제 시간 만료");
+    }
+
     /**
      * 소프트 삭제
      */
@@ -312,6 +369,55 @@ public class OrderCommandService {
         log.info("주문 삭제 완료: orderId={}", orderId);
     }
 
+    /**
+     * 결제 대기 주문 취소 + 재고 반환 (이미 다른 상태면 무시)
+     */
+    private boolean cancelPaymentPending(Order order, String cancelReason) {
+        if (order.getStatus() != OrderStatus.PAYMENT_PENDING) {
+            log.info("결제 대기 상태가 아닌 주문: orderId={}, status={}", order.getId(), order.getStatus());
+            return false;
+        }
+
+        order.cancel(cancelReason, LocalDateTime.now(), "SYSTEM");
+        orderRepository.save(order);
+        releaseStock(order);
+
+        log.info("결제 대기 주문 취소 및 재고 반환: orderId={}, reason={}", order.getId(), cancelReason);
+        return true;
+    }
+
+    /**
+     * 메뉴 일일 재고 예약
+     * - 같은 메뉴 수량을 합쳐 메뉴당 UPDATE 1회
+     * - 메뉴 ID 순서로 예약 → 여러 메뉴를 담은 주문끼리 행 잠금 순서가 같아 교착 없음
+     */
+    private void reserveStock(Order order) {
+        LocalDate stockDate = order.getRequestedAt().toLocalDate();
+        quantitiesByMenu(order).forEach((menuId, quantity) -> {
+            if (!menuStockClient.reserve(menuId, quantity, stockDate)) {
+                log.info("품절 메뉴 주문: menuId={}, quantity={}", menuId, quantity);
+                throw new OrderException(OrderErrorCode.MENU_SOLD_OUT);
+            }
+        });
+    }
+
+    /**
+     * 취소된 주문의 메뉴 재고 반환 (주문 요청일 재고에만 반환)
+     */
+    private void releaseStock(Order order) {
+        LocalDate stockDate = order.getRequestedAt().toLocalDate();
+        quantitiesByMenu(order).forEach((menuId, quantity) ->
+                menuStockClient.release(menuId, quantity, stockDate));
+    }
+
+    private Map<String, Integer> quantitiesByMenu(Order order) {
+        Map<String, Integer> quantities = new TreeMap<>();
+        for (OrderItem item : order.getItems()) {
+            quantities.merge(item.getMenuId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
     /**
      * 레스토랑 접근 권한 확인
      */
@@ -0,0 +1,139 @@
+package xyz.sparta_project.manjok.domain.order.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.domain.order.domain.exception.OrderErrorCode;
+import xyz.sparta_project.manjok.domain.order.domain.exception.OrderException;
+import xyz.sparta_project.manjok.domain.order.domain.model.*;
+import xyz.sparta_project.manjok.domain.order.domain.model.MenuPriceBook.MenuPrice;
+import xyz.sparta_project.manjok.domain.order.domain.model.MenuPriceBook.OptionGroupPrice;
+import xyz.sparta_project.manjok.domain.order.domain.model.MenuPriceBook.OptionPrice;
+import xyz.sparta_project.manjok.domain.order.domain.model.MenuPriceBook.RestaurantLocation;
+import xyz.sparta_project.manjok.domain.order.domain.model.OrderLine.OptionSelection;
+import xyz.sparta_project.manjok.domain.order.domain.service.MenuPriceClient;
+
+import java.util.*;
+
+/**
+ * 주문 가격 계산 엔진
+ * - 주문 라인을 식당 가격표의 현재 메뉴/옵션 그룹/옵션으로 해석해 OrderItem 생성 (고객이 보낸 이름/가격 사용 안 함)
+ * - 식당 이름/연락처/주소도 가격표 기준 (좌표 미등록 식당만 요청 좌표 사용)
+ * - 식당이 주문을 받을 수 없으면(영업 종료/준비 중 등) 거절
+ * - 옵션 그룹 선택 규칙 검증: 그룹별 선택 수량 합이 min~max 범위 (필수 그룹은 최소 1개)
+ * - 가격표는 식당당 1회 조회, 같은 메뉴가 여러 라인에 있으면 메뉴 가격도 1회만 변환
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderPricingEngine {
+
+    private final MenuPriceClient menuPriceClient;
+
+    /**
+     * 주문 라인 가격 계산
+     * @return 라인 순서대로 가격이 계산된 주문 아이템
+     */
+    public List<OrderItem> price(List<OrderLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new OrderException(OrderErrorCode.INVALID_ORDER_ITEMS);
+        }
+
+        Map<String, PricedRestaurant> restaurants = new HashMap<>();
+        List<OrderItem> items = new ArrayList<>(lines.size());
+        for (OrderLine line : lines) {
+            if (line.restaurant() == null) {
+                throw new OrderException(OrderErrorCode.INVALID_ORDER_ITEMS, "레스토랑 정보는 필수입니다.");
+            }
+            PricedRestaurant restaurant = restaurants.computeIfAbsent(
+                    line.restaurant().getRestaurantId(), id -> loadRestaurant(id, line.restaurant()));
+            items.add(priceLine(restaurant, line));
+        }
+        return items;
+    }
+
+    private PricedRestaurant loadRestaurant(String restaurantId, Restaurant requested) {
+        MenuPriceBook book = menuPriceClient.findPriceBook(restaurantId)
+                .orElseThrow(() -> new OrderException(OrderErrorCode.MENU_NOT_ORDERABLE,
+                        "주문할 수 없는 레스토랑입니다. restaurantId=" + restaurantId));
+        if (!book.isAcceptingOrders()) {
+            throw new OrderException(OrderErrorCode.RESTAURANT_NOT_ACCEPTING_ORDERS,
+                    "현재 주문을 받을 수 없는 레스토랑입니다. restaurantId=" + restaurantId);
+        }
+        Restaurant restaurant = Restaurant.create(
+                restaurantId, book.getRestaurantName(), book.getContactNumber(), toAddress(book.getLocation(), requested));
+        return new PricedRestaurant(book, restaurant, new HashMap<>());
+    }
+
+    /**
+     * 가격표의 식당 주소로 주문 주소 생성
+     * - 식당에 좌표가 없으면 요청 좌표로 보완 (시/도~상세 주소는 항상 서버 값)
+     */
+    private Address toAddress(RestaurantLocation location, Restaurant requested) {
+        Coordinate coordinate = location.latitude() != null && location.longitude() != null
+                ? Coordinate.create(location.latitude(), location.longitude())
+                : requested.getAddress() != null ? requested.getAddress().getCoordinate() : null;
+        return Address.create(location.province(), location.city(), location.district(),
+                location.detailAddress(), coordinate);
+    }
+
+    private OrderItem priceLine(PricedRestaurant restaurant, OrderLine line) {
+        MenuPrice menu = restaurant.findMenu(line.menuId())
+                .orElseThrow(() -> new OrderException(OrderErrorCode.MENU_NOT_ORDERABLE,
+                        "주문할 수 없는 메뉴입니다. menuId=" + line.menuId()));
+
+        // 요청 순서를 유지하며 옵션 그룹별로 묶음
+        Map<String, List<OptionSelection>> selectionsByGroup = new LinkedHashMap<>();
+        for (OptionSelection selection : line.options()) {
+            if (!menu.optionGroups().containsKey(selection.optionGroupId())) {
+                throw new OrderException(OrderErrorCode.OPTION_NOT_ORDERABLE,
+                        "선택할 수 없는 옵션 그룹입니다. optionGroupId=" + selection.optionGroupId());
+            }
+            selectionsByGroup.computeIfAbsent(selection.optionGroupId(), id -> new ArrayList<>()).add(selection);
+        }
+
+        // 선택하지 않은 그룹 포함 전체 그룹의 선택 규칙 검증
+        for (OptionGroupPrice group : menu.optionGroups().values()) {
+            int selected = selectionsByGroup.getOrDefault(group.optionGroupId(), List.of()).stream()
+                    .mapToInt(OptionSelection::quantity)
+                    .sum();
+            if (selected < group.minSelection() || selected > group.maxSelection()) {
+                throw new OrderException(OrderErrorCode.INVALID_OPTION_SELECTION, String.format(
+                        "'%s' 옵션은 %d개 이상 %d개 이하로 선택해야 합니다. (선택: %d개)",
+                        group.groupName(), group.minSelection(), group.maxSelection(), selected));
+            }
+        }
+
+        List<OrderOptionGroup> optionGroups = new ArrayList<>(selectionsByGroup.size());
+        selectionsByGroup.forEach((groupId, selections) -> {
+            OptionGroupPrice group = menu.optionGroups().get(groupId);
+            Set<String> selectedOptionIds = new HashSet<>();
+            List<OrderOption> options = new ArrayList<>(selections.size());
+            for (OptionSelection selection : selections) {
+                OptionPrice option = group.options().get(selection.optionId());
+                if (option == null) {
+                    throw new OrderException(OrderErrorCode.OPTION_NOT_ORDERABLE,
+                            "선택할 수 없는 옵션입니다. optionId=" + selection.optionId());
+                }
+                if (!selectedOptionIds.add(option.optionId())) {
+                    throw new OrderException(OrderErrorCode.INVALID_OPTION_SELECTION,
+                            "같은 옵션을 중복 선택할 수 없습니다. optionId=" + option.optionId());
+                }
+                options.add(OrderOption.create(
+                        option.optionName(), option.description(), option.additionalPrice(), selection.quantity()));
+            }
+            optionGroups.add(OrderOptionGroup.create(group.groupName(), options));
+        });
+
+        return OrderItem.create(menu.menuId(), menu.menuName(), menu.price(), line.quantity(),
+                restaurant.restaurant(), optionGroups);
+    }
+
+    /**
+     * 주문 하나 안에서 재사용하는 식당 가격표 (메뉴 변환 결과 캐시 포함)
+     */
+    private record PricedRestaurant(MenuPriceBook book, Restaurant restaurant, Map<String, Optional<MenuPrice>> menus) {
+
+        Optional<MenuPrice> findMenu(String menuId) {
+            return menus.computeIfAbsent(menuId, book::findMenu);
+        }
+    }
+}
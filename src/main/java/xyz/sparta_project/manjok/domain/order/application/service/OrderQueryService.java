@@ -11,6 +11,8 @@ import xyz.sparta_project.manjok.domain.order.domain.exception.OrderException;
 import xyz.sparta_project.manjok.domain.order.domain.model.Order;
 import xyz.sparta_project.manjok.domain.order.domain.model.OrderStatus;
 import xyz.sparta_project.manjok.domain.order.domain.repository.OrderRepository;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
 
 import java.time.LocalDateTime;
 
@@ -48,6 +50,13 @@ public class OrderQueryService {
         return orderRepository.findByUserId(userId, pageable);
     }
 
+    /**
+     * 사용자의 주문 목록 조회 (커서 페이지네이션)
+     */
+    public CursorSlice<Order> getUserOrdersWithCursor(String userId, CursorRequest cursorRequest) {
+        return orderRepository.findByUserIdWithCursor(userId, cursorRequest);
+    }
+
     /**
      * 사용자의 주문 목록 조회 (상태 필터)
      */
@@ -62,6 +71,13 @@ public class OrderQueryService {
         return orderRepository.findByRestaurantId(restaurantId, pageable);
     }
 
+    /**
+     * 레스토랑의 주문 목록 조회 (커서 페이지네이션)
+     */
+    public CursorSlice<Order> getRestaurantOrdersWithCursor(String restaurantId, CursorRequest cursorRequest) {
+        return orderRepository.findByRestaurantIdWithCursor(restaurantId, cursorRequest);
+    }
+
     /**
      * 레스토랑의 주문 목록 조회 (상태 필터)
      */
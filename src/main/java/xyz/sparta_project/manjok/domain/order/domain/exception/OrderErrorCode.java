@@ -19,6 +19,13 @@ public enum OrderErrorCode implements ErrorCode {
     INVALID_PRICE("ORDER_005", "가격은 0보다 커야 합니다.", 400),
     INVALID_ADDRESS("ORDER_006", "유효하지 않은 주소 정보입니다.", 400),
     INVALID_COORDINATE("ORDER_007", "유효하지 않은 좌표 정보입니다.", 400),
+    MENU_SOLD_OUT("ORDER_008", "품절된 메뉴가 포함되어 있습니다.", 409),
+    RESTAURANT_NOT_ACCEPTING_ORDERS("ORDER_009", "현재 주문을 받을 수 없는 레스토랑입니다.", 409),
+
+    // 가격 계산 관련 (ORDER_010~019)
+    MENU_NOT_ORDERABLE("ORDER_010", "주문할 수 없는 메뉴가 포함되어 있습니다.", 400),
+    OPTION_NOT_ORDERABLE("ORDER_011", "선택할 수 없는 옵션이 포함되어 있습니다.", 400),
+    INVALID_OPTION_SELECTION("ORDER_012", "옵션 선택 규칙에 맞지 않습니다.", 400),
 
     // 조회 관련 (ORDER_020~029)
     ORDER_NOT_FOUND("ORDER_020", "주문을 찾을 수 없습니다.", 404),
@@ -0,0 +1,64 @@
+package xyz.sparta_project.manjok.domain.order.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 식당 주문 가격표 (주문 가격 계산용 읽기 모델)
+ * - 주문 가능한 메뉴/옵션 그룹/옵션의 현재 이름, 가격, 선택 규칙
+ * - 주문에 담을 식당 이름/연락처/주소도 가격표(서버 값) 기준
+ * - version이 같으면 같은 가격표
+ */
+public interface MenuPriceBook {
+
+    String getRestaurantId();
+
+    String getRestaurantName();
+
+    String getContactNumber();
+
+    /**
+     * 식당 주소 (좌표 미등록 식당은 위도/경도 null)
+     */
+    RestaurantLocation getLocation();
+
+    long getVersion();
+
+    /**
+     * 현재 주문 접수 가능 여부 (식당 상태 OPEN + 운영 시간 내)
+     */
+    boolean isAcceptingOrders();
+
+    /**
+     * 주문 가능한 메뉴 조회 (없거나 판매 중지면 empty)
+     */
+    Optional<MenuPrice> findMenu(String menuId);
+
+    /**
+     * 메뉴 가격 (옵션 그룹 ID → 옵션 그룹)
+     */
+    record MenuPrice(String menuId, String menuName, BigDecimal price,
+                     Map<String, OptionGroupPrice> optionGroups) {
+    }
+
+    /**
+     * 옵션 그룹 선택 규칙 (필수 그룹은 minSelection >= 1)과 옵션 가격 (옵션 ID → 옵션)
+     */
+    record OptionGroupPrice(String optionGroupId, String groupName, int minSelection, int maxSelection,
+                            Map<String, OptionPrice> options) {
+    }
+
+    /**
+     * 식당 주소와 좌표
+     */
+    record RestaurantLocation(String province, String city, String district, String detailAddress,
+                              BigDecimal latitude, BigDecimal longitude) {
+    }
+
+    /**
+     * 옵션 추가 가격
+     */
+    record OptionPrice(String optionId, String optionName, String description, BigDecimal additionalPrice) {
+    }
+}
@@ -0,0 +1,22 @@
+package xyz.sparta_project.manjok.domain.order.domain.model;
+
+import java.util.List;
+
+/**
+ * 주문 라인 요청 (가격 계산 전)
+ * - 고객은 메뉴/옵션 ID와 수량만 지정, 이름과 가격은 가격표로 다시 계산
+ *
+ * @param restaurant 레스토랑 연락처/주소 (이름은 가격표 기준으로 교체)
+ */
+public record OrderLine(String menuId, int quantity, Restaurant restaurant, List<OptionSelection> options) {
+
+    public OrderLine {
+        options = options != null ? List.copyOf(options) : List.of();
+    }
+
+    /**
+     * 옵션 선택 (옵션 그룹 ID, 옵션 ID, 수량)
+     */
+    public record OptionSelection(String optionGroupId, String optionId, int quantity) {
+    }
+}
@@ -4,6 +4,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import xyz.sparta_project.manjok.domain.order.domain.model.Order;
 import xyz.sparta_project.manjok.domain.order.domain.model.OrderStatus;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,6 +38,12 @@ public interface OrderRepository {
      */
     Page<Order> findByUserId(String userId, Pageable pageable);
 
+    /**
+     * 사용자의 주문 목록 조회 (커서 페이지네이션)
+     * - OFFSET/COUNT 없이 (정렬 컬럼, id) 기준으로 이어서 조회
+     */
+    CursorSlice<Order> findByUserIdWithCursor(String userId, CursorRequest cursorRequest);
+
     /**
      * 사용자의 주문 목록 조회 with 상태 필터 (페이징)
      */
@@ -47,6 +55,12 @@ public interface OrderRepository {
      */
     Page<Order> findByRestaurantId(String restaurantId, Pageable pageable);
 
+    /**
+     * 레스토랑의 주문 목록 조회 (커서 페이지네이션)
+     * 매장 주인용
+     */
+    CursorSlice<Order> findByRestaurantIdWithCursor(String restaurantId, CursorRequest cursorRequest);
+
     /**
      * 레스토랑의 주문 목록 조회 with 상태 필터 (페이징)
      * 매장 주인용
@@ -92,6 +106,12 @@ public interface OrderRepository {
      */
     List<Order> findPendingOrdersAfterPaymentTime(LocalDateTime beforeTime);
 
+    /**
+     * 결제 대기 상태로 생성 시각이 지난 주문 ID 조회 (오래된 순, 최대 limit개)
+     * 배치용 - 결제 미완료 주문 만료
+     */
+    List<String> findPaymentPendingOrderIdsCreatedBefore(LocalDateTime createdBefore, int limit);
+
     /**
      * 주문 존재 여부 확인
      */
@@ -0,0 +1,18 @@
+package xyz.sparta_project.manjok.domain.order.domain.service;
+
+import xyz.sparta_project.manjok.domain.order.domain.model.MenuPriceBook;
+
+import java.util.Optional;
+
+/**
+ * 메뉴 가격표 클라이언트 도메인 인터페이스
+ * - 주문 가격 계산 시 식당별 현재 가격표 조회 (인프라 계층의 구현체와 도메인을 분리)
+ */
+public interface MenuPriceClient {
+
+    /**
+     * 식당 가격표 조회
+     * @return 식당이 없거나 삭제되었으면 empty
+     */
+    Optional<MenuPriceBook> findPriceBook(String restaurantId);
+}
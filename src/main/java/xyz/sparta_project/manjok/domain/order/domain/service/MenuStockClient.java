@@ -0,0 +1,23 @@
+package xyz.sparta_project.manjok.domain.order.domain.service;
+
+import java.time.LocalDate;
+
+/**
+ * 메뉴 재고 클라이언트 도메인 인터페이스
+ * - 주문 생성/취소 시 메뉴 일일 재고 예약/반환 (인프라 계층의 구현체와 도메인을 분리)
+ * - 호출한 주문 트랜잭션에 참여 → 주문이 롤백되면 예약도 롤백
+ */
+public interface MenuStockClient {
+
+    /**
+     * 메뉴 재고 예약 (일일 재고 미설정 메뉴는 항상 성공)
+     * @param stockDate 주문 요청일
+     * @return 남은 수량이 부족하면 false
+     */
+    boolean reserve(String menuId, int quantity, LocalDate stockDate);
+
+    /**
+     * 메뉴 재고 반환 (예약한 날이 지났으면 변경 없음)
+     */
+    void release(String menuId, int quantity, LocalDate stockDate);
+}
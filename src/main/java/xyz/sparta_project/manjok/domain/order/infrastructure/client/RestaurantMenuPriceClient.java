@@ -0,0 +1,100 @@
+package xyz.sparta_project.manjok.domain.order.infrastructure.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.domain.order.domain.model.MenuPriceBook;
+import xyz.sparta_project.manjok.domain.order.domain.service.MenuPriceClient;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuPriceIndex;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuPriceSnapshot;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Address;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Coordinate;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 메뉴 가격표 클라이언트 구현체
+ * - 같은 애플리케이션의 식당 도메인 가격표 인덱스를 직접 조회
+ * - 스냅샷 전체를 복사하지 않고 주문에 담긴 메뉴만 주문 도메인 타입으로 변환
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantMenuPriceClient implements MenuPriceClient {
+
+    private final MenuPriceIndex menuPriceIndex;
+
+    @Override
+    public Optional<MenuPriceBook> findPriceBook(String restaurantId) {
+        try {
+            MenuPriceSnapshot snapshot = menuPriceIndex.get(restaurantId);
+            return Optional.of(new SnapshotPriceBook(snapshot, menuPriceIndex.canAcceptOrder(snapshot)));
+        } catch (RestaurantException e) {
+            if (e.getErrorCode() == RestaurantErrorCode.RESTAURANT_NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    private record SnapshotPriceBook(MenuPriceSnapshot snapshot, boolean acceptingOrders) implements MenuPriceBook {
+
+        @Override
+        public String getRestaurantId() {
+            return snapshot.getRestaurantId();
+        }
+
+        @Override
+        public String getRestaurantName() {
+            return snapshot.getRestaurantName();
+        }
+
+        @Override
+        public String getContactNumber() {
+            return snapshot.getContactNumber();
+        }
+
+        @Override
+        public RestaurantLocation getLocation() {
+            Address address = snapshot.getAddress();
+            Coordinate coordinate = snapshot.getCoordinate();
+            return new RestaurantLocation(
+                    address.getProvince(),
+                    address.getCity(),
+                    address.getDistrict(),
+                    address.getDetailAddress(),
+                    coordinate != null ? coordinate.getLatitude() : null,
+                    coordinate != null ? coordinate.getLongitude() : null);
+        }
+
+        @Override
+        public long getVersion() {
+            return snapshot.getVersion();
+        }
+
+        @Override
+        public boolean isAcceptingOrders() {
+            return acceptingOrders;
+        }
+
+        @Override
+        public Optional<MenuPrice> findMenu(String menuId) {
+            return snapshot.findMenu(menuId).map(menu -> new MenuPrice(
+                    menu.menuId(),
+                    menu.menuName(),
+                    menu.price(),
+                    menu.optionGroups().values().stream()
+                            .map(group -> new OptionGroupPrice(
+                                    group.optionGroupId(),
+                                    group.groupName(),
+                                    group.minSelection(),
+                                    group.maxSelection(),
+                                    group.options().values().stream()
+                                            .map(option -> new OptionPrice(option.optionId(), option.optionName(),
+                                                    option.description(), option.additionalPrice()))
+                                            .collect(Collectors.toUnmodifiableMap(OptionPrice::optionId, o -> o))))
+                            .collect(Collectors.toUnmodifiableMap(OptionGroupPrice::optionGroupId, g -> g))));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package xyz.sparta_project.manjok.domain.order.infrastructure.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.domain.order.domain.service.MenuStockClient;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuStockService;
+
+import java.time.LocalDate;
+
+/**
+ * 메뉴 재고 클라이언트 구현체
+ * - 같은 애플리케이션의 식당 도메인 재고 서비스를 직접 호출 (주문 트랜잭션 공유)
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantMenuStockClient implements MenuStockClient {
+
+    private final MenuStockService menuStockService;
+
+    @Override
+    public boolean reserve(String menuId, int quantity, LocalDate stockDate) {
+        return menuStockService.reserve(menuId, quantity, stockDate);
+    }
+
+    @Override
+    public void release(String menuId, int quantity, LocalDate stockDate) {
+        menuStockService.release(menuId, quantity, stockDate);
+    }
+}
@@ -16,7 +16,17 @@ import java.util.stream.Collectors;
  * Order JPA Entity
  */
 @Entity
-@Table(name = "p_orders")
+@Table(name = "p_orders", indexes = {
+        // 사용자 주문 목록 (삭제 제외, 최신순) / 상태 필터
+        @Index(name = "idx_order_user_deleted_created", columnList = "orderer_user_id, is_deleted, created_at"),
+        @Index(name = "idx_order_user_status_deleted_created",
+                columnList = "orderer_user_id, status, is_deleted, created_at"),
+        // 관리자 상태별 목록 / 결제 완료 후 미접수 주문 조회
+        @Index(name = "idx_order_status_deleted_created", columnList = "status, is_deleted, created_at"),
+        @Index(name = "idx_order_status_payment_completed", columnList = "status, payment_completed_at"),
+        // 관리자 전체/기간 목록
+        @Index(name = "idx_order_deleted_created", columnList = "is_deleted, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
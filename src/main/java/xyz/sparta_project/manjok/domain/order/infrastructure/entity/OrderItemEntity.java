@@ -14,7 +14,10 @@ import java.util.stream.Collectors;
  * OrderItem Entity
  */
 @Entity
-@Table(name = "p_order_items")
+@Table(name = "p_order_items", indexes = {
+        // 식당별 주문 조회 (주문 항목 → 주문)
+        @Index(name = "idx_order_item_restaurant_order", columnList = "restaurant_id, order_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
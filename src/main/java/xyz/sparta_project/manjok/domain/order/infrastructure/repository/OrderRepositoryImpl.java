@@ -1,7 +1,10 @@
 package xyz.sparta_project.manjok.domain.order.infrastructure.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -15,9 +18,14 @@ import xyz.sparta_project.manjok.domain.order.domain.model.OrderStatus;
 import xyz.sparta_project.manjok.domain.order.domain.repository.OrderRepository;
 import xyz.sparta_project.manjok.domain.order.infrastructure.jpa.OrderJpaRepository;
 import xyz.sparta_project.manjok.domain.order.infrastructure.entity.OrderEntity;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
+import xyz.sparta_project.manjok.global.infrastructure.persistence.CursorQuerySupport;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -122,6 +130,11 @@ public class OrderRepositoryImpl implements OrderRepository {
         return new PageImpl<>(orders, pageable, total != null ? total : 0L);
     }
 
+    @Override
+    public CursorSlice<Order> findByUserIdWithCursor(String userId, CursorRequest cursorRequest) {
+        return findWithCursor(orderEntity.orderer.userId.eq(userId), cursorRequest);
+    }
+
     @Override
     public Page<Order> findByUserIdAndStatus(String userId, OrderStatus status, Pageable pageable) {
         // 1. ID만 먼저 조회 (페이징)
@@ -210,6 +223,21 @@ public class OrderRepositoryImpl implements OrderRepository {
         return new PageImpl<>(orders, pageable, total != null ? total : 0L);
     }
 
+    @Override
+    public CursorSlice<Order> findByRestaurantIdWithCursor(String restaurantId, CursorRequest cursorRequest) {
+        // join + distinct 대신 EXISTS 서브쿼리로 주문 행 중복 없이 필터
+        BooleanExpression hasRestaurantItem = JPAExpressions
+                .selectOne()
+                .from(orderItemEntity)
+                .where(
+                        orderItemEntity.order.eq(orderEntity),
+                        orderItemEntity.restaurant.restaurantId.eq(restaurantId)
+                )
+                .exists();
+
+        return findWithCursor(hasRestaurantItem, cursorRequest);
+    }
+
     @Override
     public Page<Order> findByRestaurantIdAndStatus(String restaurantId, OrderStatus status, Pageable pageable) {
         // 1. ID만 먼저 조회 (페이징)
@@ -444,6 +472,22 @@ public class OrderRepositoryImpl implements OrderRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<String> findPaymentPendingOrderIdsCreatedBefore(LocalDateTime createdBefore, int limit) {
+        // idx_order_status_deleted_created (status, is_deleted, created_at) 범위 조회
+        return queryFactory
+                .select(orderEntity.id)
+                .from(orderEntity)
+                .where(
+                        orderEntity.status.eq(OrderStatus.PAYMENT_PENDING),
+                        isNotDeleted(),
+                        orderEntity.createdAt.before(createdBefore)
+                )
+                .orderBy(orderEntity.createdAt.asc())
+                .limit(limit)
+                .fetch();
+    }
+
     @Override
     public boolean existsById(String id) {
         Integer count = queryFactory
@@ -475,6 +519,62 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderEntity.isDeleted.eq(false);
     }
 
+    /**
+     * 커서 페이지네이션 공통 조회
+     * 1. (id, 정렬값)만 size+1 건 조회 (마지막 행 이후 조건)
+     * 2. ID로 fetch join 후 1번 순서대로 재배열
+     * - 두 쿼리 사이에 삭제된 행은 건너뜀 (커서는 1번 기준으로 유지)
+     */
+    private CursorSlice<Order> findWithCursor(BooleanExpression filter, CursorRequest cursorRequest) {
+        ComparableExpressionBase<?> sortPath = getCursorSortPath(cursorRequest.getSortProperty());
+
+        List<Tuple> rows = queryFactory
+                .select(orderEntity.id, sortPath)
+                .from(orderEntity)
+                .where(
+                        filter,
+                        isNotDeleted(),
+                        CursorQuerySupport.after(sortPath, orderEntity.id, cursorRequest)
+                )
+                .orderBy(CursorQuerySupport.orders(sortPath, orderEntity.id, cursorRequest))
+                .limit(cursorRequest.getSize() + 1L)
+                .fetch();
+
+        CursorSlice<String> idSlice = CursorQuerySupport
+                .toSlice(rows, orderEntity.id, sortPath, orderEntity.id, cursorRequest);
+
+        if (idSlice.getContent().isEmpty()) {
+            return CursorSlice.of(List.of(), cursorRequest.getSize(), false, null);
+        }
+
+        Map<String, OrderEntity> entities = queryFactory
+                .selectFrom(orderEntity)
+                .leftJoin(orderEntity.items, orderItemEntity).fetchJoin()
+                .where(orderEntity.id.in(idSlice.getContent()))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(OrderEntity::getId, entity -> entity, (a, b) -> a));
+
+        List<Order> orders = idSlice.getContent().stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .map(OrderEntity::toDomain)
+                .toList();
+
+        return CursorSlice.of(orders, idSlice.getSize(), idSlice.isHasNext(), idSlice.getNextCursor());
+    }
+
+    /**
+     * 커서 정렬 컬럼 (NOT NULL 컬럼만, 그 외는 createdAt)
+     */
+    private ComparableExpressionBase<?> getCursorSortPath(String property) {
+        return switch (property) {
+            case "requestedAt" -> orderEntity.requestedAt;
+            case "totalPrice" -> orderEntity.totalPrice;
+            default -> orderEntity.createdAt;
+        };
+    }
+
     /**
      * Pageable의 Sort를 QueryDSL OrderSpecifier로 변환
      */
@@ -0,0 +1,72 @@
+package xyz.sparta_project.manjok.domain.order.infrastructure.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.domain.order.application.service.OrderCommandService;
+import xyz.sparta_project.manjok.domain.order.domain.repository.OrderRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 미완료 주문 만료 스케줄러
+ * - 결제 대기(PAYMENT_PENDING) 상태로 만료 시간이 지난 주문을 취소하고 예약한 재고 반환 (결제 이탈 주문)
+ * - 주문마다 별도 트랜잭션으로 처리 → 한 건 실패가 다른 주문 만료를 막지 않음
+ */
+@Slf4j
+@Component
+public class PaymentPendingOrderExpirationScheduler {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final OrderRepository orderRepository;
+    private final OrderCommandService orderCommandService;
+    private final Duration expireAfter;
+
+    public PaymentPendingOrderExpirationScheduler(
+            OrderRepository orderRepository,
+            OrderCommandService orderCommandService,
+            @Value("${order.payment-pending.expire-minutes:15}") long expireMinutes) {
+        this.orderRepository = orderRepository;
+        this.orderCommandService = orderCommandService;
+        this.expireAfter = Duration.ofMinutes(expireMinutes);
+    }
+
+    /**
+     * 만료된 결제 대기 주문 정리 (기본: 1분마다)
+     * @return 만료 처리한 주문 수
+     */
+    @Scheduled(fixedDelayString = "${order.payment-pending.expire-interval-millis:60000}")
+    public int expireStaleOrders() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(expireAfter);
+        int expired = 0;
+
+        List<String> orderIds;
+        do {
+            orderIds = orderRepository.findPaymentPendingOrderIdsCreatedBefore(createdBefore, BATCH_SIZE);
+            int batchExpired = 0;
+            for (String orderId : orderIds) {
+                try {
+                    if (orderCommandService.expirePaymentPending(orderId, createdBefore)) {
+                        batchExpired++;
+                    }
+                } catch (Exception e) {
+                    log.error("결제 미완료 주문 만료 실패: orderId={}", orderId, e);
+                }
+            }
+            expired += batchExpired;
+            // 한 건도 처리하지 못한 묶음이면 같은 묶음을 반복 조회하지 않도록 중단
+            if (batchExpired == 0) {
+                break;
+            }
+        } while (orderIds.size() == BATCH_SIZE);
+
+        if (expired > 0) {
+            log.info("결제 미완료 주문 만료 완료: {}건", expired);
+        }
+        return expired;
+    }
+}
@@ -17,7 +17,11 @@ import xyz.sparta_project.manjok.domain.order.domain.model.*;
 import xyz.sparta_project.manjok.domain.order.presentation.rest.customer.dto.CancelOrderRequest;
 import xyz.sparta_project.manjok.domain.order.presentation.rest.customer.dto.CreateOrderRequest;
 import xyz.sparta_project.manjok.domain.order.presentation.rest.customer.dto.OrderResponse;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
+import xyz.sparta_project.manjok.global.common.utils.PageUtils;
 import xyz.sparta_project.manjok.global.infrastructure.security.SecurityUtils;
+import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -62,14 +66,14 @@ public class CustomerOrderController {
                 orderer.getDeliveryRequest()
         );
 
-        List<OrderItem> items = request.getItems().stream()
-                .map(mapper::toOrderItem)
+        List<OrderLine> lines = request.getItems().stream()
+                .map(mapper::toOrderLine)
                 .collect(Collectors.toList());
 
-        // 주문 생성
-        Order order = orderCommandService.createOrder(
+        // 가격 계산 후 주문 생성
+        Order order = orderCommandService.placeOrder(
                 orderer,
-                items,
+                lines,
                 request.getPaymentKey(),
                 userId
         );
@@ -101,6 +105,27 @@ public class CustomerOrderController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 내 주문 목록 조회 (커서 페이지네이션)
+     * GET /v1/customers/orders/cursor?cursor={nextCursor}
+     * - 정렬 기준: createdAt, requestedAt, totalPrice
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<PageResponse<OrderResponse>> getMyOrdersWithCursor(
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        String userId = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("인증된 사용자 정보를 찾을 수 없습니다."));
+
+        log.info("주문 목록 조회 (커서): userId={}", userId);
+
+        CursorSlice<Order> orders = orderQueryService.getUserOrdersWithCursor(
+                userId, CursorRequest.of(cursor, pageable));
+
+        return ResponseEntity.ok(PageUtils.toCursorResponse(orders, mapper::toOrderResponse));
+    }
+
     /**
      * 내 주문 목록 조회 (상태 필터)
      * GET /v1/customers/orders/status/{status}
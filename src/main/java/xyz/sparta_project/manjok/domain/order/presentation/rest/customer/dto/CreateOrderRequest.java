@@ -15,6 +15,7 @@ import java.util.List;
 
 /**
  * 주문 생성 요청 DTO
+ * - 메뉴/옵션은 ID와 수량으로 지정, 이름과 가격은 서버 가격표로 계산 (요청의 이름/가격은 사용하지 않음)
  */
 @Getter
 @NoArgsConstructor
@@ -100,12 +101,9 @@ public class CreateOrderRequest {
         @NotBlank(message = "메뉴 ID는 필수입니다.")
         private String menuId;
 
-        @NotBlank(message = "메뉴 이름은 필수입니다.")
-        private String menuName;
+        private String menuName;        // 참고용 (서버 가격표의 메뉴명 사용)
 
-        @NotNull(message = "기본 가격은 필수입니다.")
-        @Positive(message = "기본 가격은 0보다 커야 합니다.")
-        private BigDecimal basePrice;
+        private BigDecimal basePrice;   // 참고용 (서버 가격표의 가격 사용)
 
         @NotNull(message = "수량은 필수입니다.")
         @Positive(message = "수량은 1개 이상이어야 합니다.")
@@ -144,8 +142,10 @@ public class CreateOrderRequest {
     @Builder
     public static class OrderOptionGroupRequest {
 
-        @NotBlank(message = "옵션 그룹명은 필수입니다.")
-        private String groupName;
+        @NotBlank(message = "옵션 그룹 ID는 필수입니다.")
+        private String optionGroupId;
+
+        private String groupName;       // 참고용
 
         @NotEmpty(message = "옵션은 최소 1개 이상이어야 합니다.")
         private List<OrderOptionRequest> options;
@@ -157,13 +157,14 @@ public class CreateOrderRequest {
     @Builder
     public static class OrderOptionRequest {
 
-        @NotBlank(message = "옵션명은 필수입니다.")
-        private String optionName;
+        @NotBlank(message = "옵션 ID는 필수입니다.")
+        private String optionId;
+
+        private String optionName;      // 참고용
 
-        private String description;
+        private String description;     // 참고용
 
-        @NotNull(message = "추가 가격은 필수입니다.")
-        private BigDecimal additionalPrice;
+        private BigDecimal additionalPrice; // 참고용 (서버 가격표의 추가 가격 사용)
 
         @NotNull(message = "수량은 필수입니다.")
         @Positive(message = "수량은 1개 이상이어야 합니다.")
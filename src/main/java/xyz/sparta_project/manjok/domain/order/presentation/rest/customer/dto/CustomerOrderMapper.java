@@ -42,21 +42,26 @@ public class CustomerOrderMapper {
         );
     }
 
-    public OrderItem toOrderItem(CreateOrderRequest.OrderItemRequest request) {
-        return OrderItem.create(
+    public OrderLine toOrderLine(CreateOrderRequest.OrderItemRequest request) {
+        return new OrderLine(
                 request.getMenuId(),
-                request.getMenuName(),
-                request.getBasePrice(),
                 request.getQuantity(),
                 toRestaurant(request.getRestaurant()),
                 request.getOptionGroups() != null ?
                         request.getOptionGroups().stream()
-                                .map(this::toOrderOptionGroup)
+                                .flatMap(group -> group.getOptions().stream()
+                                        .map(option -> new OrderLine.OptionSelection(
+                                                group.getOptionGroupId(),
+                                                option.getOptionId(),
+                                                option.getQuantity())))
                                 .collect(Collectors.toList())
                         : null
         );
     }
 
+    /**
+     * 레스토랑 연락처/주소 (이름은 가격 계산 시 가격표 기준으로 교체)
+     */
     public Restaurant toRestaurant(CreateOrderRequest.RestaurantRequest request) {
         return Restaurant.create(
                 request.getRestaurantId(),
@@ -66,24 +71,6 @@ public class CustomerOrderMapper {
         );
     }
 
-    public OrderOptionGroup toOrderOptionGroup(CreateOrderRequest.OrderOptionGroupRequest request) {
-        return OrderOptionGroup.create(
-                request.getGroupName(),
-                request.getOptions().stream()
-                        .map(this::toOrderOption)
-                        .collect(Collectors.toList())
-        );
-    }
-
-    public OrderOption toOrderOption(CreateOrderRequest.OrderOptionRequest request) {
-        return OrderOption.create(
-                request.getOptionName(),
-                request.getDescription(),
-                request.getAdditionalPrice(),
-                request.getQuantity()
-        );
-    }
-
     // === Domain → Response ===
 
     public OrderResponse toOrderResponse(Order order) {
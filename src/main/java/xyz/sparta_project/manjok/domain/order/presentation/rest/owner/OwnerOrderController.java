@@ -16,7 +16,11 @@ import xyz.sparta_project.manjok.domain.order.domain.model.Order;
 import xyz.sparta_project.manjok.domain.order.domain.model.OrderStatus;
 import xyz.sparta_project.manjok.domain.order.presentation.rest.customer.dto.OrderResponse;
 import xyz.sparta_project.manjok.domain.order.presentation.rest.owner.dto.ConfirmOrderResponse;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
+import xyz.sparta_project.manjok.global.common.utils.PageUtils;
 import xyz.sparta_project.manjok.global.infrastructure.security.SecurityUtils;
+import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 
 import java.time.LocalDateTime;
 
@@ -57,6 +61,28 @@ public class OwnerOrderController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 레스토랑의 주문 목록 조회 (커서 페이지네이션)
+     * GET /v1/owners/orders/restaurants/{restaurantId}/cursor?cursor={nextCursor}
+     * - 정렬 기준: createdAt, requestedAt, totalPrice
+     */
+    @GetMapping("/restaurants/{restaurantId}/cursor")
+    public ResponseEntity<PageResponse<OrderResponse>> getRestaurantOrdersWithCursor(
+            @PathVariable String restaurantId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        String ownerId = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("인증된 사용자 정보를 찾을 수 없습니다."));
+
+        log.info("레스토랑 주문 목록 조회 (커서): restaurantId={}, ownerId={}", restaurantId, ownerId);
+
+        CursorSlice<Order> orders = orderQueryService.getRestaurantOrdersWithCursor(
+                restaurantId, CursorRequest.of(cursor, pageable));
+
+        return ResponseEntity.ok(PageUtils.toCursorResponse(orders, mapper::toOrderResponse));
+    }
+
     /**
      * 레스토랑의 주문 목록 조회 (상태 필터)
      * GET /v1/owners/orders/restaurants/{restaurantId}/status/{status}
@@ -13,6 +13,9 @@ import xyz.sparta_project.manjok.domain.payment.domain.model.Payment;
 import xyz.sparta_project.manjok.domain.payment.domain.model.PaymentMethod;
 import xyz.sparta_project.manjok.domain.payment.infrastructure.client.dto.TossPaymentResponse;
 import xyz.sparta_project.manjok.global.infrastructure.event.dto.OrderPaymentRequestedEvent;
+import xyz.sparta_project.manjok.global.infrastructure.event.dto.PaymentFailedEvent;
+
+import java.time.LocalDateTime;
 
 /**
  * 주문 결제 요청 이벤트 핸들러
@@ -23,7 +26,7 @@ import xyz.sparta_project.manjok.global.infrastructure.event.dto.OrderPaymentReq
  * 2. 토스 결제 조회 API 호출 (/v1/payments/{paymentKey})
  * 3. 응답 totalAmount, orderId, paymentKey 검증
  * 4-a. [검증 성공] PaymentCommandService.createPayment() -> DB 저장 -> PaymentCompletedEvent 발행
- * 4-b. [검증 실패] PaymentCommandService.failPayment() -> 실패 로그 남김
+ * 4-b. [검증 실패] PaymentCommandService.failPayment() -> PaymentFailedEvent 발행 (Order가 주문 취소 및 재고 반환)
  */
 @Slf4j
 @Component
@@ -32,6 +35,7 @@ public class OrderPaymentEventHandler {
 
     private final PaymentCommandService paymentCommandService;
     private final PaymentVerificationService verificationService;
+    private final PaymentEventPublisher paymentEventPublisher;
 
     /**
      * 주문 결제 요청 이벤트 처리
@@ -101,6 +105,7 @@ public class OrderPaymentEventHandler {
 
     /**
      * 결제 실패 처리
+     * - Payment 생성 여부와 관계없이 Order에 실패를 알려 예약된 재고를 반환하게 함
      */
     private void handlePaymentFailure(Payment payment, OrderPaymentRequestedEvent event, String reason) {
         try {
@@ -116,7 +121,21 @@ public class OrderPaymentEventHandler {
                 // Payment가 생성되지 않았으면 로그만 남김
                 log.error("결제 생성 전 실패 - orderId: {}, reason: {}", event.getOrderId(), reason);
             }
+        } catch (Exception failureException) {
+            log.error("결제 실패 처리 중 추가 예외 발생 - orderId: {}",
+                    event.getOrderId(), failureException);
+        }
 
+        try {
+            paymentEventPublisher.publishPaymentFailed(
+                    PaymentFailedEvent.builder()
+                            .orderId(event.getOrderId())
+                            .userId(event.getUserId())
+                            .paymentId(payment != null ? payment.getId() : null)
+                            .failureReason(reason)
+                            .failedAt(LocalDateTime.now())
+                            .build()
+            );
 
         } catch (Exception failureException) {
             log.error("결제 실패 처리 중 추가 예외 발생 - orderId: {}",
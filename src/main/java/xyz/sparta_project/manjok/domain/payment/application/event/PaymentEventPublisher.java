@@ -6,6 +6,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import xyz.sparta_project.manjok.global.infrastructure.event.dto.PaymentCanceledEvent;
 import xyz.sparta_project.manjok.global.infrastructure.event.dto.PaymentCompletedEvent;
+import xyz.sparta_project.manjok.global.infrastructure.event.dto.PaymentFailedEvent;
 
 /**
  * Payment 이벤트 발행자
@@ -26,6 +27,15 @@ public class PaymentEventPublisher {
         eventPublisher.publishEvent(event);
     }
 
+    /**
+     * 결제 실패 이벤트 발행
+     */
+    public void publishPaymentFailed(PaymentFailedEvent event) {
+        log.info("결제 실패 이벤트 발행 - paymentId: {}, orderId: {}, reason: {}",
+                event.getPaymentId(), event.getOrderId(), event.getFailureReason());
+        eventPublisher.publishEvent(event);
+    }
+
     /**
      * 결제 취소 완료 이벤트 발행
      */
@@ -11,6 +11,8 @@ import xyz.sparta_project.manjok.domain.payment.domain.exception.PaymentExceptio
 import xyz.sparta_project.manjok.domain.payment.domain.model.Payment;
 import xyz.sparta_project.manjok.domain.payment.domain.model.PaymentStatus;
 import xyz.sparta_project.manjok.domain.payment.domain.repository.PaymentRepository;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -84,6 +86,20 @@ public class PaymentQueryService {
         return paymentRepository.findAll(pageable);
     }
 
+    /**
+     * 사용자의 결제 목록 조회 (커서 페이지네이션)
+     */
+    public CursorSlice<Payment> getPaymentsByOrdererIdWithCursor(String ordererId, CursorRequest cursorRequest) {
+        return paymentRepository.findByOrdererIdWithCursor(ordererId, cursorRequest);
+    }
+
+    /**
+     * 전체 결제 목록 조회 (커서 페이지네이션, 관리자)
+     */
+    public CursorSlice<Payment> getAllPaymentsWithCursor(CursorRequest cursorRequest) {
+        return paymentRepository.findAllWithCursor(cursorRequest);
+    }
+
     /**
      * 전체 결제 목록 조회 (상태 필터, 관리자)
      */
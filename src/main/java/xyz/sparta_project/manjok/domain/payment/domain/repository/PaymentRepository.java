@@ -4,6 +4,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import xyz.sparta_project.manjok.domain.payment.domain.model.Payment;
 import xyz.sparta_project.manjok.domain.payment.domain.model.PaymentStatus;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -63,6 +65,17 @@ public interface PaymentRepository {
      */
     Page<Payment> findAllByStatus(PaymentStatus status, Pageable pageable);
 
+    /**
+     * 사용자의 결제 목록 조회 (커서 페이지네이션)
+     */
+    CursorSlice<Payment> findByOrdererIdWithCursor(String ordererId, CursorRequest cursorRequest);
+
+    /**
+     * 전체 결제 목록 조회 (커서 페이지네이션)
+     * 관리자용
+     */
+    CursorSlice<Payment> findAllWithCursor(CursorRequest cursorRequest);
+
     /**
      * 특정 기간 결제 목록 조회
      * 관리자용 - 통계/분석
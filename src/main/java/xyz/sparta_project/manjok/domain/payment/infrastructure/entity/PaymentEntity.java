@@ -17,7 +17,17 @@ import java.util.stream.Collectors;
  * Payment JPA Entity
  */
 @Entity
-@Table(name = "p_payments")
+@Table(name = "p_payments", indexes = {
+        @Index(name = "idx_payment_order_deleted", columnList = "order_id, is_deleted"),
+        // 결제자 결제 목록 (삭제 제외, 최신순) / 상태 필터
+        @Index(name = "idx_payment_orderer_deleted_created", columnList = "orderer_id, is_deleted, created_at"),
+        @Index(name = "idx_payment_orderer_status_deleted_created",
+                columnList = "orderer_id, payment_status, is_deleted, created_at"),
+        // 관리자 상태별/기간 목록, 미승인 결제 정리
+        @Index(name = "idx_payment_status_deleted_created", columnList = "payment_status, is_deleted, created_at"),
+        @Index(name = "idx_payment_status_approved", columnList = "payment_status, approved_at"),
+        @Index(name = "idx_payment_deleted_created", columnList = "is_deleted, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
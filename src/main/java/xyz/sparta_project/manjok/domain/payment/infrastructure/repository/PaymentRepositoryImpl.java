@@ -1,7 +1,9 @@
 package xyz.sparta_project.manjok.domain.payment.infrastructure.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -15,6 +17,9 @@ import xyz.sparta_project.manjok.domain.payment.domain.model.PaymentStatus;
 import xyz.sparta_project.manjok.domain.payment.domain.repository.PaymentRepository;
 import xyz.sparta_project.manjok.domain.payment.infrastructure.entity.PaymentEntity;
 import xyz.sparta_project.manjok.domain.payment.infrastructure.jpa.PaymentJpaRepository;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
+import xyz.sparta_project.manjok.global.infrastructure.persistence.CursorQuerySupport;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -163,6 +168,16 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return new PageImpl<>(payments, pageable, total != null ? total : 0L);
     }
 
+    @Override
+    public CursorSlice<Payment> findByOrdererIdWithCursor(String ordererId, CursorRequest cursorRequest) {
+        return findWithCursor(paymentEntity.ordererId.eq(ordererId), cursorRequest);
+    }
+
+    @Override
+    public CursorSlice<Payment> findAllWithCursor(CursorRequest cursorRequest) {
+        return findWithCursor(null, cursorRequest);
+    }
+
     @Override
     public Page<Payment> findAll(Pageable pageable) {
         List<PaymentEntity> content = queryFactory
@@ -362,6 +377,41 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return paymentEntity.isDeleted.eq(false);
     }
 
+    /**
+     * 커서 기반 결제 목록 조회 공통 로직
+     * - (정렬값, id) 이후 행만 size+1 건 조회
+     */
+    private CursorSlice<Payment> findWithCursor(BooleanExpression filter, CursorRequest cursorRequest) {
+        ComparableExpressionBase<?> sortPath = getCursorSortPath(cursorRequest.getSortProperty());
+
+        List<Tuple> rows = queryFactory
+                .select(paymentEntity, sortPath, paymentEntity.id)
+                .from(paymentEntity)
+                .where(
+                        filter,
+                        isNotDeleted(),
+                        CursorQuerySupport.after(sortPath, paymentEntity.id, cursorRequest)
+                )
+                .orderBy(CursorQuerySupport.orders(sortPath, paymentEntity.id, cursorRequest))
+                .limit(cursorRequest.getSize() + 1L)
+                .fetch();
+
+        return CursorQuerySupport
+                .toSlice(rows, paymentEntity, sortPath, paymentEntity.id, cursorRequest)
+                .map(PaymentEntity::toDomain);
+    }
+
+    /**
+     * 커서 정렬 컬럼 매핑
+     * - NOT NULL 컬럼만 허용 (approvedAt은 null 가능하므로 제외)
+     */
+    private ComparableExpressionBase<?> getCursorSortPath(String property) {
+        return switch (property) {
+            case "amount" -> paymentEntity.amount;
+            default -> paymentEntity.createdAt;
+        };
+    }
+
     /**
      * Pageable의 Sort를 QueryDSL OrderSpecifier로 변환
      */
@@ -18,7 +18,10 @@ import xyz.sparta_project.manjok.domain.payment.domain.model.PaymentStatus;
 import xyz.sparta_project.manjok.domain.payment.presentation.rest.admin.dto.request.PaymentAdminCancelRequest;
 import xyz.sparta_project.manjok.domain.payment.presentation.rest.customer.dto.response.PaymentDetailResponse;
 import xyz.sparta_project.manjok.domain.payment.presentation.rest.customer.dto.response.PaymentResponse;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
 import xyz.sparta_project.manjok.global.common.dto.PageInfo;
+import xyz.sparta_project.manjok.global.common.utils.PageUtils;
 import xyz.sparta_project.manjok.global.infrastructure.security.SecurityUtils;
 import xyz.sparta_project.manjok.global.presentation.dto.ApiResponse;
 import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
@@ -76,6 +79,28 @@ public class AdminPaymentController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 전체 결제 목록 조회 (커서 페이지네이션)
+     * GET /v1/admin/payments/cursor?cursor={nextCursor}
+     * - 정렬 기준: createdAt, amount
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<PageResponse<PaymentResponse>>> getAllPaymentsWithCursor(
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        String adminId = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("인증된 사용자 정보를 찾을 수 없습니다."));
+
+        log.info("전체 결제 목록 조회 (커서) - adminId: {}", adminId);
+
+        CursorSlice<Payment> payments = paymentQueryService.getAllPaymentsWithCursor(
+                CursorRequest.of(cursor, pageable));
+
+        PageResponse<PaymentResponse> response = PageUtils.toCursorResponse(payments, PaymentResponse::from);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 결제 상세 조회
      * GET /v1/admin/payments/{paymentId}
@@ -14,7 +14,10 @@ import xyz.sparta_project.manjok.domain.payment.application.service.PaymentQuery
 import xyz.sparta_project.manjok.domain.payment.domain.model.Payment;
 import xyz.sparta_project.manjok.domain.payment.presentation.rest.customer.dto.response.PaymentDetailResponse;
 import xyz.sparta_project.manjok.domain.payment.presentation.rest.customer.dto.response.PaymentResponse;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
 import xyz.sparta_project.manjok.global.common.dto.PageInfo;
+import xyz.sparta_project.manjok.global.common.utils.PageUtils;
 import xyz.sparta_project.manjok.global.infrastructure.security.SecurityUtils;
 import xyz.sparta_project.manjok.global.presentation.dto.ApiResponse;
 import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
@@ -93,6 +96,28 @@ public class CustomerPaymentController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 내 결제 목록 조회 (커서 페이지네이션)
+     * GET /v1/customers/payments/cursor?cursor={nextCursor}
+     * - 정렬 기준: createdAt, amount
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<PageResponse<PaymentResponse>>> getMyPaymentsWithCursor(
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        String userId = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("인증된 사용자 정보를 찾을 수 없습니다."));
+
+        log.info("내 결제 목록 조회 (커서) - userId: {}", userId);
+
+        CursorSlice<Payment> payments = paymentQueryService.getPaymentsByOrdererIdWithCursor(
+                userId, CursorRequest.of(cursor, pageable));
+
+        PageResponse<PaymentResponse> response = PageUtils.toCursorResponse(payments, PaymentResponse::from);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 주문 ID로 결제 조회
      * GET /v1/customers/payments/order/{orderId}
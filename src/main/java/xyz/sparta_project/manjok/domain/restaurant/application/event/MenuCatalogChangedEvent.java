@@ -0,0 +1,15 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메뉴판 변경 이벤트
+ * - 메뉴/메뉴 카테고리/식당 정보 변경 시 발행, 고객용 메뉴판 스냅샷 무효화 및 재생성용
+ * - 프로세스 내부 알림용 (EventLog 저장/재시도 대상 아님)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MenuCatalogChangedEvent {
+    private final String restaurantId;
+}
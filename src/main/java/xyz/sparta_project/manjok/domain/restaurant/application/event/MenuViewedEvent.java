@@ -0,0 +1,21 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 메뉴 상세 조회 이벤트
+ * - 트렌딩 집계용 조회 신호
+ * - 프로세스 내부 알림용 (EventLog 저장/재시도 대상 아님)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MenuViewedEvent {
+    private final String menuId;
+    private final String menuName;
+    private final String restaurantId;
+    private final String province;
+    private final Set<String> categoryIds;
+}
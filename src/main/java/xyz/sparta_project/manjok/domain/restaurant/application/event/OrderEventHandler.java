@@ -3,16 +3,24 @@ package xyz.sparta_project.manjok.domain.restaurant.application.event;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import xyz.sparta_project.manjok.global.infrastructure.event.dto.OrderCompletedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.RestaurantCategoryStatistics;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.RestaurantRankingScorer;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
-import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.Restaurant;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantPart;
 import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantBestSellerIndex;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantTrendingIndex;
 import xyz.sparta_project.manjok.global.infrastructure.event.handler.EventHandler;
 import xyz.sparta_project.manjok.global.infrastructure.event.handler.EventHandlerProcessor;
 
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
 /**
  * 주문 완료 이벤트 핸들러
  * - 주문 완료 시 레스토랑 및 메뉴 통계 업데이트
@@ -24,56 +32,66 @@ import xyz.sparta_project.manjok.global.infrastructure.event.handler.EventHandle
 @EventHandler(eventType = OrderCompletedEvent.class)
 public class OrderEventHandler implements EventHandlerProcessor<OrderCompletedEvent> {
 
+    // 트렌딩 가중치: 주문 1건(메뉴는 수량 1개)당 조회 5회
+    private static final long TRENDING_ORDER_WEIGHT = 5L;
+
     private final RestaurantRepository restaurantRepository;
+    private final RestaurantRankingScorer rankingScorer;
+    private final RestaurantTrendingIndex trendingIndex;
+    private final RestaurantBestSellerIndex bestSellerIndex;
+    private final RestaurantCategoryStatistics categoryStatistics;
 
     /**
      * 주문 완료 이벤트 처리
      * - 레스토랑 구매수 증가
      * - 메뉴별 구매수 증가
+     * - 랭킹 점수 갱신
+     * - 트렌딩/베스트셀러 인덱스 반영
+     * - 카테고리 주문 수 반영 (커밋 후 일괄)
+     * - 구매수 증가는 버전 검사 없는 원자적 UPDATE(x = x + ?)로 반영 → 사장님 편집과 충돌/재시도 없음
      */
     @Override
-    @Transactional
     public void handle(OrderCompletedEvent event) throws Exception {
         log.info("주문 완료 이벤트 처리 시작: orderId={}, restaurantId={}",
                 event.getOrderId(), event.getRestaurantId());
 
-        // 1. Restaurant 조회 (메뉴 포함)
-        Restaurant restaurant = restaurantRepository
-                .findByIdWithMenus(event.getRestaurantId())
-                .orElseThrow(() -> new RestaurantException(
-                        RestaurantErrorCode.RESTAURANT_NOT_FOUND,
-                        "레스토랑을 찾을 수 없습니다: " + event.getRestaurantId()
-                ));
-
-        // 2. 레스토랑 구매수 증가
-        restaurant.incrementPurchaseCount();
-        log.debug("레스토랑 구매수 증가: restaurantId={}, newCount={}",
-                event.getRestaurantId(), restaurant.getPurchaseCount());
-
-        // 3. 각 메뉴의 구매수 증가
-        event.getMenuItems().forEach(orderItem -> {
-            try {
-                Menu menu = restaurant.findMenuById(orderItem.getMenuId());
-
-                // 주문 수량만큼 증가
-                for (int i = 0; i < orderItem.getQuantity(); i++) {
-                    menu.incrementPurchaseCount();
-                }
+        // 1. 구매 통계 + 랭킹 점수 반영 (한 트랜잭션)
+        Map<String, Integer> menuQuantities = new TreeMap<>();
+        event.getMenuItems().forEach(orderItem ->
+                menuQuantities.merge(orderItem.getMenuId(), orderItem.getQuantity(), Integer::sum));
+        if (!rankingScorer.recordPurchase(event.getRestaurantId(), menuQuantities)) {
+            throw new RestaurantException(
+                    RestaurantErrorCode.RESTAURANT_NOT_FOUND,
+                    "레스토랑을 찾을 수 없습니다: " + event.getRestaurantId()
+            );
+        }
 
-                log.debug("메뉴 구매수 증가: menuId={}, quantity={}, newCount={}",
-                        orderItem.getMenuId(), orderItem.getQuantity(), menu.getPurchaseCount());
+        // 2. 트렌딩/베스트셀러 반영용 식당 조회 (읽기 전용: 이름, 지역, 카테고리, 메뉴 이름)
+        Restaurant restaurant = restaurantRepository.findById(event.getRestaurantId(),
+                        EnumSet.of(RestaurantPart.MENUS, RestaurantPart.CATEGORY_RELATIONS))
+                .orElse(null);
+        if (restaurant == null) {
+            return;
+        }
 
-            } catch (RestaurantException e) {
-                // 메뉴를 찾을 수 없는 경우 (이미 삭제된 메뉴 등) - 로그만 남기고 계속 진행
-                log.warn("메뉴 통계 업데이트 실패: menuId={}, error={}",
-                        orderItem.getMenuId(), e.getMessage());
-            }
-        });
+        // 트렌딩 반영 (식당 범위: 지역/카테고리)
+        String province = restaurant.getAddress() != null ? restaurant.getAddress().getProvince() : null;
+        Set<String> categoryIds = restaurant.getActiveCategoryIds();
+        trendingIndex.recordRestaurant(restaurant.getId(), restaurant.getRestaurantName(),
+                province, categoryIds, TRENDING_ORDER_WEIGHT);
+        categoryStatistics.recordOrder(categoryIds);
 
-        // 4. 변경사항 저장 (더티체킹 + Cascade로 하위 엔티티 자동 저장)
-        restaurantRepository.save(restaurant);
+        // 메뉴별 트렌딩/베스트셀러 반영 (삭제된 메뉴 등은 건너뜀)
+        event.getMenuItems().forEach(orderItem -> restaurant.getMenus().stream()
+                .filter(menu -> menu.getId().equals(orderItem.getMenuId()))
+                .findFirst()
+                .ifPresent(menu -> {
+                    trendingIndex.recordMenu(menu.getId(), menu.getMenuName(), restaurant.getId(),
+                            province, categoryIds, TRENDING_ORDER_WEIGHT * orderItem.getQuantity());
+                    bestSellerIndex.recordPurchase(restaurant.getId(), menu.getId(), orderItem.getQuantity());
+                }));
 
         log.info("주문 완료 이벤트 처리 성공: orderId={}, restaurantId={}",
                 event.getOrderId(), event.getRestaurantId());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카테고리 변경 이벤트
+ * - 카테고리 저장/삭제, 통계 일괄 갱신 시 발행, 카테고리 트리 스냅샷 무효화용
+ * - categoryId가 null이면 여러 카테고리가 한 번에 바뀐 경우
+ * - 프로세스 내부 알림용 (EventLog 저장/재시도 대상 아님)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RestaurantCategoryChangedEvent {
+    private final String categoryId;
+}
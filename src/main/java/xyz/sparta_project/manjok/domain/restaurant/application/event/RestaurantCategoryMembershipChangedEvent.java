@@ -0,0 +1,39 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 식당의 카테고리 집계 대상 변경 이벤트
+ * - 식당 등록/삭제/복구/활성화 변경/카테고리 변경으로 집계 대상 카테고리 집합이 바뀔 때 발행
+ * - 이전/이후 집합 차이로 카테고리별 활성 식당 수 증감 계산
+ * - 프로세스 내부 알림용 (EventLog 저장/재시도 대상 아님)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RestaurantCategoryMembershipChangedEvent {
+    private final String restaurantId;
+    private final Set<String> previousCategoryIds;
+    private final Set<String> currentCategoryIds;
+
+    /**
+     * 새로 집계 대상이 된 카테고리
+     */
+    public Set<String> getAddedCategoryIds() {
+        Set<String> added = new HashSet<>(currentCategoryIds);
+        added.removeAll(previousCategoryIds);
+        return added;
+    }
+
+    /**
+     * 집계 대상에서 빠진 카테고리
+     */
+    public Set<String> getRemovedCategoryIds() {
+        Set<String> removed = new HashSet<>(previousCategoryIds);
+        removed.removeAll(currentCategoryIds);
+        return removed;
+    }
+}
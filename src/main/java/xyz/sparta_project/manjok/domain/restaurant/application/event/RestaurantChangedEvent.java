@@ -0,0 +1,16 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 식당 행 변경 이벤트
+ * - 식당 저장/삭제(통계 반영 포함), 랭킹 점수 일괄 갱신 시 발행, 검색 카드 갱신용
+ * - restaurantId가 null이면 여러 식당이 한 번에 바뀐 경우
+ * - 프로세스 내부 알림용 (EventLog 저장/재시도 대상 아님)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RestaurantChangedEvent {
+    private final String restaurantId;
+}
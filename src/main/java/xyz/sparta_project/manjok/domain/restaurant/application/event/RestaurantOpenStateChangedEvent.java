@@ -0,0 +1,20 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 식당 영업 상태 전환 이벤트
+ * - 운영 시간 경계(영업 시작/종료/브레이크)에서 캐시된 영업 여부가 바뀔 때 발행
+ * - 프로세스 내부 알림용 (EventLog 저장/재시도 대상 아님)
+ * - 소비: RestaurantCardProjector가 검색 카드의 영업 여부(open_now) 컬럼에 반영
+ */
+@Getter
+@RequiredArgsConstructor
+public class RestaurantOpenStateChangedEvent {
+    private final String restaurantId;
+    private final boolean open;
+    private final LocalDateTime changedAt;
+}
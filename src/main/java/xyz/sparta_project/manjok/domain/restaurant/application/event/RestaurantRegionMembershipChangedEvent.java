@@ -0,0 +1,20 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 식당의 지역 집계 대상 변경 이벤트
+ * - 식당 등록/수정/삭제/복구/활성화 변경 시 현재 집계 대상 지역을 담아 발행
+ * - 집계 대상이 아니면(비활성/삭제) 지역 값이 모두 null
+ * - 이전 지역은 지역 패싯 인덱스가 식당별로 보관 (같은 이벤트가 두 번 와도 중복 집계 없음)
+ * - 프로세스 내부 알림용 (EventLog 저장/재시도 대상 아님)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RestaurantRegionMembershipChangedEvent {
+    private final String restaurantId;
+    private final String province;
+    private final String city;
+    private final String district;
+}
@@ -0,0 +1,20 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 식당 상세 조회 이벤트
+ * - 트렌딩 집계용 조회 신호
+ * - 프로세스 내부 알림용 (EventLog 저장/재시도 대상 아님)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RestaurantViewedEvent {
+    private final String restaurantId;
+    private final String restaurantName;
+    private final String province;
+    private final Set<String> categoryIds;
+}
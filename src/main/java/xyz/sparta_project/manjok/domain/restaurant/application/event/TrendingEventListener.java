@@ -0,0 +1,31 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantTrendingIndex;
+
+/**
+ * 조회 이벤트 -> 트렌딩 인덱스 반영
+ * - 주문 신호는 OrderEventHandler에서 통계 갱신과 함께 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingEventListener {
+
+    static final long VIEW_WEIGHT = 1L;
+
+    private final RestaurantTrendingIndex trendingIndex;
+
+    @EventListener
+    public void onRestaurantViewed(RestaurantViewedEvent event) {
+        trendingIndex.recordRestaurant(event.getRestaurantId(), event.getRestaurantName(),
+                event.getProvince(), event.getCategoryIds(), VIEW_WEIGHT);
+    }
+
+    @EventListener
+    public void onMenuViewed(MenuViewedEvent event) {
+        trendingIndex.recordMenu(event.getMenuId(), event.getMenuName(), event.getRestaurantId(),
+                event.getProvince(), event.getCategoryIds(), VIEW_WEIGHT);
+    }
+}
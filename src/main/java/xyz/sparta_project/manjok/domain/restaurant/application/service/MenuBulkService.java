@@ -0,0 +1,694 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.MenuCatalogChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.MenuErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuCategory;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuCategoryRelation;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuOption;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuOptionGroup;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantMenuHeader;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuRepository;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.request.MenuImportRow;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.response.MenuImportResponse;
+import xyz.sparta_project.manjok.global.common.utils.CsvUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메뉴 일괄 등록/내보내기 (Owner)
+ * - 파일을 줄 단위로 스트리밍 파싱, 메뉴 단위 검증 (실패한 메뉴는 건너뛰고 행별 오류로 보고)
+ * - 검증된 메뉴를 청크 단위 트랜잭션으로 persist + JDBC 배치 INSERT (식당 Aggregate 로딩 없음)
+ * - 청크 저장이 실패하면 해당 청크만 롤백하고 메뉴별 트랜잭션으로 다시 저장 (실패한 메뉴만 행별 오류로 보고)
+ * - 내보내기는 id 순 keyset 페이지로 읽으며 바로 출력 (전체 목록을 메모리에 올리지 않음)
+ */
+@Slf4j
+@Service
+public class MenuBulkService {
+
+    static final List<String> CSV_HEADER = List.of(
+            "menu_ref", "menu_name", "description", "ingredients", "price", "calorie",
+            "is_available", "is_main", "is_popular", "category_ids", "primary_category_id",
+            "option_group_name", "option_group_description", "option_group_required",
+            "option_group_min", "option_group_max", "option_name", "option_additional_price");
+
+    private static final String CATEGORY_ID_DELIMITER = "|";
+
+    private final MenuRepository menuRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public MenuBulkService(MenuRepository menuRepository,
+                           RestaurantRepository restaurantRepository,
+                           TransactionTemplate transactionTemplate,
+                           ObjectMapper objectMapper,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${menu-bulk.chunk-size:200}") int chunkSize) {
+        this.menuRepository = menuRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    // ==================== 일괄 등록 ====================
+
+    /**
+     * 메뉴 일괄 등록
+     *
+     * @param restaurantId Restaurant ID
+     * @param input 파일 내용 (UTF-8)
+     * @param format 파일 형식
+     * @param createdBy 등록자
+     * @return 등록 결과 (행별 오류 포함)
+     */
+    public MenuImportResponse importMenus(String restaurantId, InputStream input,
+                                          MenuFileFormat format, String createdBy) {
+        long startedAt = System.currentTimeMillis();
+        log.info("메뉴 일괄 등록 시작 - restaurantId: {}, format: {}", restaurantId, format);
+
+        RestaurantMenuHeader header = getRestaurantHeader(restaurantId);
+        header.validateCanModifyMenu();
+
+        Map<String, MenuCategory> categories = restaurantRepository.findMenuCategoriesByRestaurantId(restaurantId)
+                .stream()
+                .collect(Collectors.toMap(MenuCategory::getId, Function.identity()));
+
+        ImportBatch batch = new ImportBatch(header, categories, createdBy);
+        try (Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            if (format == MenuFileFormat.CSV) {
+                readCsv(reader, batch);
+            } else {
+                readNdjson(reader, batch);
+            }
+        } catch (IOException e) {
+            // 읽기 실패 지점까지 검증된 메뉴는 저장하고 나머지는 파일 오류로 보고
+            batch.reject(batch.lastLineNumber, null, MenuErrorCode.INVALID_IMPORT_FILE, e.getMessage());
+        }
+        batch.flush();
+
+        MenuImportResponse response = batch.toResponse(System.currentTimeMillis() - startedAt);
+        if (response.getImportedMenus() > 0) {
+            eventPublisher.publishEvent(new MenuCatalogChangedEvent(restaurantId));
+        }
+        log.info("메뉴 일괄 등록 완료 - restaurantId: {}, imported: {}, failed: {}, elapsed: {}ms",
+                restaurantId, response.getImportedMenus(), response.getFailedMenus(), response.getElapsedMillis());
+        return response;
+    }
+
+    /**
+     * CSV 읽기
+     * - 연속된 줄 중 menu_ref(없으면 menu_name)가 같은 줄은 한 메뉴, option_group_name이 같은 줄은 한 옵션 그룹
+     * - 메뉴 컬럼은 메뉴의 첫 줄 값만 사용
+     */
+    private void readCsv(Reader reader, ImportBatch batch) throws IOException {
+        CsvUtils.RecordReader csv = CsvUtils.reader(reader);
+        List<String> headerRecord = csv.next();
+        if (headerRecord == null) {
+            return;
+        }
+        Map<String, Integer> columns = indexColumns(headerRecord);
+
+        MenuImportRow current = null;
+        String currentKey = null;
+        long currentLine = 0;
+        String failedKey = null;
+
+        List<String> record;
+        while ((record = nextRecord(csv, batch, current, currentLine)) != null) {
+            long lineNumber = csv.getRecordLineNumber();
+            batch.lastLineNumber = lineNumber;
+            CsvRecord row = new CsvRecord(columns, record);
+            String key = row.menuKey();
+
+            // 앞 줄에서 형식 오류가 난 메뉴의 나머지 줄은 건너뜀
+            if (key.equals(failedKey)) {
+                continue;
+            }
+            failedKey = null;
+
+            try {
+                if (current == null || !key.equals(currentKey)) {
+                    if (current != null) {
+                        batch.accept(currentLine, current);
+                    }
+                    current = row.toMenuRow();
+                    currentKey = key;
+                    currentLine = lineNumber;
+                }
+                row.appendOption(current);
+            } catch (IllegalArgumentException e) {
+                batch.reject(lineNumber, row.get("menu_name"), MenuErrorCode.INVALID_IMPORT_ROW, e.getMessage());
+                current = null;
+                currentKey = null;
+                failedKey = key;
+            }
+        }
+        if (current != null) {
+            batch.accept(currentLine, current);
+        }
+    }
+
+    /**
+     * 다음 레코드 읽기
+     * - 읽기 실패 시 이미 끝까지 읽은 직전 메뉴는 등록 대상에 넣고 예외 전달
+     */
+    private List<String> nextRecord(CsvUtils.RecordReader csv, ImportBatch batch,
+                                    MenuImportRow current, long currentLine) throws IOException {
+        try {
+            return csv.next();
+        } catch (IOException e) {
+            batch.lastLineNumber = csv.getRecordLineNumber();
+            if (current != null) {
+                batch.accept(currentLine, current);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * NDJSON 읽기 (한 줄 = 메뉴 1개)
+     */
+    private void readNdjson(Reader reader, ImportBatch batch) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        long lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            batch.lastLineNumber = lineNumber;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                batch.accept(lineNumber, objectMapper.readValue(line, MenuImportRow.class));
+            } catch (JsonProcessingException e) {
+                batch.reject(lineNumber, null, MenuErrorCode.INVALID_IMPORT_ROW, e.getOriginalMessage());
+            }
+        }
+    }
+
+    private Map<String, Integer> indexColumns(List<String> headerRecord) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < headerRecord.size(); i++) {
+            String name = headerRecord.get(i).replace("﻿", "").trim().toLowerCase();
+            columns.putIfAbsent(name, i);
+        }
+        if (!columns.containsKey("menu_name") || !columns.containsKey("price")) {
+            throw new RestaurantException(MenuErrorCode.INVALID_IMPORT_FILE,
+                    "CSV 헤더에 menu_name, price 컬럼이 필요합니다.");
+        }
+        return columns;
+    }
+
+    // ==================== 내보내기 ====================
+
+    /**
+     * Restaurant 헤더 조회 (삭제되지 않은 것만)
+     * - 내보내기 응답을 쓰기 전에 존재 여부 확인용
+     */
+    public RestaurantMenuHeader getRestaurantHeader(String restaurantId) {
+        return menuRepository.findRestaurantHeader(restaurantId)
+                .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+    }
+
+    /**
+     * 메뉴 내보내기 (삭제된 메뉴/옵션 제외)
+     * - 일괄 등록과 같은 형식이라 그대로 다시 등록 가능
+     * - 청크 크기 단위로 조회 → 출력 → flush
+     */
+    public void exportMenus(String restaurantId, MenuFileFormat format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == MenuFileFormat.CSV) {
+            writeLine(writer, CsvUtils.formatRecord(CSV_HEADER));
+        }
+
+        int exported = 0;
+        String afterMenuId = null;
+        while (true) {
+            List<Menu> menus = menuRepository.findMenusForExport(restaurantId, afterMenuId, chunkSize);
+            for (Menu menu : menus) {
+                MenuImportRow row = toImportRow(menu);
+                if (format == MenuFileFormat.CSV) {
+                    for (List<String> record : toCsvRecords(menu.getId(), row)) {
+                        writeLine(writer, CsvUtils.formatRecord(record));
+                    }
+                } else {
+                    writeLine(writer, objectMapper.writeValueAsString(row));
+                }
+            }
+            writer.flush();
+            exported += menus.size();
+
+            if (menus.size() < chunkSize) {
+                break;
+            }
+            afterMenuId = menus.get(menus.size() - 1).getId();
+        }
+        log.info("메뉴 내보내기 완료 - restaurantId: {}, format: {}, menus: {}", restaurantId, format, exported);
+    }
+
+    private void writeLine(Writer writer, String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+    }
+
+    /**
+     * Menu → 등록 행 (삭제된 옵션 그룹/옵션, 비활성 카테고리 관계 제외)
+     */
+    private MenuImportRow toImportRow(Menu menu) {
+        List<MenuImportRow.OptionGroupRow> optionGroups = menu.getOptionGroups().stream()
+                .filter(group -> !Boolean.TRUE.equals(group.getIsDeleted()))
+                .sorted(Comparator.comparing(MenuOptionGroup::getDisplayOrder,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(group -> MenuImportRow.OptionGroupRow.builder()
+                        .groupName(group.getGroupName())
+                        .description(group.getDescription())
+                        .isRequired(group.getIsRequired())
+                        .minSelection(group.getMinSelection())
+                        .maxSelection(group.getMaxSelection())
+                        .options(group.getOptions().stream()
+                                .filter(option -> !Boolean.TRUE.equals(option.getIsDeleted()))
+                                .sorted(Comparator.comparing(MenuOption::getDisplayOrder,
+                                        Comparator.nullsLast(Comparator.naturalOrder())))
+                                .map(option -> MenuImportRow.OptionRow.builder()
+                                        .optionName(option.getOptionName())
+                                        .additionalPrice(option.getAdditionalPrice() != null
+                                                ? option.getAdditionalPrice() : BigDecimal.ZERO)
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+
+        return MenuImportRow.builder()
+                .menuName(menu.getMenuName())
+                .description(menu.getDescription())
+                .ingredients(menu.getIngredients())
+                .price(menu.getPrice())
+                .calorie(menu.getCalorie())
+                .categoryIds(menu.getCategoryRelations().stream()
+                        .filter(MenuCategoryRelation::isActive)
+                        .map(MenuCategoryRelation::getCategoryId)
+                        .sorted()
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .primaryCategoryId(menu.getPrimaryCategoryId())
+                .isAvailable(menu.getIsAvailable())
+                .isMain(menu.getIsMain())
+                .isPopular(menu.getIsPopular())
+                .optionGroups(optionGroups)
+                .build();
+    }
+
+    /**
+     * 등록 행 → CSV 레코드 (옵션마다 1줄, 옵션 없는 그룹/메뉴도 1줄)
+     */
+    private List<List<String>> toCsvRecords(String menuRef, MenuImportRow row) {
+        List<String> menuColumns = Arrays.asList(
+                menuRef,
+                row.getMenuName(),
+                row.getDescription(),
+                row.getIngredients(),
+                toPlainText(row.getPrice()),
+                toText(row.getCalorie()),
+                toText(row.getIsAvailable()),
+                toText(row.getIsMain()),
+                toText(row.getIsPopular()),
+                String.join(CATEGORY_ID_DELIMITER, row.getCategoryIds()),
+                row.getPrimaryCategoryId());
+
+        List<List<String>> records = new ArrayList<>();
+        if (row.getOptionGroups().isEmpty()) {
+            records.add(concat(menuColumns, Arrays.asList(null, null, null, null, null, null, null)));
+            return records;
+        }
+        for (MenuImportRow.OptionGroupRow group : row.getOptionGroups()) {
+            List<String> groupColumns = Arrays.asList(
+                    group.getGroupName(),
+                    group.getDescription(),
+                    toText(group.getIsRequired()),
+                    toText(group.getMinSelection()),
+                    toText(group.getMaxSelection()));
+            if (group.getOptions().isEmpty()) {
+                records.add(concat(menuColumns, concat(groupColumns, Arrays.asList(null, null))));
+                continue;
+            }
+            for (MenuImportRow.OptionRow option : group.getOptions()) {
+                records.add(concat(menuColumns, concat(groupColumns,
+                        Arrays.asList(option.getOptionName(), toPlainText(option.getAdditionalPrice())))));
+            }
+        }
+        return records;
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> joined = new ArrayList<>(first);
+        joined.addAll(second);
+        return joined;
+    }
+
+    private static String toText(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static String toPlainText(BigDecimal value) {
+        return value != null ? value.toPlainString() : null;
+    }
+
+    // ==================== 청크 누적/저장 ====================
+
+    /**
+     * 검증된 메뉴를 청크 크기만큼 모았다가 한 트랜잭션으로 저장
+     */
+    private class ImportBatch {
+
+        private final RestaurantMenuHeader header;
+        private final Map<String, MenuCategory> categories;
+        private final String createdBy;
+
+        private final List<Menu> pendingMenus = new ArrayList<>();
+        private final List<Long> pendingLines = new ArrayList<>();
+        private final List<MenuImportResponse.RowError> errors = new ArrayList<>();
+
+        private long lastLineNumber;
+        private int totalMenus;
+        private int importedMenus;
+        private int importedOptionGroups;
+        private int importedOptions;
+
+        private ImportBatch(RestaurantMenuHeader header, Map<String, MenuCategory> categories, String createdBy) {
+            this.header = header;
+            this.categories = categories;
+            this.createdBy = createdBy;
+        }
+
+        /**
+         * 행 검증 후 청크에 추가 (도메인 규칙 위반은 행 오류)
+         */
+        void accept(long lineNumber, MenuImportRow row) {
+            totalMenus++;
+            try {
+                pendingMenus.add(toMenu(row));
+                pendingLines.add(lineNumber);
+            } catch (RestaurantException e) {
+                errors.add(rowError(lineNumber, row.getMenuName(), e.getErrorCode().getCode(), e.getMessage()));
+                return;
+            }
+            if (pendingMenus.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        /**
+         * 형식 오류 행 (메뉴로 변환하지 못한 행)
+         */
+        void reject(long lineNumber, String menuName, MenuErrorCode errorCode, String detail) {
+            totalMenus++;
+            String message = detail != null ? errorCode.getMessage() + " (" + detail + ")" : errorCode.getMessage();
+            errors.add(rowError(lineNumber, menuName, errorCode.getCode(), message));
+        }
+
+        /**
+         * 청크 저장 (청크 단위 트랜잭션)
+         * - 실패하면 청크를 롤백하고 메뉴별 트랜잭션으로 다시 저장해 실패한 메뉴만 오류로 보고
+         */
+        void flush() {
+            if (pendingMenus.isEmpty()) {
+                return;
+            }
+            List<Menu> chunk = new ArrayList<>(pendingMenus);
+            List<Long> lines = new ArrayList<>(pendingLines);
+            pendingMenus.clear();
+            pendingLines.clear();
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> menuRepository.insertAll(chunk));
+                chunk.forEach(this::countImported);
+                return;
+            } catch (Exception e) {
+                log.warn("메뉴 일괄 등록 청크 저장 실패, 메뉴별 재시도 - restaurantId: {}, size: {}",
+                        header.getId(), chunk.size(), e);
+            }
+
+            for (int i = 0; i < chunk.size(); i++) {
+                Menu menu = chunk.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> menuRepository.insertAll(List.of(menu)));
+                    countImported(menu);
+                } catch (Exception e) {
+                    log.warn("메뉴 일괄 등록 메뉴 저장 실패 - restaurantId: {}, line: {}",
+                            header.getId(), lines.get(i), e);
+                    errors.add(rowError(lines.get(i), menu.getMenuName(),
+                            MenuErrorCode.IMPORT_CHUNK_FAILED.getCode(), MenuErrorCode.IMPORT_CHUNK_FAILED.getMessage()));
+                }
+            }
+        }
+
+        private void countImported(Menu menu) {
+            importedMenus++;
+            importedOptionGroups += menu.getOptionGroups().size();
+            importedOptions += menu.getOptionGroups().stream()
+                    .mapToInt(group -> group.getOptions().size())
+                    .sum();
+        }
+
+        MenuImportResponse toResponse(long elapsedMillis) {
+            return MenuImportResponse.builder()
+                    .totalMenus(totalMenus)
+                    .importedMenus(importedMenus)
+                    .failedMenus(totalMenus - importedMenus)
+                    .importedOptionGroups(importedOptionGroups)
+                    .importedOptions(importedOptions)
+                    .elapsedMillis(elapsedMillis)
+                    .errors(errors)
+                    .build();
+        }
+
+        /**
+         * 등록 행 → Menu (MenuCommandService.createMenu와 같은 도메인 규칙)
+         */
+        private Menu toMenu(MenuImportRow row) {
+            Menu menu = header.createMenu(row.getMenuName(), row.getDescription(), row.getPrice(), createdBy);
+
+            if (row.getIngredients() != null || row.getCalorie() != null) {
+                menu.update(menu.getMenuName(), menu.getDescription(), row.getIngredients(),
+                        menu.getPrice(), row.getCalorie(), createdBy);
+            }
+            if (Boolean.FALSE.equals(row.getIsAvailable())) {
+                menu.setAvailable(false, createdBy);
+            }
+            if (Boolean.TRUE.equals(row.getIsMain())) {
+                menu.setMain(true, createdBy);
+            }
+            if (Boolean.TRUE.equals(row.getIsPopular())) {
+                menu.setPopular(true, createdBy);
+            }
+
+            if (row.getCategoryIds() != null) {
+                for (String categoryId : row.getCategoryIds()) {
+                    boolean isPrimary = categoryId.equals(row.getPrimaryCategoryId());
+                    header.addMenuToCategory(menu, categories.get(categoryId), isPrimary, createdBy);
+                }
+            }
+
+            if (row.getOptionGroups() != null) {
+                for (MenuImportRow.OptionGroupRow groupRow : row.getOptionGroups()) {
+                    addOptionGroup(menu, groupRow);
+                }
+            }
+            return menu;
+        }
+
+        private void addOptionGroup(Menu menu, MenuImportRow.OptionGroupRow groupRow) {
+            if (groupRow.getGroupName() == null || groupRow.getGroupName().isBlank()) {
+                throw new RestaurantException(MenuErrorCode.OPTION_GROUP_NAME_REQUIRED);
+            }
+            MenuOptionGroup group = menu.addOptionGroup(
+                    groupRow.getGroupName(),
+                    groupRow.getDescription(),
+                    Boolean.TRUE.equals(groupRow.getIsRequired()),
+                    groupRow.getMinSelection() != null ? groupRow.getMinSelection() : 0,
+                    groupRow.getMaxSelection() != null ? groupRow.getMaxSelection() : 1,
+                    createdBy);
+
+            if (groupRow.getOptions() == null) {
+                return;
+            }
+            int displayOrder = 1;
+            for (MenuImportRow.OptionRow optionRow : groupRow.getOptions()) {
+                if (optionRow.getOptionName() == null || optionRow.getOptionName().isBlank()) {
+                    throw new RestaurantException(MenuErrorCode.OPTION_NAME_REQUIRED);
+                }
+                group.addOption(optionRow.getOptionName(), toAdditionalPrice(optionRow.getAdditionalPrice()),
+                        displayOrder++, createdBy);
+            }
+        }
+
+        /**
+         * 옵션 추가 금액 (0 이상의 원 단위 정수만 허용)
+         */
+        private int toAdditionalPrice(BigDecimal additionalPrice) {
+            if (additionalPrice == null) {
+                return 0;
+            }
+            try {
+                int price = additionalPrice.intValueExact();
+                if (price >= 0) {
+                    return price;
+                }
+            } catch (ArithmeticException ignored) {
+                // 소수점 이하가 있거나 범위를 벗어난 금액
+            }
+            throw new RestaurantException(MenuErrorCode.INVALID_OPTION_PRICE);
+        }
+
+        private MenuImportResponse.RowError rowError(long lineNumber, String menuName, String code, String message) {
+            return MenuImportResponse.RowError.builder()
+                    .lineNumber(lineNumber)
+                    .menuName(menuName)
+                    .code(code)
+                    .message(message)
+                    .build();
+        }
+    }
+
+    // ==================== CSV 레코드 ====================
+
+    /**
+     * 헤더 이름으로 접근하는 CSV 레코드
+     */
+    private record CsvRecord(Map<String, Integer> columns, List<String> values) {
+
+        String get(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        String menuKey() {
+            String ref = get("menu_ref");
+            return ref != null ? "ref:" + ref : "name:" + get("menu_name");
+        }
+
+        MenuImportRow toMenuRow() {
+            Set<String> categoryIds = new LinkedHashSet<>();
+            String rawCategoryIds = get("category_ids");
+            if (rawCategoryIds != null) {
+                for (String categoryId : rawCategoryIds.split("\\" + CATEGORY_ID_DELIMITER)) {
+                    if (!categoryId.isBlank()) {
+                        categoryIds.add(categoryId.trim());
+                    }
+                }
+            }
+
+            return MenuImportRow.builder()
+                    .menuName(get("menu_name"))
+                    .description(get("description"))
+                    .ingredients(get("ingredients"))
+                    .price(parseDecimal("price"))
+                    .calorie(parseInteger("calorie"))
+                    .isAvailable(parseBoolean("is_available"))
+                    .isMain(parseBoolean("is_main"))
+                    .isPopular(parseBoolean("is_popular"))
+                    .categoryIds(categoryIds)
+                    .primaryCategoryId(get("primary_category_id"))
+                    .build();
+        }
+
+        /**
+         * 옵션 그룹/옵션 컬럼을 메뉴에 추가 (직전 그룹과 이름이 같으면 같은 그룹)
+         */
+        void appendOption(MenuImportRow menu) {
+            String groupName = get("option_group_name");
+            if (groupName == null) {
+                return;
+            }
+
+            List<MenuImportRow.OptionGroupRow> groups = menu.getOptionGroups();
+            MenuImportRow.OptionGroupRow group = groups.isEmpty() ? null : groups.get(groups.size() - 1);
+            if (group == null || !groupName.equals(group.getGroupName())) {
+                group = MenuImportRow.OptionGroupRow.builder()
+                        .groupName(groupName)
+                        .description(get("option_group_description"))
+                        .isRequired(parseBoolean("option_group_required"))
+                        .minSelection(parseInteger("option_group_min"))
+                        .maxSelection(parseInteger("option_group_max"))
+                        .build();
+                groups.add(group);
+            }
+
+            String optionName = get("option_name");
+            if (optionName != null) {
+                group.getOptions().add(MenuImportRow.OptionRow.builder()
+                        .optionName(optionName)
+                        .additionalPrice(parseDecimal("option_additional_price"))
+                        .build());
+            }
+        }
+
+        private BigDecimal parseDecimal(String column) {
+            String value = get(column);
+            try {
+                return value != null ? new BigDecimal(value) : null;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+            }
+        }
+
+        private Integer parseInteger(String column) {
+            String value = get(column);
+            try {
+                return value != null ? Integer.valueOf(value) : null;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " 값이 정수가 아닙니다: " + value);
+            }
+        }
+
+        private Boolean parseBoolean(String column) {
+            String value = get(column);
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toLowerCase()) {
+                case "true", "y", "yes", "1" -> true;
+                case "false", "n", "no", "0" -> false;
+                default -> throw new IllegalArgumentException(column + " 값이 true/false가 아닙니다: " + value);
+            };
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.MenuCatalogChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuCategory;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantMenuHeader;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuRepository;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.MenuCatalogResponse;
+import xyz.sparta_project.manjok.global.presentation.dto.ApiResponse;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 식당별 메뉴 카탈로그 직렬화 캐시
+ * - 카탈로그를 JSON 응답 바이트(+gzip)로 미리 만들어 두고 조회 시 그대로 전송 (조회마다 직렬화 없음)
+ * - 같은 노드의 메뉴/식당 변경: 변경 이벤트로 무효화, 커밋 이후 비동기로 재생성
+ * - 다른 노드의 변경: max-age가 지난 스냅샷은 한 스레드만 재생성하고 나머지는 기존 스냅샷 응답
+ * - 세대는 적재한 적 있는 식당만 보관하고 스냅샷을 제거할 때 함께 제거 (조회되지 않은 식당의 변경은 기록하지 않음)
+ */
+@Slf4j
+@Component
+public class MenuCatalogCache {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final MenuRepository menuRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final MenuMapper menuMapper;
+    private final ObjectMapper objectMapper;
+    private final long maxAgeMillis;
+    private final int maxRestaurants;
+
+    private final Map<String, Holder> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public MenuCatalogCache(MenuRepository menuRepository,
+                            RestaurantRepository restaurantRepository,
+                            MenuMapper menuMapper,
+                            ObjectMapper objectMapper,
+                            @Value("${menu-catalog.max-age-millis:60000}") long maxAgeMillis,
+                            @Value("${menu-catalog.max-restaurants:5000}") int maxRestaurants) {
+        this.menuRepository = menuRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.menuMapper = menuMapper;
+        this.objectMapper = objectMapper;
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxRestaurants = maxRestaurants;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 식당의 현재 카탈로그 스냅샷
+     * - 없거나 무효화되었으면 재생성
+     * - max-age가 지났으면 재생성 중인 스레드가 없을 때만 재생성 (있으면 기존 스냅샷 응답)
+     */
+    public MenuCatalogSnapshot get(String restaurantId) {
+        Holder holder = snapshots.get(restaurantId);
+        if (holder != null && holder.generation() == generationOf(restaurantId)) {
+            if (!isExpired(holder)) {
+                return holder.snapshot();
+            }
+            ReentrantLock lock = lockFor(restaurantId);
+            if (!lock.tryLock()) {
+                return holder.snapshot();
+            }
+            try {
+                return load(restaurantId);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return rebuild(restaurantId);
+    }
+
+    /**
+     * 스냅샷 재생성 후 교체
+     * - 같은 식당의 동시 재생성은 하나로 합침
+     */
+    public MenuCatalogSnapshot rebuild(String restaurantId) {
+        ReentrantLock lock = lockFor(restaurantId);
+        lock.lock();
+        try {
+            Holder holder = snapshots.get(restaurantId);
+            if (holder != null && holder.generation() == generationOf(restaurantId) && !isExpired(holder)) {
+                return holder.snapshot();
+            }
+            return load(restaurantId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 무효화 (다음 조회 시 재생성)
+     * - 적재한 적 없는 식당은 무효화할 스냅샷이 없으므로 세대를 만들지 않음
+     */
+    public void invalidate(String restaurantId) {
+        generations.computeIfPresent(restaurantId, (id, generation) -> generation + 1);
+    }
+
+    /**
+     * 같은 트랜잭션 안의 후속 조회가 변경을 보도록 즉시 무효화
+     */
+    @EventListener
+    public void onMenuCatalogChanged(MenuCatalogChangedEvent event) {
+        invalidate(event.getRestaurantId());
+    }
+
+    /**
+     * 커밋/롤백 이후 다시 무효화하고 비동기로 재생성
+     * - 커밋 전에 다른 스레드가 만든 스냅샷, 롤백된 변경이 담긴 스냅샷을 버림
+     * - 조회된 적 없는 식당은 재생성하지 않음 (첫 조회 시 생성)
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onMenuCatalogChangeCompleted(MenuCatalogChangedEvent event) {
+        String restaurantId = event.getRestaurantId();
+        invalidate(restaurantId);
+        if (!snapshots.containsKey(restaurantId)) {
+            return;
+        }
+        try {
+            rebuild(restaurantId);
+        } catch (RestaurantException e) {
+            log.debug("메뉴 카탈로그 재생성 생략 - restaurantId: {}, code: {}", restaurantId, e.getErrorCode().getCode());
+        } catch (Exception e) {
+            log.warn("메뉴 카탈로그 재생성 실패 - restaurantId: {} (다음 조회 시 재시도)", restaurantId, e);
+        }
+    }
+
+    /**
+     * 카탈로그 적재/직렬화 (식당 잠금 안에서 호출)
+     * - 적재 전에 세대를 등록/읽어두므로 적재 중 들어온 무효화는 다음 조회에서 다시 반영됨
+     */
+    private MenuCatalogSnapshot load(String restaurantId) {
+        long targetGeneration = generations.computeIfAbsent(restaurantId, id -> 0L);
+
+        Optional<RestaurantMenuHeader> header = menuRepository.findRestaurantHeader(restaurantId);
+        if (header.isEmpty()) {
+            remove(restaurantId);
+            throw new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND);
+        }
+        List<MenuCategory> menuCategories = restaurantRepository.findMenuCategoriesByRestaurantId(restaurantId);
+        List<Menu> menus = menuRepository.findMenusForCatalog(restaurantId);
+        MenuCatalogResponse catalog = menuMapper.toMenuCatalogResponse(header.get(), menuCategories, menus);
+
+        MenuCatalogSnapshot snapshot;
+        try {
+            snapshot = MenuCatalogSnapshot.of(
+                    restaurantId,
+                    objectMapper.writeValueAsBytes(catalog),
+                    objectMapper.writeValueAsBytes(ApiResponse.success(catalog)),
+                    menus.size());
+        } catch (JsonProcessingException e) {
+            throw new RestaurantException(RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "메뉴 카탈로그 직렬화 실패 - restaurantId: " + restaurantId, e);
+        }
+
+        if (generationOf(restaurantId) == targetGeneration) {
+            snapshots.put(restaurantId, new Holder(snapshot, targetGeneration));
+            evictIfFull();
+        }
+        log.debug("메뉴 카탈로그 스냅샷 교체 - restaurantId: {}, menus: {}, etag: {}",
+                restaurantId, snapshot.getMenuCount(), snapshot.getEtag());
+        return snapshot;
+    }
+
+    /**
+     * 보관 식당 수 상한 초과 시 가장 오래 전에 만든 스냅샷부터 세대와 함께 제거
+     * - 적재 중인 식당(잠금을 잡지 못한 식당)은 건너뜀 → 제거한 세대를 적재 중인 스레드가 잘못 비교하지 않음
+     */
+    private void evictIfFull() {
+        if (snapshots.size() <= maxRestaurants) {
+            return;
+        }
+        List<String> oldestFirst = snapshots.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().snapshot().getBuiltAtMillis()))
+                .map(Map.Entry::getKey)
+                .toList();
+        for (String restaurantId : oldestFirst) {
+            if (snapshots.size() <= maxRestaurants) {
+                return;
+            }
+            ReentrantLock lock = lockFor(restaurantId);
+            if (!lock.tryLock()) {
+                continue;
+            }
+            try {
+                remove(restaurantId);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 스냅샷과 세대 제거 (식당 잠금 안에서 호출)
+     */
+    private void remove(String restaurantId) {
+        snapshots.remove(restaurantId);
+        generations.remove(restaurantId);
+    }
+
+    /**
+     * 보관 중인 세대 수 (테스트용)
+     */
+    int trackedGenerations() {
+        return generations.size();
+    }
+
+    private boolean isExpired(Holder holder) {
+        return System.currentTimeMillis() - holder.snapshot().getBuiltAtMillis() > maxAgeMillis;
+    }
+
+    private long generationOf(String restaurantId) {
+        return generations.getOrDefault(restaurantId, 0L);
+    }
+
+    private ReentrantLock lockFor(String restaurantId) {
+        return locks[Math.floorMod(restaurantId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private record Holder(MenuCatalogSnapshot snapshot, long generation) {
+    }
+}
@@ -0,0 +1,197 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 고객용 메뉴판 불변 스냅샷
+ * - 응답 본문(UTF-8 JSON)을 미리 직렬화해 힙 밖(direct buffer)에 보관, 요청마다 그대로 전송
+ * - 일정 크기 이상이면 gzip 본문도 함께 보관 (더 작을 때만)
+ * - ETag: 메뉴판 데이터의 SHA-256 (응답 envelope의 timestamp 제외 → 내용이 같으면 재생성해도 같은 값)
+ *   gzip 본문은 바이트가 다른 표현이므로 "-gzip" 접미사를 붙인 별도 ETag
+ * - 생성 후 변경되지 않으므로 여러 스레드가 잠금 없이 공유 (읽을 때는 duplicate로 위치만 분리)
+ */
+public final class MenuCatalogSnapshot {
+
+    private static final int GZIP_MIN_BYTES = 1024;
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    @Getter
+    private final String restaurantId;
+    @Getter
+    private final String etag;
+    private final String gzipEtag;
+    @Getter
+    private final long builtAtMillis;
+    @Getter
+    private final int menuCount;
+
+    private final ByteBuffer body;
+    private final ByteBuffer gzipBody;
+
+    private MenuCatalogSnapshot(String restaurantId, String etag, long builtAtMillis, int menuCount,
+                                ByteBuffer body, ByteBuffer gzipBody) {
+        this.restaurantId = restaurantId;
+        this.etag = etag;
+        this.gzipEtag = etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+        this.builtAtMillis = builtAtMillis;
+        this.menuCount = menuCount;
+        this.body = body;
+        this.gzipBody = gzipBody;
+    }
+
+    /**
+     * 스냅샷 생성
+     *
+     * @param restaurantId Restaurant ID
+     * @param content ETag 계산 대상 (메뉴판 데이터 직렬화 결과)
+     * @param body 응답 본문 전체 (envelope 포함)
+     * @param menuCount 메뉴 수
+     */
+    public static MenuCatalogSnapshot of(String restaurantId, byte[] content, byte[] body, int menuCount) {
+        byte[] gzipped = body.length >= GZIP_MIN_BYTES ? gzip(body) : null;
+        return new MenuCatalogSnapshot(
+                restaurantId,
+                "\"" + sha256(content) + "\"",
+                System.currentTimeMillis(),
+                menuCount,
+                offHeap(body),
+                gzipped != null && gzipped.length < body.length ? offHeap(gzipped) : null);
+    }
+
+    /**
+     * 전송할 본문의 ETag (gzip 본문이면 "-gzip" 접미사)
+     */
+    public String getEtag(boolean gzip) {
+        return gzip && gzipBody != null ? gzipEtag : etag;
+    }
+
+    /**
+     * If-None-Match 헤더와 비교 (원본 본문 기준)
+     */
+    public boolean matches(String ifNoneMatch) {
+        return matches(ifNoneMatch, false);
+    }
+
+    /**
+     * If-None-Match 헤더와 비교 (목록/약한 비교/와일드카드 지원)
+     * - 전송할 본문(원본/gzip)의 ETag와 비교
+     */
+    public boolean matches(String ifNoneMatch, boolean gzip) {
+        String current = getEtag(gzip);
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean hasGzip() {
+        return gzipBody != null;
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지 (q=0은 거부)
+     * - gzip/x-gzip이 명시되어 있으면 그 q 값, 없으면 와일드카드(*)의 q 값을 따름
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double quality = parseQuality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality != null ? Math.max(gzipQuality, quality) : quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    /**
+     * q 파라미터 (없으면 1, 형식이 잘못되면 0)
+     */
+    private static double parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 1 && Character.toLowerCase(parameter.charAt(0)) == 'q'
+                    && parameter.substring(1).trim().startsWith("=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(parameter.indexOf('=') + 1).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 본문 길이 (바이트)
+     */
+    public int contentLength(boolean gzip) {
+        return select(gzip).remaining();
+    }
+
+    /**
+     * 본문 스트림 (복사 없이 direct buffer를 읽음)
+     */
+    public InputStream openBody(boolean gzip) {
+        return new ByteBufferBackedInputStream(select(gzip).duplicate());
+    }
+
+    private ByteBuffer select(boolean gzip) {
+        return gzip && gzipBody != null ? gzipBody : body;
+    }
+
+    private static ByteBuffer offHeap(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
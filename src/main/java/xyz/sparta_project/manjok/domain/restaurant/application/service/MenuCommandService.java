@@ -2,24 +2,34 @@ package xyz.sparta_project.manjok.domain.restaurant.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.MenuCatalogChangedEvent;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.MenuErrorCode;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
-import xyz.sparta_project.manjok.domain.restaurant.domain.model.Restaurant;
-import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuCategory;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantMenuHeader;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuRepository;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.admin.dto.response.AdminMenuResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.admin.dto.request.AdminMenuUpdateRequest;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.request.MenuCreateRequest;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.response.MenuResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.request.MenuUpdateRequest;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Menu Command Service
  * - Menu 생성, 수정, 삭제 등 CUD 작업 담당
- * - Restaurant Aggregate를 통해서만 Menu 조작
+ * - 메뉴 단위 경로: Restaurant 헤더로 불변식 검사, Menu 1개(+옵션/카테고리 관계)만 조회/저장
+ * - 식당의 다른 메뉴, 운영 시간 등은 로딩하지 않음 (메뉴 수와 무관하게 비용 일정)
  * - 트랜잭션 관리
  */
 @Slf4j
@@ -28,23 +38,23 @@ import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.r
 @Transactional
 public class MenuCommandService {
 
-    private final RestaurantRepository restaurantRepository;
+    private final MenuRepository menuRepository;
     private final MenuMapper menuMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 메뉴 등록 (Owner)
-     * - Restaurant를 통해 Menu 생성
+     * - Restaurant 헤더로 메뉴 수정 가능 상태 검증 후 Menu 생성
      * - 카테고리 연결
      */
     public MenuResponse createMenu(String restaurantId, MenuCreateRequest request, String createdBy) {
         log.info("메뉴 등록 시작 - restaurantId: {}, menuName: {}", restaurantId, request.getMenuName());
 
-        // 1. Restaurant 조회
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
-                .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+        // 1. Restaurant 헤더 조회
+        RestaurantMenuHeader header = findRestaurantHeader(restaurantId);
 
-        // 2. Restaurant를 통해 Menu 생성
-        Menu menu = restaurant.addMenu(
+        // 2. 헤더를 통해 Menu 생성
+        Menu menu = header.createMenu(
                 request.getMenuName(),
                 request.getDescription(),
                 request.getPrice(),
@@ -73,24 +83,17 @@ public class MenuCommandService {
 
         // 5. 카테고리 연결
         if (request.getCategoryIds() != null) {
-            for (String categoryId : request.getCategoryIds()) {
-                boolean isPrimary = categoryId.equals(request.getPrimaryCategoryId());
-                restaurant.addMenuToCategory(menu.getId(), categoryId, isPrimary, createdBy);
-            }
+            addMenuToCategories(header, menu, request.getCategoryIds(),
+                    request.getPrimaryCategoryId(), createdBy);
         }
 
-        // 6. 저장 (영속성 전이로 Menu도 함께 저장)
-        Restaurant savedRestaurant = restaurantRepository.save(restaurant);
-
-        // 7. 저장된 Menu 찾기
-        Menu savedMenu = savedRestaurant.getMenus().stream()
-                .filter(m -> m.getId().equals(menu.getId()))
-                .findFirst()
-                .orElseThrow(() -> new RestaurantException(MenuErrorCode.MENU_NOT_FOUND));
+        // 6. 저장 (영속성 전이로 옵션/카테고리 관계도 함께 저장)
+        Menu savedMenu = menuRepository.save(menu);
+        publishCatalogChanged(restaurantId);
 
         log.info("메뉴 등록 완료 - menuId: {}", savedMenu.getId());
 
-        return menuMapper.toMenuResponse(savedMenu, savedRestaurant);
+        return menuMapper.toMenuResponse(savedMenu, findMenuCategories(savedMenu));
     }
 
     /**
@@ -101,12 +104,11 @@ public class MenuCommandService {
                                    MenuUpdateRequest request, String updatedBy) {
         log.info("메뉴 수정 시작 - restaurantId: {}, menuId: {}", restaurantId, menuId);
 
-        // 1. Restaurant 조회
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
-                .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+        // 1. Restaurant 헤더 조회
+        RestaurantMenuHeader header = findRestaurantHeader(restaurantId);
 
         // 2. Menu 조회
-        Menu menu = restaurant.findMenuById(menuId);
+        Menu menu = findMenu(restaurantId, menuId);
 
         // 3. 기본 정보 업데이트
         menu.update(
@@ -135,18 +137,17 @@ public class MenuCommandService {
             menu.getCategoryRelations().forEach(rel -> menu.removeCategory(rel.getCategoryId(), updatedBy));
 
             // 새 카테고리 추가
-            for (String categoryId : request.getCategoryIds()) {
-                boolean isPrimary = categoryId.equals(request.getPrimaryCategoryId());
-                restaurant.addMenuToCategory(menuId, categoryId, isPrimary, updatedBy);
-            }
+            addMenuToCategories(header, menu, request.getCategoryIds(),
+                    request.getPrimaryCategoryId(), updatedBy);
         }
 
         // 6. 저장
-        restaurantRepository.save(restaurant);
+        Menu savedMenu = menuRepository.save(menu);
+        publishCatalogChanged(restaurantId);
 
         log.info("메뉴 수정 완료 - menuId: {}", menuId);
 
-        return menuMapper.toMenuResponse(menu, restaurant);
+        return menuMapper.toMenuResponse(savedMenu, findMenuCategories(savedMenu));
     }
 
     /**
@@ -158,12 +159,11 @@ public class MenuCommandService {
                                   MenuUpdateRequest request, String updatedBy) {
         log.info("메뉴 부분 수정 시작 - restaurantId: {}, menuId: {}", restaurantId, menuId);
 
-        // 1. Restaurant 조회
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
-                .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+        // 1. Restaurant 헤더 조회
+        RestaurantMenuHeader header = findRestaurantHeader(restaurantId);
 
         // 2. Menu 조회
-        Menu menu = restaurant.findMenuById(menuId);
+        Menu menu = findMenu(restaurantId, menuId);
 
         // 3. null이 아닌 필드만 업데이트
         if (request.getMenuName() != null || request.getDescription() != null ||
@@ -194,15 +194,17 @@ public class MenuCommandService {
         if (request.getCategoryIds() != null) {
             menu.getCategoryRelations().forEach(rel -> menu.removeCategory(rel.getCategoryId(), updatedBy));
 
-            for (String categoryId : request.getCategoryIds()) {
-                boolean isPrimary = categoryId.equals(request.getPrimaryCategoryId());
-                restaurant.addMenuToCategory(menuId, categoryId, isPrimary, updatedBy);
-            }
+            addMenuToCategories(header, menu, request.getCategoryIds(),
+                    request.getPrimaryCategoryId(), updatedBy);
         }
 
+        // 6. 저장
+        Menu savedMenu = menuRepository.save(menu);
+        publishCatalogChanged(restaurantId);
+
         log.info("메뉴 부분 수정 완료 - menuId: {}", menuId);
 
-        return menuMapper.toMenuResponse(menu, restaurant);
+        return menuMapper.toMenuResponse(savedMenu, findMenuCategories(savedMenu));
     }
 
     /**
@@ -215,22 +217,22 @@ public class MenuCommandService {
         log.info("메뉴 숨김/노출 처리 - restaurantId: {}, menuId: {}, hidden: {}",
                 restaurantId, menuId, hidden);
 
-        // 1. Restaurant 조회
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
-                .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+        // 1. Restaurant 존재 확인
+        findRestaurantHeader(restaurantId);
 
         // 2. Menu 조회
-        Menu menu = restaurant.findMenuById(menuId);
+        Menu menu = findMenu(restaurantId, menuId);
 
         // 3. 가시성 변경 (isAvailable 사용)
         menu.setAvailable(!hidden, updatedBy);
 
         // 4. 저장
-        restaurantRepository.save(restaurant);
+        Menu savedMenu = menuRepository.save(menu);
+        publishCatalogChanged(restaurantId);
 
         log.info("메뉴 숨김/노출 처리 완료 - menuId: {}", menuId);
 
-        return menuMapper.toMenuResponse(menu, restaurant);
+        return menuMapper.toMenuResponse(savedMenu, findMenuCategories(savedMenu));
     }
 
     /**
@@ -241,18 +243,18 @@ public class MenuCommandService {
     public void deleteMenu(String restaurantId, String menuId, String deletedBy) {
         log.info("메뉴 삭제 시작 - restaurantId: {}, menuId: {}", restaurantId, menuId);
 
-        // 1. Restaurant 조회
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
-                .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+        // 1. Restaurant 존재 확인
+        findRestaurantHeader(restaurantId);
 
         // 2. Menu 조회
-        Menu menu = restaurant.findMenuById(menuId);
+        Menu menu = findMenu(restaurantId, menuId);
 
         // 3. Soft Delete
         menu.delete(deletedBy);
 
         // 4. 저장
-        restaurantRepository.save(restaurant);
+        menuRepository.save(menu);
+        publishCatalogChanged(restaurantId);
 
         log.info("메뉴 삭제 완료 - menuId: {}", menuId);
     }
@@ -263,25 +265,23 @@ public class MenuCommandService {
     public AdminMenuResponse restoreMenu(String restaurantId, String menuId, String updatedBy) {
         log.info("메뉴 복구 시작 - restaurantId: {}, menuId: {}", restaurantId, menuId);
 
-        // 1. Restaurant 조회 (삭제된 것 포함)
-        Restaurant restaurant = restaurantRepository.findByIdIncludingDeleted(restaurantId)
+        // 1. Restaurant 헤더 조회 (삭제된 것 포함)
+        RestaurantMenuHeader header = menuRepository.findRestaurantHeaderIncludingDeleted(restaurantId)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
 
         // 2. Menu 조회 (삭제된 것 포함)
-        Menu menu = restaurant.getMenus().stream()
-                .filter(m -> m.getId().equals(menuId))
-                .findFirst()
-                .orElseThrow(() -> new RestaurantException(MenuErrorCode.MENU_NOT_FOUND));
+        Menu menu = findMenu(restaurantId, menuId);
 
         // 3. 복구
         menu.restore(updatedBy);
 
         // 4. 저장
-        restaurantRepository.save(restaurant);
+        Menu savedMenu = menuRepository.save(menu);
+        publishCatalogChanged(restaurantId);
 
         log.info("메뉴 복구 완료 - menuId: {}", menuId);
 
-        return menuMapper.toAdminMenuResponse(menu, restaurant);
+        return menuMapper.toAdminMenuResponse(savedMenu, header.getRestaurantName(), findMenuCategories(savedMenu));
     }
 
     /**
@@ -291,15 +291,12 @@ public class MenuCommandService {
                                                AdminMenuUpdateRequest request, String updatedBy) {
         log.info("메뉴 수정 시작 (Admin) - restaurantId: {}, menuId: {}", restaurantId, menuId);
 
-        // 1. Restaurant 조회 (삭제된 것 포함)
-        Restaurant restaurant = restaurantRepository.findByIdIncludingDeleted(restaurantId)
+        // 1. Restaurant 헤더 조회 (삭제된 것 포함)
+        RestaurantMenuHeader header = menuRepository.findRestaurantHeaderIncludingDeleted(restaurantId)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
 
         // 2. Menu 조회
-        Menu menu = restaurant.getMenus().stream()
-                .filter(m -> m.getId().equals(menuId))
-                .findFirst()
-                .orElseThrow(() -> new RestaurantException(MenuErrorCode.MENU_NOT_FOUND));
+        Menu menu = findMenu(restaurantId, menuId);
 
         // 3. 기본 정보 업데이트
         if (request.getMenuName() != null || request.getDescription() != null ||
@@ -327,10 +324,59 @@ public class MenuCommandService {
         }
 
         // 5. 저장
-        restaurantRepository.save(restaurant);
+        Menu savedMenu = menuRepository.save(menu);
+        publishCatalogChanged(restaurantId);
 
         log.info("메뉴 수정 완료 (Admin) - menuId: {}", menuId);
 
-        return menuMapper.toAdminMenuResponse(menu, restaurant);
+        return menuMapper.toAdminMenuResponse(savedMenu, header.getRestaurantName(), findMenuCategories(savedMenu));
+    }
+
+    // ==================== Private Helper 메서드 ====================
+
+    /**
+     * 고객용 메뉴판 스냅샷 무효화 이벤트 발행
+     */
+    private void publishCatalogChanged(String restaurantId) {
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(restaurantId));
+    }
+
+    /**
+     * Restaurant 헤더 조회 (삭제되지 않은 것만)
+     */
+    private RestaurantMenuHeader findRestaurantHeader(String restaurantId) {
+        return menuRepository.findRestaurantHeader(restaurantId)
+                .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+    }
+
+    /**
+     * Menu 조회 (삭제/숨김 포함)
+     */
+    private Menu findMenu(String restaurantId, String menuId) {
+        return menuRepository.findById(restaurantId, menuId)
+                .orElseThrow(() -> new RestaurantException(MenuErrorCode.MENU_NOT_FOUND));
+    }
+
+    /**
+     * 요청한 카테고리에 메뉴 연결
+     * - 카테고리는 요청한 ID만 한 번에 조회 (식당 전체 카테고리 로딩 없음)
+     */
+    private void addMenuToCategories(RestaurantMenuHeader header, Menu menu, Collection<String> categoryIds,
+                                     String primaryCategoryId, String createdBy) {
+        Map<String, MenuCategory> categories = menuRepository
+                .findMenuCategoriesByIds(header.getId(), categoryIds).stream()
+                .collect(Collectors.toMap(MenuCategory::getId, Function.identity()));
+
+        for (String categoryId : categoryIds) {
+            boolean isPrimary = categoryId.equals(primaryCategoryId);
+            header.addMenuToCategory(menu, categories.get(categoryId), isPrimary, createdBy);
+        }
+    }
+
+    /**
+     * 응답용 카테고리 조회 (메뉴에 연결된 카테고리만)
+     */
+    private List<MenuCategory> findMenuCategories(Menu menu) {
+        return menuRepository.findMenuCategoriesByIds(menu.getRestaurantId(), menu.getActiveCategoryIds());
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.MenuErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+
+/**
+ * 메뉴 일괄 등록/내보내기 파일 형식
+ * - CSV: 옵션마다 1줄, 같은 메뉴의 줄은 연속 배치
+ * - NDJSON: 메뉴마다 1줄 (JSON 객체)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MenuFileFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    /**
+     * 형식 파라미터 → 형식 (대소문자 무시, jsonl은 NDJSON)
+     */
+    public static MenuFileFormat from(String value) {
+        if (value != null) {
+            String normalized = value.trim().toLowerCase();
+            if (normalized.equals("csv")) {
+                return CSV;
+            }
+            if (normalized.equals("ndjson") || normalized.equals("jsonl")) {
+                return NDJSON;
+            }
+        }
+        throw new RestaurantException(MenuErrorCode.UNSUPPORTED_FILE_FORMAT);
+    }
+
+    /**
+     * 형식 파라미터가 없으면 파일 확장자로 판단
+     */
+    public static MenuFileFormat resolve(String format, String fileName) {
+        if (format != null && !format.isBlank()) {
+            return from(format);
+        }
+        if (fileName != null && fileName.lastIndexOf('.') >= 0) {
+            return from(fileName.substring(fileName.lastIndexOf('.') + 1));
+        }
+        throw new RestaurantException(MenuErrorCode.UNSUPPORTED_FILE_FORMAT);
+    }
+}
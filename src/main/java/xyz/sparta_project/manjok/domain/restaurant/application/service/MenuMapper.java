@@ -3,10 +3,13 @@ package xyz.sparta_project.manjok.domain.restaurant.application.service;
 import org.springframework.stereotype.Component;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.*;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.admin.dto.response.AdminMenuResponse;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.MenuCatalogResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.MenuDetailResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.MenuSummaryResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.response.MenuResponse;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -28,12 +31,13 @@ public class MenuMapper {
      * @param restaurant Menu가 속한 Restaurant (카테고리명 조회용)
      */
     public MenuSummaryResponse toMenuSummaryResponse(Menu menu, Restaurant restaurant) {
+        List<MenuCategory> menuCategories = restaurant.getMenuCategories();
         return MenuSummaryResponse.builder()
                 .menuId(menu.getId())
                 .menuName(menu.getMenuName())
                 .description(menu.getDescription())
                 .price(menu.getPrice())
-                .primaryCategoryName(getPrimaryCategoryName(menu, restaurant))
+                .primaryCategoryName(getPrimaryCategoryName(menu, menuCategories))
                 .isAvailable(menu.getIsAvailable())
                 .isMain(menu.getIsMain())
                 .isPopular(menu.getIsPopular())
@@ -55,6 +59,7 @@ public class MenuMapper {
      * @param restaurant Menu가 속한 Restaurant (카테고리명 조회용)
      */
     public MenuDetailResponse toMenuDetailResponse(Menu menu, Restaurant restaurant) {
+        List<MenuCategory> menuCategories = restaurant.getMenuCategories();
         return MenuDetailResponse.builder()
                 .menuId(menu.getId())
                 .restaurantId(menu.getRestaurantId())
@@ -62,8 +67,8 @@ public class MenuMapper {
                 .description(menu.getDescription())
                 .ingredients(menu.getIngredients())
                 .price(menu.getPrice())
-                .categoryNames(getCategoryNames(menu, restaurant))
-                .primaryCategoryName(getPrimaryCategoryName(menu, restaurant))
+                .categoryNames(getCategoryNames(menu, menuCategories))
+                .primaryCategoryName(getPrimaryCategoryName(menu, menuCategories))
                 .isAvailable(menu.getIsAvailable())
                 .isMain(menu.getIsMain())
                 .isPopular(menu.getIsPopular())
@@ -125,6 +130,16 @@ public class MenuMapper {
      * @param restaurant Menu가 속한 Restaurant (카테고리명 조회용)
      */
     public MenuResponse toMenuResponse(Menu menu, Restaurant restaurant) {
+        return toMenuResponse(menu, restaurant.getMenuCategories());
+    }
+
+    /**
+     * Menu -> MenuResponse (Owner용, 메뉴 단위 수정 경로)
+     *
+     * @param menu Menu 엔티티
+     * @param menuCategories 카테고리명 조회용 MenuCategory (메뉴가 연결된 것 이상)
+     */
+    public MenuResponse toMenuResponse(Menu menu, Collection<MenuCategory> menuCategories) {
         return MenuResponse.builder()
                 .menuId(menu.getId())
                 .restaurantId(menu.getRestaurantId())
@@ -132,8 +147,8 @@ public class MenuMapper {
                 .description(menu.getDescription())
                 .ingredients(menu.getIngredients())
                 .price(menu.getPrice())
-                .categoryNames(getCategoryNames(menu, restaurant))
-                .primaryCategoryName(getPrimaryCategoryName(menu, restaurant))
+                .categoryNames(getCategoryNames(menu, menuCategories))
+                .primaryCategoryName(getPrimaryCategoryName(menu, menuCategories))
                 .isAvailable(menu.getIsAvailable())
                 .isMain(menu.getIsMain())
                 .isPopular(menu.getIsPopular())
@@ -201,16 +216,28 @@ public class MenuMapper {
      * @param restaurant Menu가 속한 Restaurant (카테고리명 조회용)
      */
     public AdminMenuResponse toAdminMenuResponse(Menu menu, Restaurant restaurant) {
+        return toAdminMenuResponse(menu, restaurant.getRestaurantName(), restaurant.getMenuCategories());
+    }
+
+    /**
+     * Menu -> AdminMenuResponse (Admin용, 메뉴 단위 수정 경로)
+     *
+     * @param menu Menu 엔티티
+     * @param restaurantName Menu가 속한 Restaurant 이름
+     * @param menuCategories 카테고리명 조회용 MenuCategory (메뉴가 연결된 것 이상)
+     */
+    public AdminMenuResponse toAdminMenuResponse(Menu menu, String restaurantName,
+                                                 Collection<MenuCategory> menuCategories) {
         return AdminMenuResponse.builder()
                 .menuId(menu.getId())
                 .restaurantId(menu.getRestaurantId())
-                .restaurantName(restaurant.getRestaurantName())
+                .restaurantName(restaurantName)
                 .menuName(menu.getMenuName())
                 .description(menu.getDescription())
                 .ingredients(menu.getIngredients())
                 .price(menu.getPrice())
-                .categoryNames(getCategoryNames(menu, restaurant))
-                .primaryCategoryName(getPrimaryCategoryName(menu, restaurant))
+                .categoryNames(getCategoryNames(menu, menuCategories))
+                .primaryCategoryName(getPrimaryCategoryName(menu, menuCategories))
                 .isAvailable(menu.getIsAvailable())
                 .isMain(menu.getIsMain())
                 .isPopular(menu.getIsPopular())
@@ -275,23 +302,96 @@ public class MenuMapper {
                 .collect(Collectors.toList());
     }
 
+    // ==================== Customer 메뉴판 ====================
+
+    /**
+     * 메뉴판 응답 생성 (스냅샷 직렬화용)
+     * - 카테고리는 활성 카테고리만 표시 순서대로, 카테고리별 메뉴 ID는 메뉴 목록 순서대로
+     *
+     * @param header Restaurant 헤더
+     * @param menuCategories Restaurant의 MenuCategory
+     * @param menus 판매 중인 Menu 목록
+     */
+    public MenuCatalogResponse toMenuCatalogResponse(RestaurantMenuHeader header,
+                                                     Collection<MenuCategory> menuCategories,
+                                                     List<Menu> menus) {
+        List<MenuCatalogResponse.CatalogMenu> catalogMenus = menus.stream()
+                .map(menu -> MenuCatalogResponse.CatalogMenu.builder()
+                        .menuId(menu.getId())
+                        .menuName(menu.getMenuName())
+                        .description(menu.getDescription())
+                        .ingredients(menu.getIngredients())
+                        .price(menu.getPrice())
+                        .categoryIds(menu.getActiveCategoryIds().stream().sorted().collect(Collectors.toList()))
+                        .primaryCategoryId(menu.getPrimaryCategoryId())
+                        .isMain(menu.getIsMain())
+                        .isPopular(menu.getIsPopular())
+                        .isNew(menu.getIsNew())
+                        .calorie(menu.getCalorie())
+                        .optionGroups(sortedOptionGroups(toMenuOptionGroupDtoList(menu.getOptionGroups())))
+                        .build())
+                .collect(Collectors.toList());
+
+        List<MenuCatalogResponse.CatalogCategory> categories = menuCategories.stream()
+                .filter(MenuCategory::isAvailable)
+                .sorted(Comparator.comparing(MenuCategory::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(MenuCategory::getId))
+                .map(category -> MenuCatalogResponse.CatalogCategory.builder()
+                        .categoryId(category.getId())
+                        .categoryName(category.getCategoryName())
+                        .description(category.getDescription())
+                        .parentCategoryId(category.getParentCategoryId())
+                        .depth(category.getDepth())
+                        .displayOrder(category.getDisplayOrder())
+                        .menuIds(catalogMenus.stream()
+                                .filter(menu -> menu.getCategoryIds().contains(category.getId()))
+                                .map(MenuCatalogResponse.CatalogMenu::getMenuId)
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+
+        return MenuCatalogResponse.builder()
+                .restaurantId(header.getId())
+                .restaurantName(header.getRestaurantName())
+                .categories(categories)
+                .menus(catalogMenus)
+                .build();
+    }
+
+    /**
+     * 옵션 그룹/옵션을 표시 순서(같으면 ID) 순으로 정렬
+     * - 하위 컬렉션은 순서 없이 적재되므로, 같은 메뉴판이면 같은 바이트(ETag)가 나오도록 고정
+     */
+    private List<MenuDetailResponse.MenuOptionGroupDto> sortedOptionGroups(
+            List<MenuDetailResponse.MenuOptionGroupDto> optionGroups) {
+        optionGroups.forEach(group -> group.getOptions().sort(
+                Comparator.comparing(MenuDetailResponse.MenuOptionDto::getDisplayOrder,
+                                Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(MenuDetailResponse.MenuOptionDto::getOptionId)));
+        optionGroups.sort(
+                Comparator.comparing(MenuDetailResponse.MenuOptionGroupDto::getDisplayOrder,
+                                Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(MenuDetailResponse.MenuOptionGroupDto::getOptionGroupId));
+        return optionGroups;
+    }
+
     // ==================== 공통 Helper 메서드 ====================
 
     /**
      * 주 카테고리명 추출
-     * Restaurant의 MenuCategory 목록에서 카테고리명 조회
+     * MenuCategory 목록에서 카테고리명 조회
      *
      * @param menu Menu 엔티티
-     * @param restaurant Menu가 속한 Restaurant
+     * @param menuCategories Menu가 속한 Restaurant의 MenuCategory
      * @return 주 카테고리명
      */
-    private String getPrimaryCategoryName(Menu menu, Restaurant restaurant) {
+    private String getPrimaryCategoryName(Menu menu, Collection<MenuCategory> menuCategories) {
         String primaryCategoryId = menu.getPrimaryCategoryId();
         if (primaryCategoryId == null) {
             return null;
         }
 
-        return restaurant.getMenuCategories().stream()
+        return menuCategories.stream()
                 .filter(category -> category.getId().equals(primaryCategoryId))
                 .findFirst()
                 .map(MenuCategory::getCategoryName)
@@ -300,16 +400,16 @@ public class MenuMapper {
 
     /**
      * 전체 카테고리명 추출
-     * Restaurant의 MenuCategory 목록에서 카테고리명 조회
+     * MenuCategory 목록에서 카테고리명 조회
      *
      * @param menu Menu 엔티티
-     * @param restaurant Menu가 속한 Restaurant
+     * @param menuCategories Menu가 속한 Restaurant의 MenuCategory
      * @return 카테고리명 목록
      */
-    private List<String> getCategoryNames(Menu menu, Restaurant restaurant) {
+    private List<String> getCategoryNames(Menu menu, Collection<MenuCategory> menuCategories) {
         Set<String> categoryIds = menu.getActiveCategoryIds();
 
-        return restaurant.getMenuCategories().stream()
+        return menuCategories.stream()
                 .filter(category -> categoryIds.contains(category.getId()))
                 .map(MenuCategory::getCategoryName)
                 .collect(Collectors.toList());
@@ -0,0 +1,225 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.MenuCatalogChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantMenuHeader;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantOpenHoursIndex;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 식당별 주문 가격표 메모리 인덱스
+ * - 주문 가격 계산 시 식당당 스냅샷 1개 조회 (주문 라인마다 DB 조회 없음)
+ * - 같은 노드의 메뉴/식당 변경: 메뉴판 변경 이벤트로 무효화, 다음 주문 시 재생성
+ * - 다른 노드의 변경: max-age가 지난 스냅샷은 재생성 (가격표는 오래된 값으로 응답하지 않음)
+ * - 보관 식당 수 상한: 적재 순서(LinkedHashMap)의 가장 오래된 식당부터 스냅샷/세대 함께 제거
+ *   (주문이 계속 들어오는 식당은 max-age마다 재적재되어 뒤로 이동하므로 오래 주문이 없는 식당부터 제거됨)
+ */
+@Slf4j
+@Component
+public class MenuPriceIndex {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final MenuRepository menuRepository;
+    private final RestaurantOpenHoursIndex openHoursIndex;
+    private final long maxAgeMillis;
+    private final int maxRestaurants;
+
+    private final Map<String, Holder> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, Boolean> loadOrder = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock loadOrderLock = new ReentrantLock();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public MenuPriceIndex(MenuRepository menuRepository,
+                          RestaurantOpenHoursIndex openHoursIndex,
+                          @Value("${menu-price.max-age-millis:30000}") long maxAgeMillis,
+                          @Value("${menu-price.max-restaurants:5000}") int maxRestaurants) {
+        this.menuRepository = menuRepository;
+        this.openHoursIndex = openHoursIndex;
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxRestaurants = maxRestaurants;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 식당의 현재 가격표
+     * - 없거나 무효화/만료되었으면 재생성 (같은 식당의 동시 재생성은 하나로 합침)
+     *
+     * @throws RestaurantException 식당이 없거나 삭제된 경우 (RESTAURANT_NOT_FOUND)
+     */
+    public MenuPriceSnapshot get(String restaurantId) {
+        Holder holder = snapshots.get(restaurantId);
+        if (isCurrent(restaurantId, holder)) {
+            return holder.snapshot();
+        }
+
+        ReentrantLock lock = lockFor(restaurantId);
+        lock.lock();
+        try {
+            holder = snapshots.get(restaurantId);
+            if (isCurrent(restaurantId, holder)) {
+                return holder.snapshot();
+            }
+            return load(restaurantId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 주문 접수 가능 여부 (Restaurant.canAcceptOrder와 같은 규칙)
+     * - 식당 상태는 가격표 스냅샷, 영업 여부는 영업 상태 전환 스케줄러의 캐시 값
+     * - 운영 시간 경계는 스냅샷 max-age와 무관하게 바로 반영됨
+     */
+    public boolean canAcceptOrder(MenuPriceSnapshot snapshot) {
+        return snapshot.getStatus() != null
+                && snapshot.getStatus().canAcceptOrder()
+                && openHoursIndex.isOpenNow(snapshot.getRestaurantId());
+    }
+
+    /**
+     * 가격표 무효화 (다음 조회 시 재생성)
+     * - 적재한 적 없는 식당은 무효화할 가격표가 없으므로 세대를 만들지 않음
+     */
+    public void invalidate(String restaurantId) {
+        generations.computeIfPresent(restaurantId, (id, generation) -> generation + 1);
+    }
+
+    /**
+     * 같은 트랜잭션 안의 후속 주문이 변경된 가격을 보도록 즉시 무효화
+     */
+    @EventListener
+    public void onMenuCatalogChanged(MenuCatalogChangedEvent event) {
+        invalidate(event.getRestaurantId());
+    }
+
+    /**
+     * 커밋/롤백 이후 다시 무효화
+     * - 커밋 전에 다른 스레드가 만든 스냅샷, 롤백된 변경이 담긴 스냅샷을 버림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onMenuCatalogChangeCompleted(MenuCatalogChangedEvent event) {
+        invalidate(event.getRestaurantId());
+    }
+
+    /**
+     * 가격표 적재 (식당 잠금 안에서 호출)
+     * - 적재 전에 세대를 등록/읽어두므로 적재 중 들어온 무효화는 다음 조회에서 다시 반영됨
+     * - 적재 중 무효화되었으면 이전 스냅샷과 세대도 버림 (다음 조회에서 새로 적재)
+     */
+    private MenuPriceSnapshot load(String restaurantId) {
+        long targetGeneration = generations.computeIfAbsent(restaurantId, id -> 0L);
+
+        RestaurantMenuHeader header = menuRepository.findRestaurantHeader(restaurantId).orElse(null);
+        if (header == null) {
+            remove(restaurantId);
+            throw new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND);
+        }
+        List<Menu> menus = menuRepository.findMenusForCatalog(restaurantId);
+        MenuPriceSnapshot snapshot = MenuPriceSnapshot.of(header, menus, versionSequence.incrementAndGet());
+
+        if (generationOf(restaurantId) == targetGeneration) {
+            snapshots.put(restaurantId, new Holder(snapshot, targetGeneration));
+            recordLoaded(restaurantId);
+        } else {
+            remove(restaurantId);
+        }
+        log.debug("주문 가격표 교체 - restaurantId: {}, menus: {}, version: {}",
+                restaurantId, snapshot.getMenus().size(), snapshot.getVersion());
+        return snapshot;
+    }
+
+    /**
+     * 적재 순서 갱신 후 상한 초과분을 가장 오래 전에 적재한 식당부터 제거 (식당 잠금 안에서 호출)
+     * - 전체 스냅샷을 훑지 않고 적재 순서의 앞에서부터 필요한 만큼만 제거
+     * - 적재 중인 식당(잠금을 잡지 못한 식당)은 건너뜀 → 제거한 세대를 적재 중인 스레드가 잘못 비교하지 않음
+     */
+    private void recordLoaded(String restaurantId) {
+        loadOrderLock.lock();
+        try {
+            loadOrder.put(restaurantId, Boolean.TRUE);
+            Iterator<String> eldest = loadOrder.keySet().iterator();
+            while (loadOrder.size() > maxRestaurants && eldest.hasNext()) {
+                String victim = eldest.next();
+                ReentrantLock lock = lockFor(victim);
+                if (!lock.tryLock()) {
+                    continue;
+                }
+                try {
+                    eldest.remove();
+                    snapshots.remove(victim);
+                    generations.remove(victim);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            loadOrderLock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷, 세대, 적재 순서 제거 (식당 잠금 안에서 호출)
+     */
+    private void remove(String restaurantId) {
+        snapshots.remove(restaurantId);
+        generations.remove(restaurantId);
+        loadOrderLock.lock();
+        try {
+            loadOrder.remove(restaurantId);
+        } finally {
+            loadOrderLock.unlock();
+        }
+    }
+
+    /**
+     * 보관 중인 스냅샷 수 (테스트용)
+     */
+    int cachedRestaurants() {
+        return snapshots.size();
+    }
+
+    /**
+     * 보관 중인 세대 수 (테스트용)
+     */
+    int trackedGenerations() {
+        return generations.size();
+    }
+
+    private boolean isCurrent(String restaurantId, Holder holder) {
+        return holder != null
+                && holder.generation() == generationOf(restaurantId)
+                && System.currentTimeMillis() - holder.snapshot().getBuiltAtMillis() <= maxAgeMillis;
+    }
+
+    private long generationOf(String restaurantId) {
+        return generations.getOrDefault(restaurantId, 0L);
+    }
+
+    private ReentrantLock lockFor(String restaurantId) {
+        return locks[Math.floorMod(restaurantId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private record Holder(MenuPriceSnapshot snapshot, long generation) {
+    }
+}
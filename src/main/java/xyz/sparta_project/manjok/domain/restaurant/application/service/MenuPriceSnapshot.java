@@ -0,0 +1,116 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import lombok.Getter;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Address;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Coordinate;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuOption;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuOptionGroup;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantMenuHeader;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantStatus;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 식당별 주문 가격표 불변 스냅샷
+ * - 주문 가능한 메뉴/옵션 그룹/옵션의 이름, 가격, 선택 규칙만 ID 맵으로 보관 (주문 라인마다 맵 조회 1회)
+ * - 식당 연락처/주소/좌표: 주문에 담을 식당 정보 (클라이언트 값 대신 서버 값 사용)
+ * - version: 스냅샷을 새로 만들 때마다 증가 (같은 version이면 같은 가격표)
+ * - 생성 후 변경되지 않으므로 여러 스레드가 잠금 없이 공유
+ */
+@Getter
+public final class MenuPriceSnapshot {
+
+    private final String restaurantId;
+    private final String restaurantName;
+    private final RestaurantStatus status;
+    private final String contactNumber;
+    private final Address address;
+    private final Coordinate coordinate;
+    private final long version;
+    private final long builtAtMillis;
+    private final Map<String, MenuPrice> menus;
+
+    private MenuPriceSnapshot(String restaurantId, String restaurantName, RestaurantStatus status,
+                              String contactNumber, Address address, Coordinate coordinate,
+                              long version, long builtAtMillis, Map<String, MenuPrice> menus) {
+        this.restaurantId = restaurantId;
+        this.restaurantName = restaurantName;
+        this.status = status;
+        this.contactNumber = contactNumber;
+        this.address = address;
+        this.coordinate = coordinate;
+        this.version = version;
+        this.builtAtMillis = builtAtMillis;
+        this.menus = menus;
+    }
+
+    /**
+     * 스냅샷 생성
+     * - 주문 불가 메뉴, 비활성/삭제 옵션 그룹, 선택 불가 옵션 제외
+     * - 필수 그룹은 최소 선택 1개 이상으로 보정
+     */
+    public static MenuPriceSnapshot of(RestaurantMenuHeader header, List<Menu> menus, long version) {
+        Map<String, MenuPrice> menuPrices = new HashMap<>(menus.size() * 2);
+        for (Menu menu : menus) {
+            if (!menu.isOrderable()) {
+                continue;
+            }
+            Map<String, OptionGroupPrice> groups = new HashMap<>();
+            for (MenuOptionGroup group : menu.getOptionGroups()) {
+                if (!group.isAvailable()) {
+                    continue;
+                }
+                Map<String, OptionPrice> options = new HashMap<>();
+                for (MenuOption option : group.getOptions()) {
+                    if (option.isSelectable()) {
+                        options.put(option.getId(), new OptionPrice(option.getId(), option.getOptionName(),
+                                option.getDescription(), option.getAdditionalPrice()));
+                    }
+                }
+                int minSelection = group.getMinSelection() != null ? group.getMinSelection() : 0;
+                if (Boolean.TRUE.equals(group.getIsRequired())) {
+                    minSelection = Math.max(minSelection, 1);
+                }
+                groups.put(group.getId(), new OptionGroupPrice(group.getId(), group.getGroupName(), minSelection,
+                        group.getMaxSelection() != null ? group.getMaxSelection() : 1, Map.copyOf(options)));
+            }
+            menuPrices.put(menu.getId(),
+                    new MenuPrice(menu.getId(), menu.getMenuName(), menu.getPrice(), Map.copyOf(groups)));
+        }
+        return new MenuPriceSnapshot(header.getId(), header.getRestaurantName(), header.getStatus(),
+                header.getContactNumber(), header.getAddress(), header.getCoordinate(), version,
+                System.currentTimeMillis(), Map.copyOf(menuPrices));
+    }
+
+    /**
+     * 주문 가능한 메뉴 가격 조회
+     */
+    public Optional<MenuPrice> findMenu(String menuId) {
+        return Optional.ofNullable(menuId).map(menus::get);
+    }
+
+    /**
+     * 메뉴 가격 (옵션 그룹 ID → 옵션 그룹)
+     */
+    public record MenuPrice(String menuId, String menuName, BigDecimal price,
+                            Map<String, OptionGroupPrice> optionGroups) {
+    }
+
+    /**
+     * 옵션 그룹 선택 규칙과 옵션 가격 (옵션 ID → 옵션)
+     */
+    public record OptionGroupPrice(String optionGroupId, String groupName, int minSelection, int maxSelection,
+                                   Map<String, OptionPrice> options) {
+    }
+
+    /**
+     * 옵션 추가 가격
+     */
+    public record OptionPrice(String optionId, String optionName, String description, BigDecimal additionalPrice) {
+    }
+}
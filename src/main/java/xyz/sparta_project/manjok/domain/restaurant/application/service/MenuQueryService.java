@@ -2,23 +2,31 @@ package xyz.sparta_project.manjok.domain.restaurant.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.MenuViewedEvent;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.MenuErrorCode;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.Restaurant;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantPart;
 import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.admin.dto.response.AdminMenuResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.MenuDetailResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.MenuSummaryResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.response.MenuResponse;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
 import xyz.sparta_project.manjok.global.common.utils.PageUtils;
 import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Menu Query Service
  * - Menu 조회 전담 서비스
@@ -31,8 +39,15 @@ import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 @Transactional(readOnly = true)
 public class MenuQueryService {
 
+    // 메뉴 응답에 필요한 식당 하위 정보 (메뉴 카테고리 이름, 상세는 트렌딩 신호용 카테고리 연결까지)
+    private static final Set<RestaurantPart> MENU_LIST_PARTS = EnumSet.of(RestaurantPart.MENU_CATEGORIES);
+    private static final Set<RestaurantPart> MENU_DETAIL_PARTS =
+            EnumSet.of(RestaurantPart.MENU_CATEGORIES, RestaurantPart.CATEGORY_RELATIONS);
+
     private final RestaurantRepository restaurantRepository;
     private final MenuMapper menuMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MenuCatalogCache menuCatalogCache;
 
     // ==================== Customer 조회 API ====================
 
@@ -43,8 +58,8 @@ public class MenuQueryService {
     public PageResponse<MenuSummaryResponse> getMenus(String restaurantId, Pageable pageable) {
         log.info("메뉴 목록 조회 - restaurantId: {}", restaurantId);
 
-        // Restaurant 조회 (MenuCategory 정보 필요)
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+        // Restaurant 조회 (MenuCategory 정보만 필요)
+        Restaurant restaurant = restaurantRepository.findById(restaurantId, MENU_LIST_PARTS)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
 
         Page<Menu> menuPage = restaurantRepository.findMenusByRestaurantId(restaurantId, pageable);
@@ -55,6 +70,27 @@ public class MenuQueryService {
         );
     }
 
+    /**
+     * 특정 식당의 메뉴 목록 조회 - 커서 페이지네이션 (Customer)
+     * - 삭제되지 않고 판매 가능한 메뉴만 조회
+     */
+    public PageResponse<MenuSummaryResponse> getMenusWithCursor(String restaurantId, CursorRequest cursorRequest) {
+        log.info("메뉴 커서 목록 조회 - restaurantId: {}, sort: {}", restaurantId, cursorRequest.getSortProperty());
+
+        // Restaurant 조회 (MenuCategory 정보만 필요)
+        Restaurant restaurant = restaurantRepository.findById(restaurantId, MENU_LIST_PARTS)
+                .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+
+        CursorSlice<Menu> menuSlice = restaurantRepository.findMenusByRestaurantIdWithCursor(
+                restaurantId, cursorRequest
+        );
+
+        return PageUtils.toCursorResponse(
+                menuSlice,
+                menu -> menuMapper.toMenuSummaryResponse(menu, restaurant)
+        );
+    }
+
     /**
      * 카테고리별 메뉴 조회 (Customer)
      */
@@ -65,8 +101,8 @@ public class MenuQueryService {
     ) {
         log.info("카테고리별 메뉴 조회 - restaurantId: {}, categoryId: {}", restaurantId, categoryId);
 
-        // Restaurant 조회 (MenuCategory 정보 필요)
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+        // Restaurant 조회 (MenuCategory 정보만 필요)
+        Restaurant restaurant = restaurantRepository.findById(restaurantId, MENU_LIST_PARTS)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
 
         Page<Menu> menuPage = restaurantRepository.findMenusByRestaurantIdAndCategory(
@@ -89,8 +125,8 @@ public class MenuQueryService {
     ) {
         log.info("메뉴 검색 - restaurantId: {}, keyword: {}", restaurantId, keyword);
 
-        // Restaurant 조회 (MenuCategory 정보 필요)
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+        // Restaurant 조회 (MenuCategory 정보만 필요)
+        Restaurant restaurant = restaurantRepository.findById(restaurantId, MENU_LIST_PARTS)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
 
         Page<Menu> menuPage = restaurantRepository.searchMenusByRestaurantIdAndName(
@@ -103,6 +139,15 @@ public class MenuQueryService {
         );
     }
 
+    /**
+     * 식당 전체 메뉴 카탈로그 조회 (Customer)
+     * - 미리 직렬화해 둔 스냅샷 반환 (ETag, gzip 본문 포함)
+     * - 스냅샷이 최신이면 DB 접근 없음
+     */
+    public MenuCatalogSnapshot getMenuCatalog(String restaurantId) {
+        return menuCatalogCache.get(restaurantId);
+    }
+
     /**
      * 메뉴 상세 조회 (Customer)
      * - 삭제되지 않고 판매 가능한 메뉴만 조회
@@ -110,13 +155,21 @@ public class MenuQueryService {
     public MenuDetailResponse getMenuDetail(String restaurantId, String menuId) {
         log.info("메뉴 상세 조회 - restaurantId: {}, menuId: {}", restaurantId, menuId);
 
-        // Restaurant 조회 (MenuCategory 정보 필요)
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+        // Restaurant 조회 (MenuCategory, 카테고리 연결 정보만 필요)
+        Restaurant restaurant = restaurantRepository.findById(restaurantId, MENU_DETAIL_PARTS)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
 
         Menu menu = restaurantRepository.findMenuByRestaurantIdAndMenuId(restaurantId, menuId)
                 .orElseThrow(() -> new RestaurantException(MenuErrorCode.MENU_NOT_FOUND));
 
+        // 트렌딩 조회 신호
+        eventPublisher.publishEvent(new MenuViewedEvent(
+                menu.getId(),
+                menu.getMenuName(),
+                restaurantId,
+                restaurant.getAddress() != null ? restaurant.getAddress().getProvince() : null,
+                restaurant.getActiveCategoryIds()));
+
         return menuMapper.toMenuDetailResponse(menu, restaurant);
     }
 
@@ -129,8 +182,8 @@ public class MenuQueryService {
     public PageResponse<MenuResponse> getMenusForOwner(String restaurantId, Pageable pageable) {
         log.info("Owner 메뉴 목록 조회 - restaurantId: {}", restaurantId);
 
-        // Restaurant 조회 (MenuCategory 정보 필요)
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+        // Restaurant 조회 (MenuCategory 정보만 필요)
+        Restaurant restaurant = restaurantRepository.findById(restaurantId, MENU_LIST_PARTS)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
 
         Page<Menu> menuPage = restaurantRepository.findMenusByRestaurantIdIncludingHidden(
@@ -150,8 +203,8 @@ public class MenuQueryService {
     public MenuResponse getMenuForOwner(String restaurantId, String menuId) {
         log.info("Owner 메뉴 상세 조회 - restaurantId: {}, menuId: {}", restaurantId, menuId);
 
-        // Restaurant 조회 (MenuCategory 정보 필요)
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+        // Restaurant 조회 (MenuCategory 정보만 필요)
+        Restaurant restaurant = restaurantRepository.findById(restaurantId, MENU_LIST_PARTS)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
 
         Menu menu = restaurantRepository.findMenuByRestaurantIdAndMenuIdIncludingHidden(
@@ -0,0 +1,93 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.MenuErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuStock;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuRepository;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuStockRepository;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.MenuStockResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 메뉴 일일 재고 Service
+ * - 사장님 재고 설정/해제, 고객 품절 조회
+ * - 주문 생성 시 예약, 주문 취소 시 반환 (호출한 주문 트랜잭션에 참여 → 주문이 롤백되면 예약도 롤백)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MenuStockService {
+
+    private final MenuStockRepository menuStockRepository;
+    private final MenuRepository menuRepository;
+
+    /**
+     * 일일 재고 설정 (Owner)
+     * - null이면 재고 설정 해제
+     * - 오늘 이미 판매된 수량은 유지
+     */
+    public MenuStockResponse updateDailyStock(String restaurantId, String menuId, Integer dailyStock,
+                                              String updatedBy) {
+        log.info("메뉴 재고 설정 - restaurantId: {}, menuId: {}, dailyStock: {}, updatedBy: {}",
+                restaurantId, menuId, dailyStock, updatedBy);
+
+        menuRepository.findRestaurantHeader(restaurantId)
+                .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+        menuRepository.findById(restaurantId, menuId)
+                .orElseThrow(() -> new RestaurantException(MenuErrorCode.MENU_NOT_FOUND));
+
+        if (dailyStock == null) {
+            menuStockRepository.deleteByMenuId(menuId);
+            return null;
+        }
+        if (dailyStock < 0) {
+            throw new RestaurantException(MenuErrorCode.INVALID_DAILY_STOCK);
+        }
+
+        LocalDate today = LocalDate.now();
+        return toResponse(menuStockRepository.saveDailyStock(restaurantId, menuId, dailyStock, today), today);
+    }
+
+    /**
+     * 식당의 재고 설정 메뉴별 오늘 남은 수량/품절 여부
+     */
+    @Transactional(readOnly = true)
+    public List<MenuStockResponse> getStocks(String restaurantId) {
+        LocalDate today = LocalDate.now();
+        return menuStockRepository.findByRestaurantId(restaurantId).stream()
+                .map(stock -> toResponse(stock, today))
+                .toList();
+    }
+
+    /**
+     * 재고 예약
+     * @return 남은 수량이 부족하면 false
+     */
+    public boolean reserve(String menuId, int quantity, LocalDate stockDate) {
+        return menuStockRepository.reserve(menuId, quantity, stockDate);
+    }
+
+    /**
+     * 예약 반환
+     */
+    public void release(String menuId, int quantity, LocalDate stockDate) {
+        menuStockRepository.release(menuId, quantity, stockDate);
+    }
+
+    private MenuStockResponse toResponse(MenuStock stock, LocalDate today) {
+        return MenuStockResponse.builder()
+                .menuId(stock.getMenuId())
+                .dailyStock(stock.getDailyStock())
+                .remaining(stock.getRemainingOn(today))
+                .soldOut(stock.isSoldOutOn(today))
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantOpenStateChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCardRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 식당 검색 카드 갱신
+ * - 식당 변경 이벤트(정보 수정, 통계 반영, 삭제/복구)로 식당 ID를 모아 두고 주기적으로 묶음 갱신
+ * - 같은 식당의 연속 변경(주문/찜/조회수 등)은 한 번의 갱신으로 합쳐짐
+ * - 여러 식당이 한 번에 바뀐 경우(랭킹 점수 일괄 재계산)는 전체 재생성
+ * - 카테고리 이름은 카드에 두지 않음 (조회 시 카테고리 트리 스냅샷으로 해석 → 카테고리 변경은 카드 갱신 불필요)
+ * - 영업 상태 전환 이벤트는 식당별 마지막 값만 모아 카드의 영업 여부 컬럼만 일괄 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantCardProjector {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final RestaurantCardRepository cardRepository;
+
+    private final Set<String> dirtyIds = ConcurrentHashMap.newKeySet();
+    private final Map<String, Boolean> pendingOpenStates = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    /**
+     * 같은 트랜잭션 안의 후속 갱신이 변경을 보도록 즉시 표시
+     */
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        markDirty(event.getRestaurantId());
+    }
+
+    /**
+     * 커밋/롤백 이후 다시 표시
+     * - 커밋 전에 다른 스레드가 갱신한 카드(변경 전 값)를 커밋된 값으로 다시 맞춤
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onRestaurantChangeCompleted(RestaurantChangedEvent event) {
+        markDirty(event.getRestaurantId());
+    }
+
+    /**
+     * 운영 시간 경계에서 바뀐 영업 여부 (영업 상태 전환 스케줄러)
+     * - 같은 식당의 연속 전환은 마지막 값만 반영
+     */
+    @EventListener
+    public void onOpenStateChanged(RestaurantOpenStateChangedEvent event) {
+        pendingOpenStates.put(event.getRestaurantId(), event.isOpen());
+    }
+
+    /**
+     * 모아 둔 식당 카드 갱신
+     * - 갱신 실패한 묶음은 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${restaurant-card.flush-interval-millis:1000}")
+    public synchronized void flush() {
+        if (rebuildRequested.getAndSet(false)) {
+            dirtyIds.clear();
+            try {
+                cardRepository.rebuildAll();
+            } catch (Exception e) {
+                log.warn("식당 검색 카드 전체 재생성 실패 - 다음 주기에 재시도", e);
+                rebuildRequested.set(true);
+            }
+            return;
+        }
+
+        List<String> ids = drain();
+        for (int from = 0; from < ids.size(); from += FLUSH_BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + FLUSH_BATCH_SIZE, ids.size()));
+            try {
+                int changed = cardRepository.refresh(batch);
+                log.debug("식당 검색 카드 갱신 - restaurants: {}, changed: {}", batch.size(), changed);
+            } catch (Exception e) {
+                log.warn("식당 검색 카드 갱신 실패 - 다음 주기에 재시도 (restaurants: {})", batch.size(), e);
+                dirtyIds.addAll(batch);
+            }
+        }
+
+        flushOpenStates();
+    }
+
+    /**
+     * 모아 둔 영업 여부 반영 (영업 시작/종료 묶음별 UPDATE)
+     * - 실패한 묶음은 그 사이 새 전환이 없을 때만 다음 주기에 재시도
+     */
+    private void flushOpenStates() {
+        Map<Boolean, List<String>> byState = new HashMap<>();
+        for (String id : pendingOpenStates.keySet()) {
+            Boolean open = pendingOpenStates.remove(id);
+            if (open != null) {
+                byState.computeIfAbsent(open, key -> new ArrayList<>()).add(id);
+            }
+        }
+
+        byState.forEach((open, ids) -> {
+            for (int from = 0; from < ids.size(); from += FLUSH_BATCH_SIZE) {
+                List<String> batch = ids.subList(from, Math.min(from + FLUSH_BATCH_SIZE, ids.size()));
+                try {
+                    int changed = cardRepository.updateOpenState(batch, open);
+                    log.debug("식당 검색 카드 영업 상태 갱신 - open: {}, restaurants: {}, changed: {}",
+                            open, batch.size(), changed);
+                } catch (Exception e) {
+                    log.warn("식당 검색 카드 영업 상태 갱신 실패 - 다음 주기에 재시도 (restaurants: {})",
+                            batch.size(), e);
+                    batch.forEach(id -> pendingOpenStates.putIfAbsent(id, open));
+                }
+            }
+        });
+    }
+
+    /**
+     * 애플리케이션 시작 시 카드가 하나도 없으면 전체 생성 (최초 배포)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            if (cardRepository.countCards() == 0) {
+                cardRepository.rebuildAll();
+            }
+        } catch (Exception e) {
+            log.warn("식당 검색 카드 초기 생성 실패 - 다음 재계산에서 다시 시도", e);
+            rebuildRequested.set(true);
+        }
+    }
+
+    /**
+     * 전체 재생성 (누락된 이벤트 보정)
+     */
+    @Scheduled(cron = "${restaurant-card.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        rebuildRequested.set(true);
+        flush();
+    }
+
+    private void markDirty(String restaurantId) {
+        if (restaurantId == null) {
+            rebuildRequested.set(true);
+        } else {
+            dirtyIds.add(restaurantId);
+        }
+    }
+
+    private List<String> drain() {
+        List<String> drained = new ArrayList<>();
+        for (String id : dirtyIds) {
+            if (dirtyIds.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,140 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantCategoryMembershipChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCategoryRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리 통계 (활성 식당 수, 주문 수, 인기 여부) 관리
+ * - 식당 집계 대상 변경/주문 완료 시 카테고리별 증감분을 커밋 후 메모리에 누적
+ * - 주기적으로 증감분을 모아 UPDATE 몇 번(같은 증감값끼리 id IN)으로 반영
+ * - 주문 수가 바뀌면 인기 카테고리(주문 수 상위 N개)를 자동 갱신
+ * - 매일 연결/식당 테이블 그룹 집계로 전체 재계산 (누락/중복 증감 보정)
+ */
+@Slf4j
+@Component
+public class RestaurantCategoryStatistics {
+
+    private final RestaurantCategoryRepository categoryRepository;
+    private final int popularTopN;
+    private final int popularMinOrderCount;
+
+    private final Map<String, Integer> restaurantCountDeltas = new ConcurrentHashMap<>();
+    private final Map<String, Integer> orderCountDeltas = new ConcurrentHashMap<>();
+
+    public RestaurantCategoryStatistics(RestaurantCategoryRepository categoryRepository,
+                                        @Value("${category-stats.popular-top-n:10}") int popularTopN,
+                                        @Value("${category-stats.popular-min-order-count:1}") int popularMinOrderCount) {
+        this.categoryRepository = categoryRepository;
+        this.popularTopN = popularTopN;
+        this.popularMinOrderCount = popularMinOrderCount;
+    }
+
+    /**
+     * 식당 집계 대상 변경 반영 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(RestaurantCategoryMembershipChangedEvent event) {
+        event.getAddedCategoryIds().forEach(id -> restaurantCountDeltas.merge(id, 1, Integer::sum));
+        event.getRemovedCategoryIds().forEach(id -> restaurantCountDeltas.merge(id, -1, Integer::sum));
+    }
+
+    /**
+     * 주문 완료 반영 (식당의 활성 카테고리마다 주문 1건)
+     * - 트랜잭션 안이면 커밋 후 누적
+     */
+    public void recordOrder(Collection<String> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> categoryIds.forEach(id -> orderCountDeltas.merge(id, 1, Integer::sum)));
+    }
+
+    /**
+     * 누적 증감분 일괄 반영
+     * - 반영 실패 시 증감분을 되돌려 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${category-stats.flush-interval-millis:30000}")
+    public synchronized void flush() {
+        Map<String, Integer> restaurantDeltas = drain(restaurantCountDeltas);
+        Map<String, Integer> orderDeltas = drain(orderCountDeltas);
+        if (restaurantDeltas.isEmpty() && orderDeltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            int updated = categoryRepository.applyStatisticsDeltas(restaurantDeltas, orderDeltas);
+            log.debug("카테고리 통계 증감 반영 - categories: {}", updated);
+        } catch (Exception e) {
+            log.warn("카테고리 통계 증감 반영 실패 - 다음 주기에 재시도", e);
+            restaurantDeltas.forEach((id, delta) -> restaurantCountDeltas.merge(id, delta, Integer::sum));
+            orderDeltas.forEach((id, delta) -> orderCountDeltas.merge(id, delta, Integer::sum));
+            return;
+        }
+
+        if (!orderDeltas.isEmpty()) {
+            refreshPopularCategories();
+        }
+    }
+
+    /**
+     * 전체 재계산
+     * - DB가 기준이므로 아직 반영하지 않은 증감분은 버림
+     */
+    @Scheduled(cron = "${category-stats.reconcile-cron:0 0 4 * * *}")
+    public synchronized void reconcile() {
+        restaurantCountDeltas.clear();
+        orderCountDeltas.clear();
+
+        int changed = categoryRepository.reconcileStatistics();
+        log.info("카테고리 통계 재계산 완료 - changed: {}", changed);
+
+        refreshPopularCategories();
+    }
+
+    /**
+     * 인기 카테고리 자동 갱신
+     */
+    public void refreshPopularCategories() {
+        int changed = categoryRepository.refreshPopularCategories(popularTopN, popularMinOrderCount);
+        if (changed > 0) {
+            log.info("인기 카테고리 갱신 - changed: {}", changed);
+        }
+    }
+
+    private static Map<String, Integer> drain(Map<String, Integer> deltas) {
+        Map<String, Integer> drained = new HashMap<>();
+        for (String id : deltas.keySet()) {
+            Integer delta = deltas.remove(id);
+            if (delta != null && delta != 0) {
+                drained.put(id, delta);
+            }
+        }
+        return drained;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
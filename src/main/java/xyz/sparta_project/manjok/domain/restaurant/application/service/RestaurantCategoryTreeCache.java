@@ -0,0 +1,116 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantCategoryChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCategory;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCategoryRepository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리 트리 스냅샷 캐시
+ * - 최초 조회 시 전체 카테고리를 한 번 적재해 불변 스냅샷 생성, 이후 조회는 DB 접근 없음
+ * - 같은 노드의 카테고리 저장/삭제: 변경 이벤트로 무효화, 다음 조회 시 재생성 후 원자적 교체
+ * - 다른 노드의 변경: 변경 스탬프(집계 쿼리 1회)를 주기적으로 비교해 달라지면 재생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantCategoryTreeCache {
+
+    private final RestaurantCategoryRepository categoryRepository;
+
+    private final AtomicReference<Holder> current = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /**
+     * 현재 스냅샷
+     * - 없거나 무효화되었으면 재생성
+     */
+    public RestaurantCategoryTreeSnapshot get() {
+        Holder holder = current.get();
+        if (holder != null && holder.generation() == generation.get()) {
+            return holder.snapshot();
+        }
+        return rebuild();
+    }
+
+    /**
+     * 스냅샷 재생성 후 교체
+     * - 적재 전에 세대를 읽어두므로 적재 중 들어온 무효화는 다음 조회에서 다시 반영됨
+     * - 동시 재생성은 하나로 합침
+     */
+    public synchronized RestaurantCategoryTreeSnapshot rebuild() {
+        long targetGeneration = generation.get();
+        Holder holder = current.get();
+        if (holder != null && holder.generation() == targetGeneration) {
+            return holder.snapshot();
+        }
+
+        String changeStamp = categoryRepository.findChangeStamp();
+        List<RestaurantCategory> categories = categoryRepository.findAllForTree();
+        RestaurantCategoryTreeSnapshot snapshot = RestaurantCategoryTreeSnapshot.of(
+                versionSequence.incrementAndGet(), changeStamp, categories);
+
+        current.set(new Holder(snapshot, targetGeneration));
+        log.debug("카테고리 트리 스냅샷 교체 - version: {}, size: {}", snapshot.getVersion(), snapshot.size());
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷 무효화 (다음 조회 시 재생성)
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 같은 트랜잭션 안의 후속 조회가 변경을 보도록 즉시 무효화
+     */
+    @EventListener
+    public void onCategoryChanged(RestaurantCategoryChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * 커밋/롤백 이후 다시 무효화
+     * - 커밋 전에 다른 스레드가 만든 스냅샷, 롤백된 변경이 담긴 스냅샷을 버림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onCategoryChangeCompleted(RestaurantCategoryChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * 다른 노드의 변경 감지
+     * - 스냅샷이 아직 없으면 적재하지 않음 (첫 조회 시 적재)
+     */
+    @Scheduled(fixedDelayString = "${category-tree.poll-interval-millis:10000}")
+    public void pollChanges() {
+        Holder holder = current.get();
+        if (holder == null) {
+            return;
+        }
+        try {
+            String changeStamp = categoryRepository.findChangeStamp();
+            if (!changeStamp.equals(holder.snapshot().getChangeStamp())) {
+                invalidate();
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("카테고리 변경 스탬프 조회 실패 - 기존 스냅샷 유지", e);
+        }
+    }
+
+    private record Holder(RestaurantCategoryTreeSnapshot snapshot, long generation) {
+    }
+}
@@ -0,0 +1,235 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import lombok.Getter;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCategory;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.CategoryResponse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 카테고리 트리 불변 스냅샷
+ * - 삭제되지 않은 전체 카테고리 + 부모/자식 인덱스
+ * - 1차 목록, 계층 구조, 인기 목록, 부모별 하위 목록, 상세 응답을 생성 시점에 미리 계산
+ * - 카테고리별 하위 트리 전체 ID 집합(자기 자신 포함, closure)도 미리 계산
+ * - 생성 후 변경되지 않으므로 여러 스레드가 잠금 없이 공유
+ */
+public final class RestaurantCategoryTreeSnapshot {
+
+    private static final Comparator<RestaurantCategory> BY_DISPLAY_ORDER = Comparator.comparing(
+            RestaurantCategory::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    @Getter
+    private final long version;
+    @Getter
+    private final String changeStamp;
+
+    private final Map<String, RestaurantCategory> categoriesById;
+    private final Map<String, List<String>> childIdsByParent;
+    private final Map<String, CategoryResponse> responsesById;
+    private final Map<String, List<CategoryResponse>> subCategoriesByParent;
+    private final Map<String, Set<String>> descendantIdsById;
+    @Getter
+    private final List<CategoryResponse> rootCategories;
+    @Getter
+    private final List<CategoryResponse> hierarchy;
+    @Getter
+    private final List<CategoryResponse> popularCategories;
+
+    private RestaurantCategoryTreeSnapshot(long version, String changeStamp, Collection<RestaurantCategory> categories) {
+        this.version = version;
+        this.changeStamp = changeStamp;
+
+        Map<String, RestaurantCategory> byId = new HashMap<>();
+        categories.forEach(category -> byId.put(category.getId(), category));
+        this.categoriesById = Map.copyOf(byId);
+
+        // 사용 가능한 자식만 displayOrder 순으로 인덱싱
+        Map<String, List<RestaurantCategory>> children = new HashMap<>();
+        categories.stream()
+                .filter(RestaurantCategory::isAvailable)
+                .filter(category -> category.getParentCategoryId() != null)
+                .sorted(BY_DISPLAY_ORDER)
+                .forEach(category -> children
+                        .computeIfAbsent(category.getParentCategoryId(), id -> new ArrayList<>())
+                        .add(category));
+
+        Map<String, List<String>> childIds = new HashMap<>();
+        Map<String, List<CategoryResponse>> subCategories = new HashMap<>();
+        children.forEach((parentId, list) -> {
+            childIds.put(parentId, list.stream().map(RestaurantCategory::getId).toList());
+            RestaurantCategory parent = byId.get(parentId);
+            subCategories.put(parentId, list.stream()
+                    .map(child -> toResponse(child, parent, null))
+                    .toList());
+        });
+        this.childIdsByParent = Map.copyOf(childIds);
+        this.subCategoriesByParent = Map.copyOf(subCategories);
+
+        Map<String, Set<String>> descendants = new HashMap<>();
+        byId.keySet().forEach(id -> descendants.put(id, Set.copyOf(collectDescendants(id, childIds))));
+        this.descendantIdsById = Map.copyOf(descendants);
+
+        Map<String, CategoryResponse> responses = new HashMap<>();
+        categories.stream()
+                .filter(RestaurantCategory::isAvailable)
+                .forEach(category -> responses.put(category.getId(), toResponse(
+                        category,
+                        category.getParentCategoryId() != null ? byId.get(category.getParentCategoryId()) : null,
+                        null)));
+        this.responsesById = Map.copyOf(responses);
+
+        List<RestaurantCategory> roots = categories.stream()
+                .filter(RestaurantCategory::isAvailable)
+                .filter(category -> Integer.valueOf(1).equals(category.getDepth()))
+                .sorted(BY_DISPLAY_ORDER)
+                .toList();
+        this.rootCategories = roots.stream()
+                .map(root -> toResponse(root, null, null))
+                .toList();
+        this.hierarchy = roots.stream()
+                .map(root -> buildHierarchy(root, children))
+                .toList();
+
+        this.popularCategories = categories.stream()
+                .filter(RestaurantCategory::isAvailable)
+                .filter(category -> Boolean.TRUE.equals(category.getIsPopular()))
+                .sorted(BY_DISPLAY_ORDER)
+                .sorted(Comparator.comparing(RestaurantCategory::getTotalOrderCount,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .map(category -> toResponse(category, null, null))
+                .toList();
+    }
+
+    /**
+     * 스냅샷 생성
+     * @param version 스냅샷 버전 (교체될 때마다 증가)
+     * @param changeStamp 생성 시점의 카테고리 테이블 변경 스탬프
+     * @param categories 삭제되지 않은 전체 카테고리
+     */
+    public static RestaurantCategoryTreeSnapshot of(long version, String changeStamp,
+                                                    Collection<RestaurantCategory> categories) {
+        return new RestaurantCategoryTreeSnapshot(version, changeStamp, categories);
+    }
+
+    /**
+     * 카테고리 조회 (비활성 포함, 삭제 제외)
+     */
+    public Optional<RestaurantCategory> findCategory(String categoryId) {
+        return Optional.ofNullable(categoryId).map(categoriesById::get);
+    }
+
+    /**
+     * 사용 가능한 카테고리 상세 응답 (부모 이름 포함)
+     */
+    public Optional<CategoryResponse> findCategoryResponse(String categoryId) {
+        return Optional.ofNullable(categoryId).map(responsesById::get);
+    }
+
+    /**
+     * 부모의 사용 가능한 하위 카테고리 응답 (displayOrder 순, 부모 이름 포함)
+     */
+    public List<CategoryResponse> getSubCategories(String parentCategoryId) {
+        return subCategoriesByParent.getOrDefault(parentCategoryId, List.of());
+    }
+
+    /**
+     * 부모의 사용 가능한 하위 카테고리 ID (displayOrder 순)
+     */
+    public List<String> getChildIds(String parentCategoryId) {
+        return childIdsByParent.getOrDefault(parentCategoryId, List.of());
+    }
+
+    /**
+     * 하위 트리 전체로 확장한 카테고리 ID 집합
+     * - 각 ID 자신 + 사용 가능한 2차/3차 하위 카테고리
+     * - 스냅샷에 없는 ID는 그대로 유지 (검색 결과가 없을 뿐 오류 아님)
+     */
+    public Set<String> expandDescendants(Collection<String> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> expanded = new HashSet<>();
+        for (String categoryId : categoryIds) {
+            if (categoryId == null) {
+                continue;
+            }
+            expanded.addAll(descendantIdsById.getOrDefault(categoryId, Set.of(categoryId)));
+        }
+        return expanded;
+    }
+
+    public int size() {
+        return categoriesById.size();
+    }
+
+    // ==================== Private Helper 메서드 ====================
+
+    /**
+     * 자기 자신 + 하위 카테고리 ID (너비 우선, 순환 데이터가 있어도 종료)
+     */
+    private static Set<String> collectDescendants(String rootId, Map<String, List<String>> childIds) {
+        Set<String> visited = new LinkedHashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(rootId);
+        while (!queue.isEmpty()) {
+            String id = queue.poll();
+            if (visited.add(id)) {
+                queue.addAll(childIds.getOrDefault(id, List.of()));
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * 계층 구조를 재귀적으로 빌드
+     */
+    private static CategoryResponse buildHierarchy(RestaurantCategory category,
+                                                   Map<String, List<RestaurantCategory>> children) {
+        List<RestaurantCategory> subCategories = children.getOrDefault(category.getId(), List.of());
+        if (subCategories.isEmpty()) {
+            return toResponse(category, null, null);
+        }
+        return toResponse(category, null, subCategories.stream()
+                .map(child -> buildHierarchy(child, children))
+                .toList());
+    }
+
+    /**
+     * RestaurantCategory -> CategoryResponse 변환
+     */
+    private static CategoryResponse toResponse(RestaurantCategory category,
+                                               RestaurantCategory parentCategory,
+                                               List<CategoryResponse> subCategories) {
+        return CategoryResponse.builder()
+                .id(category.getId())
+                .categoryCode(category.getCategoryCode())
+                .categoryName(category.getCategoryName())
+                .description(category.getDescription())
+                .iconUrl(category.getIconUrl())
+                .colorCode(category.getColorCode())
+                .parentCategoryId(category.getParentCategoryId())
+                .parentCategoryName(parentCategory != null ? parentCategory.getCategoryName() : null)
+                .depth(category.getDepth())
+                .displayOrder(category.getDisplayOrder())
+                .isActive(category.getIsActive())
+                .isPopular(category.getIsPopular())
+                .isNew(category.getIsNew())
+                .activeRestaurantCount(category.getActiveRestaurantCount())
+                .totalOrderCount(category.getTotalOrderCount())
+                .defaultMinimumOrderAmount(category.getDefaultMinimumOrderAmount())
+                .averageDeliveryTime(category.getAverageDeliveryTime())
+                .subCategories(subCategories)
+                .build();
+    }
+}
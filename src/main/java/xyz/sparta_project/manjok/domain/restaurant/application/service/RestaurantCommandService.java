@@ -2,8 +2,12 @@ package xyz.sparta_project.manjok.domain.restaurant.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.MenuCatalogChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantCategoryMembershipChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantRegionMembershipChangedEvent;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.*;
@@ -30,9 +34,14 @@ import java.util.stream.Collectors;
 @Transactional
 public class RestaurantCommandService {
 
+    // 상태 변경 응답에 필요한 식당 하위 정보 (운영 시간, 카테고리 이름) - 메뉴 수는 집계 쿼리
+    private static final Set<RestaurantPart> STATUS_CHANGE_PARTS =
+            EnumSet.of(RestaurantPart.OPERATING_DAYS, RestaurantPart.CATEGORY_RELATIONS);
+
     private final RestaurantRepository restaurantRepository;
     private final RestaurantCategoryRepository restaurantCategoryRepository;
     private final RestaurantMapper restaurantMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 식당 등록 (Owner)
@@ -101,6 +110,7 @@ public class RestaurantCommandService {
 
         // 8. 저장 (영속성 전이로 하위 엔티티 자동 저장)
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        publishMembershipChange(savedRestaurant, Set.of());
 
         log.info("식당 등록 완료 - restaurantId: {}", savedRestaurant.getId());
 
@@ -122,6 +132,7 @@ public class RestaurantCommandService {
         // 1. Restaurant 조회
         Restaurant restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+        Set<String> previousCategoryIds = restaurant.getCountedCategoryIds();
 
         // 2. 기본 정보 업데이트
         if (request.getRestaurantName() != null || request.getContactNumber() != null) {
@@ -171,6 +182,8 @@ public class RestaurantCommandService {
 
         // 8. 저장 (더티체킹으로 자동 업데이트)
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        publishMembershipChange(savedRestaurant, previousCategoryIds);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(restaurantId));
 
         log.info("식당 수정 완료 - restaurantId: {}", restaurantId);
 
@@ -192,6 +205,7 @@ public class RestaurantCommandService {
         // 1. Restaurant 조회
         Restaurant restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+        Set<String> previousCategoryIds = restaurant.getCountedCategoryIds();
 
         // 2. 기본 정보 업데이트 (null이 아닌 경우만)
         if (request.getRestaurantName() != null || request.getContactNumber() != null) {
@@ -243,6 +257,8 @@ public class RestaurantCommandService {
         if (request.getCategoryIds() != null) {
             updateRestaurantCategories(restaurant, request.getCategoryIds(), updatedBy);
         }
+        publishMembershipChange(restaurant, previousCategoryIds);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(restaurantId));
 
         log.info("식당 부분 수정 완료 - restaurantId: {}", restaurantId);
 
@@ -263,11 +279,15 @@ public class RestaurantCommandService {
         Restaurant restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
 
+        Set<String> previousCategoryIds = restaurant.getCountedCategoryIds();
+
         // 2. Soft Delete (도메인 메서드 사용)
         restaurant.delete(deletedBy);
 
         // 3. 저장 (더티체킹으로 자동 업데이트)
         restaurantRepository.save(restaurant);
+        publishMembershipChange(restaurant, previousCategoryIds);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(restaurantId));
 
         log.info("식당 삭제 완료 - restaurantId: {}", restaurantId);
     }
@@ -283,11 +303,15 @@ public class RestaurantCommandService {
         Restaurant restaurant = restaurantRepository.findByIdIncludingDeleted(restaurantId)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
 
+        Set<String> previousCategoryIds = restaurant.getCountedCategoryIds();
+
         // 2. 복구
         restaurant.restore(updatedBy);
 
         // 3. 저장
         Restaurant restoredRestaurant = restaurantRepository.save(restaurant);
+        publishMembershipChange(restoredRestaurant, previousCategoryIds);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(restaurantId));
 
         log.info("식당 복구 완료 - restaurantId: {}", restaurantId);
 
@@ -304,22 +328,23 @@ public class RestaurantCommandService {
                                                           String updatedBy) {
         log.info("식당 상태 변경 시작 - restaurantId: {}, status: {}", restaurantId, status);
 
-        // 1. Restaurant 조회
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+        // 1. Restaurant 부분 조회 (응답에 필요한 운영 시간/카테고리 관계만, 메뉴 그래프 제외)
+        Restaurant restaurant = restaurantRepository.findById(restaurantId, STATUS_CHANGE_PARTS)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
 
         // 2. 상태 변경
         RestaurantStatus restaurantStatus = RestaurantStatus.valueOf(status);
         restaurant.changeStatus(restaurantStatus, updatedBy);
 
-        // 3. 저장
+        // 3. 저장 (부분 조회 → 식당 컬럼만 반영)
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
 
         log.info("식당 상태 변경 완료 - restaurantId: {}", restaurantId);
 
-        // 4. 카테고리 정보 조회 후 응답 변환
+        // 4. 카테고리 정보/메뉴 수 조회 후 응답 변환
         Map<String, RestaurantCategory> categoryMap = loadCategoriesByRestaurant(savedRestaurant);
-        return restaurantMapper.toAdminRestaurantResponse(savedRestaurant, categoryMap);
+        return restaurantMapper.toAdminRestaurantResponse(savedRestaurant, categoryMap,
+                restaurantRepository.countMenus(restaurantId));
     }
 
     /**
@@ -333,6 +358,7 @@ public class RestaurantCommandService {
         // 1. Restaurant 조회 (삭제된 것 포함)
         Restaurant restaurant = restaurantRepository.findByIdIncludingDeleted(restaurantId)
                 .orElseThrow(() -> new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND));
+        Set<String> previousCategoryIds = restaurant.getCountedCategoryIds();
 
         // 2. 기본 정보 업데이트
         if (request.getRestaurantName() != null || request.getContactNumber() != null) {
@@ -376,6 +402,8 @@ public class RestaurantCommandService {
 
         // 7. 저장
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        publishMembershipChange(savedRestaurant, previousCategoryIds);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(restaurantId));
 
         log.info("식당 수정 완료 (Admin) - restaurantId: {}", restaurantId);
 
@@ -431,6 +459,26 @@ public class RestaurantCommandService {
         });
     }
 
+    /**
+     * 카테고리 집계 대상이 바뀌었으면 변경 이벤트 발행
+     * - 카테고리별 활성 식당 수는 커밋 후 이벤트 리스너가 증감분으로 반영
+     * - 지역 집계 대상(현재 지역)은 항상 발행 (이전 지역은 지역 패싯 인덱스가 보관)
+     */
+    private void publishMembershipChange(Restaurant restaurant, Set<String> previousCategoryIds) {
+        Set<String> currentCategoryIds = restaurant.getCountedCategoryIds();
+        if (!currentCategoryIds.equals(previousCategoryIds)) {
+            eventPublisher.publishEvent(new RestaurantCategoryMembershipChangedEvent(
+                    restaurant.getId(), previousCategoryIds, currentCategoryIds));
+        }
+
+        Address countedAddress = restaurant.getCountedAddress();
+        eventPublisher.publishEvent(new RestaurantRegionMembershipChangedEvent(
+                restaurant.getId(),
+                countedAddress != null ? countedAddress.getProvince() : null,
+                countedAddress != null ? countedAddress.getCity() : null,
+                countedAddress != null ? countedAddress.getDistrict() : null));
+    }
+
     /**
      * Restaurant ID 생성
      * - 형식: REST-{8자리 UUID}
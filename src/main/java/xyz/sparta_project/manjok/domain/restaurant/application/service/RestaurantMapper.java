@@ -7,9 +7,12 @@ import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dt
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.RestaurantSummaryResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.response.RestaurantResponse;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -48,12 +51,72 @@ public class RestaurantMapper {
                 .build();
     }
 
+    /**
+     * RestaurantSummary -> RestaurantSummaryResponse (목록 프로젝션 조회용)
+     * - 카테고리 이름은 조회 시 이미 해석되어 있음
+     */
+    public RestaurantSummaryResponse toRestaurantSummaryResponse(RestaurantSummary summary) {
+        return toRestaurantSummaryResponse(summary, summary.getCategoryNames());
+    }
+
+    /**
+     * RestaurantSummary -> RestaurantSummaryResponse (검색 카드 조회용)
+     * - 카드의 카테고리 ID를 카테고리 트리 스냅샷으로 이름 해석 (삭제/비활성 카테고리 제외)
+     */
+    public RestaurantSummaryResponse toRestaurantSummaryResponse(RestaurantSummary summary,
+                                                                 RestaurantCategoryTreeSnapshot categoryTree) {
+        List<String> categoryNames = summary.getCategoryIds().stream()
+                .map(categoryTree::findCategory)
+                .flatMap(Optional::stream)
+                .filter(RestaurantCategory::isAvailable)
+                .map(RestaurantCategory::getCategoryName)
+                .collect(Collectors.toList());
+        return toRestaurantSummaryResponse(summary, categoryNames);
+    }
+
+    private RestaurantSummaryResponse toRestaurantSummaryResponse(RestaurantSummary summary,
+                                                                  List<String> categoryNames) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean openNow = summary.isOpenNow();
+        return RestaurantSummaryResponse.builder()
+                .restaurantId(summary.getId())
+                .restaurantName(summary.getRestaurantName())
+                .status(summary.getStatus().getDisplayName())
+                .province(summary.getAddress().getProvince())
+                .city(summary.getAddress().getCity())
+                .district(summary.getAddress().getDistrict())
+                .fullAddress(summary.getAddress().getFullAddress())
+                .categoryNames(categoryNames)
+                .viewCount(summary.getViewCount())
+                .wishlistCount(summary.getWishlistCount())
+                .reviewCount(summary.getReviewCount())
+                .reviewRating(summary.getReviewRating())
+                .tags(summary.getTags())
+                .isOpenNow(openNow)
+                .currentOperatingStatus(getCurrentOperatingStatus(summary.getIsActive(), openNow))
+                .nextOpeningAt(openNow || summary.getStatus() != RestaurantStatus.OPEN
+                        ? null
+                        : summary.getNextOpeningTime(now).orElse(null))
+                .build();
+    }
+
     /**
      * Restaurant -> RestaurantDetailResponse (상세 조회용)
      */
     public RestaurantDetailResponse toRestaurantDetailResponse(
             Restaurant restaurant,
             Map<String, RestaurantCategory> categoryMap) {
+        return toRestaurantDetailResponse(restaurant, categoryMap, List.of());
+    }
+
+    /**
+     * Restaurant -> RestaurantDetailResponse (베스트셀러 포함)
+     * @param bestSellers 순위 순으로 정렬된 베스트셀러 메뉴
+     */
+    public RestaurantDetailResponse toRestaurantDetailResponse(
+            Restaurant restaurant,
+            Map<String, RestaurantCategory> categoryMap,
+            List<Menu> bestSellers) {
         return RestaurantDetailResponse.builder()
                 .restaurantId(restaurant.getId())
                 .restaurantName(restaurant.getRestaurantName())
@@ -72,8 +135,10 @@ public class RestaurantMapper {
                 .isActive(restaurant.getIsActive())
                 .isOpenNow(restaurant.isOpenNow())
                 .currentOperatingStatus(getCurrentOperatingStatus(restaurant))
+                .nextOpeningAt(getNextOpeningAt(restaurant))
                 .operatingHours(toOperatingHoursMap(restaurant.getOperatingDays()))
                 .menuCategories(toMenuCategorySummaryList(restaurant.getActiveMenuCategories()))
+                .bestSellers(toBestSellerList(bestSellers))
                 .createdAt(restaurant.getCreatedAt())
                 .build();
     }
@@ -127,6 +192,17 @@ public class RestaurantMapper {
     public AdminRestaurantResponse toAdminRestaurantResponse(
             Restaurant restaurant,
             Map<String, RestaurantCategory> categoryMap) {
+        return toAdminRestaurantResponse(restaurant, categoryMap, RestaurantMenuCounts.of(restaurant.getMenus()));
+    }
+
+    /**
+     * Restaurant → AdminRestaurantResponse 변환 (메뉴 목록 없이 부분 조회한 식당)
+     * - 메뉴 수는 집계 쿼리 결과 사용
+     */
+    public AdminRestaurantResponse toAdminRestaurantResponse(
+            Restaurant restaurant,
+            Map<String, RestaurantCategory> categoryMap,
+            RestaurantMenuCounts menuCounts) {
         return AdminRestaurantResponse.builder()
                 .restaurantId(restaurant.getId())
                 .ownerId(restaurant.getOwnerId())
@@ -146,13 +222,9 @@ public class RestaurantMapper {
                 .isActive(restaurant.getIsActive())
                 .isOpenNow(restaurant.isOpenNow())
                 .operatingHours(toAdminOperatingHoursMap(restaurant.getOperatingDays()))
-                .totalMenuCount(restaurant.getMenus().size())
-                .activeMenuCount((int) restaurant.getMenus().stream()
-                        .filter(menu -> !menu.getIsDeleted() && menu.getIsAvailable())
-                        .count())
-                .deletedMenuCount((int) restaurant.getMenus().stream()
-                        .filter(Menu::getIsDeleted)
-                        .count())
+                .totalMenuCount(menuCounts.total())
+                .activeMenuCount(menuCounts.active())
+                .deletedMenuCount(menuCounts.deleted())
                 .createdAt(restaurant.getCreatedAt())
                 .createdBy(restaurant.getCreatedBy())
                 .updatedAt(restaurant.getUpdatedAt())
@@ -186,15 +258,30 @@ public class RestaurantMapper {
      * 현재 운영 상태 문자열 생성
      */
     private String getCurrentOperatingStatus(Restaurant restaurant) {
-        if (!restaurant.getIsActive()) {
+        return getCurrentOperatingStatus(restaurant.getIsActive(), restaurant.isOpenNow());
+    }
+
+    private String getCurrentOperatingStatus(Boolean isActive, boolean openNow) {
+        if (!isActive) {
             return "운영 중지";
         }
-        if (restaurant.isOpenNow()) {
+        if (openNow) {
             return "영업 중";
         }
         return "영업 종료";
     }
 
+    /**
+     * 다음 영업 시작 시각 (영업 중이거나 OPEN 상태가 아니면 null)
+     */
+    private LocalDateTime getNextOpeningAt(Restaurant restaurant) {
+        LocalDateTime now = LocalDateTime.now();
+        if (restaurant.getStatus() != RestaurantStatus.OPEN || restaurant.isOpenAt(now)) {
+            return null;
+        }
+        return restaurant.getNextOpeningTime(now).orElse(null);
+    }
+
     /**
      * Address -> AddressDto (Customer용)
      */
@@ -373,4 +460,21 @@ public class RestaurantMapper {
                         .build())
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * 베스트셀러 메뉴 목록 변환 (순서 유지)
+     */
+    private List<RestaurantDetailResponse.BestSellerMenuDto> toBestSellerList(List<Menu> menus) {
+        List<RestaurantDetailResponse.BestSellerMenuDto> result = new ArrayList<>(menus.size());
+        for (int i = 0; i < menus.size(); i++) {
+            Menu menu = menus.get(i);
+            result.add(RestaurantDetailResponse.BestSellerMenuDto.builder()
+                    .rank(i + 1)
+                    .menuId(menu.getId())
+                    .menuName(menu.getMenuName())
+                    .price(menu.getPrice())
+                    .build());
+        }
+        return result;
+    }
+}
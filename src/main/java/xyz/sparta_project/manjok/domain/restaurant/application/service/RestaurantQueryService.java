@@ -2,23 +2,40 @@ package xyz.sparta_project.manjok.domain.restaurant.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantViewedEvent;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.Restaurant;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCategory;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantSummary;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.TrendingPeriod;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCardRepository;
 import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCategoryRepository;
 import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.admin.dto.response.AdminRestaurantResponse;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantBestSellerIndex;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantTrendingIndex;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.RegionFacetResponse;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.TagFacetResponse;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.TrendingItemResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.RestaurantDetailResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.RestaurantSummaryResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.response.RestaurantResponse;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
+import xyz.sparta_project.manjok.global.common.dto.PageCountMode;
 import xyz.sparta_project.manjok.global.common.utils.PageUtils;
+import xyz.sparta_project.manjok.global.infrastructure.cache.CountCache;
 import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,8 +54,19 @@ import java.util.stream.Collectors;
 public class RestaurantQueryService {
 
     private final RestaurantRepository restaurantRepository;
+    private final RestaurantCardRepository restaurantCardRepository;
     private final RestaurantCategoryRepository restaurantCategoryRepository;
     private final RestaurantMapper restaurantMapper;
+    private final CountCache countCache;
+    private final RestaurantCategoryTreeCache categoryTreeCache;
+    private final RestaurantTrendingIndex trendingIndex;
+    private final RestaurantRegionStatistics regionStatistics;
+    private final RestaurantBestSellerIndex bestSellerIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String SEARCH_COUNT_CACHE_NAMESPACE = "restaurant-search";
+    private static final int MAX_TRENDING_LIMIT = 50;
+    private static final int BEST_SELLER_LIMIT = 5;
 
     // ==================== Customer 조회 API ====================
 
@@ -52,32 +80,191 @@ public class RestaurantQueryService {
             String city,
             String district,
             Set<String> categoryIds,
+            Set<String> tags,
             String keyword,
             Pageable pageable
     ) {
-        log.info("식당 검색 - province: {}, city: {}, district: {}, keyword: {}",
-                province, city, district, keyword);
+        log.info("식당 검색 - province: {}, city: {}, district: {}, tags: {}, keyword: {}",
+                province, city, district, tags, keyword);
 
-        Page<Restaurant> restaurantPage = restaurantRepository.searchRestaurants(
-                province, city, district, categoryIds, keyword, pageable
+        RestaurantCategoryTreeSnapshot categoryTree = categoryTreeCache.get();
+        Set<String> searchCategoryIds = expandCategoryIds(categoryTree, categoryIds);
+
+        // 검색 카드 테이블 단일 조회 (Aggregate/연관 테이블 조인 없음)
+        Page<RestaurantSummary> summaryPage = restaurantCardRepository.search(
+                province, city, district, searchCategoryIds, tags, keyword, false, pageable
         );
 
-        // 모든 Restaurant의 카테고리 ID 수집
-        Set<String> allCategoryIds = restaurantPage.getContent().stream()
-                .flatMap(restaurant -> restaurant.getCategoryRelations().stream())
-                .filter(rel -> !rel.isDeleted())
-                .map(rel -> rel.getCategoryId())
-                .collect(Collectors.toSet());
+        return PageUtils.toPageResponse(summaryPage,
+                summary -> restaurantMapper.toRestaurantSummaryResponse(summary, categoryTree));
+    }
 
-        // 카테고리 정보 일괄 조회
-        Map<String, RestaurantCategory> categoryMap = loadCategoriesByIds(allCategoryIds);
+    /**
+     * 식당 목록 조회 - 전체 개수 계산 방식 선택 (Customer)
+     * - EXACT: 기존 searchRestaurants (count 쿼리 포함)
+     * - NONE: size+1 조회로 hasNext만 판단
+     * - APPROXIMATE: NONE + 정규화된 검색 조건 키로 캐시된 전체 개수
+     */
+    public PageResponse<RestaurantSummaryResponse> searchRestaurants(
+            String province,
+            String city,
+            String district,
+            Set<String> categoryIds,
+            Set<String> tags,
+            String keyword,
+            Pageable pageable,
+            PageCountMode countMode
+    ) {
+        return searchRestaurants(province, city, district, categoryIds, tags, keyword, pageable, countMode, false);
+    }
 
-        return PageUtils.toPageResponse(
-                restaurantPage,
-                restaurant -> restaurantMapper.toRestaurantSummaryResponse(restaurant, categoryMap)
+    /**
+     * 식당 목록 조회 - 전체 개수 계산 방식 + 영업 중 필터 (Customer)
+     * - openNow: 현재 영업 중인 식당만 (주간 영업 비트맵 기준)
+     */
+    public PageResponse<RestaurantSummaryResponse> searchRestaurants(
+            String province,
+            String city,
+            String district,
+            Set<String> categoryIds,
+            Set<String> tags,
+            String keyword,
+            Pageable pageable,
+            PageCountMode countMode,
+            boolean openNow
+    ) {
+        if (!openNow && (countMode == null || countMode == PageCountMode.EXACT)) {
+            return searchRestaurants(province, city, district, categoryIds, tags, keyword, pageable);
+        }
+
+        log.info("식당 검색 ({}) - province: {}, city: {}, district: {}, tags: {}, keyword: {}, openNow: {}",
+                countMode, province, city, district, tags, keyword, openNow);
+
+        RestaurantCategoryTreeSnapshot categoryTree = categoryTreeCache.get();
+        Set<String> searchCategoryIds = expandCategoryIds(categoryTree, categoryIds);
+
+        if (countMode == null || countMode == PageCountMode.EXACT) {
+            Page<RestaurantSummary> summaryPage = restaurantCardRepository.search(
+                    province, city, district, searchCategoryIds, tags, keyword, openNow, pageable
+            );
+            return PageUtils.toPageResponse(summaryPage,
+                    summary -> restaurantMapper.toRestaurantSummaryResponse(summary, categoryTree));
+        }
+
+        Slice<RestaurantSummary> summarySlice = restaurantCardRepository.searchSlice(
+                province, city, district, searchCategoryIds, tags, keyword, openNow, pageable
+        );
+
+        Long approximateTotal = null;
+        if (countMode == PageCountMode.APPROXIMATE) {
+            String cacheKey = CountCache.key(
+                    SEARCH_COUNT_CACHE_NAMESPACE, province, city, district, searchCategoryIds, tags, keyword, openNow
+            );
+            approximateTotal = countCache.getOrCompute(cacheKey, () ->
+                    restaurantCardRepository.count(
+                            province, city, district, searchCategoryIds, tags, keyword, openNow)
+            );
+        }
+
+        return PageUtils.toSliceResponse(
+                summarySlice,
+                approximateTotal,
+                summary -> restaurantMapper.toRestaurantSummaryResponse(summary, categoryTree)
+        );
+    }
+
+    /**
+     * 식당 목록 조회 - 커서 페이지네이션 (Customer)
+     * - 검색 조건은 searchRestaurants와 동일 (검색 카드 테이블, 카테고리 이름은 트리 스냅샷으로 해석)
+     * - total count 없이 다음 커서로 이어서 조회
+     */
+    public PageResponse<RestaurantSummaryResponse> searchRestaurantsWithCursor(
+            String province,
+            String city,
+            String district,
+            Set<String> categoryIds,
+            Set<String> tags,
+            String keyword,
+            CursorRequest cursorRequest
+    ) {
+        log.info("식당 커서 검색 - province: {}, city: {}, district: {}, tags: {}, keyword: {}, sort: {}",
+                province, city, district, tags, keyword, cursorRequest.getSortProperty());
+
+        RestaurantCategoryTreeSnapshot categoryTree = categoryTreeCache.get();
+        Set<String> searchCategoryIds = expandCategoryIds(categoryTree, categoryIds);
+
+        CursorSlice<RestaurantSummary> summarySlice = restaurantCardRepository.searchWithCursor(
+                province, city, district, searchCategoryIds, tags, keyword, cursorRequest
+        );
+
+        return PageUtils.toCursorResponse(
+                summarySlice,
+                summary -> restaurantMapper.toRestaurantSummaryResponse(summary, categoryTree)
         );
     }
 
+    /**
+     * 태그 패싯 조회 (Customer)
+     * - 현재 지역/카테고리/키워드 조건 내 태그별 식당 수
+     */
+    public List<TagFacetResponse> getTagFacets(
+            String province,
+            String city,
+            String district,
+            Set<String> categoryIds,
+            String keyword
+    ) {
+        log.info("태그 패싯 조회 - province: {}, city: {}, district: {}, keyword: {}",
+                province, city, district, keyword);
+
+        return restaurantRepository.countTagFacets(province, city, district, expandCategoryIds(categoryIds), keyword)
+                .entrySet().stream()
+                .map(entry -> TagFacetResponse.builder()
+                        .tag(entry.getKey())
+                        .restaurantCount(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 지역 패싯 조회 (Customer)
+     * - province 없음: 시/도별, province만: 시/군/구별, province+city: 동별 활성 식당 수
+     * - 메모리 지역 패싯 인덱스에서 바로 응답 (GROUP BY 쿼리 없음, 재계산은 백그라운드 주기 작업)
+     */
+    public List<RegionFacetResponse> getRegionFacets(String province, String city) {
+        return regionStatistics.getFacets(province, province != null ? city : null).stream()
+                .map(facet -> RegionFacetResponse.builder()
+                        .region(facet.name())
+                        .restaurantCount(facet.restaurantCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 트렌딩 식당 조회 (Customer)
+     * - 최근 1시간 / 오늘 주문·조회 신호 기준 상위 식당
+     * - 지역(province), 카테고리 범위 지정 가능
+     */
+    public List<TrendingItemResponse> getTrendingRestaurants(
+            TrendingPeriod period, String province, String categoryId, int limit) {
+        log.info("트렌딩 식당 조회 - period: {}, province: {}, categoryId: {}", period, province, categoryId);
+
+        return toTrendingResponses(trendingIndex.topRestaurants(
+                period, province, categoryId, Math.min(Math.max(limit, 1), MAX_TRENDING_LIMIT)));
+    }
+
+    /**
+     * 트렌딩 메뉴 조회 (Customer)
+     * - 메뉴가 속한 식당의 지역/카테고리 범위 기준
+     */
+    public List<TrendingItemResponse> getTrendingMenus(
+            TrendingPeriod period, String province, String categoryId, int limit) {
+        log.info("트렌딩 메뉴 조회 - period: {}, province: {}, categoryId: {}", period, province, categoryId);
+
+        return toTrendingResponses(trendingIndex.topMenus(
+                period, province, categoryId, Math.min(Math.max(limit, 1), MAX_TRENDING_LIMIT)));
+    }
+
     /**
      * 식당 상세 조회 (Customer)
      * - 삭제되지 않은 식당만 조회
@@ -95,14 +282,22 @@ public class RestaurantQueryService {
         restaurantRepository.save(restaurant);
 
         // 카테고리 정보 조회
-        Set<String> categoryIds = restaurant.getCategoryRelations().stream()
-                .filter(rel -> !rel.isDeleted())
-                .map(rel -> rel.getCategoryId())
-                .collect(Collectors.toSet());
+        Set<String> categoryIds = restaurant.getActiveCategoryIds();
 
         Map<String, RestaurantCategory> categoryMap = loadCategoriesByIds(categoryIds);
 
-        return restaurantMapper.toRestaurantDetailResponse(restaurant, categoryMap);
+        // 트렌딩 조회 신호
+        eventPublisher.publishEvent(new RestaurantViewedEvent(
+                restaurant.getId(),
+                restaurant.getRestaurantName(),
+                restaurant.getAddress() != null ? restaurant.getAddress().getProvince() : null,
+                categoryIds));
+
+        // 베스트셀러: 인덱스가 유지하는 상위 메뉴 ID만 사용 (메뉴 전체 정렬 없음)
+        List<Menu> bestSellers = restaurant.getBestSellerMenus(
+                bestSellerIndex.findRankedMenuIds(restaurant.getId()), BEST_SELLER_LIMIT);
+
+        return restaurantMapper.toRestaurantDetailResponse(restaurant, categoryMap, bestSellers);
     }
 
     // ==================== Owner 조회 API ====================
@@ -221,6 +416,23 @@ public class RestaurantQueryService {
 
     // ==================== Private Helper 메서드 ====================
 
+    /**
+     * 검색 카테고리를 하위 트리 전체로 확장
+     * - 상위 카테고리로 검색해도 2차/3차 카테고리에 연결된 식당까지 포함
+     * - 카테고리 트리 스냅샷의 미리 계산된 하위 ID 집합 사용 (DB 접근 없음)
+     * - 확장된 ID는 검색 조건에서 category_id IN 하나로 처리
+     */
+    private Set<String> expandCategoryIds(Set<String> categoryIds) {
+        return expandCategoryIds(categoryTreeCache.get(), categoryIds);
+    }
+
+    private Set<String> expandCategoryIds(RestaurantCategoryTreeSnapshot categoryTree, Set<String> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return categoryIds;
+        }
+        return categoryTree.expandDescendants(categoryIds);
+    }
+
     /**
      * 카테고리 ID 목록으로 카테고리 정보 조회
      * - 빈 리스트인 경우 빈 Map 반환
@@ -240,4 +452,22 @@ public class RestaurantQueryService {
                         category -> category
                 ));
     }
-}
\ No newline at end of file
+
+    /**
+     * 트렌딩 항목을 순위가 매겨진 응답으로 변환
+     */
+    private List<TrendingItemResponse> toTrendingResponses(List<RestaurantTrendingIndex.TrendingItem> items) {
+        List<TrendingItemResponse> responses = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            RestaurantTrendingIndex.TrendingItem item = items.get(i);
+            responses.add(TrendingItemResponse.builder()
+                    .rank(i + 1)
+                    .id(item.id())
+                    .name(item.name())
+                    .restaurantId(item.restaurantId())
+                    .score(item.score())
+                    .build());
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,121 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RankingScorePolicy;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 식당 추천 랭킹 점수 관리
+ * - 통계 이벤트(주문/리뷰/찜) 처리 시 해당 식당 점수만 증분 갱신
+ * - 시간 경과(구매 감쇠, 신규 가산점)는 야간 일괄 재계산으로 반영 (id 키셋 묶음마다 커밋)
+ * - 가중치/기준값은 ranking.* 설정으로 조정
+ */
+@Slf4j
+@Component
+public class RestaurantRankingScorer {
+
+    private static final int RECOMPUTE_BATCH_SIZE = 500;
+
+    private final RestaurantRepository restaurantRepository;
+    private final RankingScorePolicy policy;
+    private final Clock clock;
+
+    @Autowired
+    public RestaurantRankingScorer(
+            RestaurantRepository restaurantRepository,
+            @Value("${ranking.prior-rating:3.5}") double priorRating,
+            @Value("${ranking.prior-weight:10}") double priorWeight,
+            @Value("${ranking.purchase-half-life-days:7}") double purchaseHalfLifeDays,
+            @Value("${ranking.purchase-saturation:100}") double purchaseSaturation,
+            @Value("${ranking.wishlist-saturation:500}") double wishlistSaturation,
+            @Value("${ranking.freshness-half-life-days:30}") double freshnessHalfLifeDays,
+            @Value("${ranking.weight.rating:0.5}") double ratingWeight,
+            @Value("${ranking.weight.purchase:0.25}") double purchaseWeight,
+            @Value("${ranking.weight.wishlist:0.15}") double wishlistWeight,
+            @Value("${ranking.weight.freshness:0.1}") double freshnessWeight) {
+        this(restaurantRepository,
+                RankingScorePolicy.builder()
+                        .priorRating(priorRating)
+                        .priorWeight(priorWeight)
+                        .purchaseHalfLifeDays(purchaseHalfLifeDays)
+                        .purchaseSaturation(purchaseSaturation)
+                        .wishlistSaturation(wishlistSaturation)
+                        .freshnessHalfLifeDays(freshnessHalfLifeDays)
+                        .ratingWeight(ratingWeight)
+                        .purchaseWeight(purchaseWeight)
+                        .wishlistWeight(wishlistWeight)
+                        .freshnessWeight(freshnessWeight)
+                        .build(),
+                Clock.systemDefaultZone());
+    }
+
+    RestaurantRankingScorer(RestaurantRepository restaurantRepository, RankingScorePolicy policy, Clock clock) {
+        this.restaurantRepository = restaurantRepository;
+        this.policy = policy;
+        this.clock = clock;
+    }
+
+    public RankingScorePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * 주문 완료 반영 - 구매수 증가, 최근 구매 점수 누적 후 점수 재계산 (버전 검사 없는 원자적 UPDATE)
+     * @return 식당이 없으면 false
+     */
+    public boolean recordPurchase(String restaurantId, Map<String, Integer> menuQuantities) {
+        return restaurantRepository.addPurchase(restaurantId, menuQuantities, policy, LocalDateTime.now(clock));
+    }
+
+    /**
+     * 찜 증감 반영 후 점수 재계산
+     * @return 식당이 없으면 false
+     */
+    public boolean recordWishlist(String restaurantId, int delta) {
+        return restaurantRepository.addWishlist(restaurantId, delta, policy, LocalDateTime.now(clock));
+    }
+
+    /**
+     * 리뷰 1건 반영 후 점수 재계산
+     * @return 식당이 없으면 false
+     */
+    public boolean recordReview(String restaurantId, BigDecimal rating) {
+        return restaurantRepository.addReview(restaurantId, rating, policy, LocalDateTime.now(clock));
+    }
+
+    /**
+     * 전체 식당 점수 일괄 재계산 (기본: 매일 03:30)
+     * - 묶음마다 짧은 트랜잭션으로 커밋 → 행 잠금이 묶음 단위로만 유지되어 통계 이벤트 증분 갱신을 막지 않음
+     * - 모든 묶음이 같은 기준 시각으로 계산
+     * @return 갱신한 식당 수
+     */
+    @Scheduled(cron = "${ranking.recompute-cron:0 30 3 * * *}")
+    public int recomputeAll() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int count = 0;
+        String lastId = null;
+
+        while (true) {
+            List<String> ids = restaurantRepository.recomputeRankingScores(
+                    policy, now, lastId, RECOMPUTE_BATCH_SIZE);
+            count += ids.size();
+            if (ids.size() < RECOMPUTE_BATCH_SIZE) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        log.info("랭킹 점수 일괄 재계산 완료: {}건", count);
+        return count;
+    }
+}
@@ -0,0 +1,120 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantRegionMembershipChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Address;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantRegionFacetIndex;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantRegionFacetIndex.Region;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantRegionFacetIndex.RegionFacet;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 지역별 활성 식당 수 관리
+ * - 식당 지역 집계 대상 변경을 커밋 후 지역 패싯 인덱스에 바로 반영 (DB 쓰기 없음)
+ * - 조회는 메모리 인덱스만 읽음 (요청 스레드에서 DB 조회/재계산 없음)
+ * - 이벤트는 같은 노드의 변경만 받으므로 백그라운드에서 주기적으로 전체 재계산 (다른 노드의 변경, 누락 이벤트 보정)
+ * - 시작 시 식당 테이블 지역 조회로 적재
+ * - 재계산 중 들어온 변경은 교체 후 다시 적용 (식당별 현재 지역 기준이라 재적용해도 중복 집계 없음)
+ */
+@Slf4j
+@Component
+public class RestaurantRegionStatistics {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantRegionFacetIndex regionFacetIndex;
+
+    private final Queue<RestaurantRegionMembershipChangedEvent> changesDuringReconcile = new ConcurrentLinkedQueue<>();
+    private volatile boolean reconciling;
+
+    public RestaurantRegionStatistics(RestaurantRepository restaurantRepository,
+                                      RestaurantRegionFacetIndex regionFacetIndex) {
+        this.restaurantRepository = restaurantRepository;
+        this.regionFacetIndex = regionFacetIndex;
+    }
+
+    /**
+     * 하위 지역별 식당 수 (메모리 인덱스만 조회)
+     */
+    public List<RegionFacet> getFacets(String province, String city) {
+        return regionFacetIndex.getFacets(province, city);
+    }
+
+    /**
+     * 식당 지역 집계 대상 변경 반영 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(RestaurantRegionMembershipChangedEvent event) {
+        if (reconciling) {
+            changesDuringReconcile.add(event);
+        }
+        apply(event);
+    }
+
+    /**
+     * 애플리케이션 시작 시 지역 집계 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("지역 패싯 초기 적재 실패 - 다음 재계산에서 다시 시도", e);
+        }
+    }
+
+    /**
+     * 주기적 전체 재계산 (다른 노드의 변경 반영)
+     * - 실패하면 기존 집계를 유지하고 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${region-stats.refresh-interval-millis:60000}",
+            initialDelayString = "${region-stats.refresh-interval-millis:60000}")
+    public void refresh() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("지역 패싯 재계산 실패 - 기존 집계 유지", e);
+        }
+    }
+
+    /**
+     * 전체 재계산
+     */
+    public synchronized void reconcile() {
+        reconciling = true;
+        try {
+            Map<String, Address> addresses = restaurantRepository.findCountedRestaurantRegions();
+            Map<String, Region> regions = new HashMap<>(addresses.size() * 2);
+            addresses.forEach((restaurantId, address) -> regions.put(restaurantId,
+                    new Region(address.getProvince(), address.getCity(), address.getDistrict())));
+            regionFacetIndex.replaceAll(regions);
+        } finally {
+            applyChangesDuringReconcile();
+            reconciling = false;
+            applyChangesDuringReconcile();
+        }
+        log.info("지역 패싯 재계산 완료 - restaurants: {}", regionFacetIndex.count(null, null, null));
+    }
+
+    private void applyChangesDuringReconcile() {
+        RestaurantRegionMembershipChangedEvent pending;
+        while ((pending = changesDuringReconcile.poll()) != null) {
+            apply(pending);
+        }
+    }
+
+    private void apply(RestaurantRegionMembershipChangedEvent event) {
+        regionFacetIndex.apply(event.getRestaurantId(), event.getProvince(), event.getCity(), event.getDistrict());
+    }
+}
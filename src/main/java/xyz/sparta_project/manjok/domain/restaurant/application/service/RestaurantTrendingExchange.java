@@ -0,0 +1,101 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.TrendingSnapshot;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.TrendingSnapshotRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantTrendingIndex;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 트렌딩 인덱스 노드 간 교환
+ * - 주기마다 이 노드에서 바뀐 윈도우를 스냅샷 테이블에 발행 (노드 + 윈도우 키당 1행 덮어쓰기)
+ * - 다른 노드가 마지막 폴링 이후 발행한 스냅샷을 읽어 인덱스에 반영
+ *   (노드 간 시각 차/커밋 지연을 감안해 overlap만큼 겹쳐 읽고, 이미 받은 스냅샷은 인덱스가 무시)
+ * - 윈도우 최대 길이(1일)보다 오래된 스냅샷은 테이블/인덱스에서 정리, 유휴 로컬 윈도우도 함께 정리
+ */
+@Slf4j
+@Component
+public class RestaurantTrendingExchange {
+
+    private static final long SNAPSHOT_RETENTION_MILLIS = Duration.ofDays(1).toMillis();
+
+    private final RestaurantTrendingIndex trendingIndex;
+    private final TrendingSnapshotRepository snapshotRepository;
+    private final String nodeId;
+    private final long overlapMillis;
+
+    private long polledUntil;
+
+    public RestaurantTrendingExchange(RestaurantTrendingIndex trendingIndex,
+                                      TrendingSnapshotRepository snapshotRepository,
+                                      @Value("${trending.node-id:}") String nodeId,
+                                      @Value("${trending.exchange-overlap-millis:30000}") long overlapMillis) {
+        this.trendingIndex = trendingIndex;
+        this.snapshotRepository = snapshotRepository;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId.trim();
+        this.overlapMillis = overlapMillis;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 발행 후 폴링
+     * - 실패해도 로컬 집계는 유지, 발행하지 못한 윈도우는 다음 주기에 재발행
+     */
+    @Scheduled(fixedDelayString = "${trending.exchange-interval-millis:10000}")
+    public synchronized void exchange() {
+        long now = System.currentTimeMillis();
+        publish(now);
+        poll(now);
+        trendingIndex.evictIdleWindows();
+    }
+
+    private void publish(long now) {
+        Map<String, byte[]> changed = trendingIndex.exportChanged();
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            snapshotRepository.saveAll(nodeId, changed, now);
+            log.debug("트렌딩 스냅샷 발행 - node: {}, windows: {}", nodeId, changed.size());
+        } catch (Exception e) {
+            log.warn("트렌딩 스냅샷 발행 실패 - 다음 주기에 재시도", e);
+            trendingIndex.markChanged(changed.keySet());
+        }
+    }
+
+    private void poll(long now) {
+        try {
+            List<TrendingSnapshot> snapshots =
+                    snapshotRepository.findUpdatedSince(nodeId, polledUntil - overlapMillis);
+            for (TrendingSnapshot snapshot : snapshots) {
+                apply(snapshot);
+                polledUntil = Math.max(polledUntil, snapshot.updatedAt());
+            }
+
+            long cutoff = now - SNAPSHOT_RETENTION_MILLIS;
+            trendingIndex.pruneRemote(cutoff);
+            snapshotRepository.deleteUpdatedBefore(cutoff);
+        } catch (Exception e) {
+            log.warn("트렌딩 스냅샷 폴링 실패 - 기존 집계 유지", e);
+        }
+    }
+
+    private void apply(TrendingSnapshot snapshot) {
+        try {
+            trendingIndex.applyRemote(
+                    snapshot.nodeId(), snapshot.windowKey(), snapshot.payload(), snapshot.updatedAt());
+        } catch (RuntimeException e) {
+            log.warn("트렌딩 스냅샷 반영 실패 - node: {}, window: {}", snapshot.nodeId(), snapshot.windowKey(), e);
+        }
+    }
+}
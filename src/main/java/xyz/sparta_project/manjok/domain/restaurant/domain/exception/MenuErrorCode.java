@@ -44,7 +44,17 @@ public enum MenuErrorCode implements ErrorCode {
     // MenuCategoryRelation 관련 에러 (MENU_080~099)
     RELATION_NOT_FOUND("MENU_080", "메뉴-카테고리 관계를 찾을 수 없습니다.", 404),
     RELATION_ALREADY_EXISTS("MENU_081", "이미 존재하는 메뉴-카테고리 관계입니다.", 400),
-    RELATION_NOT_BELONG_TO_RESTAURANT("MENU_082", "해당 관계는 이 레스토랑에 속하지 않습니다.", 403);
+    RELATION_NOT_BELONG_TO_RESTAURANT("MENU_082", "해당 관계는 이 레스토랑에 속하지 않습니다.", 403),
+
+    // 메뉴 일괄 등록/내보내기 관련 에러 (MENU_100~119)
+    UNSUPPORTED_FILE_FORMAT("MENU_100", "지원하지 않는 파일 형식입니다. (csv, ndjson)", 400),
+    INVALID_IMPORT_FILE("MENU_101", "메뉴 파일을 읽을 수 없습니다.", 400),
+    INVALID_IMPORT_ROW("MENU_102", "메뉴 행 형식이 올바르지 않습니다.", 400),
+    IMPORT_CHUNK_FAILED("MENU_103", "메뉴 일괄 저장 중 오류가 발생했습니다.", 500),
+
+    // 메뉴 재고 관련 에러 (MENU_120~139)
+    INVALID_DAILY_STOCK("MENU_120", "일일 재고는 0 이상이어야 합니다.", 400),
+    STOCK_SAVE_FAILED("MENU_121", "메뉴 재고 저장 중 오류가 발생했습니다.", 500);
 
     private final String code;
     private final String message;
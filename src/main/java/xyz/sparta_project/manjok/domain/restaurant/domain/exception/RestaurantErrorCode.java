@@ -48,7 +48,13 @@ public enum RestaurantErrorCode implements ErrorCode {
 
     // Relation 관련 에러 (RESTAURANT_060~069)
     RELATION_NOT_FOUND("RESTAURANT_060", "관계 정보를 찾을 수 없습니다.", 404),
-    RELATION_NOT_BELONG_TO_RESTAURANT("RESTAURANT_061", "해당 관계는 이 레스토랑에 속하지 않습니다.", 403);
+    RELATION_NOT_BELONG_TO_RESTAURANT("RESTAURANT_061", "해당 관계는 이 레스토랑에 속하지 않습니다.", 403),
+
+    // 동시성 관련 에러 (RESTAURANT_070~079)
+    CONCURRENT_MODIFICATION("RESTAURANT_070", "다른 요청이 먼저 변경했습니다. 최신 정보를 다시 조회한 뒤 시도해 주세요.", 409),
+
+    // 부분 조회 관련 에러 (RESTAURANT_080~089)
+    RESTAURANT_PART_NOT_LOADED("RESTAURANT_080", "조회하지 않은 레스토랑 하위 정보에 접근했습니다.", 500);
 
 
     private final String code;
@@ -2,6 +2,8 @@ package xyz.sparta_project.manjok.domain.restaurant.domain.model;
 
 import lombok.Getter;
 
+import java.time.DayOfWeek;
+
 /**
  * 요일 타입
  * */
@@ -21,6 +23,21 @@ public enum DayType {
         this.KoreanName = koreanName;
     }
 
+    /**
+     * java.time.DayOfWeek -> DayType
+     * */
+    public static DayType from(DayOfWeek dayOfWeek) {
+        return switch (dayOfWeek) {
+            case MONDAY -> MON;
+            case TUESDAY -> TUE;
+            case WEDNESDAY -> WED;
+            case THURSDAY -> THU;
+            case FRIDAY -> FRI;
+            case SATURDAY -> SAT;
+            case SUNDAY -> SUN;
+        };
+    }
+
     /**
      * 평일인지 확인
      * */
@@ -77,6 +77,9 @@ public class Menu {
     @Builder.Default
     private List<MenuOptionGroup> optionGroups = new ArrayList<>();
 
+    // 낙관적 락 버전 (영속화 전에는 null)
+    private Long version;
+
     // 감사 필드
     private String createdBy;
     private LocalDateTime updatedAt;
@@ -87,6 +90,28 @@ public class Menu {
     private LocalDateTime deletedAt;
     private String deletedBy;
 
+    /**
+     * 메뉴 생성
+     * - ID 발급 + 판매 가능 상태로 생성 후 검증
+     * - 식당 상태(메뉴 수정 가능 여부)는 호출 측(Restaurant, RestaurantMenuHeader)에서 검증
+     */
+    public static Menu create(String restaurantId, String menuName, String description,
+                              BigDecimal price, String createdBy) {
+        Menu menu = Menu.builder()
+                .id("MENU" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                .createdAt(LocalDateTime.now())
+                .restaurantId(restaurantId)
+                .menuName(menuName)
+                .description(description)
+                .price(price)
+                .isAvailable(true)
+                .createdBy(createdBy)
+                .build();
+
+        menu.validate();
+        return menu;
+    }
+
     /**
      * 가격 검증 및 설정
      */
@@ -0,0 +1,40 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 메뉴 일일 재고
+ * - 사장님이 일일 재고를 설정한 메뉴만 존재 (없으면 수량 제한 없음)
+ * - 남은 수량은 재고일(stockDate) 기준, 날짜가 바뀌면 일일 재고로 다시 시작
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MenuStock {
+
+    private final String menuId;
+    private final String restaurantId;
+    private final int dailyStock;       // 일일 재고
+    private final LocalDate stockDate;  // 남은 수량 기준일
+    private final int remaining;        // 기준일의 남은 수량
+
+    /**
+     * 해당 날짜의 남은 수량
+     * - 기준일이 지났으면 아직 그날 주문이 없는 것 → 일일 재고 전체
+     */
+    public int getRemainingOn(LocalDate date) {
+        return date.equals(stockDate) ? remaining : dailyStock;
+    }
+
+    /**
+     * 해당 날짜 품절 여부
+     */
+    public boolean isSoldOutOn(LocalDate date) {
+        return getRemainingOn(date) <= 0;
+    }
+}
@@ -0,0 +1,120 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 식당 추천 랭킹 점수 정책
+ * - 베이지안 보정 평점, 최근 구매(지수 감쇠), 찜 수, 신규 가산점을 가중합한 0 ~ 1 점수
+ * - 가중치/기준값은 설정으로 주입 (RestaurantRankingScorer)
+ * - 순수 계산 로직만 담당
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RankingScorePolicy {
+
+    private static final double MAX_RATING = 5.0;
+
+    // 베이지안 평점: 리뷰가 적은 식당은 priorRating 쪽으로 당김
+    @Builder.Default
+    private double priorRating = 3.5;
+    @Builder.Default
+    private double priorWeight = 10.0;
+
+    // 최근 구매 점수 반감기, 찜/구매 포화 기준
+    @Builder.Default
+    private double purchaseHalfLifeDays = 7.0;
+    @Builder.Default
+    private double purchaseSaturation = 100.0;
+    @Builder.Default
+    private double wishlistSaturation = 500.0;
+
+    // 신규 가산점 반감기
+    @Builder.Default
+    private double freshnessHalfLifeDays = 30.0;
+
+    // 가중치
+    @Builder.Default
+    private double ratingWeight = 0.5;
+    @Builder.Default
+    private double purchaseWeight = 0.25;
+    @Builder.Default
+    private double wishlistWeight = 0.15;
+    @Builder.Default
+    private double freshnessWeight = 0.10;
+
+    public static RankingScorePolicy defaults() {
+        return RankingScorePolicy.builder().build();
+    }
+
+    /**
+     * 랭킹 점수 계산
+     * @param reviewRating 평균 평점
+     * @param reviewCount 리뷰 수
+     * @param recentPurchaseScore now 기준으로 감쇠된 최근 구매 점수
+     * @param wishlistCount 찜 수
+     * @param createdAt 식당 생성 시각
+     * @param now 계산 기준 시각
+     */
+    public double calculate(BigDecimal reviewRating, int reviewCount, double recentPurchaseScore,
+                            int wishlistCount, LocalDateTime createdAt, LocalDateTime now) {
+        double rating = reviewRating != null ? reviewRating.doubleValue() : 0.0;
+        double bayesianRating = (priorWeight * priorRating + reviewCount * rating)
+                / (priorWeight + reviewCount);
+
+        double ratingTerm = clamp(bayesianRating / MAX_RATING);
+        double purchaseTerm = saturate(recentPurchaseScore, purchaseSaturation);
+        double wishlistTerm = saturate(wishlistCount, wishlistSaturation);
+        double freshnessTerm = createdAt != null
+                ? decayFactor(createdAt, now, freshnessHalfLifeDays)
+                : 0.0;
+
+        double totalWeight = ratingWeight + purchaseWeight + wishlistWeight + freshnessWeight;
+        if (totalWeight <= 0) {
+            return 0.0;
+        }
+        return (ratingWeight * ratingTerm
+                + purchaseWeight * purchaseTerm
+                + wishlistWeight * wishlistTerm
+                + freshnessWeight * freshnessTerm) / totalWeight;
+    }
+
+    /**
+     * 최근 구매 점수 감쇠 (지수 감쇠, 반감기 purchaseHalfLifeDays)
+     * @param score 마지막 갱신 시점의 점수
+     * @param updatedAt 마지막 갱신 시각 (null이면 감쇠 없음)
+     * @param now 기준 시각
+     */
+    public double decayPurchaseScore(double score, LocalDateTime updatedAt, LocalDateTime now) {
+        if (score <= 0 || updatedAt == null) {
+            return Math.max(score, 0.0);
+        }
+        return score * decayFactor(updatedAt, now, purchaseHalfLifeDays);
+    }
+
+    private static double decayFactor(LocalDateTime from, LocalDateTime to, double halfLifeDays) {
+        if (halfLifeDays <= 0 || !to.isAfter(from)) {
+            return 1.0;
+        }
+        double elapsedDays = Duration.between(from, to).toMillis() / (double) Duration.ofDays(1).toMillis();
+        return Math.pow(0.5, elapsedDays / halfLifeDays);
+    }
+
+    private static double saturate(double value, double saturation) {
+        if (value <= 0 || saturation <= 0) {
+            return 0.0;
+        }
+        return clamp(Math.log1p(value) / Math.log1p(saturation));
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+}
@@ -13,8 +13,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -75,6 +78,17 @@ public class Restaurant {
     @Builder.Default
     private Integer purchaseCount = 0;
 
+    // 추천 랭킹 (RankingScorePolicy로 계산, 통계 변경 시 갱신)
+    @Builder.Default
+    private Double rankingScore = 0.0;
+
+    @Builder.Default
+    private Double recentPurchaseScore = 0.0;   // 지수 감쇠된 최근 구매 점수
+    private LocalDateTime recentPurchaseUpdatedAt;
+
+    // 낙관적 락 버전 (영속화 전에는 null)
+    private Long version;
+
     // 감사 필드
     private String createdBy;
     private LocalDateTime updatedAt;
@@ -98,6 +112,13 @@ public class Restaurant {
     @Builder.Default
     private Set<RestaurantCategoryRelation> categoryRelations = new HashSet<>();
 
+    // 주간 영업 비트맵 (운영 시간 변경 시 무효화, 필요 시 재계산)
+    private WeeklyOperatingBitmap weeklyOperatingBitmap;
+
+    // 조회된 하위 컬렉션 (부분 조회 시 일부만, 새로 만든 Aggregate는 전체)
+    @Builder.Default
+    private Set<RestaurantPart> loadedParts = RestaurantPart.all();
+
     // ==================== 레스토랑 기본 정보 관리 ====================
 
     /**
@@ -185,12 +206,12 @@ public class Restaurant {
                 .description(description)
                 .parentCategoryId(parentCategoryId)
                 .depth(depth)
-                .displayOrder(displayOrder != null ? displayOrder : menuCategories.size())
+                .displayOrder(displayOrder != null ? displayOrder : getMenuCategories().size())
                 .isActive(true)
                 .createdBy(createdBy)
                 .build();
 
-        this.menuCategories.add(category);
+        getMenuCategories().add(category);
         return category;
     }
 
@@ -198,7 +219,7 @@ public class Restaurant {
      * 메뉴 카테고리 찾기
      */
     public MenuCategory findMenuCategoryById(String categoryId) {
-        return menuCategories.stream()
+        return getMenuCategories().stream()
                 .filter(cat -> cat.getId() != null && cat.getId().equals(categoryId))
                 .findFirst()
                 .orElse(null);
@@ -208,7 +229,7 @@ public class Restaurant {
      * 활성 메뉴 카테고리 목록
      */
     public List<MenuCategory> getActiveMenuCategories() {
-        return menuCategories.stream()
+        return getMenuCategories().stream()
                 .filter(MenuCategory::isAvailable)
                 .collect(Collectors.toList());
     }
@@ -224,19 +245,8 @@ public class Restaurant {
             throw new RestaurantException(RestaurantErrorCode.CANNOT_MODIFY_MENU_WHILE_OPEN);
         }
 
-        Menu menu = Menu.builder()
-                .id(generateMenuId())
-                .createdAt(LocalDateTime.now())
-                .restaurantId(this.id)
-                .menuName(menuName)
-                .description(description)
-                .price(price)
-                .isAvailable(true)
-                .createdBy(createdBy)
-                .build();
-
-        menu.validate();
-        this.menus.add(menu);
+        Menu menu = Menu.create(this.id, menuName, description, price, createdBy);
+        getMenus().add(menu);
         return menu;
     }
 
@@ -265,7 +275,7 @@ public class Restaurant {
      * 메뉴 찾기
      */
     public Menu findMenuById(String menuId) {
-        return menus.stream()
+        return getMenus().stream()
                 .filter(menu -> menu.getId() != null && menu.getId().equals(menuId))
                 .findFirst()
                 .orElseThrow(() -> new RestaurantException(MenuErrorCode.MENU_NOT_FOUND));
@@ -279,14 +289,14 @@ public class Restaurant {
         menu.delete(deletedBy);
 
         // 카테고리에서도 메뉴 ID 제거
-        menuCategories.forEach(cat -> cat.removeMenu(menuId));
+        getMenuCategories().forEach(cat -> cat.removeMenu(menuId));
     }
 
     /**
      * 활성 메뉴 개수
      */
     public int getActiveMenuCount() {
-        return (int) menus.stream()
+        return (int) getMenus().stream()
                 .filter(Menu::isOrderable)
                 .count();
     }
@@ -295,7 +305,7 @@ public class Restaurant {
      * 대표 메뉴 목록
      */
     public List<Menu> getMainMenus() {
-        return menus.stream()
+        return getMenus().stream()
                 .filter(menu -> menu.getIsMain() && menu.isOrderable())
                 .collect(Collectors.toList());
     }
@@ -304,16 +314,38 @@ public class Restaurant {
      * 인기 메뉴 목록
      */
     public List<Menu> getPopularMenus() {
-        return menus.stream()
+        return getMenus().stream()
                 .filter(menu -> menu.getIsPopular() && menu.isOrderable())
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 베스트셀러 메뉴 목록
+     * - rankedMenuIds: 최근 구매량 순으로 정렬된 메뉴 ID (베스트셀러 인덱스)
+     * - 주문 불가 메뉴는 제외, 순위 정보가 없으면 인기 메뉴(isPopular)로 대체
+     */
+    public List<Menu> getBestSellerMenus(List<String> rankedMenuIds, int limit) {
+        if (rankedMenuIds == null || rankedMenuIds.isEmpty()) {
+            return getPopularMenus().stream()
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+
+        Map<String, Menu> menusById = getMenus().stream()
+                .collect(Collectors.toMap(Menu::getId, menu -> menu, (a, b) -> a));
+
+        return rankedMenuIds.stream()
+                .map(menusById::get)
+                .filter(menu -> menu != null && menu.isOrderable())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 신메뉴 목록
      */
     public List<Menu> getNewMenus() {
-        return menus.stream()
+        return getMenus().stream()
                 .filter(menu -> menu.getIsNew() && menu.isOrderable())
                 .collect(Collectors.toList());
     }
@@ -322,7 +354,7 @@ public class Restaurant {
      * 카테고리별 메뉴 목록
      */
     public List<Menu> getMenusByCategory(String categoryId) {
-        return menus.stream()
+        return getMenus().stream()
                 .filter(menu -> menu.belongsToCategory(categoryId) && menu.isOrderable())
                 .collect(Collectors.toList());
     }
@@ -365,7 +397,7 @@ public class Restaurant {
                                         LocalTime startTime, LocalTime endTime,
                                         Boolean isHoliday, String note) {
         // 기존 운영시간 제거
-        operatingDays.removeIf(day ->
+        getOperatingDays().removeIf(day ->
                 day.getDayType() == dayType && day.getTimeType() == timeType);
 
         OperatingDay operatingDay = OperatingDay.builder()
@@ -378,7 +410,8 @@ public class Restaurant {
                 .note(note)
                 .build();
 
-        operatingDays.add(operatingDay);
+        getOperatingDays().add(operatingDay);
+        weeklyOperatingBitmap = null;
         return operatingDay;
     }
 
@@ -387,7 +420,7 @@ public class Restaurant {
      */
     public void setBreakTime(DayType dayType, LocalTime breakStartTime,
                              LocalTime breakEndTime) {
-        OperatingDay operatingDay = operatingDays.stream()
+        OperatingDay operatingDay = getOperatingDays().stream()
                 .filter(day -> day.getDayType() == dayType
                         && day.getTimeType() == OperatingTimeType.REGULAR)
                 .findFirst()
@@ -405,28 +438,53 @@ public class Restaurant {
                 .note(operatingDay.getNote())
                 .build();
 
-        operatingDays.remove(operatingDay);
-        operatingDays.add(updated);
+        getOperatingDays().remove(operatingDay);
+        getOperatingDays().add(updated);
+        weeklyOperatingBitmap = null;
     }
 
     /**
      * 현재 영업 중인지 확인
      */
     public boolean isOpenNow() {
+        return isOpenAt(LocalDateTime.now());
+    }
+
+    /**
+     * 특정 시각에 영업 중인지 확인
+     * - 주간 비트맵의 해당 5분 슬롯 비트 하나로 판단
+     */
+    public boolean isOpenAt(LocalDateTime dateTime) {
         if (status != RestaurantStatus.OPEN) {
             return false;
         }
+        return getWeeklyOperatingBitmap().isOpenAt(dateTime);
+    }
 
-        LocalDateTime now = LocalDateTime.now();
-        return operatingDays.stream()
-                .anyMatch(day -> day.isOpenAt(now));
+    /**
+     * 다음 영업 시작 시각 조회
+     * - 기준 시각 이후 처음 영업이 시작되는 시각 (일주일 이내)
+     */
+    public Optional<LocalDateTime> getNextOpeningTime(LocalDateTime from) {
+        return getWeeklyOperatingBitmap().nextOpeningAfter(from);
+    }
+
+    /**
+     * 주간 영업 비트맵 조회
+     * - 저장된 값이 없거나 운영 시간이 변경된 경우 운영 시간으로 다시 계산
+     */
+    public WeeklyOperatingBitmap getWeeklyOperatingBitmap() {
+        if (weeklyOperatingBitmap == null) {
+            weeklyOperatingBitmap = WeeklyOperatingBitmap.from(getOperatingDays());
+        }
+        return weeklyOperatingBitmap;
     }
 
     /**
      * 특정 요일 운영시간 조회
      */
     public OperatingDay getOperatingDay(DayType dayType, OperatingTimeType timeType) {
-        return operatingDays.stream()
+        return getOperatingDays().stream()
                 .filter(day -> day.getDayType() == dayType && day.getTimeType() == timeType)
                 .findFirst()
                 .orElse(null);
@@ -443,7 +501,7 @@ public class Restaurant {
         RestaurantCategoryRelation relation = RestaurantCategoryRelation.create(
                 this.id, categoryId, isPrimary, createdBy);
 
-        this.categoryRelations.add(relation);
+        getCategoryRelations().add(relation);
         return relation;
     }
 
@@ -451,11 +509,43 @@ public class Restaurant {
      * 레스토랑 카테고리 제거
      */
     public void removeRestaurantCategory(String categoryId, String deletedBy) {
-        categoryRelations.stream()
+        getCategoryRelations().stream()
                 .filter(rel -> rel.getCategoryId().equals(categoryId))
                 .forEach(rel -> rel.delete(deletedBy));
     }
 
+    /**
+     * 활성 카테고리 ID 목록
+     */
+    public Set<String> getActiveCategoryIds() {
+        return getCategoryRelations().stream()
+                .filter(RestaurantCategoryRelation::isActive)
+                .map(RestaurantCategoryRelation::getCategoryId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 카테고리 활성 식당 수 집계 대상 카테고리 ID
+     * - 활성 & 미삭제 식당의 활성 카테고리, 그 외에는 빈 집합
+     */
+    public Set<String> getCountedCategoryIds() {
+        if (!Boolean.TRUE.equals(isActive) || isDeleted) {
+            return Set.of();
+        }
+        return getActiveCategoryIds();
+    }
+
+    /**
+     * 지역별 활성 식당 수 집계 대상 주소
+     * - 활성 & 미삭제 식당의 주소, 그 외에는 null
+     */
+    public Address getCountedAddress() {
+        if (!Boolean.TRUE.equals(isActive) || isDeleted) {
+            return null;
+        }
+        return address;
+    }
+
     // ==================== 통계 관리 ====================
 
     /**
@@ -493,6 +583,27 @@ public class Restaurant {
         this.purchaseCount++;
     }
 
+    /**
+     * 최근 구매 점수 반영
+     * - 마지막 갱신 이후 감쇠시킨 뒤 이번 구매 수량만큼 가산
+     */
+    public void recordRecentPurchase(RankingScorePolicy policy, int quantity, LocalDateTime now) {
+        this.recentPurchaseScore = policy.decayPurchaseScore(
+                recentPurchaseScore != null ? recentPurchaseScore : 0.0, recentPurchaseUpdatedAt, now) + quantity;
+        this.recentPurchaseUpdatedAt = now;
+    }
+
+    /**
+     * 랭킹 점수 재계산
+     * - 최근 구매 점수는 now 기준으로 감쇠한 값으로 계산 (저장 값은 유지)
+     */
+    public void refreshRankingScore(RankingScorePolicy policy, LocalDateTime now) {
+        double decayedPurchases = policy.decayPurchaseScore(
+                recentPurchaseScore != null ? recentPurchaseScore : 0.0, recentPurchaseUpdatedAt, now);
+        this.rankingScore = policy.calculate(
+                reviewRating, reviewCount, decayedPurchases, wishlistCount, createdAt, now);
+    }
+
     // ==================== 상태 관리 ====================
 
     /**
@@ -519,9 +630,9 @@ public class Restaurant {
         this.deletedBy = deletedBy;
 
         // 하위 엔티티들도 삭제
-        this.menus.forEach(menu -> menu.delete(deletedBy));
-        this.menuCategories.forEach(cat -> cat.delete(deletedBy));
-        this.categoryRelations.forEach(rel -> rel.delete(deletedBy));
+        getMenus().forEach(menu -> menu.delete(deletedBy));
+        getMenuCategories().forEach(cat -> cat.delete(deletedBy));
+        getCategoryRelations().forEach(rel -> rel.delete(deletedBy));
     }
 
     /**
@@ -543,15 +654,55 @@ public class Restaurant {
         return isActive && !isDeleted && status.canAcceptOrder() && isOpenNow();
     }
 
-    // ==================== 유틸리티 메서드 ====================
+    // ==================== 부분 조회 ====================
 
     /**
-     * 메뉴 ID 생성
+     * 하위 컬렉션이 모두 조회된 Aggregate인지 확인
+     * - 부분 조회한 식당은 저장 시 헤더(식당 컬럼)만 반영
      */
-    private String generateMenuId() {
-        return "MENU" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    public boolean isFullyLoaded() {
+        return loadedParts.containsAll(EnumSet.allOf(RestaurantPart.class));
     }
 
+    /**
+     * 하위 컬렉션 조회 여부
+     */
+    public boolean isLoaded(RestaurantPart part) {
+        return loadedParts.contains(part);
+    }
+
+    public List<Menu> getMenus() {
+        requireLoaded(RestaurantPart.MENUS);
+        return menus;
+    }
+
+    public List<MenuCategory> getMenuCategories() {
+        requireLoaded(RestaurantPart.MENU_CATEGORIES);
+        return menuCategories;
+    }
+
+    public Set<OperatingDay> getOperatingDays() {
+        requireLoaded(RestaurantPart.OPERATING_DAYS);
+        return operatingDays;
+    }
+
+    public Set<RestaurantCategoryRelation> getCategoryRelations() {
+        requireLoaded(RestaurantPart.CATEGORY_RELATIONS);
+        return categoryRelations;
+    }
+
+    /**
+     * 조회하지 않은 하위 컬렉션 접근 방지 (빈 컬렉션을 실제 값으로 오인하지 않도록)
+     */
+    private void requireLoaded(RestaurantPart part) {
+        if (!loadedParts.contains(part)) {
+            throw new RestaurantException(RestaurantErrorCode.RESTAURANT_PART_NOT_LOADED,
+                    "조회하지 않은 하위 정보입니다: " + part);
+        }
+    }
+
+    // ==================== 유틸리티 메서드 ====================
+
     /**
      * 카테고리 ID 생성
      */
@@ -0,0 +1,27 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.model;
+
+import java.util.List;
+
+/**
+ * 식당 메뉴 수 집계 (전체 / 판매 중 / 삭제)
+ * - 메뉴 목록을 로딩하지 않는 경로(헤더만 수정하는 명령 등)는 집계 쿼리 결과로 생성
+ *
+ * @param total 전체 메뉴 수 (삭제 포함)
+ * @param active 삭제되지 않은 판매 중 메뉴 수
+ * @param deleted 삭제된 메뉴 수
+ */
+public record RestaurantMenuCounts(int total, int active, int deleted) {
+
+    /**
+     * 로딩된 메뉴 목록으로 집계
+     */
+    public static RestaurantMenuCounts of(List<Menu> menus) {
+        int active = (int) menus.stream()
+                .filter(menu -> !menu.getIsDeleted() && menu.getIsAvailable())
+                .count();
+        int deleted = (int) menus.stream()
+                .filter(Menu::getIsDeleted)
+                .count();
+        return new RestaurantMenuCounts(menus.size(), active, deleted);
+    }
+}
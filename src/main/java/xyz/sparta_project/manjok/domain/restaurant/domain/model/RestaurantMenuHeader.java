@@ -0,0 +1,66 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.MenuErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+
+import java.math.BigDecimal;
+
+/**
+ * 메뉴 단위 수정용 Restaurant 헤더
+ * - 메뉴 CUD 시 불변식 검사에 필요한 식당 컬럼만 담은 불변 객체 (Aggregate 아님)
+ * - 메뉴/메뉴 카테고리 등 하위 엔티티를 로딩하지 않음
+ * - 연락처/주소/좌표는 주문 가격표가 주문의 식당 정보를 서버 값으로 채우는 데 사용
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class RestaurantMenuHeader {
+
+    private String id;
+    private String restaurantName;
+    private RestaurantStatus status;
+    private Boolean isDeleted;
+    private String contactNumber;
+    private Address address;
+    private Coordinate coordinate;
+
+    /**
+     * 메뉴 생성
+     * - Restaurant.addMenu와 같은 규칙 (영업 중에는 메뉴 수정 불가)
+     */
+    public Menu createMenu(String menuName, String description, BigDecimal price, String createdBy) {
+        validateCanModifyMenu();
+        return Menu.create(this.id, menuName, description, price, createdBy);
+    }
+
+    /**
+     * 메뉴 수정 가능 상태 검증 (영업 중이면 예외)
+     */
+    public void validateCanModifyMenu() {
+        if (!status.canModifyMenu()) {
+            throw new RestaurantException(RestaurantErrorCode.CANNOT_MODIFY_MENU_WHILE_OPEN);
+        }
+    }
+
+    /**
+     * 메뉴를 카테고리에 연결
+     * - 이 식당의 메뉴 카테고리만 연결 가능
+     *
+     * @param category 연결할 메뉴 카테고리 (조회 실패 시 null)
+     */
+    public MenuCategoryRelation addMenuToCategory(Menu menu, MenuCategory category,
+                                                  boolean isPrimary, String createdBy) {
+        if (category == null || !this.id.equals(category.getRestaurantId())) {
+            throw new RestaurantException(MenuErrorCode.CATEGORY_NOT_FOUND);
+        }
+        if (!this.id.equals(menu.getRestaurantId())) {
+            throw new RestaurantException(MenuErrorCode.MENU_NOT_FOUND);
+        }
+        return menu.addCategory(category.getId(), isPrimary, createdBy);
+    }
+}
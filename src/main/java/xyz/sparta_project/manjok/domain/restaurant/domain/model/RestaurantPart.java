@@ -0,0 +1,31 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Restaurant 하위 컬렉션 구분 (부분 조회용)
+ * - 조회하는 쪽이 필요한 하위 컬렉션만 지정, 지정하지 않은 컬렉션은 조회/변환하지 않음
+ * - 빈 집합이면 헤더(식당 컬럼)만
+ */
+public enum RestaurantPart {
+
+    MENUS,
+    MENU_CATEGORIES,
+    OPERATING_DAYS,
+    CATEGORY_RELATIONS;
+
+    /**
+     * 헤더만 (하위 컬렉션 없음)
+     */
+    public static Set<RestaurantPart> none() {
+        return EnumSet.noneOf(RestaurantPart.class);
+    }
+
+    /**
+     * 전체 (Aggregate 전체)
+     */
+    public static Set<RestaurantPart> all() {
+        return EnumSet.allOf(RestaurantPart.class);
+    }
+}
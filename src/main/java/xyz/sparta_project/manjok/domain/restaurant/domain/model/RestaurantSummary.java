@@ -0,0 +1,90 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Restaurant 목록 조회용 읽기 모델
+ * - 목록 응답에 필요한 컬럼만 담은 불변 객체 (Aggregate 아님)
+ * - 메뉴/메뉴 카테고리 등 하위 엔티티를 로딩하지 않음
+ * - 운영 시간은 조회 시점 요일의 OperatingDay만 포함
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class RestaurantSummary {
+
+    private String id;
+    private String restaurantName;
+    private RestaurantStatus status;
+    private Address address;
+
+    private Integer viewCount;
+    private Integer wishlistCount;
+    private Integer reviewCount;
+    private BigDecimal reviewRating;
+
+    @Builder.Default
+    private List<String> tags = new ArrayList<>();
+
+    private Boolean isActive;
+
+    // 활성 카테고리 이름 (삭제/비활성 제외)
+    @Builder.Default
+    private List<String> categoryNames = new ArrayList<>();
+
+    // 연결된 카테고리 ID (검색 카드 조회 시, 주 카테고리 먼저 / 이름은 카테고리 트리로 해석)
+    @Builder.Default
+    private List<String> categoryIds = new ArrayList<>();
+
+    // 조회 시점 요일의 운영 시간
+    @Builder.Default
+    private List<OperatingDay> todayOperatingDays = new ArrayList<>();
+
+    // 저장된 주간 영업 비트맵 (없으면 오늘 운영 시간으로 판단)
+    private WeeklyOperatingBitmap weeklyOperatingBitmap;
+
+    // 검색 카드의 현재 영업 여부 (영업 상태 전환 이벤트로 갱신, 없으면 비트맵으로 판단)
+    private Boolean openNow;
+
+    /**
+     * 현재 영업 중인지 확인
+     * - 검색 카드에 저장된 영업 여부 우선
+     * - 없으면 Restaurant.isOpenNow와 동일 규칙 (비트맵 우선, 없으면 오늘 요일 운영 시간 사용)
+     */
+    public boolean isOpenNow() {
+        if (openNow != null) {
+            return openNow;
+        }
+        return isOpenAt(LocalDateTime.now());
+    }
+
+    public boolean isOpenAt(LocalDateTime dateTime) {
+        if (status != RestaurantStatus.OPEN) {
+            return false;
+        }
+        if (weeklyOperatingBitmap != null) {
+            return weeklyOperatingBitmap.isOpenAt(dateTime);
+        }
+        return todayOperatingDays.stream()
+                .anyMatch(day -> day.isOpenAt(dateTime));
+    }
+
+    /**
+     * 다음 영업 시작 시각 조회 (비트맵이 없으면 empty)
+     */
+    public Optional<LocalDateTime> getNextOpeningTime(LocalDateTime from) {
+        if (weeklyOperatingBitmap == null) {
+            return Optional.empty();
+        }
+        return weeklyOperatingBitmap.nextOpeningAfter(from);
+    }
+}
@@ -0,0 +1,19 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.model;
+
+import lombok.Getter;
+
+/**
+ * 트렌딩 집계 기간
+ * */
+@Getter
+public enum TrendingPeriod {
+
+    LAST_HOUR("최근 1시간"),
+    TODAY("오늘");
+
+    private final String displayName;
+
+    TrendingPeriod(String displayName) {
+        this.displayName = displayName;
+    }
+}
@@ -0,0 +1,13 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.model;
+
+/**
+ * 노드별 트렌딩 윈도우 스냅샷 (노드 간 교환 단위)
+ * - 노드 + 윈도우 키당 1개, 같은 노드가 다시 발행하면 덮어씀
+ *
+ * @param nodeId 발행 노드
+ * @param windowKey 윈도우 키 (종류/기간#범위)
+ * @param payload 직렬화된 윈도우 + 후보 라벨
+ * @param updatedAt 발행 시각 (epoch millis)
+ */
+public record TrendingSnapshot(String nodeId, String windowKey, byte[] payload, long updatedAt) {
+}
@@ -0,0 +1,167 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.model;
+
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 주간 영업 시간 비트맵 (Value Object)
+ * - 월요일 00:00부터 5분 단위 슬롯 하나당 1비트 (7일 x 288 = 2016비트)
+ * - 운영 시간이 바뀔 때 한 번 계산해 두고, 영업 여부는 비트 하나로 판단
+ * - 슬롯 시작 시각에 OperatingDay.isTimeInOperatingHours가 참이면 영업 슬롯
+ */
+@EqualsAndHashCode
+public final class WeeklyOperatingBitmap {
+
+    public static final int SLOT_MINUTES = 5;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;   // 288
+    public static final int SLOTS_PER_WEEK = SLOTS_PER_DAY * 7;       // 2016
+    public static final int BYTE_LENGTH = SLOTS_PER_WEEK / Byte.SIZE; // 252
+
+    private static final WeeklyOperatingBitmap EMPTY = new WeeklyOperatingBitmap(new BitSet(SLOTS_PER_WEEK));
+
+    private final BitSet slots;
+
+    private WeeklyOperatingBitmap(BitSet slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * 운영 시간 목록으로 비트맵 생성
+     * - 휴무일/운영 시간 미설정 항목은 제외
+     * - 같은 요일의 여러 운영 시간 타입은 OR로 합침 (Restaurant.isOpenNow와 동일 규칙)
+     */
+    public static WeeklyOperatingBitmap from(Collection<OperatingDay> operatingDays) {
+        if (operatingDays == null || operatingDays.isEmpty()) {
+            return EMPTY;
+        }
+
+        BitSet slots = new BitSet(SLOTS_PER_WEEK);
+        for (OperatingDay day : operatingDays) {
+            if (day.getDayType() == null || Boolean.TRUE.equals(day.getIsHoliday())
+                    || day.getStartTime() == null || day.getEndTime() == null) {
+                continue;
+            }
+
+            int dayOffset = day.getDayType().ordinal() * SLOTS_PER_DAY;
+            for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                LocalTime slotStart = LocalTime.MIN.plusMinutes((long) slot * SLOT_MINUTES);
+                // 종료 시각에 시작하는 슬롯은 영업 종료로 취급
+                if (!slotStart.equals(day.getEndTime()) && day.isTimeInOperatingHours(slotStart)) {
+                    slots.set(dayOffset + slot);
+                }
+            }
+        }
+        return new WeeklyOperatingBitmap(slots);
+    }
+
+    /**
+     * 저장된 바이너리 컬럼 값으로 복원
+     */
+    public static WeeklyOperatingBitmap fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return EMPTY;
+        }
+        return new WeeklyOperatingBitmap(BitSet.valueOf(bytes));
+    }
+
+    public static WeeklyOperatingBitmap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 바이너리 컬럼 저장용 고정 길이(252바이트) 배열
+     */
+    public byte[] toBytes() {
+        return Arrays.copyOf(slots.toByteArray(), BYTE_LENGTH);
+    }
+
+    /**
+     * 날짜/시간이 속한 주간 슬롯 번호 (0 ~ 2015)
+     */
+    public static int slotOf(LocalDateTime dateTime) {
+        int dayOffset = DayType.from(dateTime.getDayOfWeek()).ordinal() * SLOTS_PER_DAY;
+        int minuteOfDay = dateTime.getHour() * 60 + dateTime.getMinute();
+        return dayOffset + minuteOfDay / SLOT_MINUTES;
+    }
+
+    /**
+     * 특정 슬롯 영업 여부 (비트 하나 확인)
+     */
+    public boolean isOpenAtSlot(int slot) {
+        return slots.get(slot);
+    }
+
+    /**
+     * 특정 날짜/시간에 영업 중인지 확인
+     */
+    public boolean isOpenAt(LocalDateTime dateTime) {
+        return slots.get(slotOf(dateTime));
+    }
+
+    /**
+     * 영업 슬롯이 하나라도 있는지 확인
+     */
+    public boolean hasAnyOpenSlot() {
+        return !slots.isEmpty();
+    }
+
+    /**
+     * 다음 영업 시작 시각 조회
+     * - 기준 시각 이후 처음으로 '휴무 -> 영업'으로 바뀌는 슬롯의 시작 시각
+     * - 최대 일주일 범위만 탐색, 영업 슬롯이 없거나 항상 영업 중이면 empty
+     * @param from 기준 시각
+     */
+    public Optional<LocalDateTime> nextOpeningAfter(LocalDateTime from) {
+        if (slots.isEmpty() || slots.cardinality() == SLOTS_PER_WEEK) {
+            return Optional.empty();
+        }
+
+        int current = slotOf(from);
+        LocalDateTime currentSlotStart = from.truncatedTo(ChronoUnit.MINUTES)
+                .minusMinutes(from.getMinute() % SLOT_MINUTES);
+
+        for (int step = 1; step <= SLOTS_PER_WEEK; step++) {
+            int slot = (current + step) % SLOTS_PER_WEEK;
+            int previous = (slot + SLOTS_PER_WEEK - 1) % SLOTS_PER_WEEK;
+            if (slots.get(slot) && !slots.get(previous)) {
+                return Optional.of(currentSlotStart.plusMinutes((long) step * SLOT_MINUTES));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 다음 영업 상태 전환 시각 조회 (영업 시작/종료/브레이크 경계)
+     * - 현재 슬롯과 비트 값이 다른 첫 슬롯의 시작 시각
+     * - BitSet의 nextSetBit/nextClearBit으로 워드 단위 탐색 (슬롯 하나씩 보지 않음)
+     * - 전환이 없으면(항상 영업/항상 휴무) empty
+     * @param from 기준 시각
+     */
+    public Optional<LocalDateTime> nextTransitionAfter(LocalDateTime from) {
+        int cardinality = slots.cardinality();
+        if (cardinality == 0 || cardinality == SLOTS_PER_WEEK) {
+            return Optional.empty();
+        }
+
+        int current = slotOf(from);
+        boolean open = slots.get(current);
+
+        int next = open ? slots.nextClearBit(current + 1) : slots.nextSetBit(current + 1);
+        if (next < 0 || next >= SLOTS_PER_WEEK) {
+            // 주 끝을 넘어가면 월요일 00:00부터 다시 탐색
+            next = open ? slots.nextClearBit(0) : slots.nextSetBit(0);
+        }
+
+        int steps = Math.floorMod(next - current, SLOTS_PER_WEEK);
+        LocalDateTime currentSlotStart = from.truncatedTo(ChronoUnit.MINUTES)
+                .minusMinutes(from.getMinute() % SLOT_MINUTES);
+        return Optional.of(currentSlotStart.plusMinutes((long) steps * SLOT_MINUTES));
+    }
+}
@@ -0,0 +1,110 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.repository;
+
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuCategory;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantMenuHeader;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Menu 단위 쓰기 Repository
+ *
+ * - 메뉴 CUD 전용 경로: Restaurant Aggregate 전체(다른 메뉴, 운영 시간 등)를 로딩/저장하지 않음
+ * - 메뉴 1개 + 옵션 그룹/옵션 + 카테고리 관계만 조회하고 해당 행만 저장
+ * - 식당 불변식은 헤더(RestaurantMenuHeader)로 검사
+ * - 메뉴 수와 무관하게 조회/저장 비용이 일정
+ *
+ * 사용처:
+ * - MenuCommandService (판매자/관리자 메뉴 수정)
+ * - MenuBulkService (일괄 등록/내보내기)
+ * - MenuCatalogCache (고객용 메뉴판 스냅샷 생성)
+ */
+public interface MenuRepository {
+
+    // ==================== READ ====================
+
+    /**
+     * Restaurant 헤더 조회
+     * - 삭제되지 않은 것만 조회
+     *
+     * @param restaurantId Restaurant ID
+     * @return 헤더 (없으면 Optional.empty())
+     */
+    Optional<RestaurantMenuHeader> findRestaurantHeader(String restaurantId);
+
+    /**
+     * Restaurant 헤더 조회 (삭제된 것도 포함)
+     * - 관리자용
+     *
+     * @param restaurantId Restaurant ID
+     * @return 헤더 (없으면 Optional.empty())
+     */
+    Optional<RestaurantMenuHeader> findRestaurantHeaderIncludingDeleted(String restaurantId);
+
+    /**
+     * Restaurant와 Menu ID로 수정할 Menu 조회
+     * - 삭제된 것, 숨김처리된 것도 포함 (상태 검증은 도메인에서)
+     * - MenuOptionGroup, MenuOption, MenuCategoryRelation 포함
+     *
+     * @param restaurantId Restaurant ID (필수)
+     * @param menuId Menu ID
+     * @return Menu (없으면 Optional.empty())
+     */
+    Optional<Menu> findById(String restaurantId, String menuId);
+
+    /**
+     * Restaurant의 MenuCategory 중 지정한 ID만 조회
+     * - 카테고리 연결 검증, 응답의 카테고리명 조회용
+     *
+     * @param restaurantId Restaurant ID
+     * @param categoryIds MenuCategory ID 목록
+     * @return MenuCategory 목록 (다른 식당의 카테고리는 제외)
+     */
+    List<MenuCategory> findMenuCategoriesByIds(String restaurantId, Collection<String> categoryIds);
+
+    /**
+     * 내보내기용 Menu 목록 조회 (id 순 keyset)
+     * - 삭제되지 않은 메뉴만 (숨김 포함)
+     * - MenuOptionGroup, MenuOption, MenuCategoryRelation 포함 (컬렉션 단계별 일괄 조회)
+     *
+     * @param restaurantId Restaurant ID
+     * @param afterMenuId 이전 페이지 마지막 Menu ID (첫 페이지는 null)
+     * @param limit 최대 건수
+     * @return Menu 목록 (id 오름차순)
+     */
+    List<Menu> findMenusForExport(String restaurantId, String afterMenuId, int limit);
+
+    /**
+     * 고객용 메뉴판 Menu 전체 조회
+     * - 삭제되지 않고 판매 가능한 메뉴만 (고객 메뉴 목록과 같은 조건)
+     * - MenuOptionGroup, MenuOption, MenuCategoryRelation 포함 (컬렉션 단계별 일괄 조회)
+     *
+     * @param restaurantId Restaurant ID
+     * @return Menu 목록 (생성 순)
+     */
+    List<Menu> findMenusForCatalog(String restaurantId);
+
+    // ==================== CREATE & UPDATE ====================
+
+    /**
+     * Menu 저장 (생성 및 수정)
+     * - 해당 메뉴의 행(메뉴, 옵션 그룹, 옵션, 카테고리 관계)만 저장
+     * - Restaurant/MenuCategory는 참조만 연결하고 로딩하지 않음
+     *
+     * @param menu 저장할 Menu
+     * @return 저장된 Menu
+     */
+    Menu save(Menu menu);
+
+    /**
+     * 신규 Menu 일괄 저장
+     * - persist + JDBC 배치 INSERT (hibernate.jdbc.batch_size), 기존 행 조회 없음
+     * - 저장 후 flush/clear로 영속성 컨텍스트를 비워 청크 단위로 메모리 사용 고정
+     *
+     * @param menus 저장할 신규 Menu 목록 (옵션 그룹/옵션/카테고리 관계 포함)
+     * @return 저장한 Menu 수
+     */
+    int insertAll(List<Menu> menus);
+}
@@ -0,0 +1,50 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.repository;
+
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuStock;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 메뉴 일일 재고 Repository 인터페이스
+ * - 예약/반환은 조건부 UPDATE 한 번 (남은 수량 >= 주문 수량일 때만 차감, 행 잠금은 문장 실행 동안만)
+ * - 메뉴 저장(Restaurant/Menu Aggregate)과 분리된 테이블 → 메뉴 수정이 남은 수량을 덮어쓰지 않음
+ */
+public interface MenuStockRepository {
+
+    /**
+     * 메뉴 재고 조회 (재고 미설정 메뉴는 empty)
+     */
+    Optional<MenuStock> findByMenuId(String menuId);
+
+    /**
+     * 식당의 재고 설정 메뉴 목록
+     */
+    List<MenuStock> findByRestaurantId(String restaurantId);
+
+    /**
+     * 일일 재고 설정 (없으면 생성)
+     * - 오늘 이미 판매된 수량은 유지 (남은 수량 = 새 일일 재고 - 오늘 판매 수량, 최소 0)
+     */
+    MenuStock saveDailyStock(String restaurantId, String menuId, int dailyStock, LocalDate today);
+
+    /**
+     * 재고 설정 해제 (수량 제한 없음)
+     */
+    void deleteByMenuId(String menuId);
+
+    /**
+     * 재고 예약
+     * - 재고 미설정 메뉴는 항상 성공
+     * - 기준일이 지난 재고는 일일 재고로 다시 시작하면서 차감
+     * @return 남은 수량이 부족하면 false (변경 없음)
+     */
+    boolean reserve(String menuId, int quantity, LocalDate stockDate);
+
+    /**
+     * 예약 반환 (주문 취소)
+     * - 예약한 날의 재고에만 반환 (일일 재고 초과 불가), 날짜가 바뀌었으면 변경 없음
+     */
+    void release(String menuId, int quantity, LocalDate stockDate);
+}
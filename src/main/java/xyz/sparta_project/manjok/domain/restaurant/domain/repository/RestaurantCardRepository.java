@@ -0,0 +1,84 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantSummary;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 식당 검색 카드(읽기 전용 비정규화 테이블) Repository 인터페이스
+ * - 검색 목록에 필요한 값을 식당당 1행으로 보관 (삭제되지 않고 활성화된 식당만)
+ * - 목록 조회는 카드 테이블 한 곳에서 지역+정렬 인덱스 범위 스캔
+ * - 카드는 식당 변경 이벤트로 비동기 갱신 (RestaurantCardProjector)
+ */
+public interface RestaurantCardRepository {
+
+    // ==================== 갱신 ====================
+
+    /**
+     * 식당 카드 갱신
+     * - 식당 테이블의 현재 값으로 카드 생성/수정, 검색 대상이 아니게 된 식당의 카드는 삭제
+     * @param restaurantIds 식당 ID 목록
+     * @return 생성/수정/삭제된 카드 수
+     */
+    int refresh(Collection<String> restaurantIds);
+
+    /**
+     * 전체 카드 재생성
+     * - 식당 id 키셋 순으로 나눠 갱신 후, 검색 대상이 아닌 식당의 카드 삭제
+     * @return 갱신된 카드 수
+     */
+    int rebuildAll();
+
+    /**
+     * 카드 영업 여부 갱신 (영업 상태 전환 이벤트 반영)
+     * - 영업 시작은 OPEN 상태 카드에만 반영
+     * @return 바뀐 카드 수
+     */
+    int updateOpenState(Collection<String> restaurantIds, boolean open);
+
+    /**
+     * 카드 수
+     */
+    long countCards();
+
+    // ==================== 검색 ====================
+
+    /**
+     * 식당 검색 (전체 개수 포함)
+     * - categoryIds는 하위 카테고리까지 확장된 집합
+     * - 결과의 카테고리는 ID만 포함 (이름은 조회 서비스에서 카테고리 트리로 해석)
+     */
+    Page<RestaurantSummary> search(String province, String city, String district,
+                                   Set<String> categoryIds, Set<String> tags, String keyword,
+                                   boolean openNow, Pageable pageable);
+
+    /**
+     * 식당 검색 (전체 개수 없이 size+1 조회로 다음 페이지 여부만 판단)
+     */
+    Slice<RestaurantSummary> searchSlice(String province, String city, String district,
+                                         Set<String> categoryIds, Set<String> tags, String keyword,
+                                         boolean openNow, Pageable pageable);
+
+    /**
+     * 식당 검색 (커서 페이지네이션)
+     * - search와 동일한 조건, OFFSET/COUNT 없이 (정렬 컬럼, 식당 id) 기준으로 이어서 조회
+     * - 정렬 가능 컬럼: createdAt, restaurantName, reviewRating, reviewCount, purchaseCount, recommended
+     *
+     * API: GET /v1/customers/restaurants/cursor?cursor={nextCursor}&size=20&sort=createdAt,desc
+     */
+    CursorSlice<RestaurantSummary> searchWithCursor(String province, String city, String district,
+                                                    Set<String> categoryIds, Set<String> tags, String keyword,
+                                                    CursorRequest cursorRequest);
+
+    /**
+     * 검색 조건에 맞는 식당 수
+     */
+    long count(String province, String city, String district,
+               Set<String> categoryIds, Set<String> tags, String keyword, boolean openNow);
+}
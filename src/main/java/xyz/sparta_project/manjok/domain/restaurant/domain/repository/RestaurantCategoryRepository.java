@@ -4,6 +4,7 @@ import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCatego
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -68,6 +69,48 @@ public interface RestaurantCategoryRepository {
      */
     List<RestaurantCategory> findPopularCategories();
 
+    /**
+     * 카테고리 트리 스냅샷용 전체 조회
+     * - 삭제되지 않은 카테고리 전체 (비활성 포함)
+     * - 레스토랑 연결 정보는 적재하지 않음
+     * @return 카테고리 목록
+     */
+    List<RestaurantCategory> findAllForTree();
+
+    /**
+     * 카테고리 테이블 변경 스탬프 조회
+     * - 행 수, 최종 생성/수정/삭제 시각, 통계 합계를 이어붙인 문자열
+     * - 값이 달라지면 다른 노드에서 카테고리가 변경된 것으로 판단
+     * @return 변경 스탬프
+     */
+    String findChangeStamp();
+
+    /**
+     * 카테고리 통계 증감 일괄 반영
+     * - 같은 증감값을 가진 카테고리끼리 묶어 UPDATE 한 번(id IN)으로 처리
+     * @param restaurantCountDeltas 카테고리별 활성 식당 수 증감
+     * @param orderCountDeltas 카테고리별 주문 수 증감
+     * @return 갱신된 행 수
+     */
+    int applyStatisticsDeltas(Map<String, Integer> restaurantCountDeltas, Map<String, Integer> orderCountDeltas);
+
+    /**
+     * 인기 카테고리 자동 갱신
+     * - 사용 가능한 카테고리 중 주문 수 상위 topN개(minOrderCount 이상)만 인기 카테고리
+     * @param topN 인기 카테고리 최대 개수
+     * @param minOrderCount 인기 카테고리 최소 주문 수
+     * @return 인기 여부가 바뀐 행 수
+     */
+    int refreshPopularCategories(int topN, int minOrderCount);
+
+    /**
+     * 카테고리 통계 재계산 (정합성 보정)
+     * - 식당-카테고리 연결 기준 그룹 집계 쿼리 한 번으로 활성 식당 수/주문 수 계산
+     * - 저장된 값과 다른 카테고리만 갱신
+     * @return 값이 바뀐 카테고리 수
+     */
+    int reconcileStatistics();
+
     /**
      * 카테고리 삭제
      * @param id 카테고리 ID
@@ -3,8 +3,13 @@ package xyz.sparta_project.manjok.domain.restaurant.domain.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.*;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -38,6 +43,60 @@ public interface RestaurantRepository {
      */
     Restaurant save(Restaurant restaurant);
 
+    /**
+     * 랭킹 점수 재계산 (야간 배치의 한 묶음)
+     * - afterId 다음부터 id 순으로 삭제되지 않은 식당 batchSize개의 ranking_score를 정책에 따라 다시 계산
+     * - 호출마다 별도 트랜잭션 (전체 테이블을 한 트랜잭션으로 잠그지 않음)
+     *
+     * @param policy 랭킹 점수 정책
+     * @param now 계산 기준 시각
+     * @param afterId 이전 묶음의 마지막 식당 ID (첫 묶음은 null)
+     * @param batchSize 묶음 크기
+     * @return 갱신한 식당 ID (id 순, 비어 있으면 끝)
+     */
+    List<String> recomputeRankingScores(RankingScorePolicy policy, LocalDateTime now,
+                                        String afterId, int batchSize);
+
+    // ==================== 통계 원자적 반영 ====================
+    // - 버전 검사 없이 UPDATE x = x + ? 로 반영 (사장님 편집과 버전 충돌하지 않음)
+    // - 식당 행 UPDATE가 먼저 행 잠금을 잡으므로 같은 트랜잭션의 랭킹 점수 재계산은 최신 값 기준
+
+    /**
+     * 주문 완료 통계 반영
+     * - 식당 purchase_count + 1, 메뉴별 purchase_count + 수량 (삭제된 메뉴는 건너뜀)
+     * - 최근 구매 점수를 now 기준으로 감쇠 후 총 수량만큼 누적, 랭킹 점수 재계산
+     *
+     * @param restaurantId 식당 ID
+     * @param menuQuantities 메뉴 ID → 주문 수량
+     * @param policy 랭킹 점수 정책
+     * @param now 계산 기준 시각
+     * @return 식당이 없거나 삭제되었으면 false
+     */
+    boolean addPurchase(String restaurantId, Map<String, Integer> menuQuantities,
+                        RankingScorePolicy policy, LocalDateTime now);
+
+    /**
+     * 식당 찜 수 증감 (0 미만으로 내려가지 않음) 후 랭킹 점수 재계산
+     *
+     * @return 식당이 없거나 삭제되었으면 false
+     */
+    boolean addWishlist(String restaurantId, int delta, RankingScorePolicy policy, LocalDateTime now);
+
+    /**
+     * 메뉴 찜 수 증감 (0 미만으로 내려가지 않음)
+     *
+     * @return 메뉴가 없거나 삭제되었으면 false
+     */
+    boolean addMenuWishlist(String restaurantId, String menuId, int delta);
+
+    /**
+     * 리뷰 1건 반영 후 랭킹 점수 재계산
+     * - review_count + 1, 평균 평점 = (평점 * 개수 + 새 평점) / (개수 + 1) 을 한 UPDATE로 (소수점 2자리)
+     *
+     * @return 식당이 없거나 삭제되었으면 false
+     */
+    boolean addReview(String restaurantId, BigDecimal rating, RankingScorePolicy policy, LocalDateTime now);
+
     // ==================== DELETE ====================
 
     /**
@@ -75,6 +134,18 @@ public interface RestaurantRepository {
      */
     Optional<Restaurant> findByIdIncludingDeleted(String restaurantId);
 
+    /**
+     * ID로 Restaurant 부분 조회
+     * - 지정한 하위 컬렉션만 조회/변환, 나머지는 접근 시 예외
+     * - 삭제되지 않은 것만 조회
+     * - 부분 조회한 식당을 save하면 헤더(식당 컬럼)만 반영 (하위 컬렉션 변경은 전체 조회 후 저장)
+     *
+     * @param restaurantId Restaurant ID
+     * @param parts 필요한 하위 컬렉션
+     * @return Restaurant (없으면 Optional.empty())
+     */
+    Optional<Restaurant> findById(String restaurantId, Set<RestaurantPart> parts);
+
     // ==================== READ - Restaurant 목록 조회 ====================
 
     /**
@@ -135,19 +206,33 @@ public interface RestaurantRepository {
      */
     Page<Menu> findMenusByRestaurantIdIncludingDeleted(String restaurantId, Pageable pageable);
 
+    /**
+     * Restaurant의 Menu 목록 조회 (고객용, 커서 페이지네이션)
+     * - 삭제되지 않고 판매 가능한 메뉴만
+     * - 정렬 가능 컬럼: createdAt, price, menuName, purchaseCount, reviewRating
+     *
+     * API: GET /v1/customers/restaurants/{restaurantId}/menus/cursor
+     *
+     * @param restaurantId Restaurant ID
+     * @param cursorRequest 커서 요청
+     * @return Menu 슬라이스 (다음 커서 포함)
+     */
+    CursorSlice<Menu> findMenusByRestaurantIdWithCursor(String restaurantId, CursorRequest cursorRequest);
+
     // ==================== READ - Restaurant 검색 ====================
 
     /**
      * Restaurant 검색 (복합 조건)
-     * - 지역별, 카테고리별, 키워드 검색
+     * - 지역별, 카테고리별, 태그별, 키워드 검색
      * - 모든 파라미터는 Optional (null이면 해당 조건 제외)
      *
-     * API: GET /v1/customers/restaurants?province=서울특별시&city=종로구&category=한식&keyword=김치찌개
+     * API: GET /v1/customers/restaurants?province=서울특별시&city=종로구&category=한식&tags=맛집&keyword=김치찌개
      *
      * @param province 시/도 (예: 서울특별시)
      * @param city 시/군/구 (예: 종로구)
      * @param district 동/읍/면 (예: 광화문동)
      * @param categoryIds 카테고리 ID 목록
+     * @param tags 태그 목록 (정확 일치, 모두 포함한 레스토랑만)
      * @param keyword 키워드 (레스토랑명, 태그 검색)
      * @param pageable 페이징 및 정렬 정보
      * @return Restaurant 페이지
@@ -157,10 +242,41 @@ public interface RestaurantRepository {
             String city,
             String district,
             Set<String> categoryIds,
+            Set<String> tags,
             String keyword,
             Pageable pageable
     );
 
+    /**
+     * 태그별 레스토랑 수 집계 (패싯)
+     * - 검색과 동일한 지역/카테고리/키워드 조건 적용
+     * - 태그 테이블 GROUP BY 단일 쿼리
+     *
+     * API: GET /v1/common/restaurants/tags/facets?province=서울특별시&categoryIds=CAT1
+     *
+     * @param province 시/도
+     * @param city 시/군/구
+     * @param district 동/읍/면
+     * @param categoryIds 카테고리 ID 목록
+     * @param keyword 키워드
+     * @return 태그 → 레스토랑 수 (개수 내림차순)
+     */
+    Map<String, Long> countTagFacets(
+            String province,
+            String city,
+            String district,
+            Set<String> categoryIds,
+            String keyword
+    );
+
+    /**
+     * 지역 집계 대상 식당의 지역 일괄 조회 (지역 패싯 재계산용)
+     * - 활성 & 미삭제 식당만, 식당 ID + 시/도·시/군/구·동만 조회 (Aggregate 생성 없음)
+     *
+     * @return 식당 ID → 지역 (상세주소 제외)
+     */
+    Map<String, Address> findCountedRestaurantRegions();
+
     // ==================== READ - Menu 단건 조회 ====================
 
     /**
@@ -195,6 +311,15 @@ public interface RestaurantRepository {
 
     // ==================== READ - Menu 목록 조회 ====================
 
+    /**
+     * Restaurant의 메뉴 수 집계 (메뉴 행을 로딩하지 않는 COUNT 1회)
+     * - 메뉴 목록 없이 부분 조회한 식당의 응답에 사용
+     *
+     * @param restaurantId Restaurant ID
+     * @return 전체/판매 중/삭제 메뉴 수
+     */
+    RestaurantMenuCounts countMenus(String restaurantId);
+
     /**
      * Restaurant의 Menu 목록 조회 (페이징 + 정렬, 고객용)
      * - 삭제되지 않고 판매 가능하고 숨김처리 안된 Menu만
@@ -341,8 +466,7 @@ public interface RestaurantRepository {
      * - Menu의 구매수, 찜 수 등을 업데이트할 때 사용
      *
      * 사용처:
-     * - OrderEventHandler: 주문 완료 시 구매수 증가
-     * - WishlistEventHandler: 찜 추가/제거 시 찜 수 증가/감소
+     * - OrderEventHandler: 주문 완료 시 트렌딩/베스트셀러 반영 (읽기 전용, 통계 증감은 addPurchase)
      *
      * @param restaurantId Restaurant ID
      * @return Restaurant with Menus
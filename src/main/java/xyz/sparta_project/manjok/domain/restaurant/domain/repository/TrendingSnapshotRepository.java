@@ -0,0 +1,34 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.repository;
+
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.TrendingSnapshot;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 트렌딩 윈도우 스냅샷 Repository 인터페이스
+ * - 각 노드가 자기 트렌딩 윈도우를 주기적으로 발행하고, 다른 노드의 스냅샷을 폴링해 병합
+ * - 노드 + 윈도우 키당 1행 (덮어쓰기), 오래된 행은 주기적으로 삭제
+ */
+public interface TrendingSnapshotRepository {
+
+    /**
+     * 노드 스냅샷 저장 (같은 노드 + 윈도우 키는 덮어씀)
+     * @param nodeId 발행 노드
+     * @param payloads 윈도우 키 -> 직렬화된 스냅샷
+     * @param updatedAt 발행 시각 (epoch millis)
+     */
+    void saveAll(String nodeId, Map<String, byte[]> payloads, long updatedAt);
+
+    /**
+     * 다른 노드가 since 이후 발행한 스냅샷
+     * @param excludedNodeId 제외할 노드 (자기 자신)
+     */
+    List<TrendingSnapshot> findUpdatedSince(String excludedNodeId, long since);
+
+    /**
+     * before 이전에 발행된 스냅샷 삭제 (종료된 노드, 더 이상 신호가 없는 윈도우)
+     * @return 삭제된 행 수
+     */
+    int deleteUpdatedBefore(long before);
+}
@@ -0,0 +1,72 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.global.infrastructure.sketch.DecayingTopK;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 식당별 베스트셀러 메뉴 메모리 인덱스
+ * - 주문 완료 시 메뉴별 최근 구매량을 반감기 기준으로 감쇠 누적
+ * - 식당마다 상위 메뉴 목록을 갱신 시점에 유지, 상세 조회 시 메뉴 전체 정렬 없음
+ * - 판매 중지/삭제 메뉴는 조회 측에서 걸러냄
+ */
+@Component
+public class RestaurantBestSellerIndex {
+
+    private final Map<String, DecayingTopK> bestSellers = new ConcurrentHashMap<>();
+    private final long halfLifeMillis;
+    private final int capacity;
+    private final Clock clock;
+
+    @Autowired
+    public RestaurantBestSellerIndex(@Value("${best-seller.half-life-days:7}") long halfLifeDays,
+                                     @Value("${best-seller.capacity:20}") int capacity) {
+        this(Duration.ofDays(halfLifeDays).toMillis(), capacity, Clock.systemUTC());
+    }
+
+    RestaurantBestSellerIndex(long halfLifeMillis, int capacity, Clock clock) {
+        this.halfLifeMillis = halfLifeMillis;
+        this.capacity = capacity;
+        this.clock = clock;
+    }
+
+    /**
+     * 메뉴 구매 기록
+     */
+    public void recordPurchase(String restaurantId, String menuId, int quantity) {
+        if (restaurantId == null || menuId == null || quantity <= 0) {
+            return;
+        }
+        long now = clock.millis();
+        bestSellers.computeIfAbsent(restaurantId, id -> new DecayingTopK(halfLifeMillis, capacity, now))
+                .add(menuId, quantity, now);
+    }
+
+    /**
+     * 상위 메뉴 ID와 감쇠된 구매량 (기록이 없으면 빈 목록)
+     */
+    public List<DecayingTopK.Entry> findTopMenus(String restaurantId, int limit) {
+        DecayingTopK topK = bestSellers.get(restaurantId);
+        if (topK == null) {
+            return List.of();
+        }
+        return topK.top(limit, clock.millis());
+    }
+
+    /**
+     * 보관 중인 상위 메뉴 ID 전체 (구매량 순, 최대 capacity개)
+     * - 판매 중지 메뉴를 걸러도 표시 개수를 채울 수 있도록 후보 전체 반환
+     */
+    public List<String> findRankedMenuIds(String restaurantId) {
+        return findTopMenus(restaurantId, capacity).stream()
+                .map(DecayingTopK.Entry::key)
+                .toList();
+    }
+}
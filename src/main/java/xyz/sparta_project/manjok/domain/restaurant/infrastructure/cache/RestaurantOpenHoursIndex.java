@@ -0,0 +1,122 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.WeeklyOperatingBitmap;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.scheduler.RestaurantOpenStateScheduler;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantEntity.restaurantEntity;
+
+/**
+ * 식당별 주간 영업 비트맵 메모리 인덱스
+ * - 식당 저장 시 갱신, 삭제 시 제거
+ * - 최초 사용 시 DB의 weekly_open_bitmap 컬럼으로 한 번 적재 (적재 경로는 ensureLoaded 하나)
+ * - 영업 중 여부는 영업 상태 전환 스케줄러의 캐시 값 (없으면 슬롯 비트 하나 확인)
+ * - 등록/변경된 비트맵은 영업 상태 전환 스케줄러에도 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantOpenHoursIndex {
+
+    private final RestaurantOpenStateScheduler openStateScheduler;
+    private final JPAQueryFactory queryFactory;
+    private final Map<String, WeeklyOperatingBitmap> bitmaps = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 최초 적재 (이미 적재되었으면 무시)
+     * - 삭제되지 않은 식당의 (id, weekly_open_bitmap) 컬럼만 조회
+     */
+    public void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(restaurantEntity.id, restaurantEntity.weeklyOpenBitmap)
+                .from(restaurantEntity)
+                .where(restaurantEntity.isDeleted.eq(false))
+                .fetch();
+
+        Map<String, WeeklyOperatingBitmap> source = new HashMap<>();
+        for (Tuple row : rows) {
+            source.put(row.get(restaurantEntity.id),
+                    WeeklyOperatingBitmap.fromBytes(row.get(restaurantEntity.weeklyOpenBitmap)));
+        }
+        loadAll(source);
+
+        log.info("Restaurant open-hours index loaded. size: {}", source.size());
+    }
+
+    /**
+     * DB 전체 적재 (이미 적재되었으면 무시)
+     * - 적재 전 put으로 들어온 최신 값은 덮어쓰지 않음
+     */
+    public synchronized void loadAll(Map<String, WeeklyOperatingBitmap> source) {
+        if (loaded) {
+            return;
+        }
+        source.forEach((restaurantId, bitmap) -> {
+            if (bitmaps.putIfAbsent(restaurantId, bitmap) == null) {
+                openStateScheduler.register(restaurantId, bitmap);
+            }
+        });
+        loaded = true;
+    }
+
+    public void put(String restaurantId, WeeklyOperatingBitmap bitmap) {
+        if (restaurantId == null || bitmap == null) {
+            return;
+        }
+        WeeklyOperatingBitmap previous = bitmaps.put(restaurantId, bitmap);
+        if (!bitmap.equals(previous)) {
+            openStateScheduler.register(restaurantId, bitmap);
+        }
+    }
+
+    public void remove(String restaurantId) {
+        if (restaurantId == null) {
+            return;
+        }
+        bitmaps.remove(restaurantId);
+        openStateScheduler.unregister(restaurantId);
+    }
+
+    /**
+     * 현재 영업 슬롯 여부 (식당 상태(OPEN)/활성 여부는 호출자가 확인)
+     * - 영업 상태 전환 스케줄러가 경계 시각마다 뒤집어 둔 캐시 값 사용
+     * - 스케줄러에 없는 식당(적재 직후 등록 전)은 비트맵 한 비트로 판단
+     */
+    public boolean isOpenNow(String restaurantId) {
+        ensureLoaded();
+
+        Boolean cached = openStateScheduler.isOpen(restaurantId);
+        if (cached != null) {
+            return cached;
+        }
+        WeeklyOperatingBitmap bitmap = bitmaps.get(restaurantId);
+        return bitmap != null && bitmap.isOpenAt(LocalDateTime.now());
+    }
+
+    /**
+     * 전체 초기화 (다음 사용 시 DB에서 재적재)
+     */
+    public synchronized void clear() {
+        bitmaps.clear();
+        loaded = false;
+    }
+}
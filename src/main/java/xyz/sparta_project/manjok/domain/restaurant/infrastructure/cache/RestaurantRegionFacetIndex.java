@@ -0,0 +1,141 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지역 패싯(시/도 › 시/군/구 › 동별 활성 식당 수) 메모리 인덱스
+ * - 지역 트리 노드마다 식당 수를 보관, 조회는 노드 하나의 자식 목록 정렬 (DB 접근 없음)
+ * - 식당별 현재 지역을 함께 보관해 이전 지역 감소/새 지역 증가를 한 번에 처리 (같은 변경 재적용 시 변화 없음)
+ * - 변경은 직렬화, 조회는 잠금 없이 동시 맵/원자 카운터 읽기
+ */
+@Component
+public class RestaurantRegionFacetIndex {
+
+    private volatile Node root = new Node();
+    private volatile Map<String, Region> regionsByRestaurant = new HashMap<>();
+
+    /**
+     * 식당의 현재 집계 지역 반영
+     * - province가 null이면 집계 대상에서 제외 (비활성/삭제)
+     */
+    public synchronized void apply(String restaurantId, String province, String city, String district) {
+        if (restaurantId == null) {
+            return;
+        }
+        Region current = province != null ? new Region(province, city, district) : null;
+        Region previous = current != null
+                ? regionsByRestaurant.put(restaurantId, current)
+                : regionsByRestaurant.remove(restaurantId);
+
+        if (Objects.equals(previous, current)) {
+            return;
+        }
+        if (previous != null) {
+            add(root, previous, -1);
+        }
+        if (current != null) {
+            add(root, current, 1);
+        }
+    }
+
+    /**
+     * 전체 교체 (재계산 결과)
+     * - 새 트리를 만든 뒤 한 번에 바꿔 조회 중인 요청은 이전/이후 중 하나만 봄
+     */
+    public synchronized void replaceAll(Map<String, Region> regions) {
+        Node newRoot = new Node();
+        Map<String, Region> newRegions = new HashMap<>(regions.size() * 2);
+        regions.forEach((restaurantId, region) -> {
+            if (region != null && region.province() != null) {
+                newRegions.put(restaurantId, region);
+                add(newRoot, region, 1);
+            }
+        });
+        this.regionsByRestaurant = newRegions;
+        this.root = newRoot;
+    }
+
+    /**
+     * 하위 지역별 식당 수
+     * - province 없음: 시/도별, province만: 시/군/구별, province+city: 동별
+     * - 식당 수 내림차순, 같으면 이름순 (식당이 없는 지역 제외)
+     */
+    public List<RegionFacet> getFacets(String province, String city) {
+        Node node = root;
+        if (province != null) {
+            node = node.children.get(province);
+            if (node != null && city != null) {
+                node = node.children.get(city);
+            }
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        List<RegionFacet> facets = new ArrayList<>(node.children.size());
+        node.children.forEach((name, child) -> {
+            int count = child.count.get();
+            if (count > 0) {
+                facets.add(new RegionFacet(name, count));
+            }
+        });
+        facets.sort(Comparator.comparingLong(RegionFacet::restaurantCount).reversed()
+                .thenComparing(RegionFacet::name));
+        return facets;
+    }
+
+    /**
+     * 지역 식당 수 (province/city/district 중 지정한 단계까지)
+     */
+    public long count(String province, String city, String district) {
+        Node node = root;
+        for (String name : new String[]{province, city, district}) {
+            if (name == null) {
+                break;
+            }
+            node = node.children.get(name);
+            if (node == null) {
+                return 0;
+            }
+        }
+        return node.count.get();
+    }
+
+    private static void add(Node root, Region region, int delta) {
+        Node node = root;
+        node.count.addAndGet(delta);
+        for (String name : new String[]{region.province(), region.city(), region.district()}) {
+            if (name == null) {
+                return;
+            }
+            node = node.children.computeIfAbsent(name, key -> new Node());
+            node.count.addAndGet(delta);
+        }
+    }
+
+    private static final class Node {
+        private final AtomicInteger count = new AtomicInteger();
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 집계 지역 (시/도, 시/군/구, 동)
+     */
+    public record Region(String province, String city, String district) {
+    }
+
+    /**
+     * 하위 지역 식당 수
+     */
+    public record RegionFacet(String name, long restaurantCount) {
+    }
+}
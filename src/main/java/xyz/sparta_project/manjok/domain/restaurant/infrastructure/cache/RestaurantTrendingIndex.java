@@ -0,0 +1,479 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.TrendingPeriod;
+import xyz.sparta_project.manjok.global.infrastructure.sketch.SlidingWindowTopK;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 트렌딩 식당/메뉴 메모리 인덱스
+ * - 주문/조회 신호를 범위(전체, 지역, 카테고리, 지역+카테고리)별 슬라이딩 윈도우 Top-K에 누적
+ * - 최근 1시간: 5분 버킷 12개, 오늘: 자정 기준 일 버킷 1개, 버킷 스케치는 신호가 들어올 때 할당
+ * - 지역+카테고리 윈도우는 작은 스케치로 최대 maxRegionCategoryWindows개까지만 생성, 유휴 윈도우는 주기적으로 정리
+ *   상한에 걸려 추적하지 못한 조합은 카테고리 윈도우 후보를 라벨의 지역으로 걸러서 응답 (근사)
+ * - 신호 1건당 스케치 갱신은 O(depth)
+ * - 노드 간 교환: 바뀐 윈도우를 직렬화해 발행하고, 다른 노드 스냅샷은 노드별로 보관 후 윈도우 키별로 병합
+ *   조회는 로컬 윈도우 + 다른 노드 병합 윈도우를 함께 합산 (발행/폴링은 RestaurantTrendingExchange)
+ */
+@Component
+public class RestaurantTrendingIndex {
+
+    public static final String ALL_SCOPE = "ALL";
+
+    private static final long HOUR_BUCKET_MILLIS = Duration.ofMinutes(5).toMillis();
+    private static final int HOUR_BUCKET_COUNT = 12;
+    private static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+    private static final String KIND_SEPARATOR = "/";
+
+    private final Map<Kind, Map<String, SlidingWindowTopK>> windows = Map.of(
+            Kind.RESTAURANT, new ConcurrentHashMap<>(),
+            Kind.MENU, new ConcurrentHashMap<>());
+    private final AtomicInteger regionCategoryWindows = new AtomicInteger();
+    private final Set<String> changedWindows = ConcurrentHashMap.newKeySet();
+    // 교환 키 -> 노드 -> 노드 스냅샷, 교환 키 -> 다른 노드 전체 병합 윈도우 (병합 윈도우는 교체만, 수정하지 않음)
+    private final Map<String, Map<String, RemoteWindow>> remoteWindows = new ConcurrentHashMap<>();
+    private final Map<String, SlidingWindowTopK> mergedRemoteWindows = new ConcurrentHashMap<>();
+    private final Map<String, Label> labels;
+    private final int sketchWidth;
+    private final int sketchDepth;
+    private final int regionCategorySketchWidth;
+    private final int maxRegionCategoryWindows;
+    private final int candidateSize;
+    private final Clock clock;
+
+    @Autowired
+    public RestaurantTrendingIndex(@Value("${trending.sketch-width:1024}") int sketchWidth,
+                                   @Value("${trending.sketch-depth:4}") int sketchDepth,
+                                   @Value("${trending.candidate-size:50}") int candidateSize,
+                                   @Value("${trending.max-labels:20000}") int maxLabels,
+                                   @Value("${trending.region-category-sketch-width:256}") int regionCategorySketchWidth,
+                                   @Value("${trending.max-region-category-windows:512}") int maxRegionCategoryWindows) {
+        this(sketchWidth, sketchDepth, candidateSize, maxLabels, regionCategorySketchWidth, maxRegionCategoryWindows,
+                Clock.systemDefaultZone());
+    }
+
+    RestaurantTrendingIndex(int sketchWidth, int sketchDepth, int candidateSize, int maxLabels,
+                            int regionCategorySketchWidth, int maxRegionCategoryWindows, Clock clock) {
+        this.sketchWidth = sketchWidth;
+        this.sketchDepth = sketchDepth;
+        this.candidateSize = candidateSize;
+        this.regionCategorySketchWidth = regionCategorySketchWidth;
+        this.maxRegionCategoryWindows = maxRegionCategoryWindows;
+        this.clock = clock;
+        // 이름 표시용 라벨은 최근 사용 순으로 maxLabels개까지만 보관
+        this.labels = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Label> eldest) {
+                return size() > maxLabels;
+            }
+        });
+    }
+
+    /**
+     * 식당 신호 기록 (조회/주문)
+     */
+    public void recordRestaurant(String restaurantId, String restaurantName, String province,
+                                 Collection<String> categoryIds, long weight) {
+        if (restaurantId == null || weight <= 0) {
+            return;
+        }
+        labels.put(restaurantId, new Label(restaurantName, restaurantId, normalize(province)));
+        record(Kind.RESTAURANT, restaurantId, province, categoryIds, weight);
+    }
+
+    /**
+     * 메뉴 신호 기록 (조회/주문)
+     * - 범위는 메뉴가 속한 식당의 지역/카테고리
+     */
+    public void recordMenu(String menuId, String menuName, String restaurantId, String province,
+                           Collection<String> categoryIds, long weight) {
+        if (menuId == null || weight <= 0) {
+            return;
+        }
+        labels.put(menuId, new Label(menuName, restaurantId, normalize(province)));
+        record(Kind.MENU, menuId, province, categoryIds, weight);
+    }
+
+    public List<TrendingItem> topRestaurants(TrendingPeriod period, String province, String categoryId, int limit) {
+        return top(Kind.RESTAURANT, period, province, categoryId, limit);
+    }
+
+    public List<TrendingItem> topMenus(TrendingPeriod period, String province, String categoryId, int limit) {
+        return top(Kind.MENU, period, province, categoryId, limit);
+    }
+
+    public void clear() {
+        windows.values().forEach(Map::clear);
+        regionCategoryWindows.set(0);
+        changedWindows.clear();
+        remoteWindows.clear();
+        mergedRemoteWindows.clear();
+        labels.clear();
+    }
+
+    // ==================== 노드 간 교환 ====================
+
+    /**
+     * 마지막 발행 이후 바뀐 윈도우 스냅샷 (교환 키 -> 압축된 윈도우 + 후보 라벨)
+     * - 발행 실패 시 markChanged로 되돌려 다음 주기에 재발행
+     */
+    public Map<String, byte[]> exportChanged() {
+        long now = localMillis();
+        Map<String, byte[]> snapshots = new HashMap<>();
+        for (String exchangeKey : List.copyOf(changedWindows)) {
+            changedWindows.remove(exchangeKey);
+            SlidingWindowTopK window = localWindow(exchangeKey);
+            if (window != null) {
+                snapshots.put(exchangeKey, writeSnapshot(window, now));
+            }
+        }
+        return snapshots;
+    }
+
+    public void markChanged(Collection<String> exchangeKeys) {
+        changedWindows.addAll(exchangeKeys);
+    }
+
+    /**
+     * 다른 노드 스냅샷 반영
+     * - 노드별로 최신 스냅샷만 보관 (이미 받은 것과 같거나 오래된 스냅샷은 무시)
+     * - 반영 후 해당 윈도우 키의 다른 노드 병합 윈도우를 다시 만듦
+     * @return 반영 여부
+     * @throws IllegalArgumentException 형식이 잘못되었거나 설정이 다른 윈도우
+     */
+    public boolean applyRemote(String nodeId, String exchangeKey, byte[] payload, long updatedAt) {
+        RemoteWindow current = remoteWindows.getOrDefault(exchangeKey, Map.of()).get(nodeId);
+        if (current != null && current.updatedAt() >= updatedAt) {
+            return false;
+        }
+
+        SlidingWindowTopK window = readSnapshot(payload);
+        if (!newWindow(exchangeKey).isCompatible(window)) {
+            throw new IllegalArgumentException("설정이 다른 트렌딩 윈도우입니다. key: " + exchangeKey);
+        }
+        remoteWindows.computeIfAbsent(exchangeKey, k -> new ConcurrentHashMap<>())
+                .put(nodeId, new RemoteWindow(window, updatedAt));
+        rebuildRemote(exchangeKey);
+        return true;
+    }
+
+    /**
+     * before 이전에 발행된 다른 노드 스냅샷 제거 (종료된 노드)
+     */
+    public void pruneRemote(long before) {
+        for (Map.Entry<String, Map<String, RemoteWindow>> entry : remoteWindows.entrySet()) {
+            if (entry.getValue().values().removeIf(remote -> remote.updatedAt() < before)) {
+                rebuildRemote(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * 윈도우 안에 신호가 없는 로컬 윈도우 정리
+     * - 정리 직전에 들어온 신호 1건은 유실될 수 있음 (유휴 윈도우라 순위 영향 미미)
+     * @return 정리된 윈도우 수
+     */
+    public int evictIdleWindows() {
+        long now = localMillis();
+        int evicted = 0;
+        for (Map<String, SlidingWindowTopK> byKey : windows.values()) {
+            for (Map.Entry<String, SlidingWindowTopK> entry : byKey.entrySet()) {
+                if (entry.getValue().isIdle(now) && byKey.remove(entry.getKey(), entry.getValue())) {
+                    evicted++;
+                    if (isRegionCategory(scopeOfKey(entry.getKey()))) {
+                        regionCategoryWindows.decrementAndGet();
+                    }
+                }
+            }
+        }
+        return evicted;
+    }
+
+    int regionCategoryWindowCount() {
+        return regionCategoryWindows.get();
+    }
+
+    // ==================== 범위 ====================
+
+    /**
+     * 범위 키
+     * - 지역/카테고리가 모두 없으면 전체
+     */
+    public static String scopeOf(String province, String categoryId) {
+        String region = normalize(province);
+        String category = normalize(categoryId);
+        if (region != null && category != null) {
+            return "R:" + region + "|C:" + category;
+        }
+        if (region != null) {
+            return "R:" + region;
+        }
+        if (category != null) {
+            return "C:" + category;
+        }
+        return ALL_SCOPE;
+    }
+
+    private void record(Kind kind, String key, String province, Collection<String> categoryIds, long weight) {
+        long now = localMillis();
+        Map<String, SlidingWindowTopK> byKey = windows.get(kind);
+        for (String scope : scopesOf(province, categoryIds)) {
+            for (TrendingPeriod period : TrendingPeriod.values()) {
+                String windowKey = windowKey(period, scope);
+                SlidingWindowTopK window = byKey.computeIfAbsent(windowKey, k -> createWindow(period, scope));
+                if (window == null) {
+                    continue;
+                }
+                window.add(key, weight, now);
+                changedWindows.add(exchangeKey(kind, windowKey));
+            }
+        }
+    }
+
+    /**
+     * 새 로컬 윈도우 (지역+카테고리 윈도우는 상한에 걸리면 만들지 않음)
+     */
+    private SlidingWindowTopK createWindow(TrendingPeriod period, String scope) {
+        if (isRegionCategory(scope)
+                && regionCategoryWindows.getAndUpdate(n -> n < maxRegionCategoryWindows ? n + 1 : n)
+                >= maxRegionCategoryWindows) {
+            return null;
+        }
+        return newWindow(period, scope);
+    }
+
+    private List<TrendingItem> top(Kind kind, TrendingPeriod period, String province, String categoryId, int limit) {
+        long now = localMillis();
+        String scope = scopeOf(province, categoryId);
+        List<SlidingWindowTopK.Entry> entries = topEntries(kind, windowKey(period, scope), limit, now);
+
+        // 상한으로 추적하지 못한 지역+카테고리: 카테고리 윈도우 후보 전체에서 지역이 맞는 항목만 (근사)
+        String region = isRegionCategory(scope) && entries.isEmpty() ? normalize(province) : null;
+        if (region != null) {
+            entries = topEntries(kind, windowKey(period, scopeOf(null, categoryId)), Integer.MAX_VALUE, now);
+        }
+
+        return entries.stream()
+                .map(entry -> {
+                    Label label = labels.get(entry.key());
+                    if (region != null && (label == null || !region.equals(label.province()))) {
+                        return null;
+                    }
+                    return new TrendingItem(
+                            entry.key(),
+                            label != null ? label.name() : null,
+                            label != null ? label.restaurantId() : null,
+                            entry.count());
+                })
+                .filter(Objects::nonNull)
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+
+    /**
+     * 로컬 윈도우 + 다른 노드 병합 윈도우 합산 상위 키
+     */
+    private List<SlidingWindowTopK.Entry> topEntries(Kind kind, String windowKey, int limit, long now) {
+        SlidingWindowTopK local = windows.get(kind).get(windowKey);
+        SlidingWindowTopK remote = mergedRemoteWindows.get(exchangeKey(kind, windowKey));
+        if (local == null) {
+            return remote != null ? remote.top(limit, now) : List.of();
+        }
+        return local.top(limit, now, remote);
+    }
+
+    private List<String> scopesOf(String province, Collection<String> categoryIds) {
+        List<String> scopes = new ArrayList<>();
+        scopes.add(ALL_SCOPE);
+        boolean hasProvince = normalize(province) != null;
+        if (hasProvince) {
+            scopes.add(scopeOf(province, null));
+        }
+        if (categoryIds != null) {
+            for (String categoryId : categoryIds) {
+                if (normalize(categoryId) == null) {
+                    continue;
+                }
+                scopes.add(scopeOf(null, categoryId));
+                if (hasProvince) {
+                    scopes.add(scopeOf(province, categoryId));
+                }
+            }
+        }
+        return scopes;
+    }
+
+    private SlidingWindowTopK newWindow(TrendingPeriod period, String scope) {
+        int width = isRegionCategory(scope) ? regionCategorySketchWidth : sketchWidth;
+        return switch (period) {
+            case LAST_HOUR -> new SlidingWindowTopK(
+                    HOUR_BUCKET_MILLIS, HOUR_BUCKET_COUNT, width, sketchDepth, candidateSize);
+            case TODAY -> new SlidingWindowTopK(DAY_MILLIS, 1, width, sketchDepth, candidateSize);
+        };
+    }
+
+    private SlidingWindowTopK newWindow(String exchangeKey) {
+        String windowKey = windowKeyOf(exchangeKey);
+        TrendingPeriod period = TrendingPeriod.valueOf(windowKey.substring(0, windowKey.indexOf('#')));
+        return newWindow(period, scopeOfKey(windowKey));
+    }
+
+    private SlidingWindowTopK localWindow(String exchangeKey) {
+        Kind kind = Kind.valueOf(exchangeKey.substring(0, exchangeKey.indexOf(KIND_SEPARATOR)));
+        return windows.get(kind).get(windowKeyOf(exchangeKey));
+    }
+
+    /**
+     * 다른 노드 스냅샷을 모두 더한 윈도우로 교체 (조회 중인 기존 병합 윈도우는 수정하지 않음)
+     */
+    private void rebuildRemote(String exchangeKey) {
+        synchronized (remoteWindows) {
+            Map<String, RemoteWindow> byNode = remoteWindows.getOrDefault(exchangeKey, Map.of());
+            if (byNode.isEmpty()) {
+                remoteWindows.remove(exchangeKey);
+                mergedRemoteWindows.remove(exchangeKey);
+                return;
+            }
+            SlidingWindowTopK merged = newWindow(exchangeKey);
+            byNode.values().forEach(remote -> merged.merge(remote.window()));
+            mergedRemoteWindows.put(exchangeKey, merged);
+        }
+    }
+
+    // ==================== 스냅샷 직렬화 ====================
+
+    /**
+     * 윈도우 + 후보 라벨 (이름, 식당 ID, 지역) 압축 직렬화
+     */
+    private byte[] writeSnapshot(SlidingWindowTopK window, long now) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            byte[] windowBytes = window.toBytes();
+            out.writeInt(windowBytes.length);
+            out.write(windowBytes);
+
+            List<SlidingWindowTopK.Entry> candidates = window.top(Integer.MAX_VALUE, now);
+            List<Map.Entry<String, Label>> candidateLabels = new ArrayList<>(candidates.size());
+            for (SlidingWindowTopK.Entry candidate : candidates) {
+                Label label = labels.get(candidate.key());
+                if (label != null) {
+                    candidateLabels.add(Map.entry(candidate.key(), label));
+                }
+            }
+            out.writeInt(candidateLabels.size());
+            for (Map.Entry<String, Label> entry : candidateLabels) {
+                out.writeUTF(entry.getKey());
+                writeNullable(out, entry.getValue().name());
+                writeNullable(out, entry.getValue().restaurantId());
+                writeNullable(out, entry.getValue().province());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 스냅샷 역직렬화, 라벨은 로컬에 없는 것만 추가 (로컬 신호의 라벨 우선)
+     */
+    private SlidingWindowTopK readSnapshot(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(payload)))) {
+            byte[] windowBytes = new byte[in.readInt()];
+            in.readFully(windowBytes);
+            SlidingWindowTopK window = SlidingWindowTopK.fromBytes(windowBytes);
+
+            int labelCount = in.readInt();
+            for (int i = 0; i < labelCount; i++) {
+                String key = in.readUTF();
+                labels.putIfAbsent(key, new Label(readNullable(in), readNullable(in), readNullable(in)));
+            }
+            return window;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("트렌딩 스냅샷 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // ==================== 키 ====================
+
+    private static boolean isRegionCategory(String scope) {
+        return scope.startsWith("R:") && scope.contains("|C:");
+    }
+
+    private static String normalize(String value) {
+        return value != null && !value.isBlank() ? value.trim() : null;
+    }
+
+    private static String windowKey(TrendingPeriod period, String scope) {
+        return period.name() + "#" + scope;
+    }
+
+    private static String scopeOfKey(String windowKey) {
+        return windowKey.substring(windowKey.indexOf('#') + 1);
+    }
+
+    /**
+     * 노드 간 교환 키 (종류/기간#범위)
+     */
+    private static String exchangeKey(Kind kind, String windowKey) {
+        return kind.name() + KIND_SEPARATOR + windowKey;
+    }
+
+    private static String windowKeyOf(String exchangeKey) {
+        return exchangeKey.substring(exchangeKey.indexOf(KIND_SEPARATOR) + 1);
+    }
+
+    /**
+     * 타임존 오프셋을 더한 시각 (일 버킷이 현지 자정에 맞춰지도록)
+     */
+    private long localMillis() {
+        long now = clock.millis();
+        return now + clock.getZone().getRules().getOffset(clock.instant()).getTotalSeconds() * 1000L;
+    }
+
+    public record TrendingItem(String id, String name, String restaurantId, long score) {
+    }
+
+    private enum Kind {
+        RESTAURANT, MENU
+    }
+
+    private record Label(String name, String restaurantId, String province) {
+    }
+
+    private record RemoteWindow(SlidingWindowTopK window, long updatedAt) {
+    }
+}
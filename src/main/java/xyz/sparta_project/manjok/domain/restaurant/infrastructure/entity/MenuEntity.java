@@ -26,9 +26,12 @@ import java.util.stream.Collectors;
  */
 @Entity
 @Table(name = "p_menus", indexes = {
-        @Index(name = "idx_menu_restaurant_id", columnList = "restaurant_id"),
-        @Index(name = "idx_menu_is_available", columnList = "is_available"),
-        @Index(name = "idx_menu_is_deleted", columnList = "is_deleted")
+        // 식당별 메뉴 목록 (삭제 제외, 판매 가능 필터, 최신순)
+        @Index(name = "idx_menu_restaurant_deleted_available",
+                columnList = "restaurant_id, is_deleted, is_available, created_at"),
+        // 사장님 메뉴 관리 목록 (판매 중지 포함, 최신순)
+        @Index(name = "idx_menu_restaurant_deleted_created",
+                columnList = "restaurant_id, is_deleted, created_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -77,12 +80,12 @@ public class MenuEntity extends BaseEntity {
     @Column(name = "calorie")
     private Integer calorie;
 
-    // 통계 정보
-    @Column(name = "purchase_count")
+    // 통계 정보 (구매/찜 수는 원자적 UPDATE로만 변경, 엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "purchase_count", updatable = false)
     @Builder.Default
     private Integer purchaseCount = 0;
 
-    @Column(name = "wishlist_count")
+    @Column(name = "wishlist_count", updatable = false)
     @Builder.Default
     private Integer wishlistCount = 0;
 
@@ -94,6 +97,12 @@ public class MenuEntity extends BaseEntity {
     @Builder.Default
     private BigDecimal reviewRating = BigDecimal.ZERO;
 
+    // 낙관적 락 버전 (저장 전 null → 첫 INSERT 시 0)
+    @Version
+    @Setter
+    @Column(name = "version")
+    private Long version;
+
     // 감사 필드
     @Column(name = "created_by", length = 100)
     private String createdBy;
@@ -189,6 +198,7 @@ public class MenuEntity extends BaseEntity {
                 .wishlistCount(domain.getWishlistCount())
                 .reviewCount(domain.getReviewCount())
                 .reviewRating(domain.getReviewRating())
+                .version(domain.getVersion())
                 .createdBy(domain.getCreatedBy())
                 .updatedAt(domain.getUpdatedAt())
                 .updatedBy(domain.getUpdatedBy())
@@ -238,6 +248,7 @@ public class MenuEntity extends BaseEntity {
                 .wishlistCount(this.wishlistCount)
                 .reviewCount(this.reviewCount)
                 .reviewRating(this.reviewRating)
+                .version(this.version)
                 .createdBy(this.createdBy)
                 .updatedAt(this.updatedAt)
                 .updatedBy(this.updatedBy)
@@ -0,0 +1,46 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 메뉴 일일 재고 엔티티
+ * - 메뉴당 1행, 남은 수량은 조건부 UPDATE로만 변경 (엔티티 더티체킹으로 쓰지 않음)
+ */
+@Entity
+@Table(name = "p_menu_daily_stocks", indexes = {
+        @Index(name = "idx_menu_stock_restaurant_id", columnList = "restaurant_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class MenuStockEntity {
+
+    @Id
+    @Column(name = "menu_id", length = 36)
+    private String menuId;
+
+    @Column(name = "restaurant_id", length = 36, nullable = false)
+    private String restaurantId;
+
+    @Column(name = "daily_stock", nullable = false)
+    private Integer dailyStock;
+
+    @Column(name = "stock_date", nullable = false)
+    private LocalDate stockDate;
+
+    @Column(name = "remaining", nullable = false)
+    private Integer remaining;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,259 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantStatus;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantSummary;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.WeeklyOperatingBitmap;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.vo.AddressVO;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.vo.RestaurantCardListingVO;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 식당 검색 카드 JPA Entity (읽기 전용 비정규화 테이블)
+ * - 검색 목록 응답에 필요한 값을 식당당 1행으로 보관, 삭제되지 않고 활성화된 식당만 행이 있음
+ * - 식당 테이블/카테고리 연결 테이블에서 복사한 값 (직접 수정하지 않음, RestaurantCardRepositoryImpl.refresh로만 갱신)
+ * - 인덱스: 지역(시/도, 시/군/구, 동) + 정렬 컬럼 → 지역 필터 + 정렬 + LIMIT이 인덱스 범위 스캔 한 번
+ *   (최신순/평점순/추천순/리뷰 많은순/주문 많은순/이름순 모두)
+ * - 태그/카테고리 필터는 카드 연결 테이블(p_restaurant_card_tags, p_restaurant_card_categories)에서 범위 스캔
+ * - open_now: 현재 영업 여부, 갱신 시 계산 + 영업 상태 전환 이벤트로 경계 시각마다 갱신
+ *   영업 중 검색은 (open_now, 지역, 등록 시각) 인덱스 범위 스캔 (영업 중 식당 ID 목록 조건 없음)
+ */
+@Entity
+@Table(name = "p_restaurant_cards", indexes = {
+        @Index(name = "idx_restaurant_card_region_created", columnList = "province, city, district, restaurant_created_at"),
+        @Index(name = "idx_restaurant_card_region_rating", columnList = "province, city, district, review_rating"),
+        @Index(name = "idx_restaurant_card_region_ranking", columnList = "province, city, district, ranking_score"),
+        @Index(name = "idx_restaurant_card_region_review_count", columnList = "province, city, district, review_count"),
+        @Index(name = "idx_restaurant_card_region_purchase_count",
+                columnList = "province, city, district, purchase_count"),
+        @Index(name = "idx_restaurant_card_region_name", columnList = "province, city, district, restaurant_name"),
+        @Index(name = "idx_restaurant_card_created", columnList = "restaurant_created_at"),
+        @Index(name = "idx_restaurant_card_rating", columnList = "review_rating"),
+        @Index(name = "idx_restaurant_card_ranking", columnList = "ranking_score"),
+        @Index(name = "idx_restaurant_card_review_count", columnList = "review_count"),
+        @Index(name = "idx_restaurant_card_purchase_count", columnList = "purchase_count"),
+        @Index(name = "idx_restaurant_card_name", columnList = "restaurant_name"),
+        @Index(name = "idx_restaurant_card_open_region_created",
+                columnList = "open_now, province, city, district, restaurant_created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class RestaurantCardEntity {
+
+    private static final String CATEGORY_ID_DELIMITER = "|";
+
+    @Id
+    @Column(name = "restaurant_id", length = 36)
+    private String restaurantId;
+
+    @Column(name = "restaurant_name", nullable = false, length = 200)
+    private String restaurantName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 50, nullable = false)
+    private RestaurantStatus status;
+
+    @Embedded
+    private AddressVO address;
+
+    // 주 카테고리 ID (없으면 null)
+    @Column(name = "primary_category_id", length = 36)
+    private String primaryCategoryId;
+
+    // 연결된 카테고리 ID 목록 ('|' 구분, 주 카테고리 먼저)
+    @Column(name = "category_ids", length = 1000)
+    private String categoryIds;
+
+    // 태그 (JSON, 표시 순서 보존)
+    @Column(name = "tags", columnDefinition = "TEXT")
+    private String tagsJson;
+
+    @Column(name = "weekly_open_bitmap", length = WeeklyOperatingBitmap.BYTE_LENGTH)
+    private byte[] weeklyOpenBitmap;
+
+    // 현재 영업 여부 (OPEN 상태 + 영업 슬롯)
+    @Column(name = "open_now", nullable = false)
+    private Boolean openNow;
+
+    // 통계
+    @Column(name = "view_count", nullable = false)
+    private Integer viewCount;
+
+    @Column(name = "wishlist_count", nullable = false)
+    private Integer wishlistCount;
+
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+
+    @Column(name = "review_rating", precision = 3, scale = 2, nullable = false)
+    private BigDecimal reviewRating;
+
+    @Column(name = "purchase_count", nullable = false)
+    private Integer purchaseCount;
+
+    @Column(name = "ranking_score", nullable = false)
+    private Double rankingScore;
+
+    // 식당 등록 시각 (최신순 정렬용)
+    @Column(name = "restaurant_created_at", nullable = false)
+    private LocalDateTime restaurantCreatedAt;
+
+    // 카드 갱신 시각
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    /**
+     * 최신 값으로 덮어쓰기 (관리 중인 카드 → 더티체킹으로 UPDATE)
+     * - 값이 모두 같으면 바꾸지 않음 (불필요한 UPDATE 방지)
+     * @return 값이 바뀌었으면 true
+     */
+    public boolean updateFrom(RestaurantCardEntity latest) {
+        if (sameValues(latest)) {
+            return false;
+        }
+        this.restaurantName = latest.restaurantName;
+        this.status = latest.status;
+        this.address = latest.address;
+        this.primaryCategoryId = latest.primaryCategoryId;
+        this.categoryIds = latest.categoryIds;
+        this.tagsJson = latest.tagsJson;
+        this.weeklyOpenBitmap = latest.weeklyOpenBitmap;
+        this.openNow = latest.openNow;
+        this.viewCount = latest.viewCount;
+        this.wishlistCount = latest.wishlistCount;
+        this.reviewCount = latest.reviewCount;
+        this.reviewRating = latest.reviewRating;
+        this.purchaseCount = latest.purchaseCount;
+        this.rankingScore = latest.rankingScore;
+        this.restaurantCreatedAt = latest.restaurantCreatedAt;
+        this.refreshedAt = latest.refreshedAt;
+        return true;
+    }
+
+    private boolean sameValues(RestaurantCardEntity other) {
+        return restaurantName.equals(other.restaurantName)
+                && status == other.status
+                && Objects.equals(address, other.address)
+                && Objects.equals(primaryCategoryId, other.primaryCategoryId)
+                && Objects.equals(categoryIds, other.categoryIds)
+                && Objects.equals(tagsJson, other.tagsJson)
+                && Arrays.equals(weeklyOpenBitmap, other.weeklyOpenBitmap)
+                && openNow.equals(other.openNow)
+                && viewCount.equals(other.viewCount)
+                && wishlistCount.equals(other.wishlistCount)
+                && reviewCount.equals(other.reviewCount)
+                && reviewRating.compareTo(other.reviewRating) == 0
+                && purchaseCount.equals(other.purchaseCount)
+                && rankingScore.equals(other.rankingScore)
+                && restaurantCreatedAt.equals(other.restaurantCreatedAt);
+    }
+
+    /**
+     * 태그/카테고리 연결 행에 복사되는 값이 같은지 (다르면 연결 행 교체)
+     */
+    public boolean hasSameLinkValues(RestaurantCardEntity other) {
+        return Objects.equals(tagsJson, other.tagsJson)
+                && Objects.equals(categoryIds, other.categoryIds)
+                && Objects.equals(toListing(), other.toListing());
+    }
+
+    /**
+     * 카드 → 목록 읽기 모델
+     * - 카테고리는 ID만 채움 (이름은 카테고리 트리 스냅샷으로 해석)
+     */
+    public RestaurantSummary toSummary() {
+        return RestaurantSummary.builder()
+                .id(restaurantId)
+                .restaurantName(restaurantName)
+                .status(status)
+                .address(address != null ? address.toDomain() : null)
+                .viewCount(viewCount)
+                .wishlistCount(wishlistCount)
+                .reviewCount(reviewCount)
+                .reviewRating(reviewRating)
+                .tags(RestaurantEntity.convertJsonToTags(tagsJson))
+                .isActive(true)
+                .weeklyOperatingBitmap(weeklyOpenBitmap != null
+                        ? WeeklyOperatingBitmap.fromBytes(weeklyOpenBitmap)
+                        : null)
+                .openNow(openNow)
+                .categoryIds(splitCategoryIds(categoryIds))
+                .build();
+    }
+
+    /**
+     * 태그 연결 행 (공백 제거 후 중복 없이, 검색 태그와 같은 정규화)
+     */
+    public List<RestaurantCardTagEntity> toTagLinks() {
+        RestaurantCardListingVO listing = toListing();
+        return RestaurantEntity.normalizeTags(RestaurantEntity.convertJsonToTags(tagsJson)).stream()
+                .map(tag -> RestaurantCardTagEntity.builder()
+                        .tag(tag)
+                        .restaurantId(restaurantId)
+                        .listing(listing)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 카테고리 연결 행
+     */
+    public List<RestaurantCardCategoryEntity> toCategoryLinks() {
+        RestaurantCardListingVO listing = toListing();
+        return new LinkedHashSet<>(splitCategoryIds(categoryIds)).stream()
+                .map(categoryId -> RestaurantCardCategoryEntity.builder()
+                        .categoryId(categoryId)
+                        .restaurantId(restaurantId)
+                        .listing(listing)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private RestaurantCardListingVO toListing() {
+        return RestaurantCardListingVO.builder()
+                .province(address != null ? address.getProvince() : null)
+                .city(address != null ? address.getCity() : null)
+                .district(address != null ? address.getDistrict() : null)
+                .restaurantName(restaurantName)
+                .reviewCount(reviewCount)
+                .reviewRating(reviewRating)
+                .purchaseCount(purchaseCount)
+                .rankingScore(rankingScore)
+                .restaurantCreatedAt(restaurantCreatedAt)
+                .build();
+    }
+
+    /**
+     * 카테고리 ID 목록 → 저장 문자열
+     */
+    public static String joinCategoryIds(Collection<String> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return null;
+        }
+        return String.join(CATEGORY_ID_DELIMITER, categoryIds);
+    }
+
+    private static List<String> splitCategoryIds(String value) {
+        if (value == null || value.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(value.split("\\|"))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,66 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.vo.RestaurantCardListingVO;
+
+import java.io.Serializable;
+
+/**
+ * 식당 검색 카드 태그 연결 JPA Entity (읽기 전용 비정규화 테이블)
+ * - 카드의 태그 하나당 1행, 카드의 지역/정렬 컬럼 복사 (카드 갱신 시 함께 교체)
+ * - 복합키 사용 (tag + restaurantId) → 여러 태그 조건의 추가 태그 확인은 기본키 조회
+ * - 인덱스: 태그 + 지역 + 정렬 컬럼 → 태그 필터 + 지역 필터 + 정렬 + LIMIT이 인덱스 범위 스캔 한 번
+ */
+@Entity
+@Table(name = "p_restaurant_card_tags", indexes = {
+        @Index(name = "idx_restaurant_card_tag_region_created",
+                columnList = "tag, province, city, district, restaurant_created_at"),
+        @Index(name = "idx_restaurant_card_tag_region_rating",
+                columnList = "tag, province, city, district, review_rating"),
+        @Index(name = "idx_restaurant_card_tag_region_ranking",
+                columnList = "tag, province, city, district, ranking_score"),
+        @Index(name = "idx_restaurant_card_tag_region_review_count",
+                columnList = "tag, province, city, district, review_count"),
+        @Index(name = "idx_restaurant_card_tag_region_purchase_count",
+                columnList = "tag, province, city, district, purchase_count"),
+        @Index(name = "idx_restaurant_card_tag_region_name",
+                columnList = "tag, province, city, district, restaurant_name")
+})
+@IdClass(RestaurantCardTagEntity.RestaurantCardTagId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class RestaurantCardTagEntity {
+
+    @Id
+    @Column(name = "tag", length = 100, nullable = false)
+    private String tag;
+
+    @Id
+    @Column(name = "restaurant_id", length = 36, nullable = false)
+    private String restaurantId;
+
+    @Embedded
+    private RestaurantCardListingVO listing;
+
+    // ==================== 복합키 클래스 ====================
+
+    /**
+     * 복합키 클래스
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class RestaurantCardTagId implements Serializable {
+        private String tag;
+        private String restaurantId;
+    }
+}
@@ -240,6 +240,22 @@ public class RestaurantCategoryEntity extends BaseEntity {
      * 엔티티를 도메인 모델로 변환
      */
     public RestaurantCategory toDomain() {
+        return toDomainBuilder()
+                .restaurantRelations(this.restaurantRelations.stream()
+                        .map(RestaurantCategoryRelationEntity::toDomain)
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+
+    /**
+     * 엔티티를 도메인 모델로 변환 (레스토랑 연결 제외)
+     * - 연결 컬렉션을 초기화하지 않으므로 전체 카테고리 일괄 변환에 사용
+     */
+    public RestaurantCategory toDomainWithoutRelations() {
+        return toDomainBuilder().build();
+    }
+
+    private RestaurantCategory.RestaurantCategoryBuilder toDomainBuilder() {
         return RestaurantCategory.builder()
                 .id(this.getId())
                 .createdAt(this.getCreatedAt())
@@ -264,11 +280,7 @@ public class RestaurantCategoryEntity extends BaseEntity {
                 .updatedBy(this.updatedBy)
                 .isDeleted(this.isDeleted)
                 .deletedAt(this.deletedAt)
-                .deletedBy(this.deletedBy)
-                .restaurantRelations(this.restaurantRelations.stream()
-                        .map(RestaurantCategoryRelationEntity::toDomain)
-                        .collect(Collectors.toSet()))
-                .build();
+                .deletedBy(this.deletedBy);
     }
 
     // ==================== Helper Methods ====================
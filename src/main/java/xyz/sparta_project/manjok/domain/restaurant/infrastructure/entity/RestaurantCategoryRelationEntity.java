@@ -22,7 +22,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "p_restaurant_category_relations", indexes = {
         @Index(name = "idx_restaurant_category_rel_restaurant", columnList = "restaurant_id"),
-        @Index(name = "idx_restaurant_category_rel_category", columnList = "category_id")
+        @Index(name = "idx_restaurant_category_rel_category", columnList = "category_id, restaurant_id, is_deleted")
 })
 @IdClass(RestaurantCategoryRelationEntity.RelationId.class)
 @Getter
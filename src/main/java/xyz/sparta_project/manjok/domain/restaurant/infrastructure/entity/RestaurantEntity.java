@@ -6,17 +6,24 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import xyz.sparta_project.manjok.global.common.dto.BaseEntity;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.Restaurant;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantPart;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantStatus;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.WeeklyOperatingBitmap;
 import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.vo.AddressVO;
 import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.vo.CoordinateVO;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,9 +35,13 @@ import java.util.stream.Collectors;
  */
 @Entity
 @Table(name = "p_restaurants", indexes = {
-        @Index(name = "idx_restaurant_owner_id", columnList = "owner_id"),
-        @Index(name = "idx_restaurant_is_active", columnList = "is_active"),
-        @Index(name = "idx_restaurant_status", columnList = "status")
+        // 사장님 식당 목록 (삭제/비활성 제외, 최신순)
+        @Index(name = "idx_restaurant_owner_deleted_active", columnList = "owner_id, is_deleted, is_active, created_at"),
+        // 지역 검색/지역 패싯 (시/도 › 시/군/구 › 동 접두 일치, 최신순)
+        @Index(name = "idx_restaurant_deleted_active_region",
+                columnList = "is_deleted, is_active, province, city, district, created_at"),
+        @Index(name = "idx_restaurant_status", columnList = "status"),
+        @Index(name = "idx_restaurant_ranking_score", columnList = "is_deleted, is_active, ranking_score")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -65,10 +76,33 @@ public class RestaurantEntity extends BaseEntity {
     @Column(name = "contact_number", length = 20)
     private String contactNumber;
 
-    // 태그 (JSON)
+    // 태그 (JSON) - 표시 순서 보존용
     @Column(name = "tags", columnDefinition = "TEXT")
     private String tagsJson;
 
+    /**
+     * 태그 (정규화 테이블)
+     * - 태그 정확 일치 필터 및 태그별 패싯 집계 전용
+     * - (tag, restaurant_id) 인덱스로 태그 값 기준 조회
+     */
+    @ElementCollection
+    @CollectionTable(
+            name = "p_restaurant_tags",
+            joinColumns = @JoinColumn(name = "restaurant_id"),
+            indexes = @Index(name = "idx_restaurant_tag_tag", columnList = "tag, restaurant_id")
+    )
+    @Column(name = "tag", length = 100, nullable = false)
+    @Builder.Default
+    private Set<String> tags = new HashSet<>();
+
+    /**
+     * 주간 영업 비트맵 (5분 슬롯 2016비트, 252바이트)
+     * - 운영 시간 저장 시마다 다시 계산
+     * - 영업 중 필터/다음 영업 시각 조회에 사용
+     */
+    @Column(name = "weekly_open_bitmap", length = WeeklyOperatingBitmap.BYTE_LENGTH)
+    private byte[] weeklyOpenBitmap;
+
     // 상태
     @Column(name = "is_active", nullable = false)
     @Builder.Default
@@ -79,22 +113,45 @@ public class RestaurantEntity extends BaseEntity {
     @Builder.Default
     private Integer viewCount = 0;
 
-    @Column(name = "wishlist_count")
+    // 이벤트 통계/랭킹 컬럼은 원자적 UPDATE(RestaurantRepository.add*)로만 변경
+    // → 엔티티 저장(사장님 편집)이 오래된 값으로 덮어쓰지 않도록 updatable = false
+    @Column(name = "wishlist_count", updatable = false)
     @Builder.Default
     private Integer wishlistCount = 0;
 
-    @Column(name = "review_count")
+    @Column(name = "review_count", updatable = false)
     @Builder.Default
     private Integer reviewCount = 0;
 
-    @Column(name = "review_rating", precision = 3, scale = 2)
+    @Column(name = "review_rating", precision = 3, scale = 2, updatable = false)
     @Builder.Default
     private BigDecimal reviewRating = BigDecimal.ZERO;
 
-    @Column(name = "purchase_count")
+    @Column(name = "purchase_count", updatable = false)
     @Builder.Default
     private Integer purchaseCount = 0;
 
+    /**
+     * 추천 랭킹 점수 (recommended 정렬 전용 인덱스 컬럼)
+     * - 통계 이벤트 처리 시 증분 갱신, 매일 새벽 일괄 재계산
+     */
+    @Column(name = "ranking_score", nullable = false, updatable = false)
+    @Builder.Default
+    private Double rankingScore = 0.0;
+
+    @Column(name = "recent_purchase_score", nullable = false, updatable = false)
+    @Builder.Default
+    private Double recentPurchaseScore = 0.0;
+
+    @Column(name = "recent_purchase_updated_at", updatable = false)
+    private LocalDateTime recentPurchaseUpdatedAt;
+
+    // 낙관적 락 버전 (저장 전 null → 첫 INSERT 시 0)
+    @Version
+    @Setter
+    @Column(name = "version")
+    private Long version;
+
     // 감사 필드
     @Column(name = "created_by", length = 100)
     private String createdBy;
@@ -232,12 +289,18 @@ public class RestaurantEntity extends BaseEntity {
                 .coordinate(CoordinateVO.fromDomain(domain.getCoordinate()))
                 .contactNumber(domain.getContactNumber())
                 .tagsJson(convertTagsToJson(domain.getTags()))
+                .tags(normalizeTags(domain.getTags()))
+                .weeklyOpenBitmap(domain.getWeeklyOperatingBitmap().toBytes())
                 .isActive(domain.getIsActive())
                 .viewCount(domain.getViewCount())
                 .wishlistCount(domain.getWishlistCount())
                 .reviewCount(domain.getReviewCount())
                 .reviewRating(domain.getReviewRating())
                 .purchaseCount(domain.getPurchaseCount())
+                .rankingScore(domain.getRankingScore() != null ? domain.getRankingScore() : 0.0)
+                .recentPurchaseScore(domain.getRecentPurchaseScore() != null ? domain.getRecentPurchaseScore() : 0.0)
+                .recentPurchaseUpdatedAt(domain.getRecentPurchaseUpdatedAt())
+                .version(domain.getVersion())
                 .createdBy(domain.getCreatedBy())
                 .updatedAt(domain.getUpdatedAt())
                 .updatedBy(domain.getUpdatedBy())
@@ -278,6 +341,14 @@ public class RestaurantEntity extends BaseEntity {
      * 엔티티를 도메인 모델로 변환
      */
     public Restaurant toDomain() {
+        return toDomain(RestaurantPart.all());
+    }
+
+    /**
+     * 엔티티를 도메인 모델로 변환 (지정한 하위 컬렉션만)
+     * - 지정하지 않은 컬렉션은 건드리지 않음 (지연 로딩 쿼리/도메인 객체 생성 없음)
+     */
+    public Restaurant toDomain(Set<RestaurantPart> parts) {
         return Restaurant.builder()
                 .id(this.getId())
                 .createdAt(this.getCreatedAt())
@@ -289,33 +360,83 @@ public class RestaurantEntity extends BaseEntity {
                 .coordinate(this.coordinate != null ? this.coordinate.toDomain() : null)
                 .contactNumber(this.contactNumber)
                 .tags(convertJsonToTags(this.tagsJson))
+                .weeklyOperatingBitmap(this.weeklyOpenBitmap != null
+                        ? WeeklyOperatingBitmap.fromBytes(this.weeklyOpenBitmap)
+                        : null)
                 .isActive(this.isActive)
                 .viewCount(this.viewCount)
                 .wishlistCount(this.wishlistCount)
                 .reviewCount(this.reviewCount)
                 .reviewRating(this.reviewRating)
                 .purchaseCount(this.purchaseCount)
+                .rankingScore(this.rankingScore)
+                .recentPurchaseScore(this.recentPurchaseScore)
+                .recentPurchaseUpdatedAt(this.recentPurchaseUpdatedAt)
+                .version(this.version)
                 .createdBy(this.createdBy)
                 .updatedAt(this.updatedAt)
                 .updatedBy(this.updatedBy)
                 .isDeleted(this.isDeleted)
                 .deletedAt(this.deletedAt)
                 .deletedBy(this.deletedBy)
-                .menus(this.menus.stream()
-                        .map(MenuEntity::toDomain)
-                        .collect(Collectors.toList()))
-                .menuCategories(this.menuCategories.stream()
-                        .map(MenuCategoryEntity::toDomain)
-                        .collect(Collectors.toList()))
-                .operatingDays(this.operatingDays.stream()
-                        .map(OperatingDayEntity::toDomain)
-                        .collect(Collectors.toSet()))
-                .categoryRelations(this.categoryRelations.stream()
-                        .map(RestaurantCategoryRelationEntity::toDomain)
-                        .collect(Collectors.toSet()))
+                .menus(parts.contains(RestaurantPart.MENUS)
+                        ? this.menus.stream()
+                                .map(MenuEntity::toDomain)
+                                .collect(Collectors.toList())
+                        : new ArrayList<>())
+                .menuCategories(parts.contains(RestaurantPart.MENU_CATEGORIES)
+                        ? this.menuCategories.stream()
+                                .map(MenuCategoryEntity::toDomain)
+                                .collect(Collectors.toList())
+                        : new ArrayList<>())
+                .operatingDays(parts.contains(RestaurantPart.OPERATING_DAYS)
+                        ? this.operatingDays.stream()
+                                .map(OperatingDayEntity::toDomain)
+                                .collect(Collectors.toSet())
+                        : new HashSet<>())
+                .categoryRelations(parts.contains(RestaurantPart.CATEGORY_RELATIONS)
+                        ? this.categoryRelations.stream()
+                                .map(RestaurantCategoryRelationEntity::toDomain)
+                                .collect(Collectors.toSet())
+                        : new HashSet<>())
+                .loadedParts(parts.isEmpty() ? RestaurantPart.none() : EnumSet.copyOf(parts))
                 .build();
     }
 
+    /**
+     * 부분 조회한 도메인의 헤더(식당 컬럼)만 반영
+     * - 하위 컬렉션은 건드리지 않음 (orphanRemoval로 조회하지 않은 하위 행이 지워지지 않도록)
+     * - 태그 테이블은 태그가 바뀐 경우에만 다시 씀
+     */
+    public void updateHeaderFrom(Restaurant domain) {
+        this.ownerName = domain.getOwnerName();
+        this.restaurantName = domain.getRestaurantName();
+        this.status = domain.getStatus();
+        this.address = AddressVO.fromDomain(domain.getAddress());
+        this.coordinate = CoordinateVO.fromDomain(domain.getCoordinate());
+        this.contactNumber = domain.getContactNumber();
+        String newTagsJson = convertTagsToJson(domain.getTags());
+        if (!Objects.equals(this.tagsJson, newTagsJson)) {
+            this.tagsJson = newTagsJson;
+            this.tags.clear();
+            this.tags.addAll(normalizeTags(domain.getTags()));
+        }
+        this.isActive = domain.getIsActive();
+        this.viewCount = domain.getViewCount();
+        this.wishlistCount = domain.getWishlistCount();
+        this.reviewCount = domain.getReviewCount();
+        this.reviewRating = domain.getReviewRating();
+        this.purchaseCount = domain.getPurchaseCount();
+        this.rankingScore = domain.getRankingScore() != null ? domain.getRankingScore() : 0.0;
+        this.recentPurchaseScore = domain.getRecentPurchaseScore() != null ? domain.getRecentPurchaseScore() : 0.0;
+        this.recentPurchaseUpdatedAt = domain.getRecentPurchaseUpdatedAt();
+        this.updatedAt = domain.getUpdatedAt();
+        this.updatedBy = domain.getUpdatedBy();
+        this.isDeleted = domain.isDeleted();
+        this.deletedAt = domain.getDeletedAt();
+        this.deletedBy = domain.getDeletedBy();
+    }
+
     /**
      * 논리적 삭제 처리 (연관관계 유지)
      */
@@ -355,11 +476,29 @@ public class RestaurantEntity extends BaseEntity {
         return "[\"" + String.join("\",\"", tags) + "\"]";
     }
 
-    private static List<String> convertJsonToTags(String json) {
+    /**
+     * 태그 정규화 (공백 제거, 빈 값 제외)
+     */
+    public static Set<String> normalizeTags(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return new HashSet<>();
+        }
+        return tags.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * 태그 JSON 문자열 -> 목록 (목록 프로젝션 조회에서도 사용)
+     */
+    public static List<String> convertJsonToTags(String json) {
         if (json == null || json.isEmpty() || json.equals("[]")) {
             return new ArrayList<>();
         }
         json = json.replaceAll("[\\[\\]\"]", "");
-        return List.of(json.split(","));
+        // 도메인에서 태그를 추가/제거하므로 수정 가능한 목록
+        return new ArrayList<>(Arrays.asList(json.split(",")));
     }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.TrendingSnapshot;
+
+import java.io.Serializable;
+
+/**
+ * 트렌딩 윈도우 스냅샷 JPA Entity (노드 간 교환 테이블)
+ * - 복합키 사용 (nodeId + windowKey) → 노드가 다시 발행하면 같은 행을 덮어씀
+ * - 인덱스: 발행 시각 → 다른 노드의 새 스냅샷 폴링, 오래된 스냅샷 삭제가 범위 스캔
+ */
+@Entity
+@Table(name = "p_trending_snapshots", indexes = {
+        @Index(name = "idx_trending_snapshot_updated_at", columnList = "updated_at")
+})
+@IdClass(TrendingSnapshotEntity.TrendingSnapshotId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class TrendingSnapshotEntity {
+
+    @Id
+    @Column(name = "node_id", length = 64, nullable = false)
+    private String nodeId;
+
+    @Id
+    @Column(name = "window_key", length = 200, nullable = false)
+    private String windowKey;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "updated_at", nullable = false)
+    private Long updatedAt;
+
+    /**
+     * 같은 노드의 새 스냅샷으로 교체
+     */
+    public void replace(byte[] payload, long updatedAt) {
+        this.payload = payload;
+        this.updatedAt = updatedAt;
+    }
+
+    public TrendingSnapshot toDomain() {
+        return new TrendingSnapshot(nodeId, windowKey, payload, updatedAt);
+    }
+
+    // ==================== 복합키 클래스 ====================
+
+    /**
+     * 복합키 클래스
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class TrendingSnapshotId implements Serializable {
+        private String nodeId;
+        private String windowKey;
+    }
+}
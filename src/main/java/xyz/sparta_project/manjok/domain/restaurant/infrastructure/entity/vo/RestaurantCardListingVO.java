@@ -0,0 +1,54 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.vo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 카드 목록 키 Value Object (Embeddable)
+ * - 카드 태그/카테고리 연결 행에 복사하는 지역 + 정렬 컬럼
+ * - 연결 테이블만으로 (태그|카테고리, 지역, 정렬 컬럼) 인덱스 범위 스캔이 가능하도록 카드와 같은 값을 보관
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class RestaurantCardListingVO {
+
+    @Column(name = "province", length = 50)
+    private String province;
+
+    @Column(name = "city", length = 50)
+    private String city;
+
+    @Column(name = "district", length = 50)
+    private String district;
+
+    @Column(name = "restaurant_name", nullable = false, length = 200)
+    private String restaurantName;
+
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+
+    @Column(name = "review_rating", precision = 3, scale = 2, nullable = false)
+    private BigDecimal reviewRating;
+
+    @Column(name = "purchase_count", nullable = false)
+    private Integer purchaseCount;
+
+    @Column(name = "ranking_score", nullable = false)
+    private Double rankingScore;
+
+    @Column(name = "restaurant_created_at", nullable = false)
+    private LocalDateTime restaurantCreatedAt;
+}
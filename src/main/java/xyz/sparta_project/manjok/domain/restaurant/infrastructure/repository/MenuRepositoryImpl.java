@@ -0,0 +1,395 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Address;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Coordinate;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuCategory;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuCategoryRelation;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantMenuHeader;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.MenuCategoryEntity;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.MenuCategoryRelationEntity;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.MenuEntity;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.MenuOptionGroupEntity;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.RestaurantEntity;
+import xyz.sparta_project.manjok.global.infrastructure.persistence.OptimisticLockSupport;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QMenuCategoryEntity.menuCategoryEntity;
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QMenuCategoryRelationEntity.menuCategoryRelationEntity;
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QMenuEntity.menuEntity;
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QMenuOptionEntity.menuOptionEntity;
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QMenuOptionGroupEntity.menuOptionGroupEntity;
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantEntity.restaurantEntity;
+
+/**
+ * Menu Repository 구현체
+ * - 헤더: 식당 컬럼 4개만 조회 (하위 컬렉션 로딩 없음)
+ * - 메뉴: 메뉴 1건(또는 내보내기 페이지) + 하위 컬렉션 단계별 조회 (곱집합 없음)
+ * - 저장: 메뉴 엔티티만 merge, Restaurant/MenuCategory는 getReference로 참조만 연결
+ * - 일괄 저장: persist + JDBC 배치 INSERT, 청크마다 flush/clear
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MenuRepositoryImpl implements MenuRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    // ==================== READ ====================
+
+    @Override
+    public Optional<RestaurantMenuHeader> findRestaurantHeader(String restaurantId) {
+        return findRestaurantHeaderInternal(restaurantId, false);
+    }
+
+    @Override
+    public Optional<RestaurantMenuHeader> findRestaurantHeaderIncludingDeleted(String restaurantId) {
+        return findRestaurantHeaderInternal(restaurantId, true);
+    }
+
+    private Optional<RestaurantMenuHeader> findRestaurantHeaderInternal(String restaurantId, boolean includeDeleted) {
+        try {
+            Tuple row = queryFactory
+                    .select(restaurantEntity.id, restaurantEntity.restaurantName,
+                            restaurantEntity.status, restaurantEntity.isDeleted,
+                            restaurantEntity.contactNumber,
+                            restaurantEntity.address.province, restaurantEntity.address.city,
+                            restaurantEntity.address.district, restaurantEntity.address.detailAddress,
+                            restaurantEntity.coordinate.latitude, restaurantEntity.coordinate.longitude)
+                    .from(restaurantEntity)
+                    .where(
+                            restaurantEntity.id.eq(restaurantId),
+                            includeDeleted ? null : restaurantEntity.isDeleted.eq(false)
+                    )
+                    .fetchOne();
+
+            return Optional.ofNullable(row).map(r -> RestaurantMenuHeader.builder()
+                    .id(r.get(restaurantEntity.id))
+                    .restaurantName(r.get(restaurantEntity.restaurantName))
+                    .status(r.get(restaurantEntity.status))
+                    .isDeleted(r.get(restaurantEntity.isDeleted))
+                    .contactNumber(r.get(restaurantEntity.contactNumber))
+                    .address(Address.builder()
+                            .province(r.get(restaurantEntity.address.province))
+                            .city(r.get(restaurantEntity.address.city))
+                            .district(r.get(restaurantEntity.address.district))
+                            .detailAddress(r.get(restaurantEntity.address.detailAddress))
+                            .build())
+                    .coordinate(toCoordinate(r.get(restaurantEntity.coordinate.latitude),
+                            r.get(restaurantEntity.coordinate.longitude)))
+                    .build());
+
+        } catch (Exception e) {
+            log.error("Failed to find restaurant header: restaurantId={}", restaurantId, e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "레스토랑 조회 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    /**
+     * 좌표 컬럼이 둘 다 있을 때만 좌표 생성 (좌표 미등록 식당은 null)
+     */
+    private static Coordinate toCoordinate(BigDecimal latitude, BigDecimal longitude) {
+        return latitude != null && longitude != null ? Coordinate.of(latitude, longitude) : null;
+    }
+
+    /**
+     * Menu 단건 조회
+     * - 메뉴 조회 후 하위 컬렉션 단계별 로딩
+     */
+    @Override
+    public Optional<Menu> findById(String restaurantId, String menuId) {
+        try {
+            MenuEntity entity = queryFactory
+                    .selectFrom(menuEntity)
+                    .where(
+                            menuEntity.restaurant.id.eq(restaurantId),
+                            menuEntity.id.eq(menuId)
+                    )
+                    .fetchOne();
+
+            if (entity == null) {
+                return Optional.empty();
+            }
+
+            loadMenuAssociations(List.of(entity));
+
+            return Optional.of(entity.toDomain());
+
+        } catch (Exception e) {
+            log.error("Failed to find menu: restaurantId={}, menuId={}", restaurantId, menuId, e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "메뉴 조회 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public List<MenuCategory> findMenuCategoriesByIds(String restaurantId, Collection<String> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return queryFactory
+                    .selectFrom(menuCategoryEntity)
+                    .where(
+                            menuCategoryEntity.restaurant.id.eq(restaurantId),
+                            menuCategoryEntity.id.in(categoryIds)
+                    )
+                    .orderBy(menuCategoryEntity.displayOrder.asc())
+                    .fetch()
+                    .stream()
+                    .map(MenuCategoryEntity::toDomain)
+                    .collect(Collectors.toList());
+
+        } catch (Exception e) {
+            log.error("Failed to find menu categories: restaurantId={}, categoryIds={}", restaurantId, categoryIds, e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "메뉴 카테고리 조회 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public List<Menu> findMenusForExport(String restaurantId, String afterMenuId, int limit) {
+        try {
+            List<MenuEntity> entities = queryFactory
+                    .selectFrom(menuEntity)
+                    .where(
+                            menuEntity.restaurant.id.eq(restaurantId),
+                            menuEntity.isDeleted.eq(false),
+                            afterMenuId != null ? menuEntity.id.gt(afterMenuId) : null
+                    )
+                    .orderBy(menuEntity.id.asc())
+                    .limit(limit)
+                    .fetch();
+
+            loadMenuAssociations(entities);
+
+            return entities.stream()
+                    .map(MenuEntity::toDomain)
+                    .collect(Collectors.toList());
+
+        } catch (Exception e) {
+            log.error("Failed to find menus for export: restaurantId={}, afterMenuId={}", restaurantId, afterMenuId, e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "메뉴 목록 조회 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public List<Menu> findMenusForCatalog(String restaurantId) {
+        try {
+            List<MenuEntity> entities = queryFactory
+                    .selectFrom(menuEntity)
+                    .where(
+                            menuEntity.restaurant.id.eq(restaurantId),
+                            menuEntity.isDeleted.eq(false),
+                            menuEntity.isAvailable.eq(true)
+                    )
+                    .orderBy(menuEntity.createdAt.asc(), menuEntity.id.asc())
+                    .fetch();
+
+            loadMenuAssociations(entities);
+
+            return entities.stream()
+                    .map(MenuEntity::toDomain)
+                    .collect(Collectors.toList());
+
+        } catch (Exception e) {
+            log.error("Failed to find menus for catalog: restaurantId={}", restaurantId, e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "메뉴판 조회 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    /**
+     * 메뉴 하위 컬렉션 단계별 일괄 로딩
+     * - 1) 메뉴 ID IN → optionGroups 2) 옵션 그룹 ID IN → options 3) 메뉴 ID IN → categoryRelations
+     * - 각 쿼리 결과는 영속성 컨텍스트에서 같은 메뉴 인스턴스로 연결됨 (곱집합 없음, 쿼리 최대 3회)
+     */
+    private void loadMenuAssociations(Collection<MenuEntity> menus) {
+        if (menus.isEmpty()) {
+            return;
+        }
+
+        List<String> menuIds = menus.stream()
+                .map(MenuEntity::getId)
+                .collect(Collectors.toList());
+
+        List<String> optionGroupIds = queryFactory
+                .selectFrom(menuEntity)
+                .leftJoin(menuEntity.optionGroups, menuOptionGroupEntity).fetchJoin()
+                .where(menuEntity.id.in(menuIds))
+                .distinct()
+                .fetch()
+                .stream()
+                .flatMap(menu -> menu.getOptionGroups().stream())
+                .map(MenuOptionGroupEntity::getId)
+                .collect(Collectors.toList());
+
+        if (!optionGroupIds.isEmpty()) {
+            queryFactory
+                    .selectFrom(menuOptionGroupEntity)
+                    .leftJoin(menuOptionGroupEntity.options, menuOptionEntity).fetchJoin()
+                    .where(menuOptionGroupEntity.id.in(optionGroupIds))
+                    .distinct()
+                    .fetch();
+        }
+
+        queryFactory
+                .selectFrom(menuEntity)
+                .leftJoin(menuEntity.categoryRelations, menuCategoryRelationEntity).fetchJoin()
+                .where(menuEntity.id.in(menuIds))
+                .distinct()
+                .fetch();
+    }
+
+    // ==================== CREATE & UPDATE ====================
+
+    @Override
+    @Transactional
+    public Menu save(Menu menu) {
+        try {
+            // Menu 도메인 → 엔티티 변환 (옵션 그룹/옵션 포함, 카테고리 관계는 아래에서 연결)
+            MenuEntity entity = MenuEntity.fromDomain(menu);
+            entity.getCategoryRelations().clear();
+            // 같은 트랜잭션에서 이미 관리 중이면 그 버전 기준 (RestaurantRepositoryImpl.save와 동일)
+            OptimisticLockSupport.findManaged(entityManager, MenuEntity.class, entity.getId())
+                    .ifPresent(managed -> entity.setVersion(managed.getVersion()));
+
+            RestaurantEntity restaurant = entityManager.getReference(RestaurantEntity.class, menu.getRestaurantId());
+            entity.setRestaurant(restaurant);
+            resolveCategoryRelations(entity, menu);
+
+            // 메뉴 행만 merge (Cascade로 옵션 그룹/옵션/카테고리 관계 저장, orphanRemoval로 빠진 행 삭제)
+            MenuEntity savedEntity = entityManager.merge(entity);
+
+            syncLoadedCollections(restaurant, savedEntity);
+
+            log.info("Menu saved successfully. ID: {}, RestaurantId: {}",
+                    savedEntity.getId(), menu.getRestaurantId());
+
+            return savedEntity.toDomain();
+
+        } catch (Exception e) {
+            if (OptimisticLockSupport.isOptimisticLockFailure(e)) {
+                log.warn("Menu version conflict. ID: {}", menu.getId());
+                throw new RestaurantException(RestaurantErrorCode.CONCURRENT_MODIFICATION, e);
+            }
+            log.error("Failed to save menu: {}", menu.getMenuName(), e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "메뉴 저장 중 오류가 발생했습니다: " + e.getMessage(),
+                    e
+            );
+        }
+    }
+
+    @Override
+    @Transactional
+    public int insertAll(List<Menu> menus) {
+        if (menus.isEmpty()) {
+            return 0;
+        }
+        try {
+            for (Menu menu : menus) {
+                MenuEntity entity = MenuEntity.fromDomain(menu);
+                entity.getCategoryRelations().clear();
+                entity.setRestaurant(entityManager.getReference(RestaurantEntity.class, menu.getRestaurantId()));
+                resolveCategoryRelations(entity, menu);
+
+                // 신규 행이므로 merge(선조회) 대신 persist
+                entityManager.persist(entity);
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+
+            log.info("Menus inserted in batch. count: {}, restaurantId: {}",
+                    menus.size(), menus.get(0).getRestaurantId());
+
+            return menus.size();
+
+        } catch (Exception e) {
+            log.error("Failed to insert menus: count={}", menus.size(), e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "메뉴 일괄 저장 중 오류가 발생했습니다: " + e.getMessage(),
+                    e
+            );
+        }
+    }
+
+    /**
+     * MenuCategoryRelation 연결
+     * - 같은 카테고리에 삭제된 관계와 활성 관계가 함께 있으면 활성 관계 사용 (복합키 menuId + categoryId 중복 방지)
+     * - MenuCategory는 참조만 연결 (로딩하지 않음)
+     */
+    private void resolveCategoryRelations(MenuEntity entity, Menu menu) {
+        Map<String, MenuCategoryRelation> relationsByCategory = new LinkedHashMap<>();
+        for (MenuCategoryRelation relation : menu.getCategoryRelations()) {
+            relationsByCategory.merge(relation.getCategoryId(), relation,
+                    (existing, candidate) -> candidate.isActive() ? candidate : existing);
+        }
+
+        relationsByCategory.forEach((categoryId, relation) -> {
+            MenuCategoryRelationEntity relationEntity = MenuCategoryRelationEntity.fromDomain(relation);
+            relationEntity.setCategory(entityManager.getReference(MenuCategoryEntity.class, categoryId));
+            entity.addCategoryRelation(relationEntity);
+        });
+    }
+
+    /**
+     * 이미 로딩된 역방향 컬렉션 동기화
+     * - 같은 트랜잭션에서 Restaurant/MenuCategory를 다시 조회해도 새 메뉴/관계가 보이도록 함
+     * - 로딩되지 않은 컬렉션은 건드리지 않음 (추가 조회 없음)
+     */
+    private void syncLoadedCollections(RestaurantEntity restaurant, MenuEntity savedEntity) {
+        if (Hibernate.isInitialized(restaurant) && Hibernate.isInitialized(restaurant.getMenus())
+                && !restaurant.getMenus().contains(savedEntity)) {
+            restaurant.getMenus().add(savedEntity);
+        }
+
+        for (MenuCategoryRelationEntity relation : savedEntity.getCategoryRelations()) {
+            MenuCategoryEntity category = relation.getCategory();
+            if (Hibernate.isInitialized(category) && Hibernate.isInitialized(category.getMenuRelations())
+                    && !category.getMenuRelations().contains(relation)) {
+                category.getMenuRelations().add(relation);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.MenuErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuStock;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuStockRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.MenuStockEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QMenuStockEntity.menuStockEntity;
+
+/**
+ * 메뉴 일일 재고 Repository 구현체
+ * - 예약: 조건부 UPDATE 1회 (remaining >= 수량일 때만 차감) → 영향 행 수로 성공 판단, 선조회 잠금 없음
+ * - 조회: 컬럼 프로젝션 (벌크 UPDATE로 바뀐 값을 영속성 컨텍스트의 오래된 엔티티로 읽지 않도록)
+ * - MySQL은 SET 절을 왼쪽부터 적용 → 이전 daily_stock을 참조하는 remaining을 먼저 지정
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MenuStockRepositoryImpl implements MenuStockRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    // ==================== READ ====================
+
+    @Override
+    public Optional<MenuStock> findByMenuId(String menuId) {
+        Tuple row = queryFactory
+                .select(menuStockEntity.menuId, menuStockEntity.restaurantId, menuStockEntity.dailyStock,
+                        menuStockEntity.stockDate, menuStockEntity.remaining)
+                .from(menuStockEntity)
+                .where(menuStockEntity.menuId.eq(menuId))
+                .fetchOne();
+        return Optional.ofNullable(row).map(this::toDomain);
+    }
+
+    @Override
+    public List<MenuStock> findByRestaurantId(String restaurantId) {
+        return queryFactory
+                .select(menuStockEntity.menuId, menuStockEntity.restaurantId, menuStockEntity.dailyStock,
+                        menuStockEntity.stockDate, menuStockEntity.remaining)
+                .from(menuStockEntity)
+                .where(menuStockEntity.restaurantId.eq(restaurantId))
+                .orderBy(menuStockEntity.menuId.asc())
+                .fetch()
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    // ==================== WRITE ====================
+
+    @Override
+    @Transactional
+    public MenuStock saveDailyStock(String restaurantId, String menuId, int dailyStock, LocalDate today) {
+        try {
+            long updated = queryFactory.update(menuStockEntity)
+                    .set(menuStockEntity.remaining, new CaseBuilder()
+                            .when(menuStockEntity.stockDate.eq(today))
+                            .then(Expressions.numberTemplate(Integer.class, "greatest({0}, 0)",
+                                    menuStockEntity.remaining.add(dailyStock).subtract(menuStockEntity.dailyStock)))
+                            .otherwise(dailyStock))
+                    .set(menuStockEntity.dailyStock, dailyStock)
+                    .set(menuStockEntity.stockDate, today)
+                    .set(menuStockEntity.updatedAt, LocalDateTime.now())
+                    .where(menuStockEntity.menuId.eq(menuId))
+                    .execute();
+
+            if (updated == 0) {
+                entityManager.persist(MenuStockEntity.builder()
+                        .menuId(menuId)
+                        .restaurantId(restaurantId)
+                        .dailyStock(dailyStock)
+                        .stockDate(today)
+                        .remaining(dailyStock)
+                        .updatedAt(LocalDateTime.now())
+                        .build());
+                entityManager.flush();
+            }
+
+            return findByMenuId(menuId).orElseThrow();
+
+        } catch (Exception e) {
+            log.error("Failed to save menu daily stock. menuId: {}", menuId, e);
+            throw new RestaurantException(
+                    MenuErrorCode.STOCK_SAVE_FAILED,
+                    "메뉴 재고 저장 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteByMenuId(String menuId) {
+        queryFactory.delete(menuStockEntity)
+                .where(menuStockEntity.menuId.eq(menuId))
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public boolean reserve(String menuId, int quantity, LocalDate stockDate) {
+        LocalDate storedDate = queryFactory
+                .select(menuStockEntity.stockDate)
+                .from(menuStockEntity)
+                .where(menuStockEntity.menuId.eq(menuId))
+                .fetchOne();
+        if (storedDate == null) {
+            return true;
+        }
+
+        // 그날 첫 주문: 일일 재고로 다시 시작하면서 차감 (동시에 넘긴 요청은 아래 차감으로 이어짐)
+        if (storedDate.isBefore(stockDate)) {
+            long rolledOver = queryFactory.update(menuStockEntity)
+                    .set(menuStockEntity.remaining, menuStockEntity.dailyStock.subtract(quantity))
+                    .set(menuStockEntity.stockDate, stockDate)
+                    .where(
+                            menuStockEntity.menuId.eq(menuId),
+                            menuStockEntity.stockDate.lt(stockDate),
+                            menuStockEntity.dailyStock.goe(quantity)
+                    )
+                    .execute();
+            if (rolledOver > 0) {
+                return true;
+            }
+        }
+
+        return queryFactory.update(menuStockEntity)
+                .set(menuStockEntity.remaining, menuStockEntity.remaining.subtract(quantity))
+                .where(
+                        menuStockEntity.menuId.eq(menuId),
+                        menuStockEntity.stockDate.eq(stockDate),
+                        menuStockEntity.remaining.goe(quantity)
+                )
+                .execute() > 0;
+    }
+
+    @Override
+    @Transactional
+    public void release(String menuId, int quantity, LocalDate stockDate) {
+        queryFactory.update(menuStockEntity)
+                .set(menuStockEntity.remaining, Expressions.numberTemplate(Integer.class, "least({0}, {1})",
+                        menuStockEntity.remaining.add(quantity), menuStockEntity.dailyStock))
+                .where(
+                        menuStockEntity.menuId.eq(menuId),
+                        menuStockEntity.stockDate.eq(stockDate)
+                )
+                .execute();
+    }
+
+    private MenuStock toDomain(Tuple row) {
+        return MenuStock.builder()
+                .menuId(row.get(menuStockEntity.menuId))
+                .restaurantId(row.get(menuStockEntity.restaurantId))
+                .dailyStock(row.get(menuStockEntity.dailyStock))
+                .stockDate(row.get(menuStockEntity.stockDate))
+                .remaining(row.get(menuStockEntity.remaining))
+                .build();
+    }
+}
@@ -0,0 +1,722 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantStatus;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantSummary;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCardRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantOpenHoursIndex;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantCardCategoryEntity;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantCardEntity;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantCardTagEntity;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.RestaurantCardEntity;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.RestaurantEntity;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.vo.QRestaurantCardListingVO;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
+import xyz.sparta_project.manjok.global.common.exception.CursorException;
+import xyz.sparta_project.manjok.global.infrastructure.persistence.CursorQuerySupport;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantCardCategoryEntity.restaurantCardCategoryEntity;
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantCardEntity.restaurantCardEntity;
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantCardTagEntity.restaurantCardTagEntity;
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantCategoryRelationEntity.restaurantCategoryRelationEntity;
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantEntity.restaurantEntity;
+
+/**
+ * 식당 검색 카드 Repository 구현체
+ * - 갱신: 식당 행 프로젝션 1회 + 카테고리 연결 1회 + 기존 카드 1회 조회 후 더티체킹/persist (JDBC 배치)
+ *   바뀐 카드는 카드 태그/카테고리 연결 행도 교체
+ * - 검색: 카드 쪽 테이블만 조회 (Aggregate/연관 컬렉션 로딩 없음, 카테고리 이름 조인 없음)
+ *   오프셋/슬라이스/커서 검색 모두 같은 검색 계획과 카드 행 사용
+ * - 태그/카테고리 필터는 카드 연결 테이블의 (태그|카테고리, 지역, 정렬) 인덱스 범위 스캔 + 카드 기본키 조인
+ * - 영업 중 필터는 카드의 open_now 컬럼 (영업 상태 전환 스케줄러가 경계 시각에 갱신)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RestaurantCardRepositoryImpl implements RestaurantCardRepository {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final JPAQueryFactory queryFactory;
+    private final RestaurantOpenHoursIndex openHoursIndex;
+    private final EntityManager entityManager;
+
+    // ==================== 갱신 ====================
+
+    @Override
+    @Transactional
+    public int refresh(Collection<String> restaurantIds) {
+        if (restaurantIds == null || restaurantIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            return refreshBatch(new ArrayList<>(new LinkedHashSet<>(restaurantIds)));
+        } catch (Exception e) {
+            log.error("Failed to refresh restaurant cards. count: {}", restaurantIds.size(), e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "식당 검색 카드 갱신 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    @Override
+    @Transactional
+    public int rebuildAll() {
+        try {
+            int refreshed = 0;
+            String lastId = null;
+
+            while (true) {
+                List<String> ids = queryFactory
+                        .select(restaurantEntity.id)
+                        .from(restaurantEntity)
+                        .where(
+                                visibleRestaurant(),
+                                lastId != null ? restaurantEntity.id.gt(lastId) : null
+                        )
+                        .orderBy(restaurantEntity.id.asc())
+                        .limit(REBUILD_BATCH_SIZE)
+                        .fetch();
+
+                if (ids.isEmpty()) {
+                    break;
+                }
+                refreshBatch(ids);
+                refreshed += ids.size();
+                lastId = ids.get(ids.size() - 1);
+                if (ids.size() < REBUILD_BATCH_SIZE) {
+                    break;
+                }
+            }
+
+            // 검색 대상이 아니게 된 식당의 카드 제거
+            long removed = queryFactory
+                    .delete(restaurantCardEntity)
+                    .where(restaurantCardEntity.restaurantId.notIn(
+                            JPAExpressions
+                                    .select(restaurantEntity.id)
+                                    .from(restaurantEntity)
+                                    .where(visibleRestaurant())
+                    ))
+                    .execute();
+
+            // 카드가 없는 연결 행 제거
+            queryFactory.delete(restaurantCardTagEntity)
+                    .where(restaurantCardTagEntity.restaurantId.notIn(
+                            JPAExpressions.select(restaurantCardEntity.restaurantId).from(restaurantCardEntity)))
+                    .execute();
+            queryFactory.delete(restaurantCardCategoryEntity)
+                    .where(restaurantCardCategoryEntity.restaurantId.notIn(
+                            JPAExpressions.select(restaurantCardEntity.restaurantId).from(restaurantCardEntity)))
+                    .execute();
+
+            log.info("Restaurant cards rebuilt. refreshed: {}, removed: {}", refreshed, removed);
+            return refreshed;
+
+        } catch (Exception e) {
+            log.error("Failed to rebuild restaurant cards", e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "식당 검색 카드 전체 재생성 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    @Override
+    @Transactional
+    public int updateOpenState(Collection<String> restaurantIds, boolean open) {
+        if (restaurantIds == null || restaurantIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            // 영업 시작은 OPEN 상태 카드만, 영업 종료는 상태와 무관하게 반영
+            long updated = queryFactory
+                    .update(restaurantCardEntity)
+                    .set(restaurantCardEntity.openNow, open)
+                    .where(
+                            restaurantCardEntity.restaurantId.in(restaurantIds),
+                            restaurantCardEntity.openNow.ne(open),
+                            open ? restaurantCardEntity.status.eq(RestaurantStatus.OPEN) : null
+                    )
+                    .execute();
+            return (int) updated;
+        } catch (Exception e) {
+            log.error("Failed to update restaurant card open state. count: {}", restaurantIds.size(), e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "식당 검색 카드 영업 상태 갱신 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public long countCards() {
+        Long count = queryFactory
+                .select(restaurantCardEntity.count())
+                .from(restaurantCardEntity)
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 식당 ID 묶음의 카드 갱신
+     * - 처리한 카드는 flush 후 영속성 컨텍스트에서 분리 (전체 재생성 시 메모리 누적 방지)
+     */
+    private int refreshBatch(List<String> ids) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Tuple> rows = queryFactory
+                .select(
+                        restaurantEntity.id,
+                        restaurantEntity.restaurantName,
+                        restaurantEntity.status,
+                        restaurantEntity.address,
+                        restaurantEntity.tagsJson,
+                        restaurantEntity.weeklyOpenBitmap,
+                        restaurantEntity.viewCount,
+                        restaurantEntity.wishlistCount,
+                        restaurantEntity.reviewCount,
+                        restaurantEntity.reviewRating,
+                        restaurantEntity.purchaseCount,
+                        restaurantEntity.rankingScore,
+                        restaurantEntity.createdAt
+                )
+                .from(restaurantEntity)
+                .where(restaurantEntity.id.in(ids), visibleRestaurant())
+                .fetch();
+
+        Map<String, CategoryLinks> categoryLinks = findCategoryLinks(
+                rows.stream().map(row -> row.get(restaurantEntity.id)).collect(Collectors.toList()));
+
+        Map<String, RestaurantCardEntity> existing = queryFactory
+                .selectFrom(restaurantCardEntity)
+                .where(restaurantCardEntity.restaurantId.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(RestaurantCardEntity::getRestaurantId, Function.identity()));
+
+        int changed = 0;
+        List<RestaurantCardEntity> touched = new ArrayList<>();
+        List<RestaurantCardEntity> relinked = new ArrayList<>();
+        Set<String> unlinkedIds = new HashSet<>();
+        for (Tuple row : rows) {
+            String restaurantId = row.get(restaurantEntity.id);
+            RestaurantCardEntity latest = toCard(row, categoryLinks.getOrDefault(restaurantId, new CategoryLinks()), now);
+
+            RestaurantCardEntity card = existing.remove(restaurantId);
+            if (card == null) {
+                entityManager.persist(latest);
+                touched.add(latest);
+                relinked.add(latest);
+                changed++;
+            } else {
+                boolean linksChanged = !card.hasSameLinkValues(latest);
+                if (card.updateFrom(latest)) {
+                    changed++;
+                }
+                if (linksChanged) {
+                    relinked.add(card);
+                }
+                touched.add(card);
+            }
+        }
+
+        // 남은 기존 카드 = 삭제/비활성화된 식당
+        for (RestaurantCardEntity stale : existing.values()) {
+            entityManager.remove(stale);
+            unlinkedIds.add(stale.getRestaurantId());
+            changed++;
+        }
+
+        entityManager.flush();
+        replaceLinks(relinked, unlinkedIds);
+        touched.forEach(entityManager::detach);
+        return changed;
+    }
+
+    /**
+     * 카드 태그/카테고리 연결 행 교체
+     * - 연결 값(태그, 카테고리, 지역, 정렬 컬럼)이 바뀐 카드는 기존 행을 지우고 현재 카드 값으로 다시 생성
+     * - 제거된 카드는 지우기만
+     */
+    private void replaceLinks(List<RestaurantCardEntity> cards, Set<String> removedIds) {
+        Set<String> ids = new HashSet<>(removedIds);
+        cards.forEach(card -> ids.add(card.getRestaurantId()));
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        queryFactory.delete(restaurantCardTagEntity)
+                .where(restaurantCardTagEntity.restaurantId.in(ids))
+                .execute();
+        queryFactory.delete(restaurantCardCategoryEntity)
+                .where(restaurantCardCategoryEntity.restaurantId.in(ids))
+                .execute();
+
+        List<Object> links = new ArrayList<>();
+        for (RestaurantCardEntity card : cards) {
+            links.addAll(card.toTagLinks());
+            links.addAll(card.toCategoryLinks());
+        }
+        links.forEach(entityManager::persist);
+        entityManager.flush();
+        links.forEach(entityManager::detach);
+    }
+
+    /**
+     * 식당별 연결 카테고리 (삭제된 연결 제외, 주 카테고리 먼저)
+     */
+    private Map<String, CategoryLinks> findCategoryLinks(List<String> restaurantIds) {
+        if (restaurantIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Tuple> relations = queryFactory
+                .select(
+                        restaurantCategoryRelationEntity.restaurant.id,
+                        restaurantCategoryRelationEntity.category.id,
+                        restaurantCategoryRelationEntity.isPrimary
+                )
+                .from(restaurantCategoryRelationEntity)
+                .where(
+                        restaurantCategoryRelationEntity.restaurant.id.in(restaurantIds),
+                        restaurantCategoryRelationEntity.isDeleted.eq(false)
+                )
+                .orderBy(
+                        restaurantCategoryRelationEntity.isPrimary.desc(),
+                        restaurantCategoryRelationEntity.category.id.asc()
+                )
+                .fetch();
+
+        Map<String, CategoryLinks> links = new HashMap<>();
+        for (Tuple relation : relations) {
+            CategoryLinks link = links.computeIfAbsent(
+                    relation.get(restaurantCategoryRelationEntity.restaurant.id),
+                    id -> new CategoryLinks());
+            String categoryId = relation.get(restaurantCategoryRelationEntity.category.id);
+            link.categoryIds.add(categoryId);
+            if (Boolean.TRUE.equals(relation.get(restaurantCategoryRelationEntity.isPrimary))
+                    && link.primaryCategoryId == null) {
+                link.primaryCategoryId = categoryId;
+            }
+        }
+        return links;
+    }
+
+    /**
+     * 식당 행 프로젝션 → 카드
+     */
+    private RestaurantCardEntity toCard(Tuple row, CategoryLinks categoryLinks, LocalDateTime now) {
+        String restaurantId = row.get(restaurantEntity.id);
+        RestaurantStatus status = row.get(restaurantEntity.status);
+        return RestaurantCardEntity.builder()
+                .restaurantId(restaurantId)
+                .restaurantName(row.get(restaurantEntity.restaurantName))
+                .status(status)
+                .address(row.get(restaurantEntity.address))
+                .primaryCategoryId(categoryLinks.primaryCategoryId)
+                .categoryIds(RestaurantCardEntity.joinCategoryIds(categoryLinks.categoryIds))
+                .tagsJson(row.get(restaurantEntity.tagsJson))
+                .weeklyOpenBitmap(row.get(restaurantEntity.weeklyOpenBitmap))
+                .openNow(status == RestaurantStatus.OPEN && openHoursIndex.isOpenNow(restaurantId))
+                .viewCount(orZero(row.get(restaurantEntity.viewCount)))
+                .wishlistCount(orZero(row.get(restaurantEntity.wishlistCount)))
+                .reviewCount(orZero(row.get(restaurantEntity.reviewCount)))
+                .reviewRating(row.get(restaurantEntity.reviewRating) != null
+                        ? row.get(restaurantEntity.reviewRating)
+                        : BigDecimal.ZERO)
+                .purchaseCount(orZero(row.get(restaurantEntity.purchaseCount)))
+                .rankingScore(row.get(restaurantEntity.rankingScore) != null
+                        ? row.get(restaurantEntity.rankingScore)
+                        : 0.0)
+                .restaurantCreatedAt(row.get(restaurantEntity.createdAt))
+                .refreshedAt(now)
+                .build();
+    }
+
+    // ==================== 검색 ====================
+
+    @Override
+    public Page<RestaurantSummary> search(String province, String city, String district,
+                                          Set<String> categoryIds, Set<String> tags, String keyword,
+                                          boolean openNow, Pageable pageable) {
+        try {
+            CardSearch search = buildSearch(province, city, district, categoryIds, tags, keyword, openNow);
+
+            long total = countBySearch(search);
+            if (total == 0) {
+                return new PageImpl<>(Collections.emptyList(), pageable, 0);
+            }
+
+            List<RestaurantCardEntity> cards = fetchCards(search, pageable, pageable.getPageSize());
+            return new PageImpl<>(toSummaries(cards), pageable, total);
+
+        } catch (Exception e) {
+            log.error("Failed to search restaurant cards", e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "레스토랑 검색 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public Slice<RestaurantSummary> searchSlice(String province, String city, String district,
+                                                Set<String> categoryIds, Set<String> tags, String keyword,
+                                                boolean openNow, Pageable pageable) {
+        try {
+            CardSearch search = buildSearch(province, city, district, categoryIds, tags, keyword, openNow);
+
+            // size+1 건 조회로 다음 페이지 여부 판단 (count 쿼리 없음)
+            List<RestaurantCardEntity> cards = fetchCards(search, pageable, pageable.getPageSize() + 1L);
+
+            boolean hasNext = cards.size() > pageable.getPageSize();
+            List<RestaurantCardEntity> pageCards = hasNext ? cards.subList(0, pageable.getPageSize()) : cards;
+
+            return new SliceImpl<>(toSummaries(pageCards), pageable, hasNext);
+
+        } catch (Exception e) {
+            log.error("Failed to search restaurant cards slice", e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "레스토랑 검색 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public CursorSlice<RestaurantSummary> searchWithCursor(String province, String city, String district,
+                                                           Set<String> categoryIds, Set<String> tags, String keyword,
+                                                           CursorRequest cursorRequest) {
+        try {
+            CardSearch search = buildSearch(province, city, district, categoryIds, tags, keyword, false);
+            SearchColumns columns = search.columns();
+            ComparableExpressionBase<?> sortPath = getCursorSortPath(cursorRequest.getSortProperty(), columns);
+
+            // 마지막 행 이후 + size+1 (count/offset 없음)
+            JPAQuery<Tuple> query = queryFactory.select(restaurantCardEntity, sortPath, columns.restaurantId());
+            List<Tuple> rows = from(query, search, true)
+                    .where(CursorQuerySupport.after(sortPath, columns.restaurantId(), cursorRequest))
+                    .orderBy(CursorQuerySupport.orders(sortPath, columns.restaurantId(), cursorRequest))
+                    .limit(cursorRequest.getSize() + 1L)
+                    .fetch();
+            rows.forEach(row -> entityManager.detach(row.get(restaurantCardEntity)));
+
+            return CursorQuerySupport
+                    .toSlice(rows, restaurantCardEntity, sortPath, columns.restaurantId(), cursorRequest)
+                    .map(RestaurantCardEntity::toSummary);
+
+        } catch (CursorException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to search restaurant cards with cursor", e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "레스토랑 검색 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public long count(String province, String city, String district,
+                      Set<String> categoryIds, Set<String> tags, String keyword, boolean openNow) {
+        try {
+            return countBySearch(buildSearch(province, city, district, categoryIds, tags, keyword, openNow));
+        } catch (Exception e) {
+            log.error("Failed to count restaurant cards", e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "레스토랑 개수 조회 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    /**
+     * 카드 조회 (읽기 전용, 영속성 컨텍스트에 남기지 않음)
+     */
+    private List<RestaurantCardEntity> fetchCards(CardSearch search, Pageable pageable, long limit) {
+        List<RestaurantCardEntity> cards = from(queryFactory.select(restaurantCardEntity), search, true)
+                .offset(pageable.getOffset())
+                .limit(limit)
+                .orderBy(getOrderSpecifiers(pageable, search.columns()))
+                .fetch();
+        cards.forEach(entityManager::detach);
+        return cards;
+    }
+
+    private long countBySearch(CardSearch search) {
+        Long total = from(queryFactory.select(search.columns().restaurantId().count()), search, search.needsCard())
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    /**
+     * 범위 스캔 시작 테이블 + (연결 테이블이면) 카드 기본키 조인 + 검색 조건
+     */
+    private <T> JPAQuery<T> from(JPAQuery<T> query, CardSearch search, boolean joinCard) {
+        query.from(search.driver());
+        if (joinCard && search.driver() != restaurantCardEntity) {
+            query.join(restaurantCardEntity)
+                    .on(restaurantCardEntity.restaurantId.eq(search.columns().restaurantId()));
+        }
+        return query.where(search.predicate());
+    }
+
+    private List<RestaurantSummary> toSummaries(List<RestaurantCardEntity> cards) {
+        return cards.stream()
+                .map(RestaurantCardEntity::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 검색 계획
+     * - 카드는 검색 대상 식당만 있으므로 삭제/활성 조건 없음 → 지역 조건이 인덱스 선두 컬럼
+     * - 태그 조건이 있으면 첫 태그의 카드 태그 연결 행에서 (태그, 지역, 정렬) 범위 스캔, 나머지 태그는 기본키 조회
+     * - 태그 없이 카테고리가 하나면 카드 카테고리 연결 행에서 (카테고리, 지역, 정렬) 범위 스캔
+     * - 그 외는 카드에서 (지역, 정렬) 범위 스캔, 카테고리 여러 개(하위 카테고리 확장)는 카드 카테고리 기본키 조회
+     * - 모든 조건이 카드 쪽 데이터 (식당 원본 테이블/연결 테이블 조회 없음)
+     */
+    private CardSearch buildSearch(String province, String city, String district,
+                                   Set<String> categoryIds, Set<String> tags,
+                                   String keyword, boolean openNow) {
+        List<String> searchTags = new ArrayList<>(new TreeSet<>(RestaurantEntity.normalizeTags(tags)));
+        List<String> searchCategoryIds = categoryIds != null
+                ? new ArrayList<>(new TreeSet<>(categoryIds))
+                : Collections.emptyList();
+        List<BooleanExpression> conditions = new ArrayList<>();
+
+        EntityPathBase<?> driver;
+        SearchColumns columns;
+        if (!searchTags.isEmpty()) {
+            driver = restaurantCardTagEntity;
+            columns = SearchColumns.of(restaurantCardTagEntity.restaurantId, restaurantCardTagEntity.listing);
+            conditions.add(restaurantCardTagEntity.tag.eq(searchTags.get(0)));
+        } else if (searchCategoryIds.size() == 1) {
+            driver = restaurantCardCategoryEntity;
+            columns = SearchColumns.of(restaurantCardCategoryEntity.restaurantId, restaurantCardCategoryEntity.listing);
+            conditions.add(restaurantCardCategoryEntity.categoryId.eq(searchCategoryIds.get(0)));
+        } else {
+            driver = restaurantCardEntity;
+            columns = SearchColumns.of(restaurantCardEntity);
+        }
+
+        // 지역 필터
+        if (province != null && !province.isBlank()) {
+            conditions.add(columns.province().eq(province));
+        }
+        if (city != null && !city.isBlank()) {
+            conditions.add(columns.city().eq(city));
+        }
+        if (district != null && !district.isBlank()) {
+            conditions.add(columns.district().eq(district));
+        }
+
+        // 태그 필터 (정확 일치, 모든 태그 포함) - 첫 태그 외 나머지
+        for (int i = 1; i < searchTags.size(); i++) {
+            QRestaurantCardTagEntity tagged = new QRestaurantCardTagEntity("tagged" + i);
+            conditions.add(JPAExpressions
+                    .selectOne()
+                    .from(tagged)
+                    .where(
+                            tagged.tag.eq(searchTags.get(i)),
+                            tagged.restaurantId.eq(columns.restaurantId())
+                    )
+                    .exists());
+        }
+
+        // 카테고리 필터 (하위 카테고리까지 확장된 집합, 하나라도 연결)
+        if (!searchCategoryIds.isEmpty() && driver != restaurantCardCategoryEntity) {
+            QRestaurantCardCategoryEntity linked = new QRestaurantCardCategoryEntity("linked");
+            conditions.add(JPAExpressions
+                    .selectOne()
+                    .from(linked)
+                    .where(
+                            linked.categoryId.in(searchCategoryIds),
+                            linked.restaurantId.eq(columns.restaurantId())
+                    )
+                    .exists());
+        }
+
+        // 키워드 검색 (레스토랑명, 태그), 영업 중 필터는 카드 컬럼
+        boolean needsCard = false;
+        if (keyword != null && !keyword.isBlank()) {
+            conditions.add(restaurantCardEntity.restaurantName.containsIgnoreCase(keyword)
+                    .or(restaurantCardEntity.tagsJson.containsIgnoreCase(keyword)));
+            needsCard = true;
+        }
+        if (openNow) {
+            conditions.add(isOpenNow());
+            needsCard = true;
+        }
+
+        BooleanExpression predicate = conditions.stream()
+                .reduce(BooleanExpression::and)
+                .orElse(null);
+        return new CardSearch(driver, columns, predicate, needsCard);
+    }
+
+    /**
+     * 현재 영업 중 조건
+     * - 카드에 저장된 영업 여부 컬럼 (영업 상태 전환 이벤트로 갱신, 식당 ID 목록 조건 없음)
+     */
+    private BooleanExpression isOpenNow() {
+        return restaurantCardEntity.openNow.isTrue();
+    }
+
+    private BooleanExpression visibleRestaurant() {
+        return restaurantEntity.isDeleted.eq(false)
+                .and(restaurantEntity.isActive.eq(true));
+    }
+
+    private static Integer orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    // ==================== 정렬 Helper 메서드 ====================
+
+    /**
+     * 카드 정렬 조건 (식당 검색과 같은 정렬 키)
+     * - 범위 스캔 시작 테이블의 정렬 컬럼 사용 (연결 테이블이면 복사된 값)
+     * - 마지막에 식당 ID 타이브레이커 (같은 정렬값 사이 순서 고정 → 페이지 간 누락/중복 없음)
+     */
+    private OrderSpecifier<?>[] getOrderSpecifiers(Pageable pageable, SearchColumns columns) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+
+        pageable.getSort().forEach(order -> {
+            boolean isAsc = order.isAscending();
+
+            switch (order.getProperty()) {
+                case "createdAt":
+                    orders.add(isAsc ? columns.restaurantCreatedAt().asc() : columns.restaurantCreatedAt().desc());
+                    break;
+                case "restaurantName":
+                    orders.add(isAsc ? columns.restaurantName().asc() : columns.restaurantName().desc());
+                    break;
+                case "reviewRating":
+                    orders.add(isAsc ? columns.reviewRating().asc() : columns.reviewRating().desc());
+                    break;
+                case "reviewCount":
+                    orders.add(isAsc ? columns.reviewCount().asc() : columns.reviewCount().desc());
+                    break;
+                case "purchaseCount":
+                    orders.add(isAsc ? columns.purchaseCount().asc() : columns.purchaseCount().desc());
+                    break;
+                case "recommended":
+                    // 추천순: 랭킹 점수 (방향 무관, 높은 점수 우선)
+                    orders.add(columns.rankingScore().desc());
+                    break;
+                default:
+                    orders.add(columns.restaurantCreatedAt().desc());
+            }
+        });
+
+        // 기본 정렬이 없으면 최신순
+        if (orders.isEmpty()) {
+            orders.add(columns.restaurantCreatedAt().desc());
+        }
+
+        // 타이브레이커는 마지막 정렬과 같은 방향 (인덱스 역방향 스캔과 맞춤)
+        Order direction = orders.get(orders.size() - 1).getOrder();
+        orders.add(new OrderSpecifier<>(direction, columns.restaurantId()));
+
+        return orders.toArray(new OrderSpecifier[0]);
+    }
+
+    /**
+     * 카드 커서 정렬 컬럼
+     * - NOT NULL 컬럼만 허용, 그 외는 최신순(restaurantCreatedAt)
+     */
+    private ComparableExpressionBase<?> getCursorSortPath(String property, SearchColumns columns) {
+        return switch (property) {
+            case "restaurantName" -> columns.restaurantName();
+            case "reviewRating" -> columns.reviewRating();
+            case "reviewCount" -> columns.reviewCount();
+            case "purchaseCount" -> columns.purchaseCount();
+            case "recommended" -> columns.rankingScore();
+            default -> columns.restaurantCreatedAt();
+        };
+    }
+
+    /**
+     * 검색 계획
+     * @param driver 범위 스캔을 시작하는 테이블 (카드 / 카드 태그 연결 / 카드 카테고리 연결)
+     * @param columns driver의 식당 ID, 지역, 정렬 컬럼
+     * @param needsCard 개수 조회에도 카드 컬럼 조건(키워드/영업 중)이 있는지
+     */
+    private record CardSearch(EntityPathBase<?> driver, SearchColumns columns,
+                              BooleanExpression predicate, boolean needsCard) {
+    }
+
+    /**
+     * 범위 스캔 시작 테이블의 식당 ID, 지역, 정렬 컬럼
+     */
+    private record SearchColumns(StringPath restaurantId,
+                                 StringPath province, StringPath city, StringPath district,
+                                 StringPath restaurantName,
+                                 NumberPath<Integer> reviewCount,
+                                 NumberPath<BigDecimal> reviewRating,
+                                 NumberPath<Integer> purchaseCount,
+                                 NumberPath<Double> rankingScore,
+                                 DateTimePath<LocalDateTime> restaurantCreatedAt) {
+
+        static SearchColumns of(QRestaurantCardEntity card) {
+            return new SearchColumns(card.restaurantId,
+                    card.address.province, card.address.city, card.address.district,
+                    card.restaurantName, card.reviewCount, card.reviewRating, card.purchaseCount,
+                    card.rankingScore, card.restaurantCreatedAt);
+        }
+
+        static SearchColumns of(StringPath restaurantId, QRestaurantCardListingVO listing) {
+            return new SearchColumns(restaurantId,
+                    listing.province, listing.city, listing.district,
+                    listing.restaurantName, listing.reviewCount, listing.reviewRating, listing.purchaseCount,
+                    listing.rankingScore, listing.restaurantCreatedAt);
+        }
+    }
+
+    /**
+     * 식당 하나의 연결 카테고리 ID 목록 + 주 카테고리 ID (없으면 null)
+     */
+    private static final class CategoryLinks {
+        private final List<String> categoryIds = new ArrayList<>();
+        private String primaryCategoryId;
+    }
+}
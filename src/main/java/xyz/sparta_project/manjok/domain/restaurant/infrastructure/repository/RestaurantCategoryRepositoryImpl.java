@@ -1,26 +1,42 @@
 package xyz.sparta_project.manjok.domain.restaurant.infrastructure.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantCategoryChangedEvent;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCategory;
 import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCategoryRepository;
 import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.RestaurantCategoryEntity;
 import xyz.sparta_project.manjok.domain.restaurant.infrastructure.jpa.RestaurantCategoryJpaRepository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantCategoryEntity.restaurantCategoryEntity;
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantCategoryRelationEntity.restaurantCategoryRelationEntity;
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QRestaurantEntity.restaurantEntity;
 
 /**
  * RestaurantCategory Repository 구현체
  * - QueryDSL을 사용한 복잡한 조회
  * - Entity ↔ Domain 변환
  * - 트랜잭션 관리
+ * - 저장/삭제 시 카테고리 변경 이벤트 발행 (트리 스냅샷 무효화)
  */
 @Repository
 @RequiredArgsConstructor
@@ -29,6 +45,7 @@ public class RestaurantCategoryRepositoryImpl implements RestaurantCategoryRepos
 
     private final RestaurantCategoryJpaRepository jpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 카테고리 저장
@@ -58,6 +75,7 @@ public class RestaurantCategoryRepositoryImpl implements RestaurantCategoryRepos
         }
 
         RestaurantCategoryEntity saved = jpaRepository.save(entityToSave);
+        eventPublisher.publishEvent(new RestaurantCategoryChangedEvent(saved.getId()));
         return saved.toDomain();
     }
 
@@ -174,10 +192,189 @@ public class RestaurantCategoryRepositoryImpl implements RestaurantCategoryRepos
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<RestaurantCategory> findAllForTree() {
+        return queryFactory
+                .selectFrom(restaurantCategoryEntity)
+                .where(restaurantCategoryEntity.isDeleted.isFalse())
+                .orderBy(restaurantCategoryEntity.displayOrder.asc())
+                .fetch()
+                .stream()
+                .map(RestaurantCategoryEntity::toDomainWithoutRelations)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 변경 스탬프 조회
+     * - 집계 한 번으로 끝나는 가벼운 쿼리 (노드별 주기 폴링용)
+     * - 삭제 행도 포함해야 Soft Delete/복구가 감지됨
+     */
+    @Override
+    public String findChangeStamp() {
+        Tuple stamp = queryFactory
+                .select(
+                        restaurantCategoryEntity.count(),
+                        restaurantCategoryEntity.createdAt.max(),
+                        restaurantCategoryEntity.updatedAt.max(),
+                        restaurantCategoryEntity.deletedAt.max(),
+                        restaurantCategoryEntity.totalOrderCount.sum(),
+                        restaurantCategoryEntity.activeRestaurantCount.sum()
+                )
+                .from(restaurantCategoryEntity)
+                .fetchOne();
+
+        if (stamp == null) {
+            return "";
+        }
+        return Arrays.stream(stamp.toArray())
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+    }
+
+    /**
+     * 통계 증감 일괄 반영
+     * - (활성 식당 수 증감, 주문 수 증감) 쌍이 같은 카테고리끼리 묶어 UPDATE 한 번
+     * - 대부분의 증감은 +1/-1이므로 카테고리 수와 무관하게 UPDATE 몇 번으로 끝남
+     */
+    @Override
+    @Transactional
+    public int applyStatisticsDeltas(Map<String, Integer> restaurantCountDeltas, Map<String, Integer> orderCountDeltas) {
+        Set<String> categoryIds = new HashSet<>(restaurantCountDeltas.keySet());
+        categoryIds.addAll(orderCountDeltas.keySet());
+
+        Map<StatisticsDelta, List<String>> idsByDelta = new HashMap<>();
+        for (String categoryId : categoryIds) {
+            StatisticsDelta delta = new StatisticsDelta(
+                    restaurantCountDeltas.getOrDefault(categoryId, 0),
+                    orderCountDeltas.getOrDefault(categoryId, 0));
+            if (!delta.isZero()) {
+                idsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(categoryId);
+            }
+        }
+
+        long updated = 0;
+        for (Map.Entry<StatisticsDelta, List<String>> entry : idsByDelta.entrySet()) {
+            StatisticsDelta delta = entry.getKey();
+            JPAUpdateClause update = queryFactory.update(restaurantCategoryEntity)
+                    .where(restaurantCategoryEntity.id.in(entry.getValue()));
+            if (delta.restaurantCount() != 0) {
+                update.set(restaurantCategoryEntity.activeRestaurantCount,
+                        restaurantCategoryEntity.activeRestaurantCount.add(delta.restaurantCount()));
+            }
+            if (delta.orderCount() != 0) {
+                update.set(restaurantCategoryEntity.totalOrderCount,
+                        restaurantCategoryEntity.totalOrderCount.add(delta.orderCount()));
+            }
+            updated += update.execute();
+        }
+
+        if (updated > 0) {
+            eventPublisher.publishEvent(new RestaurantCategoryChangedEvent(null));
+        }
+        return (int) updated;
+    }
+
+    /**
+     * 인기 카테고리 자동 갱신
+     * - 상위 ID 조회 1번 + 인기 지정/해제 UPDATE 각 1번
+     * - 인기 여부가 실제로 바뀌는 행만 갱신
+     */
+    @Override
+    @Transactional
+    public int refreshPopularCategories(int topN, int minOrderCount) {
+        List<String> popularIds = queryFactory
+                .select(restaurantCategoryEntity.id)
+                .from(restaurantCategoryEntity)
+                .where(
+                        restaurantCategoryEntity.isActive.isTrue(),
+                        restaurantCategoryEntity.isDeleted.isFalse(),
+                        restaurantCategoryEntity.totalOrderCount.goe(minOrderCount)
+                )
+                .orderBy(
+                        restaurantCategoryEntity.totalOrderCount.desc(),
+                        restaurantCategoryEntity.displayOrder.asc()
+                )
+                .limit(topN)
+                .fetch();
+
+        LocalDateTime now = LocalDateTime.now();
+        long changed = 0;
+        if (!popularIds.isEmpty()) {
+            changed += queryFactory.update(restaurantCategoryEntity)
+                    .set(restaurantCategoryEntity.isPopular, true)
+                    .set(restaurantCategoryEntity.updatedAt, now)
+                    .where(
+                            restaurantCategoryEntity.id.in(popularIds),
+                            restaurantCategoryEntity.isPopular.isFalse()
+                    )
+                    .execute();
+        }
+        changed += queryFactory.update(restaurantCategoryEntity)
+                .set(restaurantCategoryEntity.isPopular, false)
+                .set(restaurantCategoryEntity.updatedAt, now)
+                .where(
+                        restaurantCategoryEntity.isPopular.isTrue(),
+                        popularIds.isEmpty() ? null : restaurantCategoryEntity.id.notIn(popularIds)
+                )
+                .execute();
+
+        if (changed > 0) {
+            eventPublisher.publishEvent(new RestaurantCategoryChangedEvent(null));
+        }
+        return (int) changed;
+    }
+
+    /**
+     * 카테고리 통계 재계산
+     * - 활성 식당 수: 삭제되지 않은 연결 중 활성 & 미삭제 식당 수
+     * - 주문 수: 삭제되지 않은 연결의 미삭제 식당 누적 구매 수 합계
+     *   (주문 이벤트가 식당의 활성 카테고리마다 1건씩 더하는 것과 같은 기준)
+     * - 카테고리별 집계 서브쿼리로 값이 달라진 카테고리만 UPDATE 1번
+     */
+    @Override
+    @Transactional
+    public int reconcileStatistics() {
+        JPQLQuery<Integer> activeRestaurantCount = JPAExpressions
+                .select(restaurantCategoryRelationEntity.count().intValue())
+                .from(restaurantCategoryRelationEntity)
+                .join(restaurantCategoryRelationEntity.restaurant, restaurantEntity)
+                .where(
+                        restaurantCategoryRelationEntity.category.id.eq(restaurantCategoryEntity.id),
+                        restaurantCategoryRelationEntity.isDeleted.isFalse(),
+                        restaurantEntity.isActive.isTrue(),
+                        restaurantEntity.isDeleted.isFalse()
+                );
+        JPQLQuery<Integer> totalOrderCount = JPAExpressions
+                .select(restaurantEntity.purchaseCount.sum().coalesce(0))
+                .from(restaurantCategoryRelationEntity)
+                .join(restaurantCategoryRelationEntity.restaurant, restaurantEntity)
+                .where(
+                        restaurantCategoryRelationEntity.category.id.eq(restaurantCategoryEntity.id),
+                        restaurantCategoryRelationEntity.isDeleted.isFalse(),
+                        restaurantEntity.isDeleted.isFalse()
+                );
+
+        long changed = queryFactory.update(restaurantCategoryEntity)
+                .set(restaurantCategoryEntity.activeRestaurantCount, activeRestaurantCount)
+                .set(restaurantCategoryEntity.totalOrderCount, totalOrderCount)
+                .where(
+                        restaurantCategoryEntity.isDeleted.isFalse(),
+                        restaurantCategoryEntity.activeRestaurantCount.coalesce(-1).ne(activeRestaurantCount)
+                                .or(restaurantCategoryEntity.totalOrderCount.coalesce(-1).ne(totalOrderCount))
+                )
+                .execute();
+
+        if (changed > 0) {
+            eventPublisher.publishEvent(new RestaurantCategoryChangedEvent(null));
+        }
+        return (int) changed;
+    }
+
     @Override
     @Transactional
     public void deleteById(String id) {
         jpaRepository.deleteById(id);
+        eventPublisher.publishEvent(new RestaurantCategoryChangedEvent(id));
     }
 
     @Override
@@ -193,4 +390,13 @@ public class RestaurantCategoryRepositoryImpl implements RestaurantCategoryRepos
 
         return count != null;
     }
-}
\ No newline at end of file
+
+    /**
+     * 카테고리 하나의 통계 증감
+     */
+    private record StatisticsDelta(int restaurantCount, int orderCount) {
+        boolean isZero() {
+            return restaurantCount == 0 && orderCount == 0;
+        }
+    }
+}
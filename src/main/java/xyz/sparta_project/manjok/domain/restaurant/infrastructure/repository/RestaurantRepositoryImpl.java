@@ -1,25 +1,47 @@
 package xyz.sparta_project.manjok.domain.restaurant.infrastructure.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantChangedEvent;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.MenuErrorCode;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
 import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.*;
 import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantOpenHoursIndex;
 import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.*;
 import xyz.sparta_project.manjok.domain.restaurant.infrastructure.jpa.RestaurantCategoryJpaRepository;
 import xyz.sparta_project.manjok.domain.restaurant.infrastructure.jpa.RestaurantJpaRepository;
-
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
+import xyz.sparta_project.manjok.global.common.exception.CursorException;
+import xyz.sparta_project.manjok.global.infrastructure.persistence.CursorQuerySupport;
+import xyz.sparta_project.manjok.global.infrastructure.persistence.OptimisticLockSupport;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -48,21 +70,34 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
     private final RestaurantJpaRepository restaurantJpaRepository;
     private final RestaurantCategoryJpaRepository restaurantCategoryJpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final RestaurantOpenHoursIndex openHoursIndex;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
 
     // ==================== CREATE & UPDATE ====================
 
     @Override
     @Transactional
     public Restaurant save(Restaurant restaurant) {
+        if (!restaurant.isFullyLoaded()) {
+            return saveHeader(restaurant);
+        }
         try {
             // Restaurant 도메인 → 엔티티 변환 (하위 엔티티 모두 변환됨)
             RestaurantEntity entity = RestaurantEntity.fromDomain(restaurant);
+            alignManagedVersions(entity);
 
             resolveAllRelations(entity, restaurant);
 
             // 저장 (Cascade.ALL로 하위 엔티티 모두 저장)
             RestaurantEntity savedEntity = restaurantJpaRepository.save(entity);
 
+            // 영업 비트맵 인덱스 갱신
+            openHoursIndex.put(savedEntity.getId(),
+                    WeeklyOperatingBitmap.fromBytes(savedEntity.getWeeklyOpenBitmap()));
+            eventPublisher.publishEvent(new RestaurantChangedEvent(savedEntity.getId()));
+
             log.info("Restaurant saved successfully. ID: {}, Name: {}",
                     savedEntity.getId(), savedEntity.getRestaurantName());
 
@@ -70,6 +105,10 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
             return savedEntity.toDomain();
 
         } catch (Exception e) {
+            if (OptimisticLockSupport.isOptimisticLockFailure(e)) {
+                log.warn("Restaurant version conflict. ID: {}", restaurant.getId());
+                throw new RestaurantException(RestaurantErrorCode.CONCURRENT_MODIFICATION, e);
+            }
             log.error("Failed to save restaurant: {}", restaurant.getRestaurantName(), e);
             throw new RestaurantException(
                     RestaurantErrorCode.EVENT_PROCESSING_FAILED,
@@ -79,6 +118,58 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
         }
     }
 
+    /**
+     * 부분 조회한 식당 저장 (헤더만)
+     * - 관리 중인 식당 행에 식당 컬럼만 반영 (하위 컬렉션은 조회도 변경도 하지 않음)
+     * - 조회 시점 버전과 다르면 충돌 (다른 트랜잭션의 변경은 버전 조건 UPDATE에서 검출)
+     */
+    private Restaurant saveHeader(Restaurant restaurant) {
+        try {
+            RestaurantEntity managed = entityManager.find(RestaurantEntity.class, restaurant.getId());
+            if (managed == null) {
+                throw new RestaurantException(RestaurantErrorCode.RESTAURANT_NOT_FOUND);
+            }
+            if (!Objects.equals(managed.getVersion(), restaurant.getVersion())) {
+                throw new RestaurantException(RestaurantErrorCode.CONCURRENT_MODIFICATION,
+                        new ObjectOptimisticLockingFailureException(RestaurantEntity.class, restaurant.getId()));
+            }
+
+            managed.updateHeaderFrom(restaurant);
+            eventPublisher.publishEvent(new RestaurantChangedEvent(managed.getId()));
+
+            log.debug("Restaurant header saved. ID: {}", managed.getId());
+            return managed.toDomain(restaurant.getLoadedParts());
+
+        } catch (RestaurantException e) {
+            throw e;
+        } catch (Exception e) {
+            if (OptimisticLockSupport.isOptimisticLockFailure(e)) {
+                log.warn("Restaurant version conflict. ID: {}", restaurant.getId());
+                throw new RestaurantException(RestaurantErrorCode.CONCURRENT_MODIFICATION, e);
+            }
+            log.error("Failed to save restaurant header: {}", restaurant.getId(), e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "레스토랑 저장 중 오류가 발생했습니다: " + e.getMessage(),
+                    e
+            );
+        }
+    }
+
+    /**
+     * 같은 트랜잭션에서 이미 관리 중인 Restaurant/Menu 행이 있으면 그 버전으로 맞춤
+     * - 같은 트랜잭션 안에서 저장 → flush → 다시 저장할 때 자기 자신과 충돌하지 않도록
+     * - 다른 트랜잭션의 변경은 관리 엔티티 버전 기준 UPDATE 조건에서 충돌로 검출
+     */
+    private void alignManagedVersions(RestaurantEntity entity) {
+        OptimisticLockSupport.findManaged(entityManager, RestaurantEntity.class, entity.getId())
+                .ifPresent(managed -> entity.setVersion(managed.getVersion()));
+        for (MenuEntity menu : entity.getMenus()) {
+            OptimisticLockSupport.findManaged(entityManager, MenuEntity.class, menu.getId())
+                    .ifPresent(managed -> menu.setVersion(managed.getVersion()));
+        }
+    }
+
     /**
      * 모든 연관관계 처리를 한 곳에서
      */
@@ -326,6 +417,215 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
         }
     }
 
+    /**
+     * 랭킹 점수 재계산 (키셋 한 묶음)
+     * - 집계에 필요한 컬럼만 조회 (Aggregate 로딩 없음), 묶음마다 별도 트랜잭션으로 커밋
+     * - 최근 구매 점수는 now 기준으로 감쇠해 계산, 저장된 원본 값은 유지
+     */
+    @Override
+    @Transactional
+    public List<String> recomputeRankingScores(RankingScorePolicy policy, LocalDateTime now,
+                                               String afterId, int batchSize) {
+        try {
+            List<Tuple> rows = queryFactory
+                    .select(
+                            restaurantEntity.id,
+                            restaurantEntity.reviewRating,
+                            restaurantEntity.reviewCount,
+                            restaurantEntity.wishlistCount,
+                            restaurantEntity.recentPurchaseScore,
+                            restaurantEntity.recentPurchaseUpdatedAt,
+                            restaurantEntity.createdAt
+                    )
+                    .from(restaurantEntity)
+                    .where(
+                            restaurantEntity.isDeleted.eq(false),
+                            afterId != null ? restaurantEntity.id.gt(afterId) : null
+                    )
+                    .orderBy(restaurantEntity.id.asc())
+                    .limit(batchSize)
+                    .fetch();
+
+            List<String> ids = new ArrayList<>(rows.size());
+            for (Tuple row : rows) {
+                Double recentPurchaseScore = row.get(restaurantEntity.recentPurchaseScore);
+                Integer reviewCount = row.get(restaurantEntity.reviewCount);
+                Integer wishlistCount = row.get(restaurantEntity.wishlistCount);
+
+                double score = policy.calculate(
+                        row.get(restaurantEntity.reviewRating),
+                        reviewCount != null ? reviewCount : 0,
+                        policy.decayPurchaseScore(
+                                recentPurchaseScore != null ? recentPurchaseScore : 0.0,
+                                row.get(restaurantEntity.recentPurchaseUpdatedAt),
+                                now),
+                        wishlistCount != null ? wishlistCount : 0,
+                        row.get(restaurantEntity.createdAt),
+                        now
+                );
+
+                String restaurantId = row.get(restaurantEntity.id);
+                queryFactory.update(restaurantEntity)
+                        .set(restaurantEntity.rankingScore, score)
+                        .where(restaurantEntity.id.eq(restaurantId))
+                        .execute();
+                ids.add(restaurantId);
+
+                // 검색 카드는 묶음 단위 갱신으로 반영 (전체 재생성 없음)
+                eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
+            }
+            return ids;
+
+        } catch (Exception e) {
+            log.error("Failed to recompute restaurant ranking scores. afterId: {}", afterId, e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "랭킹 점수 일괄 재계산 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    // ==================== 통계 원자적 반영 ====================
+
+    @Override
+    @Transactional
+    public boolean addPurchase(String restaurantId, Map<String, Integer> menuQuantities,
+                               RankingScorePolicy policy, LocalDateTime now) {
+        long updated = queryFactory.update(restaurantEntity)
+                .set(restaurantEntity.purchaseCount, restaurantEntity.purchaseCount.add(1))
+                .where(restaurantEntity.id.eq(restaurantId), restaurantEntity.isDeleted.eq(false))
+                .execute();
+        if (updated == 0) {
+            return false;
+        }
+
+        int totalQuantity = 0;
+        for (Map.Entry<String, Integer> entry : menuQuantities.entrySet()) {
+            long menuUpdated = queryFactory.update(menuEntity)
+                    .set(menuEntity.purchaseCount, menuEntity.purchaseCount.add(entry.getValue()))
+                    .where(
+                            menuEntity.id.eq(entry.getKey()),
+                            menuEntity.restaurant.id.eq(restaurantId),
+                            menuEntity.isDeleted.eq(false)
+                    )
+                    .execute();
+            if (menuUpdated == 0) {
+                // 이미 삭제된 메뉴 등 - 로그만 남기고 계속 진행
+                log.warn("메뉴 통계 업데이트 건너뜀: restaurantId={}, menuId={}", restaurantId, entry.getKey());
+            }
+            totalQuantity += entry.getValue();
+        }
+
+        refreshRankingScore(restaurantId, policy, now, totalQuantity);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean addWishlist(String restaurantId, int delta, RankingScorePolicy policy, LocalDateTime now) {
+        long updated = queryFactory.update(restaurantEntity)
+                .set(restaurantEntity.wishlistCount, new CaseBuilder()
+                        .when(restaurantEntity.wishlistCount.add(delta).lt(0)).then(0)
+                        .otherwise(restaurantEntity.wishlistCount.add(delta)))
+                .where(restaurantEntity.id.eq(restaurantId), restaurantEntity.isDeleted.eq(false))
+                .execute();
+        if (updated == 0) {
+            return false;
+        }
+
+        refreshRankingScore(restaurantId, policy, now, 0);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean addMenuWishlist(String restaurantId, String menuId, int delta) {
+        return queryFactory.update(menuEntity)
+                .set(menuEntity.wishlistCount, new CaseBuilder()
+                        .when(menuEntity.wishlistCount.add(delta).lt(0)).then(0)
+                        .otherwise(menuEntity.wishlistCount.add(delta)))
+                .where(
+                        menuEntity.id.eq(menuId),
+                        menuEntity.restaurant.id.eq(restaurantId),
+                        menuEntity.isDeleted.eq(false)
+                )
+                .execute() > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean addReview(String restaurantId, BigDecimal rating, RankingScorePolicy policy, LocalDateTime now) {
+        // SET 우변은 모두 갱신 전 값 기준 → 평균은 이전 개수로 계산
+        long updated = queryFactory.update(restaurantEntity)
+                .set(restaurantEntity.reviewRating, restaurantEntity.reviewRating.coalesce(BigDecimal.ZERO)
+                        .multiply(restaurantEntity.reviewCount)
+                        .add(rating)
+                        .divide(restaurantEntity.reviewCount.add(1)))
+                .set(restaurantEntity.reviewCount, restaurantEntity.reviewCount.add(1))
+                .where(restaurantEntity.id.eq(restaurantId), restaurantEntity.isDeleted.eq(false))
+                .execute();
+        if (updated == 0) {
+            return false;
+        }
+
+        refreshRankingScore(restaurantId, policy, now, 0);
+        return true;
+    }
+
+    /**
+     * 단일 식당 랭킹 점수 재계산 (버전 검사 없음)
+     * - 호출 전 같은 트랜잭션에서 식당 행을 UPDATE해 행 잠금을 잡은 상태여야 함
+     * - purchaseQuantity > 0이면 최근 구매 점수를 감쇠 후 누적
+     */
+    private void refreshRankingScore(String restaurantId, RankingScorePolicy policy,
+                                     LocalDateTime now, int purchaseQuantity) {
+        Tuple row = queryFactory
+                .select(
+                        restaurantEntity.reviewRating,
+                        restaurantEntity.reviewCount,
+                        restaurantEntity.wishlistCount,
+                        restaurantEntity.recentPurchaseScore,
+                        restaurantEntity.recentPurchaseUpdatedAt,
+                        restaurantEntity.createdAt
+                )
+                .from(restaurantEntity)
+                .where(restaurantEntity.id.eq(restaurantId))
+                .fetchOne();
+        if (row == null) {
+            return;
+        }
+
+        Double storedScore = row.get(restaurantEntity.recentPurchaseScore);
+        LocalDateTime storedAt = row.get(restaurantEntity.recentPurchaseUpdatedAt);
+        double recentPurchaseScore = storedScore != null ? storedScore : 0.0;
+        if (purchaseQuantity > 0) {
+            recentPurchaseScore = policy.decayPurchaseScore(recentPurchaseScore, storedAt, now) + purchaseQuantity;
+            storedAt = now;
+        }
+
+        Integer reviewCount = row.get(restaurantEntity.reviewCount);
+        Integer wishlistCount = row.get(restaurantEntity.wishlistCount);
+        double score = policy.calculate(
+                row.get(restaurantEntity.reviewRating),
+                reviewCount != null ? reviewCount : 0,
+                policy.decayPurchaseScore(recentPurchaseScore, storedAt, now),
+                wishlistCount != null ? wishlistCount : 0,
+                row.get(restaurantEntity.createdAt),
+                now
+        );
+
+        JPAUpdateClause update = queryFactory.update(restaurantEntity)
+                .set(restaurantEntity.rankingScore, score);
+        if (purchaseQuantity > 0) {
+            update.set(restaurantEntity.recentPurchaseScore, recentPurchaseScore)
+                    .set(restaurantEntity.recentPurchaseUpdatedAt, now);
+        }
+        update.where(restaurantEntity.id.eq(restaurantId)).execute();
+
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
+    }
+
     // ==================== DELETE ====================
 
     @Override
@@ -345,6 +645,8 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
 
             // 저장 (연관관계 그대로 유지)
             restaurantJpaRepository.save(entity);
+            openHoursIndex.remove(restaurantId);
+            eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
 
             log.info("Restaurant deleted successfully. ID: {}, DeletedBy: {}", restaurantId, deletedBy);
 
@@ -362,20 +664,26 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
 
     @Override
     public Optional<Restaurant> findById(String restaurantId) {
-        return findByIdInternal(restaurantId, false);
+        return findByIdInternal(restaurantId, false, RestaurantPart.all());
     }
 
     @Override
     public Optional<Restaurant> findByIdIncludingDeleted(String restaurantId) {
-        return findByIdInternal(restaurantId, true);
+        return findByIdInternal(restaurantId, true, RestaurantPart.all());
+    }
+
+    @Override
+    public Optional<Restaurant> findById(String restaurantId, Set<RestaurantPart> parts) {
+        return findByIdInternal(restaurantId, false, parts);
     }
 
     /**
      * Restaurant 단건 조회 (내부 메서드)
-     * - Fetch Join으로 모든 연관 엔티티 한 번에 로딩
+     * - 지정한 하위 컬렉션만 단계별 일괄 조회로 로딩
      * - N+1 문제 완전 해결
      */
-    private Optional<Restaurant> findByIdInternal(String restaurantId, boolean includeDeleted) {
+    private Optional<Restaurant> findByIdInternal(String restaurantId, boolean includeDeleted,
+                                                  Set<RestaurantPart> parts) {
         try {
             // 1. Restaurant 기본 정보 조회
             BooleanExpression condition = restaurantEntity.id.eq(restaurantId);
@@ -392,10 +700,10 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
                 return Optional.empty();
             }
 
-            // 2. 연관 데이터 Fetch Join으로 한 번에 조회
-            loadRestaurantAssociations(entity);
+            // 2. 필요한 연관 데이터만 Fetch Join으로 조회
+            loadRestaurantAssociations(entity, parts);
 
-            return Optional.of(entity.toDomain());
+            return Optional.of(entity.toDomain(parts));
 
         } catch (Exception e) {
             log.error("Failed to find restaurant by ID: {}", restaurantId, e);
@@ -408,54 +716,112 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
     }
 
     /**
-     * Restaurant의 모든 연관 엔티티를 Fetch Join으로 로딩
-     * - N+1 문제 방지를 위해 한 번에 로딩
+     * Restaurant의 연관 엔티티를 단계별 일괄 조회로 로딩 (지정한 하위 컬렉션만)
+     * - 컬렉션 단계마다 쿼리 1회 (메뉴 → 옵션 그룹 → 옵션 → 메뉴 카테고리 관계 …)
+     * - 여러 컬렉션을 한 쿼리로 Fetch Join할 때의 곱집합(menus × groups × options × relations) 방지
+     * - 각 쿼리가 이미 영속 상태인 restaurant의 컬렉션을 직접 초기화 (추가 지연 로딩 없음)
      */
-    private void loadRestaurantAssociations(RestaurantEntity restaurant) {
+    private void loadRestaurantAssociations(RestaurantEntity restaurant, Set<RestaurantPart> parts) {
         String restaurantId = restaurant.getId();
 
-        // Menu + OptionGroup + Option 조회 (3단계 계층 구조)
-        List<MenuEntity> menus = queryFactory
-                .selectFrom(menuEntity)
-                .leftJoin(menuEntity.optionGroups, menuOptionGroupEntity).fetchJoin()
-                .leftJoin(menuOptionGroupEntity.options, menuOptionEntity).fetchJoin()
-                .leftJoin(menuEntity.categoryRelations, menuCategoryRelationEntity).fetchJoin()
-                .where(menuEntity.restaurant.id.eq(restaurantId))
-                .distinct()
-                .fetch();
+        // Menu 조회 후 하위 컬렉션 단계별 로딩
+        if (parts.contains(RestaurantPart.MENUS)) {
+            queryFactory
+                    .selectFrom(restaurantEntity)
+                    .leftJoin(restaurantEntity.menus, menuEntity).fetchJoin()
+                    .where(restaurantEntity.id.eq(restaurantId))
+                    .fetch();
+            loadMenuAssociations(restaurant.getMenus());
+        }
 
-        // MenuCategory 조회
-        List<MenuCategoryEntity> menuCategories = queryFactory
-                .selectFrom(menuCategoryEntity)
-                .leftJoin(menuCategoryEntity.menuRelations, menuCategoryRelationEntity).fetchJoin()
-                .where(menuCategoryEntity.restaurant.id.eq(restaurantId))
-                .distinct()
-                .fetch();
+        // MenuCategory 조회 후 메뉴 관계 로딩
+        if (parts.contains(RestaurantPart.MENU_CATEGORIES)) {
+            queryFactory
+                    .selectFrom(restaurantEntity)
+                    .leftJoin(restaurantEntity.menuCategories, menuCategoryEntity).fetchJoin()
+                    .where(restaurantEntity.id.eq(restaurantId))
+                    .fetch();
+            if (!restaurant.getMenuCategories().isEmpty()) {
+                queryFactory
+                        .selectFrom(menuCategoryEntity)
+                        .leftJoin(menuCategoryEntity.menuRelations, menuCategoryRelationEntity).fetchJoin()
+                        .where(menuCategoryEntity.id.in(restaurant.getMenuCategories().stream()
+                                .map(MenuCategoryEntity::getId)
+                                .collect(Collectors.toList())))
+                        .distinct()
+                        .fetch();
+            }
+        }
 
         // OperatingDay 조회
-        Set<OperatingDayEntity> operatingDays = new HashSet<>(queryFactory
-                .selectFrom(operatingDayEntity)
-                .where(operatingDayEntity.restaurant.id.eq(restaurantId))
-                .fetch());
+        if (parts.contains(RestaurantPart.OPERATING_DAYS)) {
+            queryFactory
+                    .selectFrom(restaurantEntity)
+                    .leftJoin(restaurantEntity.operatingDays, operatingDayEntity).fetchJoin()
+                    .where(restaurantEntity.id.eq(restaurantId))
+                    .fetch();
+        }
 
         // RestaurantCategoryRelation 조회
-        Set<RestaurantCategoryRelationEntity> categoryRelations = new HashSet<>(queryFactory
-                .selectFrom(restaurantCategoryRelationEntity)
-                .where(restaurantCategoryRelationEntity.restaurant.id.eq(restaurantId))
-                .fetch());
+        if (parts.contains(RestaurantPart.CATEGORY_RELATIONS)) {
+            queryFactory
+                    .selectFrom(restaurantEntity)
+                    .leftJoin(restaurantEntity.categoryRelations, restaurantCategoryRelationEntity).fetchJoin()
+                    .where(restaurantEntity.id.eq(restaurantId))
+                    .fetch();
+        }
+    }
 
-        // 연관관계 설정
-        restaurant.getMenus().clear();
-        restaurant.getMenus().addAll(menus);
+    /**
+     * 메뉴 하위 컬렉션 단계별 일괄 로딩
+     * - 1) 메뉴 ID IN → optionGroups 초기화
+     * - 2) 옵션 그룹 ID IN → options 초기화
+     * - 3) 메뉴 ID IN → categoryRelations 초기화
+     * - 각 단계 결과는 영속성 컨텍스트에서 같은 엔티티 인스턴스로 연결됨
+     * - 단계별 전송 행 수는 자식 수의 합 (곱이 아님)
+     * - 단건 조회와 메뉴 목록(페이지/커서)에서 공통 사용, 메뉴 수와 무관하게 쿼리 최대 3회
+     */
+    private void loadMenuAssociations(Collection<MenuEntity> menus) {
+        if (menus.isEmpty()) {
+            return;
+        }
 
-        restaurant.getMenuCategories().clear();
-        restaurant.getMenuCategories().addAll(menuCategories);
+        List<String> menuIds = menus.stream()
+                .map(MenuEntity::getId)
+                .collect(Collectors.toList());
 
-        restaurant.getOperatingDays().clear();
-        restaurant.getOperatingDays().addAll(operatingDays);
+        // 1. 옵션 그룹
+        List<MenuOptionGroupEntity> optionGroups = queryFactory
+                .selectFrom(menuEntity)
+                .leftJoin(menuEntity.optionGroups, menuOptionGroupEntity).fetchJoin()
+                .where(menuEntity.id.in(menuIds))
+                .distinct()
+                .fetch()
+                .stream()
+                .flatMap(menu -> menu.getOptionGroups().stream())
+                .collect(Collectors.toList());
+
+        // 2. 옵션
+        if (!optionGroups.isEmpty()) {
+            List<String> optionGroupIds = optionGroups.stream()
+                    .map(MenuOptionGroupEntity::getId)
+                    .collect(Collectors.toList());
 
-        restaurant.getCategoryRelations().clear();
-        restaurant.getCategoryRelations().addAll(categoryRelations);
+            queryFactory
+                    .selectFrom(menuOptionGroupEntity)
+                    .leftJoin(menuOptionGroupEntity.options, menuOptionEntity).fetchJoin()
+                    .where(menuOptionGroupEntity.id.in(optionGroupIds))
+                    .distinct()
+                    .fetch();
+        }
+
+        // 3. 메뉴 카테고리 관계
+        queryFactory
+                .selectFrom(menuEntity)
+                .leftJoin(menuEntity.categoryRelations, menuCategoryRelationEntity).fetchJoin()
+                .where(menuEntity.id.in(menuIds))
+                .distinct()
+                .fetch();
     }
 
     // ==================== READ - Restaurant 목록 조회 ====================
@@ -543,49 +909,14 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
             String city,
             String district,
             Set<String> categoryIds,
+            Set<String> tags,
             String keyword,
             Pageable pageable
     ) {
         try {
-            // 기본 조건: 삭제되지 않고 활성화된 레스토랑만
-            BooleanExpression condition = restaurantEntity.isDeleted.eq(false)
-                    .and(restaurantEntity.isActive.eq(true));
-
-            // 지역 필터
-            if (province != null && !province.isBlank()) {
-                condition = condition.and(restaurantEntity.address.province.eq(province));
-            }
-            if (city != null && !city.isBlank()) {
-                condition = condition.and(restaurantEntity.address.city.eq(city));
-            }
-            if (district != null && !district.isBlank()) {
-                condition = condition.and(restaurantEntity.address.district.eq(district));
-            }
-
-            // 키워드 검색 (레스토랑명, 태그)
-            if (keyword != null && !keyword.isBlank()) {
-                BooleanExpression keywordCondition = restaurantEntity.restaurantName.containsIgnoreCase(keyword)
-                        .or(restaurantEntity.tagsJson.containsIgnoreCase(keyword));
-                condition = condition.and(keywordCondition);
-            }
-
-            // 카테고리 필터
-            JPAQuery<RestaurantEntity> query;
-            if (categoryIds != null && !categoryIds.isEmpty()) {
-                query = queryFactory
-                        .selectFrom(restaurantEntity)
-                        .join(restaurantEntity.categoryRelations, restaurantCategoryRelationEntity)
-                        .where(
-                                condition,
-                                restaurantCategoryRelationEntity.category.id.in(categoryIds),
-                                restaurantCategoryRelationEntity.isDeleted.eq(false)
-                        )
-                        .distinct();
-            } else {
-                query = queryFactory
-                        .selectFrom(restaurantEntity)
-                        .where(condition);
-            }
+            JPAQuery<RestaurantEntity> query = buildSearchQuery(
+                    province, city, district, categoryIds, tags, keyword
+            );
 
             // Count 쿼리
             long total = query.fetchCount();
@@ -617,6 +948,215 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
         }
     }
 
+    @Override
+    public Map<String, Long> countTagFacets(
+            String province,
+            String city,
+            String district,
+            Set<String> categoryIds,
+            String keyword
+    ) {
+        try {
+            BooleanExpression condition = buildSearchCondition(province, city, district, keyword);
+            StringPath tag = Expressions.stringPath("tag");
+            NumberExpression<Long> restaurantCount = restaurantEntity.id.countDistinct();
+
+            // 태그 테이블 조인 후 태그별 GROUP BY 한 번으로 집계
+            JPAQuery<Tuple> query = queryFactory
+                    .select(tag, restaurantCount)
+                    .from(restaurantEntity)
+                    .join(restaurantEntity.tags, tag);
+
+            if (categoryIds != null && !categoryIds.isEmpty()) {
+                query.join(restaurantEntity.categoryRelations, restaurantCategoryRelationEntity)
+                        .where(
+                                restaurantCategoryRelationEntity.category.id.in(categoryIds),
+                                restaurantCategoryRelationEntity.isDeleted.eq(false)
+                        );
+            }
+
+            List<Tuple> rows = query
+                    .where(condition)
+                    .groupBy(tag)
+                    .orderBy(restaurantCount.desc(), tag.asc())
+                    .fetch();
+
+            Map<String, Long> facets = new LinkedHashMap<>();
+            for (Tuple row : rows) {
+                facets.put(row.get(tag), row.get(restaurantCount));
+            }
+            return facets;
+
+        } catch (Exception e) {
+            log.error("Failed to count tag facets", e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "태그 패싯 집계 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public Map<String, Address> findCountedRestaurantRegions() {
+        try {
+            List<Tuple> rows = queryFactory
+                    .select(
+                            restaurantEntity.id,
+                            restaurantEntity.address.province,
+                            restaurantEntity.address.city,
+                            restaurantEntity.address.district
+                    )
+                    .from(restaurantEntity)
+                    .where(
+                            restaurantEntity.isDeleted.eq(false),
+                            restaurantEntity.isActive.eq(true)
+                    )
+                    .fetch();
+
+            Map<String, Address> regions = new HashMap<>(rows.size() * 2);
+            for (Tuple row : rows) {
+                regions.put(row.get(restaurantEntity.id), Address.builder()
+                        .province(row.get(restaurantEntity.address.province))
+                        .city(row.get(restaurantEntity.address.city))
+                        .district(row.get(restaurantEntity.address.district))
+                        .build());
+            }
+            return regions;
+
+        } catch (Exception e) {
+            log.error("Failed to find counted restaurant regions", e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "식당 지역 조회 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    /**
+     * 식당 검색 공통 쿼리 (지역/키워드/태그/카테고리 조건)
+     * - 목록, 슬라이스, count 조회에서 동일 조건 사용
+     */
+    private JPAQuery<RestaurantEntity> buildSearchQuery(
+            String province,
+            String city,
+            String district,
+            Set<String> categoryIds,
+            Set<String> tags,
+            String keyword
+    ) {
+        return queryFactory
+                .selectFrom(restaurantEntity)
+                .where(buildSearchPredicate(province, city, district, categoryIds, tags, keyword));
+    }
+
+    /**
+     * 식당 검색 전체 조건
+     * - 카테고리 필터는 EXISTS 서브쿼리로 처리 (조인 + DISTINCT 없이 행 중복 방지)
+     * - categoryIds는 조회 서비스에서 하위 카테고리까지 확장된 집합, category_id 인덱스로 IN 처리
+     */
+    private BooleanExpression buildSearchPredicate(
+            String province,
+            String city,
+            String district,
+            Set<String> categoryIds,
+            Set<String> tags,
+            String keyword
+    ) {
+        BooleanExpression condition = buildSearchCondition(province, city, district, keyword);
+
+        // 태그 필터 (정확 일치, 모든 태그 포함)
+        BooleanExpression tagCondition = hasAllTags(tags);
+        if (tagCondition != null) {
+            condition = condition.and(tagCondition);
+        }
+
+        // 카테고리 필터
+        if (categoryIds != null && !categoryIds.isEmpty()) {
+            condition = condition.and(JPAExpressions
+                    .selectOne()
+                    .from(restaurantCategoryRelationEntity)
+                    .where(
+                            restaurantCategoryRelationEntity.restaurant.eq(restaurantEntity),
+                            restaurantCategoryRelationEntity.category.id.in(categoryIds),
+                            restaurantCategoryRelationEntity.isDeleted.eq(false)
+                    )
+                    .exists());
+        }
+        return condition;
+    }
+
+    /**
+     * 애플리케이션 시작 시 영업 비트맵 인덱스 적재
+     * - 영업 상태 전환 스케줄러가 첫 요청 전부터 동작하도록 미리 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOpenHoursIndex() {
+        try {
+            openHoursIndex.ensureLoaded();
+        } catch (Exception e) {
+            // 적재 실패 시 첫 영업 상태 조회에서 다시 시도
+            log.warn("Failed to warm up restaurant open-hours index", e);
+        }
+    }
+
+    /**
+     * 검색 공통 조건
+     * - 삭제되지 않고 활성화된 레스토랑 + 지역 + 키워드
+     */
+    private BooleanExpression buildSearchCondition(String province, String city,
+                                                   String district, String keyword) {
+        // 기본 조건: 삭제되지 않고 활성화된 레스토랑만
+        BooleanExpression condition = restaurantEntity.isDeleted.eq(false)
+                .and(restaurantEntity.isActive.eq(true));
+
+        // 지역 필터
+        if (province != null && !province.isBlank()) {
+            condition = condition.and(restaurantEntity.address.province.eq(province));
+        }
+        if (city != null && !city.isBlank()) {
+            condition = condition.and(restaurantEntity.address.city.eq(city));
+        }
+        if (district != null && !district.isBlank()) {
+            condition = condition.and(restaurantEntity.address.district.eq(district));
+        }
+
+        // 키워드 검색 (레스토랑명, 태그)
+        if (keyword != null && !keyword.isBlank()) {
+            BooleanExpression keywordCondition = restaurantEntity.restaurantName.containsIgnoreCase(keyword)
+                    .or(restaurantEntity.tagsJson.containsIgnoreCase(keyword));
+            condition = condition.and(keywordCondition);
+        }
+
+        return condition;
+    }
+
+    /**
+     * 태그 정확 일치 조건
+     * - 태그 테이블 인덱스(tag, restaurant_id)를 타는 서브쿼리
+     * - 요청한 태그를 모두 가진 레스토랑만 매칭
+     */
+    private BooleanExpression hasAllTags(Set<String> tags) {
+        Set<String> normalized = RestaurantEntity.normalizeTags(tags);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        QRestaurantEntity tagged = new QRestaurantEntity("tagged");
+        StringPath taggedValue = Expressions.stringPath("taggedValue");
+
+        return restaurantEntity.id.in(
+                JPAExpressions
+                        .select(tagged.id)
+                        .from(tagged)
+                        .join(tagged.tags, taggedValue)
+                        .where(taggedValue.in(normalized))
+                        .groupBy(tagged.id)
+                        .having(taggedValue.count().eq((long) normalized.size()))
+        );
+    }
+
     // ==================== READ - Menu 단건 조회 ====================
 
     @Override
@@ -674,6 +1214,43 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
 
     // ==================== READ - Menu 목록 조회 ====================
 
+    @Override
+    public RestaurantMenuCounts countMenus(String restaurantId) {
+        try {
+            Tuple row = queryFactory
+                    .select(
+                            menuEntity.count(),
+                            new CaseBuilder()
+                                    .when(menuEntity.isDeleted.eq(false).and(menuEntity.isAvailable.eq(true)))
+                                    .then(1L).otherwise(0L).sum(),
+                            new CaseBuilder()
+                                    .when(menuEntity.isDeleted.eq(true))
+                                    .then(1L).otherwise(0L).sum())
+                    .from(menuEntity)
+                    .where(menuEntity.restaurant.id.eq(restaurantId))
+                    .fetchOne();
+            if (row == null) {
+                return new RestaurantMenuCounts(0, 0, 0);
+            }
+            return new RestaurantMenuCounts(
+                    toInt(row.get(0, Long.class)),
+                    toInt(row.get(1, Long.class)),
+                    toInt(row.get(2, Long.class)));
+
+        } catch (Exception e) {
+            log.error("Failed to count menus: restaurantId={}", restaurantId, e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "메뉴 수 집계 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
+    private static int toInt(Long value) {
+        return value != null ? value.intValue() : 0;
+    }
+
     @Override
     public Page<Menu> findMenusByRestaurantId(String restaurantId, Pageable pageable) {
         return findMenusInternal(restaurantId, null, null, false, false, pageable);
@@ -761,6 +1338,9 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
                     .orderBy(getMenuOrderSpecifiers(pageable))
                     .fetch();
 
+            // 페이지 메뉴 ID 기준 옵션 그룹/옵션/카테고리 관계 일괄 로딩 (행마다 지연 로딩 방지)
+            loadMenuAssociations(entities);
+
             List<Menu> menus = entities.stream()
                     .map(MenuEntity::toDomain)
                     .collect(Collectors.toList());
@@ -779,6 +1359,42 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
         }
     }
 
+    @Override
+    public CursorSlice<Menu> findMenusByRestaurantIdWithCursor(String restaurantId, CursorRequest cursorRequest) {
+        try {
+            ComparableExpressionBase<?> sortPath = getMenuCursorSortPath(cursorRequest.getSortProperty());
+
+            List<Tuple> rows = queryFactory
+                    .select(menuEntity, sortPath, menuEntity.id)
+                    .from(menuEntity)
+                    .where(
+                            menuEntity.restaurant.id.eq(restaurantId),
+                            menuEntity.isAvailable.eq(true),
+                            menuEntity.isDeleted.eq(false),
+                            CursorQuerySupport.after(sortPath, menuEntity.id, cursorRequest)
+                    )
+                    .orderBy(CursorQuerySupport.orders(sortPath, menuEntity.id, cursorRequest))
+                    .limit(cursorRequest.getSize() + 1L)
+                    .fetch();
+
+            CursorSlice<MenuEntity> entitySlice = CursorQuerySupport
+                    .toSlice(rows, menuEntity, sortPath, menuEntity.id, cursorRequest);
+            loadMenuAssociations(entitySlice.getContent());
+
+            return entitySlice.map(MenuEntity::toDomain);
+
+        } catch (CursorException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to find menus with cursor: restaurantId={}", restaurantId, e);
+            throw new RestaurantException(
+                    RestaurantErrorCode.EVENT_PROCESSING_FAILED,
+                    "메뉴 목록 조회 중 오류가 발생했습니다",
+                    e
+            );
+        }
+    }
+
     // ==================== READ - MenuCategory ====================
 
     @Override
@@ -1016,6 +1632,10 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
                 case "purchaseCount":
                     orders.add(isAsc ? restaurantEntity.purchaseCount.asc() : restaurantEntity.purchaseCount.desc());
                     break;
+                case "recommended":
+                    // 추천순: 저장된 랭킹 점수 인덱스 컬럼 (방향 무관, 높은 점수 우선)
+                    orders.add(restaurantEntity.rankingScore.desc());
+                    break;
                 default:
                     orders.add(restaurantEntity.createdAt.desc());
             }
@@ -1067,4 +1687,17 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
 
         return orders.toArray(new OrderSpecifier[0]);
     }
-}
\ No newline at end of file
+
+    /**
+     * Menu 커서 정렬 컬럼
+     */
+    private ComparableExpressionBase<?> getMenuCursorSortPath(String property) {
+        return switch (property) {
+            case "price" -> menuEntity.price;
+            case "menuName" -> menuEntity.menuName;
+            case "purchaseCount" -> menuEntity.purchaseCount;
+            case "reviewRating" -> menuEntity.reviewRating;
+            default -> menuEntity.createdAt;
+        };
+    }
+}
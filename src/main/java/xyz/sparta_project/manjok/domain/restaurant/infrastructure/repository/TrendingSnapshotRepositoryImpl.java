@@ -0,0 +1,86 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.TrendingSnapshot;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.TrendingSnapshotRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.TrendingSnapshotEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.QTrendingSnapshotEntity.trendingSnapshotEntity;
+
+/**
+ * 트렌딩 윈도우 스냅샷 Repository 구현체
+ * - 저장: 노드의 기존 행 1회 조회 후 교체/persist
+ * - 폴링/삭제: 발행 시각 인덱스 범위 스캔
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TrendingSnapshotRepositoryImpl implements TrendingSnapshotRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void saveAll(String nodeId, Map<String, byte[]> payloads, long updatedAt) {
+        if (payloads == null || payloads.isEmpty()) {
+            return;
+        }
+        Map<String, TrendingSnapshotEntity> existing = queryFactory
+                .selectFrom(trendingSnapshotEntity)
+                .where(
+                        trendingSnapshotEntity.nodeId.eq(nodeId),
+                        trendingSnapshotEntity.windowKey.in(payloads.keySet())
+                )
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(TrendingSnapshotEntity::getWindowKey, Function.identity()));
+
+        payloads.forEach((windowKey, payload) -> {
+            TrendingSnapshotEntity entity = existing.get(windowKey);
+            if (entity != null) {
+                entity.replace(payload, updatedAt);
+                return;
+            }
+            entityManager.persist(TrendingSnapshotEntity.builder()
+                    .nodeId(nodeId)
+                    .windowKey(windowKey)
+                    .payload(payload)
+                    .updatedAt(updatedAt)
+                    .build());
+        });
+    }
+
+    @Override
+    public List<TrendingSnapshot> findUpdatedSince(String excludedNodeId, long since) {
+        return queryFactory
+                .selectFrom(trendingSnapshotEntity)
+                .where(
+                        trendingSnapshotEntity.updatedAt.gt(since),
+                        trendingSnapshotEntity.nodeId.ne(excludedNodeId)
+                )
+                .orderBy(trendingSnapshotEntity.updatedAt.asc())
+                .fetch()
+                .stream()
+                .map(TrendingSnapshotEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int deleteUpdatedBefore(long before) {
+        return (int) queryFactory
+                .delete(trendingSnapshotEntity)
+                .where(trendingSnapshotEntity.updatedAt.lt(before))
+                .execute();
+    }
+}
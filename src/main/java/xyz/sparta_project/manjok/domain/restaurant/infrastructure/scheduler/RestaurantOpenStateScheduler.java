@@ -0,0 +1,168 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantOpenStateChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.WeeklyOperatingBitmap;
+import xyz.sparta_project.manjok.global.infrastructure.scheduler.TimingWheel;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 식당 영업 상태 전환 스케줄러
+ * - 식당마다 다음 운영 시간 경계 하나만 타이밍 휠에 등록
+ * - 경계 시각에 캐시된 영업 여부를 뒤집고 RestaurantOpenStateChangedEvent 발행 후 다음 경계 등록
+ * - 전환 1건당 O(1), 주기적 전체 스캔 없음
+ * - RestaurantStatus(수동 상태)는 변경하지 않음, 운영 시간 기준 영업 여부만 관리
+ */
+@Slf4j
+@Component
+public class RestaurantOpenStateScheduler {
+
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 60;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final TimingWheel<String> wheel;
+    private final Map<String, State> states = new HashMap<>();
+
+    @Autowired
+    public RestaurantOpenStateScheduler(ApplicationEventPublisher eventPublisher) {
+        this(eventPublisher, Clock.systemDefaultZone());
+    }
+
+    RestaurantOpenStateScheduler(ApplicationEventPublisher eventPublisher, Clock clock) {
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, clock.millis());
+    }
+
+    /**
+     * 식당 운영 시간 등록/변경
+     * - 현재 영업 여부를 다시 계산하고 기존 타이머를 다음 경계로 교체
+     * - 이미 등록된 식당의 영업 여부가 바뀌면 이벤트 발행
+     */
+    public void register(String restaurantId, WeeklyOperatingBitmap bitmap) {
+        if (restaurantId == null || bitmap == null) {
+            return;
+        }
+
+        RestaurantOpenStateChangedEvent event;
+        synchronized (this) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            boolean open = bitmap.isOpenAt(now);
+
+            State previous = states.remove(restaurantId);
+            if (previous != null) {
+                wheel.cancel(previous.timeout);
+            }
+
+            State state = new State(bitmap, open);
+            states.put(restaurantId, state);
+            scheduleNext(restaurantId, state, now);
+
+            event = previous != null && previous.open != open
+                    ? new RestaurantOpenStateChangedEvent(restaurantId, open, now)
+                    : null;
+        }
+
+        if (event != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    /**
+     * 식당 제거 (삭제 시)
+     */
+    public synchronized void unregister(String restaurantId) {
+        State state = states.remove(restaurantId);
+        if (state != null) {
+            wheel.cancel(state.timeout);
+        }
+    }
+
+    /**
+     * 캐시된 영업 여부 (등록되지 않은 식당은 null)
+     */
+    public synchronized Boolean isOpen(String restaurantId) {
+        State state = states.get(restaurantId);
+        return state != null ? state.open : null;
+    }
+
+    public synchronized int size() {
+        return states.size();
+    }
+
+    /**
+     * 타이밍 휠 진행
+     * - 틱마다 만료된 버킷만 처리, 만료된 식당마다 영업 여부 전환 + 다음 경계 등록
+     */
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void tick() {
+        List<RestaurantOpenStateChangedEvent> events = new ArrayList<>();
+
+        synchronized (this) {
+            for (TimingWheel.Timeout<String> timeout : wheel.advanceTo(clock.millis())) {
+                String restaurantId = timeout.getPayload();
+                State state = states.get(restaurantId);
+                if (state == null || state.timeout != timeout) {
+                    continue;
+                }
+
+                LocalDateTime boundary = toLocalDateTime(timeout.getDeadlineMillis());
+                boolean open = state.bitmap.isOpenAt(boundary);
+                if (open != state.open) {
+                    state.open = open;
+                    events.add(new RestaurantOpenStateChangedEvent(restaurantId, open, boundary));
+                }
+                scheduleNext(restaurantId, state, boundary);
+            }
+        }
+
+        events.forEach(eventPublisher::publishEvent);
+        if (!events.isEmpty()) {
+            log.debug("식당 영업 상태 전환: {}건", events.size());
+        }
+    }
+
+    /**
+     * 다음 경계 시각을 휠에 등록
+     * - 경계가 이미 지난 틱에 속하면 다음 틱에 처리되도록 한 틱 뒤로 등록
+     */
+    private void scheduleNext(String restaurantId, State state, LocalDateTime from) {
+        state.timeout = state.bitmap.nextTransitionAfter(from)
+                .map(next -> {
+                    long deadline = next.atZone(clock.getZone()).toInstant().toEpochMilli();
+                    TimingWheel.Timeout<String> timeout = wheel.schedule(restaurantId, deadline);
+                    return timeout != null
+                            ? timeout
+                            : wheel.schedule(restaurantId, wheel.currentTime() + TICK_MILLIS);
+                })
+                .orElse(null);
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), clock.getZone());
+    }
+
+    private static final class State {
+        private final WeeklyOperatingBitmap bitmap;
+        private boolean open;
+        private TimingWheel.Timeout<String> timeout;
+
+        private State(WeeklyOperatingBitmap bitmap, boolean open) {
+            this.bitmap = bitmap;
+            this.open = open;
+        }
+    }
+}
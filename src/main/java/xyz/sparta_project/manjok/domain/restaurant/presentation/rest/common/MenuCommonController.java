@@ -7,11 +7,15 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuQueryService;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuStockService;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.MenuStockResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.MenuDetailResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.MenuSummaryResponse;
 import xyz.sparta_project.manjok.global.presentation.dto.ApiResponse;
 import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 
+import java.util.List;
+
 /**
  * Common용 Menu 조회 컨트롤러 (인증 불필요)
  * - 기본 경로: /v1/common/restaurants/{restaurantId}/menus
@@ -23,6 +27,7 @@ import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 public class MenuCommonController {
 
     private final MenuQueryService menuQueryService;
+    private final MenuStockService menuStockService;
 
     /**
      * 특정 식당의 메뉴 목록 조회
@@ -48,6 +53,20 @@ public class MenuCommonController {
         return ResponseEntity.ok(ApiResponse.success(menus));
     }
 
+    /**
+     * 특정 식당의 메뉴별 오늘 남은 수량/품절 여부
+     * GET /v1/common/restaurants/{restaurantId}/menus/stock
+     * - 일일 재고를 설정한 메뉴만 포함 (메뉴 목록 응답과 분리 → 메뉴판 캐시는 재고 변동과 무관)
+     */
+    @GetMapping("/stock")
+    public ResponseEntity<ApiResponse<List<MenuStockResponse>>> getMenuStocks(
+            @PathVariable String restaurantId) {
+
+        List<MenuStockResponse> stocks = menuStockService.getStocks(restaurantId);
+
+        return ResponseEntity.ok(ApiResponse.success(stocks));
+    }
+
     /**
      * 특정 메뉴 상세 조회
      * GET /v1/common/restaurants/{restaurantId}/menus/{menuId}
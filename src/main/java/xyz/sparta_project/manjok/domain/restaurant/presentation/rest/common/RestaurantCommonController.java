@@ -8,9 +8,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import xyz.sparta_project.manjok.domain.restaurant.application.service.RestaurantCategoryQueryService;
 import xyz.sparta_project.manjok.domain.restaurant.application.service.RestaurantQueryService;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.TrendingPeriod;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.CategoryResponse;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.RegionFacetResponse;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.TagFacetResponse;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.TrendingItemResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.RestaurantDetailResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.RestaurantSummaryResponse;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.PageCountMode;
 import xyz.sparta_project.manjok.global.presentation.dto.ApiResponse;
 import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 
@@ -35,6 +41,8 @@ public class RestaurantCommonController {
     /**
      * 식당 목록 조회 (필터링)
      * GET /v1/common/restaurants
+     * - countMode: EXACT(기본) / NONE(count 생략) / APPROXIMATE(캐시된 근사 개수)
+     * - openNow: true면 현재 영업 중인 식당만
      */
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<RestaurantSummaryResponse>>> getRestaurants(
@@ -42,15 +50,128 @@ public class RestaurantCommonController {
             @RequestParam(required = false) String city,
             @RequestParam(required = false) String district,
             @RequestParam(required = false) Set<String> categoryIds,
+            @RequestParam(required = false) Set<String> tags,
             @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "EXACT") PageCountMode countMode,
+            @RequestParam(defaultValue = "false") boolean openNow,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
         PageResponse<RestaurantSummaryResponse> restaurants = restaurantQueryService
-                .searchRestaurants(province, city, district, categoryIds, keyword, pageable);
+                .searchRestaurants(province, city, district, categoryIds, tags, keyword, pageable, countMode, openNow);
 
         return ResponseEntity.ok(ApiResponse.success(restaurants));
     }
 
+    /**
+     * 식당 목록 조회 - 커서 페이지네이션
+     * GET /v1/common/restaurants/cursor
+     *
+     * Query Parameters:
+     * - 필터 조건은 목록 조회와 동일
+     * - cursor: 이전 응답의 cursorInfo.nextCursor (첫 페이지는 생략)
+     * - size: 페이지 크기 (기본 20)
+     * - sort: 정렬 기준 (createdAt, restaurantName, reviewRating, reviewCount, purchaseCount, recommended)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<PageResponse<RestaurantSummaryResponse>>> getRestaurantsWithCursor(
+            @RequestParam(required = false) String province,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false) Set<String> categoryIds,
+            @RequestParam(required = false) Set<String> tags,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        PageResponse<RestaurantSummaryResponse> restaurants = restaurantQueryService
+                .searchRestaurantsWithCursor(province, city, district, categoryIds, tags, keyword,
+                        CursorRequest.of(cursor, pageable));
+
+        return ResponseEntity.ok(ApiResponse.success(restaurants));
+    }
+
+    /**
+     * 태그 패싯 조회 (태그별 식당 수)
+     * GET /v1/common/restaurants/tags/facets
+     *
+     * @return 현재 지역/카테고리/키워드 조건 내 태그별 식당 수 (개수 내림차순)
+     */
+    @GetMapping("/tags/facets")
+    public ResponseEntity<ApiResponse<List<TagFacetResponse>>> getTagFacets(
+            @RequestParam(required = false) String province,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false) Set<String> categoryIds,
+            @RequestParam(required = false) String keyword) {
+
+        List<TagFacetResponse> facets = restaurantQueryService
+                .getTagFacets(province, city, district, categoryIds, keyword);
+
+        return ResponseEntity.ok(ApiResponse.success(facets));
+    }
+
+    /**
+     * 지역 패싯 조회 (하위 지역별 식당 수)
+     * GET /v1/common/restaurants/regions/facets
+     *
+     * Query Parameters:
+     * - province 생략: 시/도별
+     * - province: 해당 시/도의 시/군/구별
+     * - province + city: 해당 시/군/구의 동별
+     *
+     * @return 하위 지역별 활성 식당 수 (개수 내림차순)
+     */
+    @GetMapping("/regions/facets")
+    public ResponseEntity<ApiResponse<List<RegionFacetResponse>>> getRegionFacets(
+            @RequestParam(required = false) String province,
+            @RequestParam(required = false) String city) {
+
+        List<RegionFacetResponse> facets = restaurantQueryService.getRegionFacets(province, city);
+
+        return ResponseEntity.ok(ApiResponse.success(facets));
+    }
+
+    /**
+     * 트렌딩 식당 조회
+     * GET /v1/common/restaurants/trending
+     *
+     * Query Parameters:
+     * - period: LAST_HOUR(기본, 최근 1시간) / TODAY(오늘)
+     * - province: 지역 범위 (선택)
+     * - categoryId: 카테고리 범위 (선택)
+     * - limit: 조회 개수 (기본 10, 최대 50)
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingItemResponse>>> getTrendingRestaurants(
+            @RequestParam(defaultValue = "LAST_HOUR") TrendingPeriod period,
+            @RequestParam(required = false) String province,
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<TrendingItemResponse> trending = restaurantQueryService
+                .getTrendingRestaurants(period, province, categoryId, limit);
+
+        return ResponseEntity.ok(ApiResponse.success(trending));
+    }
+
+    /**
+     * 트렌딩 메뉴 조회
+     * GET /v1/common/restaurants/trending/menus
+     * - 파라미터는 트렌딩 식당 조회와 동일
+     */
+    @GetMapping("/trending/menus")
+    public ResponseEntity<ApiResponse<List<TrendingItemResponse>>> getTrendingMenus(
+            @RequestParam(defaultValue = "LAST_HOUR") TrendingPeriod period,
+            @RequestParam(required = false) String province,
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<TrendingItemResponse> trending = restaurantQueryService
+                .getTrendingMenus(period, province, categoryId, limit);
+
+        return ResponseEntity.ok(ApiResponse.success(trending));
+    }
+
     /**
      * 특정 식당 상세 조회
      * GET /v1/common/restaurants/{restaurantId}
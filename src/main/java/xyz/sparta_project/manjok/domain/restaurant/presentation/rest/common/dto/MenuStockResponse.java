@@ -0,0 +1,22 @@
+package xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메뉴 재고 응답 DTO
+ * - 일일 재고를 설정한 메뉴만 포함 (없는 메뉴는 수량 제한 없음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuStockResponse {
+
+    private String menuId;              // 메뉴 ID
+    private Integer dailyStock;         // 일일 재고
+    private Integer remaining;          // 오늘 남은 수량
+    private Boolean soldOut;            // 오늘 품절 여부
+}
@@ -0,0 +1,20 @@
+package xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지역 패싯 응답 DTO
+ * - 선택한 지역의 하위 지역별 활성 레스토랑 수
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegionFacetResponse {
+
+    private String region;              // 지역 이름 (시/도, 시/군/구 또는 동)
+    private Long restaurantCount;       // 해당 지역의 활성 레스토랑 수
+}
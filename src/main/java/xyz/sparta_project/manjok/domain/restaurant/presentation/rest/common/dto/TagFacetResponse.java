@@ -0,0 +1,20 @@
+package xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 태그 패싯 응답 DTO
+ * - 현재 검색 조건 내 태그별 레스토랑 수
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TagFacetResponse {
+
+    private String tag;                 // 태그
+    private Long restaurantCount;       // 해당 태그를 가진 레스토랑 수
+}
@@ -0,0 +1,23 @@
+package xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트렌딩 항목 응답 DTO
+ * - 식당 또는 메뉴 단위 트렌딩 순위
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingItemResponse {
+
+    private Integer rank;               // 순위 (1부터)
+    private String id;                  // 식당 ID 또는 메뉴 ID
+    private String name;                // 식당명 또는 메뉴명
+    private String restaurantId;        // 소속 식당 ID
+    private Long score;                 // 주문/조회 가중 합계 (근사치)
+}
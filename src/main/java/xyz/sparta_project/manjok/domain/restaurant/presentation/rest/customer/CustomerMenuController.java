@@ -4,11 +4,19 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuCatalogSnapshot;
 import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuQueryService;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.MenuDetailResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.MenuSummaryResponse;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
 import xyz.sparta_project.manjok.global.presentation.dto.ApiResponse;
 import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 
@@ -58,6 +66,65 @@ public class CustomerMenuController {
         return ResponseEntity.ok(ApiResponse.success(menus));
     }
 
+    /**
+     * 특정 식당의 메뉴 목록 조회 - 커서 페이지네이션
+     * GET /v1/customers/restaurants/{restaurantId}/menus/cursor
+     *
+     * Query Parameters:
+     * - cursor: 이전 응답의 cursorInfo.nextCursor (첫 페이지는 생략)
+     * - size: 페이지 크기 (기본 20)
+     * - sort: 정렬 기준 (createdAt, price, menuName, purchaseCount, reviewRating)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<PageResponse<MenuSummaryResponse>>> getMenusWithCursor(
+            @PathVariable String restaurantId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        PageResponse<MenuSummaryResponse> menus = menuQueryService
+                .getMenusWithCursor(restaurantId, CursorRequest.of(cursor, pageable));
+
+        return ResponseEntity.ok(ApiResponse.success(menus));
+    }
+
+    /**
+     * 식당 전체 메뉴 카탈로그 조회 (카테고리 + 판매 중 메뉴 + 옵션)
+     * GET /v1/customers/restaurants/{restaurantId}/menus/catalog
+     *
+     * - 미리 직렬화해 둔 응답 바이트를 그대로 전송
+     * - Accept-Encoding이 gzip을 허용하면(q > 0) 미리 압축해 둔 본문 전송, ETag는 "-gzip" 접미사
+     * - If-None-Match가 전송할 본문의 ETag와 같으면 304 (본문 없음)
+     * - 응답이 Accept-Encoding에 따라 달라지므로 Vary: Accept-Encoding
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<Resource> getMenuCatalog(
+            @PathVariable String restaurantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        MenuCatalogSnapshot catalog = menuQueryService.getMenuCatalog(restaurantId);
+        boolean gzip = catalog.hasGzip() && MenuCatalogSnapshot.acceptsGzip(acceptEncoding);
+
+        if (catalog.matches(ifNoneMatch, gzip)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(catalog.getEtag(gzip))
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(catalog.getEtag(gzip))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentLength(catalog.contentLength(gzip));
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(new InputStreamResource(catalog.openBody(gzip)));
+    }
+
     /**
      * 특정 메뉴 상세 조회
      * GET /v1/customers/restaurants/{restaurantId}/menus/{menuId}
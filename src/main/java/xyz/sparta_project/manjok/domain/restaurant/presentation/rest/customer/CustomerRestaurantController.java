@@ -9,6 +9,8 @@ import org.springframework.web.bind.annotation.*;
 import xyz.sparta_project.manjok.domain.restaurant.application.service.RestaurantQueryService;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.RestaurantDetailResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.RestaurantSummaryResponse;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.PageCountMode;
 import xyz.sparta_project.manjok.global.presentation.dto.ApiResponse;
 import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 
@@ -35,10 +37,13 @@ public class CustomerRestaurantController {
      * - city: 시/군/구 (예: 종로구)
      * - district: 동/읍/면 (예: 광화문동)
      * - categoryIds: 카테고리 ID 목록 (쉼표로 구분)
+     * - tags: 태그 목록 (쉼표로 구분, 정확 일치)
      * - keyword: 검색 키워드
      * - page: 페이지 번호 (0부터 시작)
      * - size: 페이지 크기 (기본 20)
      * - sort: 정렬 기준 (기본: createdAt,desc)
+     * - countMode: 전체 개수 계산 방식 (EXACT 기본, NONE: count 생략, APPROXIMATE: 캐시된 근사 개수)
+     * - openNow: true면 현재 영업 중인 식당만 (기본 false)
      */
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<RestaurantSummaryResponse>>> getRestaurants(
@@ -46,11 +51,42 @@ public class CustomerRestaurantController {
             @RequestParam(required = false) String city,
             @RequestParam(required = false) String district,
             @RequestParam(required = false) Set<String> categoryIds,
+            @RequestParam(required = false) Set<String> tags,
             @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "EXACT") PageCountMode countMode,
+            @RequestParam(defaultValue = "false") boolean openNow,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
         PageResponse<RestaurantSummaryResponse> restaurants = restaurantQueryService
-                .searchRestaurants(province, city, district, categoryIds, keyword, pageable);
+                .searchRestaurants(province, city, district, categoryIds, tags, keyword, pageable, countMode, openNow);
+
+        return ResponseEntity.ok(ApiResponse.success(restaurants));
+    }
+
+    /**
+     * 식당 목록 조회 - 커서 페이지네이션
+     * GET /v1/customers/restaurants/cursor
+     *
+     * Query Parameters:
+     * - 필터 조건은 목록 조회와 동일
+     * - cursor: 이전 응답의 cursorInfo.nextCursor (첫 페이지는 생략)
+     * - size: 페이지 크기 (기본 20)
+     * - sort: 정렬 기준 (createdAt, restaurantName, reviewRating, reviewCount, purchaseCount, recommended)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<PageResponse<RestaurantSummaryResponse>>> getRestaurantsWithCursor(
+            @RequestParam(required = false) String province,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false) Set<String> categoryIds,
+            @RequestParam(required = false) Set<String> tags,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        PageResponse<RestaurantSummaryResponse> restaurants = restaurantQueryService
+                .searchRestaurantsWithCursor(province, city, district, categoryIds, tags, keyword,
+                        CursorRequest.of(cursor, pageable));
 
         return ResponseEntity.ok(ApiResponse.success(restaurants));
     }
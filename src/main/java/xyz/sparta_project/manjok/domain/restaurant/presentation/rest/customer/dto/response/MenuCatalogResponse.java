@@ -0,0 +1,72 @@
+package xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Customer용 메뉴판 응답 DTO
+ * - 식당의 판매 중인 메뉴 전체 + 메뉴 카테고리 트리 + 옵션 그룹/옵션
+ * - 스냅샷으로 미리 직렬화해 두므로 자주 바뀌는 통계(구매수, 찜 수 등)는 제외
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuCatalogResponse {
+
+    private String restaurantId;
+    private String restaurantName;
+
+    // 메뉴 카테고리 (활성 카테고리, 표시 순서)
+    private List<CatalogCategory> categories;
+
+    // 메뉴 목록 (생성 순)
+    private List<CatalogMenu> menus;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CatalogCategory {
+        private String categoryId;
+        private String categoryName;
+        private String description;
+        private String parentCategoryId;
+        private Integer depth;
+        private Integer displayOrder;
+        // 이 카테고리에 속한 메뉴 ID (menus 순서)
+        private List<String> menuIds;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CatalogMenu {
+        private String menuId;
+        private String menuName;
+        private String description;
+        private String ingredients;
+        private BigDecimal price;
+
+        // 카테고리
+        private List<String> categoryIds;
+        private String primaryCategoryId;
+
+        // 상태 정보
+        private Boolean isMain;
+        private Boolean isPopular;
+        private Boolean isNew;
+
+        // 영양 정보
+        private Integer calorie;
+
+        // 옵션 그룹 목록
+        private List<MenuDetailResponse.MenuOptionGroupDto> optionGroups;
+    }
+}
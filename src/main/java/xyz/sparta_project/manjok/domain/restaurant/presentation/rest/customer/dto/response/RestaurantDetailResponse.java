@@ -49,6 +49,7 @@ public class RestaurantDetailResponse {
     private Boolean isActive;
     private Boolean isOpenNow;
     private String currentOperatingStatus;
+    private LocalDateTime nextOpeningAt;   // 영업 중이 아닐 때 다음 영업 시작 시각
 
     // 운영 시간 (요일별)
     private Map<String, OperatingHoursDto> operatingHours;
@@ -56,6 +57,9 @@ public class RestaurantDetailResponse {
     // 메뉴 카테고리 목록
     private List<MenuCategorySummaryDto> menuCategories;
 
+    // 베스트셀러 메뉴 (최근 구매량 순)
+    private List<BestSellerMenuDto> bestSellers;
+
     // 생성 시간
     private LocalDateTime createdAt;
 
@@ -108,4 +112,15 @@ public class RestaurantDetailResponse {
         private Integer displayOrder;
         private Integer menuCount;
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BestSellerMenuDto {
+        private Integer rank;
+        private String menuId;
+        private String menuName;
+        private BigDecimal price;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -43,4 +44,5 @@ public class RestaurantSummaryResponse {
     // 운영 정보
     private Boolean isOpenNow;
     private String currentOperatingStatus;
+    private LocalDateTime nextOpeningAt;   // 영업 중이 아닐 때 다음 영업 시작 시각
 }
\ No newline at end of file
@@ -4,13 +4,25 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuBulkService;
 import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuCommandService;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuFileFormat;
 import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuQueryService;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuStockService;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.MenuErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.MenuStockResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.request.MenuCreateRequest;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.request.MenuStockUpdateRequest;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.response.MenuImportResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.response.MenuResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.request.MenuUpdateRequest;
 import xyz.sparta_project.manjok.global.infrastructure.security.SecurityUtils;
@@ -19,6 +31,9 @@ import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * Owner용 Menu 관리 컨트롤러
  * - 기본 경로: /v1/owners/restaurants/{restaurantId}/menus
@@ -32,6 +47,8 @@ public class OwnerMenuController {
 
     private final MenuCommandService menuCommandService;
     private final MenuQueryService menuQueryService;
+    private final MenuBulkService menuBulkService;
+    private final MenuStockService menuStockService;
 
     /**
      * 메뉴 등록
@@ -52,6 +69,59 @@ public class OwnerMenuController {
                 .body(ApiResponse.success(menu, "메뉴가 성공적으로 등록되었습니다."));
     }
 
+    /**
+     * 메뉴 일괄 등록 (CSV / NDJSON)
+     * POST /v1/owners/restaurants/{restaurantId}/menus/import
+     * - format 파라미터가 없으면 파일 확장자로 판단
+     * - 실패한 메뉴는 건너뛰고 행별 오류로 응답
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<MenuImportResponse>> importMenus(
+            @PathVariable String restaurantId,
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+
+        String createdBy = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("인증된 사용자 정보를 찾을 수 없습니다."));
+
+        MenuFileFormat fileFormat = MenuFileFormat.resolve(format, file.getOriginalFilename());
+
+        // TODO: 레스토랑 소유자 검증 로직 추가
+        MenuImportResponse result;
+        try (InputStream input = file.getInputStream()) {
+            result = menuBulkService.importMenus(restaurantId, input, fileFormat, createdBy);
+        } catch (IOException e) {
+            throw new RestaurantException(MenuErrorCode.INVALID_IMPORT_FILE, e);
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(result, "메뉴 일괄 등록이 완료되었습니다."));
+    }
+
+    /**
+     * 메뉴 내보내기 (CSV / NDJSON, 삭제된 메뉴 제외)
+     * GET /v1/owners/restaurants/{restaurantId}/menus/export?format=csv
+     * - 일괄 등록과 같은 형식으로 스트리밍 응답
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMenus(
+            @PathVariable String restaurantId,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        MenuFileFormat fileFormat = MenuFileFormat.from(format);
+
+        // TODO: 레스토랑 소유자 검증 로직 추가
+        // 스트리밍 시작 전에 식당 존재 여부 확인 (응답 헤더가 나간 뒤에는 오류 응답 불가)
+        menuBulkService.getRestaurantHeader(restaurantId);
+
+        StreamingResponseBody body = output -> menuBulkService.exportMenus(restaurantId, fileFormat, output);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + restaurantId + "-menus." + fileFormat.getExtension() + "\"")
+                .contentType(MediaType.parseMediaType(fileFormat.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
     /**
      * 내 식당 메뉴 목록 조회 (삭제된 것 포함)
      * GET /v1/owners/restaurants/{restaurantId}/menus
@@ -147,6 +217,28 @@ public class OwnerMenuController {
         return ResponseEntity.ok(ApiResponse.success(menu, message));
     }
 
+    /**
+     * 메뉴 일일 재고 설정
+     * PUT /v1/owners/restaurants/{restaurantId}/menus/{menuId}/stock
+     * - dailyStock이 null이면 재고 설정 해제 (수량 제한 없음)
+     */
+    @PutMapping("/{menuId}/stock")
+    public ResponseEntity<ApiResponse<MenuStockResponse>> updateMenuStock(
+            @PathVariable String restaurantId,
+            @PathVariable String menuId,
+            @Valid @RequestBody MenuStockUpdateRequest request) {
+
+        String updatedBy = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("인증된 사용자 정보를 찾을 수 없습니다."));
+
+        // TODO: 레스토랑 소유자 검증 로직 추가
+        MenuStockResponse stock = menuStockService.updateDailyStock(
+                restaurantId, menuId, request.getDailyStock(), updatedBy);
+
+        String message = stock != null ? "메뉴 재고가 설정되었습니다." : "메뉴 재고 설정이 해제되었습니다.";
+        return ResponseEntity.ok(ApiResponse.success(stock, message));
+    }
+
     /**
      * 메뉴 삭제 (Soft Delete)
      * DELETE /v1/owners/restaurants/{restaurantId}/menus/{menuId}
@@ -0,0 +1,73 @@
+package xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Owner용 메뉴 일괄 등록/내보내기 행 DTO
+ * - NDJSON: 한 줄이 메뉴 1개 (옵션 그룹/옵션 포함)
+ * - CSV: 같은 메뉴의 여러 줄(옵션마다 1줄)을 모아 1개로 변환
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MenuImportRow {
+
+    private String menuName;
+    private String description;
+    private String ingredients;
+    private BigDecimal price;
+    private Integer calorie;
+
+    // 카테고리 ID 목록
+    @Builder.Default
+    private Set<String> categoryIds = new LinkedHashSet<>();
+
+    // 주 카테고리 ID (하나만 지정)
+    private String primaryCategoryId;
+
+    // 상태 정보
+    private Boolean isAvailable;
+    private Boolean isMain;
+    private Boolean isPopular;
+
+    @Builder.Default
+    private List<OptionGroupRow> optionGroups = new ArrayList<>();
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class OptionGroupRow {
+        private String groupName;
+        private String description;
+        private Boolean isRequired;
+        private Integer minSelection;
+        private Integer maxSelection;
+
+        @Builder.Default
+        private List<OptionRow> options = new ArrayList<>();
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class OptionRow {
+        private String optionName;
+        private BigDecimal additionalPrice;
+    }
+}
@@ -0,0 +1,22 @@
+package xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Owner용 메뉴 일일 재고 설정 요청 DTO
+ * - dailyStock이 null이면 재고 설정 해제 (수량 제한 없음)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuStockUpdateRequest {
+
+    @PositiveOrZero(message = "일일 재고는 0 이상이어야 합니다.")
+    private Integer dailyStock;
+}
@@ -0,0 +1,40 @@
+package xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Owner용 메뉴 일괄 등록 결과 DTO
+ * - 검증/저장에 실패한 메뉴는 건너뛰고 행별 오류로 보고
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuImportResponse {
+
+    private int totalMenus;
+    private int importedMenus;
+    private int failedMenus;
+    private int importedOptionGroups;
+    private int importedOptions;
+    private long elapsedMillis;
+
+    private List<RowError> errors;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        // 메뉴가 시작된 줄 번호 (1부터, CSV 헤더 포함)
+        private long lineNumber;
+        private String menuName;
+        private String code;
+        private String message;
+    }
+}
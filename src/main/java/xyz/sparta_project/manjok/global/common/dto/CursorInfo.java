@@ -0,0 +1,35 @@
+package xyz.sparta_project.manjok.global.common.dto;
+
+import lombok.Getter;
+
+/**
+ * 커서 페이지 정보
+ * - nextCursor를 다음 요청의 cursor 파라미터로 그대로 전달
+ * */
+@Getter
+public class CursorInfo {
+    private final int size;
+    private final int numberOfElements;
+    private final boolean hasNext;
+    private final String nextCursor;
+    private final boolean empty;
+
+    public CursorInfo(int size, int numberOfElements, boolean hasNext, String nextCursor) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size는 0보다 커야합니다.");
+        }
+        if (numberOfElements < 0) {
+            throw new IllegalArgumentException("numberOfElements는 0보다 크거나 같아야 합니다.");
+        }
+
+        this.size = size;
+        this.numberOfElements = numberOfElements;
+        this.hasNext = hasNext;
+        this.nextCursor = hasNext ? nextCursor : null;
+        this.empty = numberOfElements == 0;
+    }
+
+    public static CursorInfo of(int size, int numberOfElements, boolean hasNext, String nextCursor) {
+        return new CursorInfo(size, numberOfElements, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,78 @@
+package xyz.sparta_project.manjok.global.common.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import xyz.sparta_project.manjok.global.common.exception.CursorException;
+import xyz.sparta_project.manjok.global.common.utils.CursorUtils;
+
+/**
+ * 커서(Keyset) 페이지네이션 요청
+ * - 정렬 컬럼 + id 기준으로 "마지막으로 본 행" 이후를 조회
+ * - 첫 페이지는 cursor 없이 요청 (lastSortValue, lastId == null)
+ * - 페이지 깊이와 무관하게 인덱스 탐색 한 번으로 조회
+ * */
+@Getter
+public class CursorRequest {
+
+    public static final String DEFAULT_SORT_PROPERTY = "createdAt";
+
+    private final String sortProperty;
+    private final boolean ascending;
+    private final int size;
+    private final String lastSortValue;
+    private final String lastId;
+
+    private CursorRequest(String sortProperty, boolean ascending, int size,
+                          String lastSortValue, String lastId) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size는 0보다 커야합니다.");
+        }
+        this.sortProperty = sortProperty;
+        this.ascending = ascending;
+        this.size = size;
+        this.lastSortValue = lastSortValue;
+        this.lastId = lastId;
+    }
+
+    /**
+     * 첫 페이지 요청 생성
+     * */
+    public static CursorRequest first(String sortProperty, boolean ascending, int size) {
+        return new CursorRequest(sortProperty, ascending, size, null, null);
+    }
+
+    /**
+     * 커서 토큰 + Pageable(size, sort)로 요청 생성
+     * - Pageable의 첫 번째 정렬 조건만 사용 (page 번호는 무시)
+     * - 커서에 기록된 정렬 조건과 요청 정렬 조건이 다르면 예외
+     * */
+    public static CursorRequest of(String cursor, Pageable pageable) {
+        Sort.Order order = pageable.getSort().stream()
+                .findFirst()
+                .orElse(Sort.Order.desc(DEFAULT_SORT_PROPERTY));
+
+        if (cursor == null || cursor.isBlank()) {
+            return first(order.getProperty(), order.isAscending(), pageable.getPageSize());
+        }
+
+        CursorRequest decoded = CursorUtils.decode(cursor, pageable.getPageSize());
+        if (!decoded.getSortProperty().equals(order.getProperty())
+                || decoded.isAscending() != order.isAscending()) {
+            throw new CursorException("커서의 정렬 조건이 요청과 일치하지 않습니다.");
+        }
+        return decoded;
+    }
+
+    /**
+     * 커서 토큰에서 복원된 요청 생성
+     * */
+    public static CursorRequest after(String sortProperty, boolean ascending, int size,
+                                      String lastSortValue, String lastId) {
+        return new CursorRequest(sortProperty, ascending, size, lastSortValue, lastId);
+    }
+
+    public boolean isFirstPage() {
+        return lastId == null;
+    }
+}
@@ -0,0 +1,42 @@
+package xyz.sparta_project.manjok.global.common.dto;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 페이지네이션 조회 결과
+ * - total count 없이 다음 페이지 존재 여부와 다음 커서만 제공
+ * */
+@Getter
+public class CursorSlice<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    private CursorSlice(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content != null ? content : Collections.emptyList();
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> CursorSlice<T> of(List<T> content, int size, boolean hasNext, String nextCursor) {
+        return new CursorSlice<>(content, size, hasNext, nextCursor);
+    }
+
+    /**
+     * 내용만 변환 (커서 정보 유지)
+     * */
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new CursorSlice<>(mapped, size, hasNext, nextCursor);
+    }
+}
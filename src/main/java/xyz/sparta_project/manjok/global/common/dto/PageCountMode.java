@@ -0,0 +1,13 @@
+package xyz.sparta_project.manjok.global.common.dto;
+
+/**
+ * 페이지 조회 시 전체 개수 계산 방식
+ * - EXACT: 매 요청마다 count 쿼리 실행 (pageInfo)
+ * - NONE: count 쿼리 없이 size+1 조회로 hasNext만 판단 (sliceInfo)
+ * - APPROXIMATE: NONE + 짧은 TTL 캐시에 저장된 전체 개수 (sliceInfo)
+ * */
+public enum PageCountMode {
+    EXACT,
+    NONE,
+    APPROXIMATE
+}
@@ -0,0 +1,56 @@
+package xyz.sparta_project.manjok.global.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * 슬라이스(count 없는 오프셋) 페이지 정보
+ * - hasNext는 size+1 조회 결과로 판단하므로 항상 정확
+ * - approximateTotalElements는 APPROXIMATE 모드에서만 포함 (캐시 값이므로 근사치)
+ * */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SliceInfo {
+    private final int page;
+    private final int size;
+    private final int numberOfElements;
+    private final boolean first;
+    private final boolean hasNext;
+    private final boolean hasPrevious;
+    private final boolean empty;
+    private final Long approximateTotalElements;
+
+    public SliceInfo(int page, int size, int numberOfElements, boolean hasNext, Long approximateTotalElements) {
+        validateParameters(page, size, approximateTotalElements);
+
+        this.page = page;
+        this.size = size;
+        this.numberOfElements = numberOfElements;
+        this.first = (page == 0);
+        this.hasNext = hasNext;
+        this.hasPrevious = page > 0;
+        this.empty = numberOfElements == 0;
+        this.approximateTotalElements = approximateTotalElements;
+    }
+
+    public static SliceInfo of(int page, int size, int numberOfElements, boolean hasNext) {
+        return new SliceInfo(page, size, numberOfElements, hasNext, null);
+    }
+
+    public static SliceInfo of(int page, int size, int numberOfElements, boolean hasNext,
+                               Long approximateTotalElements) {
+        return new SliceInfo(page, size, numberOfElements, hasNext, approximateTotalElements);
+    }
+
+    private void validateParameters(int page, int size, Long approximateTotalElements) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page는 0보다 크거나 같아야 됩니다.");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("size는 0보다 커야합니다.");
+        }
+        if (approximateTotalElements != null && approximateTotalElements < 0) {
+            throw new IllegalArgumentException("approximateTotalElements는 0보다 크거나 같아야 합니다.");
+        }
+    }
+}
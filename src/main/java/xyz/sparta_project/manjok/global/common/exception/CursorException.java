@@ -0,0 +1,19 @@
+package xyz.sparta_project.manjok.global.common.exception;
+
+import xyz.sparta_project.manjok.global.presentation.exception.GlobalErrorCode;
+import xyz.sparta_project.manjok.global.presentation.exception.GlobalException;
+
+/**
+ * 커서 페이지네이션 예외
+ * - 디코딩 불가, 정렬 조건 불일치 등 잘못된 커서 토큰
+ * */
+public class CursorException extends GlobalException {
+
+    public CursorException(String message) {
+        super(GlobalErrorCode.INVALID_CURSOR, message);
+    }
+
+    public CursorException(String message, Throwable cause) {
+        super(GlobalErrorCode.INVALID_CURSOR, message, cause);
+    }
+}
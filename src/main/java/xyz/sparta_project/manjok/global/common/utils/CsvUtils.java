@@ -0,0 +1,166 @@
+package xyz.sparta_project.manjok.global.common.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV(RFC 4180) 읽기/쓰기 유틸리티
+ * - 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이중 따옴표("") 지원
+ * - 읽기는 Reader에서 레코드 단위로 스트리밍 (파일 전체를 메모리에 올리지 않음)
+ * */
+public class CsvUtils {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CsvUtils() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    /**
+     * 필드 목록을 CSV 한 줄로 변환 (줄바꿈 미포함)
+     * - 쉼표/따옴표/줄바꿈이 있는 필드만 따옴표로 감쌈, null은 빈 필드
+     * */
+    public static String formatRecord(List<String> fields) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            String field = fields.get(i);
+            if (field == null) {
+                continue;
+            }
+            if (field.indexOf(SEPARATOR) >= 0 || field.indexOf(QUOTE) >= 0
+                    || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                line.append(QUOTE).append(field.replace("\"", "\"\"")).append(QUOTE);
+            } else {
+                line.append(field);
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * 레코드 단위 CSV 리더
+     * */
+    public static RecordReader reader(Reader reader) {
+        return new RecordReader(reader);
+    }
+
+    public static class RecordReader {
+
+        private final Reader reader;
+        private long lineNumber = 1;
+        private long recordLineNumber;
+        private int pushedBack = -2;
+
+        private RecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * 다음 레코드 (더 없으면 null)
+         * - 빈 줄은 건너뜀
+         * */
+        public List<String> next() throws IOException {
+            while (true) {
+                int c = read();
+                if (c == -1) {
+                    return null;
+                }
+                if (c == '\r' || c == '\n') {
+                    consumeLineBreak(c);
+                    continue;
+                }
+                pushBack(c);
+                recordLineNumber = lineNumber;
+                return readRecord();
+            }
+        }
+
+        /**
+         * 마지막으로 읽은 레코드가 시작된 물리적 줄 번호 (1부터)
+         * */
+        public long getRecordLineNumber() {
+            return recordLineNumber;
+        }
+
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean fieldStart = true;
+
+            while (true) {
+                int c = read();
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IOException(recordLineNumber + "번째 줄: 따옴표가 닫히지 않았습니다.");
+                    }
+                    if (c == QUOTE) {
+                        int nextChar = read();
+                        if (nextChar == QUOTE) {
+                            field.append(QUOTE);
+                        } else {
+                            quoted = false;
+                            pushBack(nextChar);
+                        }
+                    } else {
+                        if (c == '\n') {
+                            lineNumber++;
+                        }
+                        field.append((char) c);
+                    }
+                    continue;
+                }
+
+                if (c == -1 || c == '\r' || c == '\n') {
+                    fields.add(field.toString());
+                    if (c != -1) {
+                        consumeLineBreak(c);
+                    }
+                    return fields;
+                }
+                if (c == SEPARATOR) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    fieldStart = true;
+                    continue;
+                }
+                if (c == QUOTE && fieldStart) {
+                    quoted = true;
+                    fieldStart = false;
+                    continue;
+                }
+                field.append((char) c);
+                fieldStart = false;
+            }
+        }
+
+        private void consumeLineBreak(int c) throws IOException {
+            if (c == '\r') {
+                int nextChar = read();
+                if (nextChar != '\n') {
+                    pushBack(nextChar);
+                }
+            }
+            lineNumber++;
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != -2) {
+                int c = pushedBack;
+                pushedBack = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        private void pushBack(int c) {
+            pushedBack = c;
+        }
+    }
+}
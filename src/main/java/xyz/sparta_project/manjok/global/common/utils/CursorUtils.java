@@ -0,0 +1,55 @@
+package xyz.sparta_project.manjok.global.common.utils;
+
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.exception.CursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 토큰 인코딩/디코딩 유틸리티
+ * - 토큰 형식: Base64URL("정렬속성|A/D|마지막 id|마지막 정렬값")
+ * - 클라이언트에는 불투명(opaque) 문자열로만 노출
+ * */
+public class CursorUtils {
+
+    private static final String DELIMITER = "|";
+
+    private CursorUtils() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    /**
+     * 마지막 행의 정렬값과 id로 다음 커서 생성
+     * */
+    public static String encode(String sortProperty, boolean ascending, String lastId, String lastSortValue) {
+        if (sortProperty == null || lastId == null || lastSortValue == null) {
+            throw new IllegalArgumentException("커서 생성 값에는 null이 들어갈 수 없습니다.");
+        }
+        String raw = String.join(DELIMITER, sortProperty, ascending ? "A" : "D", lastId, lastSortValue);
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 요청 객체로 복원
+     * */
+    public static CursorRequest decode(String cursor, int size) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new CursorException("커서를 해석할 수 없습니다.", e);
+        }
+
+        // 정렬값에 구분자가 포함될 수 있으므로 마지막 필드로 두고 최대 4개로 분리
+        String[] parts = raw.split("\\" + DELIMITER, 4);
+        if (parts.length != 4 || parts[0].isEmpty() || parts[2].isEmpty()
+                || !("A".equals(parts[1]) || "D".equals(parts[1]))) {
+            throw new CursorException("커서 형식이 올바르지 않습니다.");
+        }
+
+        return CursorRequest.after(parts[0], "A".equals(parts[1]), size, parts[3], parts[2]);
+    }
+}
@@ -1,7 +1,11 @@
 package xyz.sparta_project.manjok.global.common.utils;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import xyz.sparta_project.manjok.global.common.dto.CursorInfo;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
 import xyz.sparta_project.manjok.global.common.dto.PageInfo;
+import xyz.sparta_project.manjok.global.common.dto.SliceInfo;
 import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 
 import java.util.List;
@@ -36,6 +40,59 @@ public class PageUtils {
         return PageResponse.of(mappedContent, pageInfo);
     }
 
+    /**
+     * CursorSlice를 커서 모드 PageResponse로 변환
+     * */
+    public static <T> PageResponse<T> toCursorResponse(CursorSlice<T> slice) {
+        validateSlice(slice);
+
+        return PageResponse.ofCursor(slice.getContent(), createCursorInfo(slice));
+    }
+
+    /**
+     * CursorSlice를 매퍼 함수를 사용하여 커서 모드 PageResponse로 변환
+     * */
+    public static <T, R> PageResponse<R> toCursorResponse(CursorSlice<T> slice, Function<T, R> mapper) {
+        validateSlice(slice);
+        validateMapper(mapper);
+
+        List<R> mappedContent = slice.getContent().stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        return PageResponse.ofCursor(mappedContent, createCursorInfo(slice));
+    }
+
+    /**
+     * Spring Data Slice를 매퍼 함수를 사용하여 슬라이스 모드 PageResponse로 변환
+     * - count 쿼리 없이 조회된 결과 (NONE 모드)
+     * */
+    public static <T, R> PageResponse<R> toSliceResponse(Slice<T> slice, Function<T, R> mapper) {
+        return toSliceResponse(slice, null, mapper);
+    }
+
+    /**
+     * Spring Data Slice + 캐시된 근사 전체 개수를 슬라이스 모드 PageResponse로 변환
+     * - approximateTotalElements가 null이면 NONE 모드와 동일
+     * */
+    public static <T, R> PageResponse<R> toSliceResponse(Slice<T> slice, Long approximateTotalElements,
+                                                         Function<T, R> mapper) {
+        validateSlice(slice);
+        validateMapper(mapper);
+
+        List<R> mappedContent = slice.getContent().stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        SliceInfo sliceInfo = SliceInfo.of(
+                slice.getNumber(),
+                slice.getSize(),
+                slice.getNumberOfElements(),
+                slice.hasNext(),
+                approximateTotalElements
+        );
+        return PageResponse.ofSlice(mappedContent, sliceInfo);
+    }
 
     private static <T> PageInfo createPageInfo(Page<T> page) {
         return PageInfo.of(
@@ -47,12 +104,33 @@ public class PageUtils {
         );
     }
 
+    private static <T> CursorInfo createCursorInfo(CursorSlice<T> slice) {
+        return CursorInfo.of(
+                slice.getSize(),
+                slice.getContent().size(),
+                slice.isHasNext(),
+                slice.getNextCursor()
+        );
+    }
+
     private static void validatePage(Page<?> page) {
         if (page == null) {
             throw new IllegalArgumentException("페이지에는 null이 들어갈 수 없습니다.");
         }
     }
 
+    private static void validateSlice(CursorSlice<?> slice) {
+        if (slice == null) {
+            throw new IllegalArgumentException("슬라이스에는 null이 들어갈 수 없습니다.");
+        }
+    }
+
+    private static void validateSlice(Slice<?> slice) {
+        if (slice == null) {
+            throw new IllegalArgumentException("슬라이스에는 null이 들어갈 수 없습니다.");
+        }
+    }
+
     private static void validateMapper(Function<?,?> mapper) {
         if (mapper == null) {
             throw new IllegalArgumentException("매퍼는 null이 들어갈 수 없습니다.");
@@ -0,0 +1,114 @@
+package xyz.sparta_project.manjok.global.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 전체 개수 캐시 (APPROXIMATE 페이지 모드용)
+ * - 정규화된 필터 조건을 키로 count 결과를 짧은 TTL 동안 보관
+ * - 같은 조건의 반복 요청은 count 쿼리 없이 캐시 값 사용
+ * - 데이터 변경을 즉시 반영하지 않으므로 근사치로만 노출
+ * */
+@Slf4j
+@Component
+public class CountCache {
+
+    private static final String KEY_DELIMITER = "|";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+
+    @Autowired
+    public CountCache(@Value("${pagination.count-cache.ttl-seconds:30}") long ttlSeconds,
+                      @Value("${pagination.count-cache.max-entries:10000}") int maxEntries) {
+        this(ttlSeconds, maxEntries, Clock.systemUTC());
+    }
+
+    CountCache(long ttlSeconds, int maxEntries, Clock clock) {
+        if (ttlSeconds <= 0) {
+            throw new IllegalArgumentException("ttlSeconds는 0보다 커야합니다.");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 0보다 커야합니다.");
+        }
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시된 개수 반환, 없거나 만료되었으면 counter 실행 후 저장
+     * */
+    public long getOrCompute(String key, LongSupplier counter) {
+        long now = clock.millis();
+
+        Entry cached = entries.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+
+        long count = counter.getAsLong();
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+        }
+        if (entries.size() < maxEntries) {
+            entries.put(key, new Entry(count, now + ttlMillis));
+        }
+        return count;
+    }
+
+    /**
+     * 네임스페이스로 시작하는 캐시 무효화
+     * */
+    public void evictAll(String namespace) {
+        entries.keySet().removeIf(key -> key.startsWith(namespace + KEY_DELIMITER));
+    }
+
+    /**
+     * 필터 조건을 캐시 키로 정규화
+     * - null/공백은 빈 값, 문자열은 trim + 소문자
+     * - 컬렉션은 순서와 무관하도록 정렬 후 결합
+     * */
+    public static String key(String namespace, Object... parts) {
+        StringBuilder builder = new StringBuilder(namespace);
+        for (Object part : parts) {
+            builder.append(KEY_DELIMITER).append(normalize(part));
+        }
+        return builder.toString();
+    }
+
+    private static String normalize(Object part) {
+        if (part == null) {
+            return "";
+        }
+        if (part instanceof Collection<?> collection) {
+            return collection.stream()
+                    .map(CountCache::normalize)
+                    .filter(value -> !value.isEmpty())
+                    .sorted()
+                    .distinct()
+                    .collect(Collectors.joining(","));
+        }
+        return part.toString().trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        log.debug("count 캐시 만료 항목 정리 - 남은 항목: {}", entries.size());
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
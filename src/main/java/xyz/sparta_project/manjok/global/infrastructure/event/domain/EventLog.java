@@ -1,9 +1,11 @@
 package xyz.sparta_project.manjok.global.infrastructure.event.domain;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import lombok.Getter;
@@ -31,8 +33,10 @@ public class EventLog extends BaseEntity {
 
     /**
      * 이벤트 페이로드 (JSON 등)
+     * - 재시도 발행 시에만 읽으므로 지연 로딩 (상태 변경/DEAD_LETTER 전환은 페이로드 없이 처리)
      * */
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "payload", nullable = false)
     private String payload;
 
@@ -0,0 +1,25 @@
+package xyz.sparta_project.manjok.global.infrastructure.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 실패 이벤트 (Payment → Order)
+ * Payment 도메인이 결제 검증/승인에 실패한 후 Order에게 알림
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentFailedEvent {
+
+    private String orderId;
+    private String userId;
+    private String paymentId; // 결제 생성 전 실패면 null
+    private String failureReason;
+    private LocalDateTime failedAt;
+}
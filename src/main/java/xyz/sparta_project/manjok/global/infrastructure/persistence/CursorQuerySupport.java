@@ -0,0 +1,141 @@
+package xyz.sparta_project.manjok.global.infrastructure.persistence;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
+import xyz.sparta_project.manjok.global.common.exception.CursorException;
+import xyz.sparta_project.manjok.global.common.utils.CursorUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * QueryDSL 커서(Keyset) 페이지네이션 지원
+ * - WHERE (sort, id) 가 마지막 행 이후인 조건 + ORDER BY sort, id + LIMIT size+1
+ * - OFFSET을 사용하지 않으므로 깊은 페이지도 첫 페이지와 같은 비용
+ * - 정렬 컬럼은 NOT NULL 컬럼만 사용해야 함
+ * */
+public class CursorQuerySupport {
+
+    private CursorQuerySupport() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    /**
+     * 마지막 행 이후 조건
+     * - ASC: sort > v OR (sort = v AND id > lastId)
+     * - DESC: sort < v OR (sort = v AND id < lastId)
+     * - 첫 페이지면 null (QueryDSL where에서 무시됨)
+     * */
+    public static BooleanExpression after(ComparableExpressionBase<?> sortPath,
+                                          Expression<String> idPath,
+                                          CursorRequest request) {
+        if (request.isFirstPage()) {
+            return null;
+        }
+
+        Ops op = request.isAscending() ? Ops.GT : Ops.LT;
+        Expression<?> lastValue = Expressions.constant(parseSortValue(sortPath.getType(), request.getLastSortValue()));
+        Expression<String> lastId = Expressions.constant(request.getLastId());
+
+        return Expressions.booleanOperation(op, sortPath, lastValue)
+                .or(Expressions.booleanOperation(Ops.EQ, sortPath, lastValue)
+                        .and(Expressions.booleanOperation(op, idPath, lastId)));
+    }
+
+    /**
+     * 커서 정렬 (정렬 컬럼 + id 타이브레이커)
+     * */
+    public static OrderSpecifier<?>[] orders(ComparableExpressionBase<?> sortPath,
+                                             ComparableExpressionBase<String> idPath,
+                                             CursorRequest request) {
+        Order direction = request.isAscending() ? Order.ASC : Order.DESC;
+        return new OrderSpecifier<?>[]{
+                new OrderSpecifier<>(direction, sortPath),
+                new OrderSpecifier<>(direction, idPath)
+        };
+    }
+
+    /**
+     * size+1 건 조회 결과를 CursorSlice로 변환
+     * - 초과분 1건으로 hasNext 판단 (count 쿼리 없음)
+     * - 마지막 행의 (정렬값, id)로 다음 커서 생성
+     * */
+    public static <T> CursorSlice<T> toSlice(List<Tuple> rows,
+                                             Expression<T> contentExpr,
+                                             ComparableExpressionBase<?> sortPath,
+                                             Expression<String> idPath,
+                                             CursorRequest request) {
+        boolean hasNext = rows.size() > request.getSize();
+        List<Tuple> pageRows = hasNext ? rows.subList(0, request.getSize()) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = pageRows.get(pageRows.size() - 1);
+            nextCursor = CursorUtils.encode(
+                    request.getSortProperty(),
+                    request.isAscending(),
+                    last.get(idPath),
+                    formatSortValue(last.get(sortPath))
+            );
+        }
+
+        List<T> content = pageRows.stream()
+                .map(row -> row.get(contentExpr))
+                .collect(Collectors.toList());
+
+        return CursorSlice.of(content, request.getSize(), hasNext, nextCursor);
+    }
+
+    private static String formatSortValue(Object value) {
+        if (value == null) {
+            throw new CursorException("NULL 정렬값으로는 커서를 생성할 수 없습니다.");
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object parseSortValue(Class<?> type, String value) {
+        try {
+            if (String.class.equals(type)) {
+                return value;
+            }
+            if (LocalDateTime.class.equals(type)) {
+                return LocalDateTime.parse(value);
+            }
+            if (BigDecimal.class.equals(type)) {
+                return new BigDecimal(value);
+            }
+            if (Integer.class.equals(type)) {
+                return Integer.valueOf(value);
+            }
+            if (Long.class.equals(type)) {
+                return Long.valueOf(value);
+            }
+            if (Double.class.equals(type)) {
+                return Double.valueOf(value);
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) type, value);
+            }
+        } catch (RuntimeException e) {
+            throw new CursorException("커서의 정렬값이 올바르지 않습니다.", e);
+        }
+        throw new CursorException("커서 정렬을 지원하지 않는 타입입니다: " + type.getSimpleName());
+    }
+}
@@ -0,0 +1,60 @@
+package xyz.sparta_project.manjok.global.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Optional;
+
+/**
+ * 낙관적 락(@Version) 지원
+ * - 도메인 → 엔티티 변환 후 merge 하는 저장 경로에서 버전 충돌 판별/정렬에 사용
+ * */
+public class OptimisticLockSupport {
+
+    private OptimisticLockSupport() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    /**
+     * 현재 영속성 컨텍스트가 이미 관리 중인 엔티티 조회 (DB 조회 없음)
+     * - 같은 트랜잭션에서 먼저 flush된 변경으로 버전이 올라간 경우,
+     *   변환된 엔티티의 버전을 관리 엔티티 버전에 맞추기 위해 사용
+     * - 다른 트랜잭션과의 충돌은 관리 엔티티 버전 기준 UPDATE ... WHERE version = ? 에서 검출됨
+     * */
+    public static <T> Optional<T> findManaged(EntityManager entityManager, Class<T> entityClass, Object id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+        EntityKey key = session.generateEntityKey(id, persister);
+        Object managed = session.getPersistenceContextInternal().getEntity(key);
+        return Optional.ofNullable(entityClass.isInstance(managed) ? entityClass.cast(managed) : null);
+    }
+
+    /**
+     * 예외(원인 포함)가 낙관적 락 충돌인지 확인
+     * */
+    public static boolean isOptimisticLockFailure(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof OptimisticLockingFailureException
+                    || current instanceof OptimisticLockException
+                    || current instanceof StaleStateException) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
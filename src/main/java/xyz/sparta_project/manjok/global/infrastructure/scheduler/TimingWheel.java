@@ -0,0 +1,157 @@
+package xyz.sparta_project.manjok.global.infrastructure.scheduler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 계층형 타이밍 휠
+ * - 1단계 휠: tickMillis 단위 버킷 wheelSize개
+ * - 상위 휠: 하위 휠 한 바퀴를 한 틱으로 하는 휠을 필요할 때 생성
+ * - 등록/취소는 버킷 하나에 넣고 빼는 O(1), 틱마다 버킷 하나만 비움 (전체 스캔 없음)
+ * - 상위 휠 버킷이 만료되면 항목을 하위 휠로 내려 보냄 (항목당 최대 단계 수만큼)
+ * - 스레드 안전하지 않음, 호출 측에서 동기화
+ * */
+public class TimingWheel<T> {
+
+    private final Level root;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis는 0보다 커야합니다.");
+        }
+        if (wheelSize <= 1) {
+            throw new IllegalArgumentException("wheelSize는 1보다 커야합니다.");
+        }
+        this.root = new Level(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * 타이머 등록
+     * - 이미 지난 시각(현재 틱 이내)이면 등록하지 않고 null 반환, 호출 측에서 즉시 처리
+     * @param payload 만료 시 돌려받을 값
+     * @param deadlineMillis 만료 시각 (epoch millis)
+     * @return 취소용 핸들
+     * */
+    public Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMillis);
+        return root.add(timeout) ? timeout : null;
+    }
+
+    /**
+     * 타이머 취소 (이미 만료/취소된 경우 무시)
+     * */
+    public void cancel(Timeout<T> timeout) {
+        if (timeout != null && timeout.bucket != null) {
+            timeout.bucket.remove(timeout);
+            timeout.bucket = null;
+        }
+    }
+
+    /**
+     * 현재 시각까지 틱을 진행하고 만료된 항목 반환
+     * - 틱마다 1단계 버킷 하나 + 경계에 걸친 상위 버킷만 처리
+     * */
+    public List<Timeout<T>> advanceTo(long nowMillis) {
+        List<Timeout<T>> expired = new ArrayList<>();
+        while (root.currentTime + root.tickMillis <= nowMillis) {
+            root.advance(root.currentTime + root.tickMillis, expired);
+        }
+        return expired;
+    }
+
+    /**
+     * 1단계 휠이 마지막으로 처리한 틱 시각
+     * */
+    public long currentTime() {
+        return root.currentTime;
+    }
+
+    /**
+     * 등록된 타이머 핸들
+     * */
+    public static final class Timeout<T> {
+        private final T payload;
+        private final long deadlineMillis;
+        private Set<Timeout<T>> bucket;
+
+        private Timeout(T payload, long deadlineMillis) {
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+
+    /**
+     * 휠 한 단계
+     * */
+    private final class Level {
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long intervalMillis;
+        private final List<Set<Timeout<T>>> buckets;
+        private long currentTime;
+        private Level overflow;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.currentTime = startMillis - (startMillis % tickMillis);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new LinkedHashSet<>());
+            }
+        }
+
+        private boolean add(Timeout<T> timeout) {
+            long deadline = timeout.deadlineMillis;
+            if (deadline < currentTime + tickMillis) {
+                return false;
+            }
+            if (deadline < currentTime + intervalMillis) {
+                Set<Timeout<T>> bucket = buckets.get((int) ((deadline / tickMillis) % wheelSize));
+                bucket.add(timeout);
+                timeout.bucket = bucket;
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(intervalMillis, wheelSize, currentTime);
+            }
+            return overflow.add(timeout);
+        }
+
+        /**
+         * time(이 단계 틱의 배수)으로 진행
+         * - 1단계: 해당 버킷 항목 만료
+         * - 상위 단계: 해당 버킷 항목을 1단계부터 다시 배치 (배치 불가 = 만료)
+         * */
+        private void advance(long time, List<Timeout<T>> expired) {
+            currentTime = time;
+
+            Set<Timeout<T>> bucket = buckets.get((int) ((time / tickMillis) % wheelSize));
+            if (!bucket.isEmpty()) {
+                List<Timeout<T>> drained = new ArrayList<>(bucket);
+                bucket.clear();
+                for (Timeout<T> timeout : drained) {
+                    timeout.bucket = null;
+                    if (this == root || !root.add(timeout)) {
+                        expired.add(timeout);
+                    }
+                }
+            }
+
+            if (overflow != null && time % overflow.tickMillis == 0) {
+                overflow.advance(time, expired);
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package xyz.sparta_project.manjok.global.infrastructure.sketch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch
+ * - width x depth 고정 크기 카운터 배열로 키별 빈도를 근사 (메모리 = width * depth * 8바이트)
+ * - 추가/조회 모두 O(depth), 추정치는 실제 값 이상 (과대 추정만 발생)
+ * - 해시는 키 바이트만으로 계산하므로 같은 크기의 스케치끼리는 노드가 달라도 병합 가능 (윈도우 내 버킷 합산, 노드 간 교환)
+ * - 스레드 안전하지 않음, 호출 측에서 동기화
+ * */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private long totalCount;
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("width는 0보다 커야합니다.");
+        }
+        if (depth <= 0) {
+            throw new IllegalArgumentException("depth는 0보다 커야합니다.");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * 전체 누적 횟수
+     * */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 키 빈도 증가
+     * @param key 키
+     * @param count 증가량 (0 이하면 무시)
+     * */
+    public void add(String key, long count) {
+        if (key == null || count <= 0) {
+            return;
+        }
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + index(h1, h2, row)] += count;
+        }
+        totalCount += count;
+    }
+
+    /**
+     * 키 빈도 추정 (행별 카운터 중 최솟값)
+     * */
+    public long estimate(String key) {
+        if (key == null) {
+            return 0;
+        }
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row * width + index(h1, h2, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * 다른 스케치를 더함 (같은 width/depth만 가능)
+     * */
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("크기가 다른 스케치는 병합할 수 없습니다.");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        totalCount += other.totalCount;
+    }
+
+    public CountMinSketch copy() {
+        CountMinSketch copy = new CountMinSketch(width, depth);
+        System.arraycopy(counters, 0, copy.counters, 0, counters.length);
+        copy.totalCount = totalCount;
+        return copy;
+    }
+
+    public void clear() {
+        Arrays.fill(counters, 0L);
+        totalCount = 0;
+    }
+
+    /**
+     * 노드 간 전송용 직렬화 (width, depth, totalCount, counters)
+     * */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 2 + Long.BYTES * (counters.length + 1));
+        buffer.putInt(width).putInt(depth).putLong(totalCount);
+        for (long counter : counters) {
+            buffer.putLong(counter);
+        }
+        return buffer.array();
+    }
+
+    public static CountMinSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        CountMinSketch sketch = new CountMinSketch(buffer.getInt(), buffer.getInt());
+        sketch.totalCount = buffer.getLong();
+        for (int i = 0; i < sketch.counters.length; i++) {
+            sketch.counters[i] = buffer.getLong();
+        }
+        return sketch;
+    }
+
+    private int index(int h1, int h2, int row) {
+        // 이중 해싱: 행마다 독립적인 해시 대신 h1 + row * h2 사용
+        int combined = h1 + row * h2;
+        return (combined & Integer.MAX_VALUE) % width;
+    }
+
+    /**
+     * 64비트 FNV-1a + 최종 믹싱 (JVM/노드와 무관하게 같은 값)
+     * */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,102 @@
+package xyz.sparta_project.manjok.global.infrastructure.sketch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 감쇠 Top-K
+ * - 키별 점수를 반감기 halfLifeMillis로 지수 감쇠 (forward decay)
+ * - 점수는 기준 시각(landmark) 가중치를 곱해 누적하므로 시간이 지나도 기존 점수를 다시 계산하지 않음
+ * - 상위 k개 순서 목록을 갱신 시점에 유지 (갱신된 키 하나만 위로 이동), 조회 시 정렬 없음
+ * - 가중치가 커지면 기준 시각을 옮기고 전체 점수를 한 번 재조정 (순서 불변)
+ * */
+public class DecayingTopK {
+
+    // 2^60 배 이상 커지기 전에 기준 시각 재조정
+    private static final double RESCALE_EXPONENT = 60.0;
+
+    private final double halfLifeMillis;
+    private final int capacity;
+    private final Map<String, Double> scores = new HashMap<>();
+    private final List<String> top = new ArrayList<>();
+    private long landmarkMillis;
+
+    public DecayingTopK(long halfLifeMillis, int capacity, long startMillis) {
+        if (halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("halfLifeMillis는 0보다 커야합니다.");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 0보다 커야합니다.");
+        }
+        this.halfLifeMillis = halfLifeMillis;
+        this.capacity = capacity;
+        this.landmarkMillis = startMillis;
+    }
+
+    /**
+     * 점수 추가
+     * @param key 키
+     * @param amount 추가량 (nowMillis 시점 기준)
+     * @param nowMillis 이벤트 시각
+     * */
+    public synchronized void add(String key, double amount, long nowMillis) {
+        if (key == null || amount <= 0) {
+            return;
+        }
+        if (exponent(nowMillis) > RESCALE_EXPONENT) {
+            rescale(nowMillis);
+        }
+
+        double score = scores.merge(key, amount * Math.pow(2, exponent(nowMillis)), Double::sum);
+
+        int index = top.indexOf(key);
+        if (index < 0) {
+            if (top.size() < capacity) {
+                top.add(key);
+                index = top.size() - 1;
+            } else if (score > scores.get(top.get(capacity - 1))) {
+                top.set(capacity - 1, key);
+                index = capacity - 1;
+            } else {
+                return;
+            }
+        }
+
+        // 점수는 증가만 하므로 위로만 이동
+        while (index > 0 && scores.get(top.get(index - 1)) < score) {
+            top.set(index, top.get(index - 1));
+            index--;
+        }
+        top.set(index, key);
+    }
+
+    /**
+     * 상위 키 (nowMillis 기준으로 감쇠된 점수 내림차순)
+     * */
+    public synchronized List<Entry> top(int limit, long nowMillis) {
+        double divisor = Math.pow(2, exponent(nowMillis));
+        return top.stream()
+                .limit(Math.max(limit, 0))
+                .map(key -> new Entry(key, scores.get(key) / divisor))
+                .toList();
+    }
+
+    public synchronized int size() {
+        return scores.size();
+    }
+
+    private double exponent(long nowMillis) {
+        return (nowMillis - landmarkMillis) / halfLifeMillis;
+    }
+
+    private void rescale(long nowMillis) {
+        double divisor = Math.pow(2, exponent(nowMillis));
+        scores.replaceAll((key, score) -> score / divisor);
+        landmarkMillis = nowMillis;
+    }
+
+    public record Entry(String key, double score) {
+    }
+}
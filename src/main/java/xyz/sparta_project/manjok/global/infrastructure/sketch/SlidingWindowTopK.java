@@ -0,0 +1,345 @@
+package xyz.sparta_project.manjok.global.infrastructure.sketch;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시간 버킷 기반 슬라이딩 윈도우 Top-K
+ * - bucketMillis 단위 버킷 bucketCount개를 링으로 재사용 (윈도우 = bucketMillis * bucketCount)
+ * - 버킷마다 Count-Min Sketch + 후보 Top-K(최대 candidateSize개) 보관, 메모리는 키 수와 무관하게 상한 고정
+ * - 버킷 스케치는 첫 신호가 들어올 때 할당 (신호가 드문 윈도우는 일부 버킷만 메모리 사용)
+ * - 추가: 현재 버킷 스케치 갱신 O(depth), 후보 교체 시에만 후보 수만큼 스캔
+ * - 조회: 윈도우 내 버킷 스케치를 합친 뒤 후보 합집합을 추정치로 정렬 (다른 노드 윈도우를 함께 합산 가능)
+ * - 같은 설정의 인스턴스끼리 버킷 시각 기준으로 병합 가능, 노드 간 전송용 직렬화 지원
+ * */
+public class SlidingWindowTopK {
+
+    private final long bucketMillis;
+    private final int sketchWidth;
+    private final int sketchDepth;
+    private final int candidateSize;
+    private final Bucket[] buckets;
+
+    public SlidingWindowTopK(long bucketMillis, int bucketCount, int sketchWidth, int sketchDepth, int candidateSize) {
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("bucketMillis는 0보다 커야합니다.");
+        }
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("bucketCount는 0보다 커야합니다.");
+        }
+        if (candidateSize <= 0) {
+            throw new IllegalArgumentException("candidateSize는 0보다 커야합니다.");
+        }
+        this.bucketMillis = bucketMillis;
+        this.sketchWidth = sketchWidth;
+        this.sketchDepth = sketchDepth;
+        this.candidateSize = candidateSize;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * 키 빈도 추가
+     * @param key 키
+     * @param count 증가량
+     * @param nowMillis 이벤트 시각 (버킷 기준 시각, 타임존 보정은 호출 측 책임)
+     * */
+    public synchronized void add(String key, long count, long nowMillis) {
+        if (key == null || count <= 0) {
+            return;
+        }
+        Bucket bucket = bucketAt(alignedStart(nowMillis));
+        if (bucket.sketch == null) {
+            bucket.sketch = new CountMinSketch(sketchWidth, sketchDepth);
+        }
+        bucket.sketch.add(key, count);
+        bucket.offer(key, bucket.sketch.estimate(key), candidateSize);
+    }
+
+    /**
+     * 윈도우 내 상위 키 (추정치 내림차순)
+     * */
+    public List<Entry> top(int limit, long nowMillis) {
+        return top(limit, nowMillis, null);
+    }
+
+    /**
+     * 다른 윈도우(다른 노드 집계)를 더한 상위 키
+     * - 같은 시각 범위의 버킷 스케치를 모두 합친 뒤 양쪽 후보 합집합을 추정
+     * @param other 함께 합산할 윈도우 (null이면 이 윈도우만)
+     * */
+    public List<Entry> top(int limit, long nowMillis, SlidingWindowTopK other) {
+        if (other != null && other != this) {
+            checkCompatible(other);
+        }
+        long windowStart = alignedStart(nowMillis) - (buckets.length - 1) * bucketMillis;
+
+        WindowView view = new WindowView();
+        synchronized (this) {
+            view.include(buckets, windowStart, nowMillis);
+        }
+        if (other != null && other != this) {
+            synchronized (other) {
+                view.include(other.buckets, windowStart, nowMillis);
+            }
+        }
+        if (view.merged == null) {
+            return List.of();
+        }
+
+        CountMinSketch window = view.merged;
+        return view.candidates.stream()
+                .map(key -> new Entry(key, window.estimate(key)))
+                .sorted(Comparator.comparingLong(Entry::count).reversed().thenComparing(Entry::key))
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+
+    /**
+     * 다른 노드의 윈도우 병합
+     * - 같은 시각 버킷은 스케치를 더하고 후보를 다시 추정
+     * - 이쪽 버킷이 더 오래되었으면 상대 버킷으로 교체, 더 최신이면 무시
+     * */
+    public void merge(SlidingWindowTopK other) {
+        if (other == this) {
+            return;
+        }
+        checkCompatible(other);
+
+        List<Bucket> snapshot = new ArrayList<>(other.buckets.length);
+        synchronized (other) {
+            for (Bucket bucket : other.buckets) {
+                if (bucket.sketch != null && bucket.start >= 0) {
+                    snapshot.add(bucket.copy());
+                }
+            }
+        }
+
+        synchronized (this) {
+            for (Bucket incoming : snapshot) {
+                Bucket target = buckets[slotOf(incoming.start)];
+                if (target.start > incoming.start) {
+                    continue;
+                }
+                if (target.start < incoming.start) {
+                    target.reset(incoming.start);
+                }
+                if (target.sketch == null) {
+                    target.sketch = new CountMinSketch(sketchWidth, sketchDepth);
+                }
+                target.sketch.merge(incoming.sketch);
+
+                Set<String> keys = new HashSet<>(target.candidates.keySet());
+                keys.addAll(incoming.candidates.keySet());
+                target.candidates.clear();
+                target.minCandidate = 0;
+                for (String key : keys) {
+                    target.offer(key, target.sketch.estimate(key), candidateSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * 윈도우 안에 신호가 든 버킷이 하나도 없는지 (유휴 윈도우 정리용)
+     * */
+    public synchronized boolean isIdle(long nowMillis) {
+        long windowStart = alignedStart(nowMillis) - (buckets.length - 1) * bucketMillis;
+        for (Bucket bucket : buckets) {
+            if (bucket.sketch != null && bucket.start >= windowStart && bucket.start <= nowMillis) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 노드 간 전송용 직렬화
+     * - 설정(버킷 길이/개수, 스케치 크기, 후보 수) + 스케치가 할당된 버킷(시작 시각, 스케치, 후보)
+     * */
+    public synchronized byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(bucketMillis);
+            out.writeInt(buckets.length);
+            out.writeInt(sketchWidth);
+            out.writeInt(sketchDepth);
+            out.writeInt(candidateSize);
+            out.writeInt(allocatedBuckets());
+            for (Bucket bucket : buckets) {
+                if (bucket.sketch == null) {
+                    continue;
+                }
+                out.writeLong(bucket.start);
+                byte[] sketch = bucket.sketch.toBytes();
+                out.writeInt(sketch.length);
+                out.write(sketch);
+                out.writeInt(bucket.candidates.size());
+                for (Map.Entry<String, Long> candidate : bucket.candidates.entrySet()) {
+                    out.writeUTF(candidate.getKey());
+                    out.writeLong(candidate.getValue());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static SlidingWindowTopK fromBytes(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            SlidingWindowTopK window = new SlidingWindowTopK(
+                    in.readLong(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+            int bucketCount = in.readInt();
+            for (int i = 0; i < bucketCount; i++) {
+                long start = in.readLong();
+                byte[] sketch = new byte[in.readInt()];
+                in.readFully(sketch);
+                Bucket bucket = window.bucketAt(start);
+                bucket.sketch = CountMinSketch.fromBytes(sketch);
+                int candidateCount = in.readInt();
+                for (int j = 0; j < candidateCount; j++) {
+                    bucket.offer(in.readUTF(), in.readLong(), window.candidateSize);
+                }
+            }
+            return window;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("윈도우 직렬화 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private long alignedStart(long millis) {
+        return millis - Math.floorMod(millis, bucketMillis);
+    }
+
+    private int slotOf(long start) {
+        return (int) Math.floorMod(start / bucketMillis, (long) buckets.length);
+    }
+
+    /**
+     * 병합 가능한 설정인지 (버킷 길이/개수, 스케치 크기가 같아야 함)
+     * */
+    public boolean isCompatible(SlidingWindowTopK other) {
+        return other.bucketMillis == bucketMillis && other.buckets.length == buckets.length
+                && other.sketchWidth == sketchWidth && other.sketchDepth == sketchDepth;
+    }
+
+    private void checkCompatible(SlidingWindowTopK other) {
+        if (!isCompatible(other)) {
+            throw new IllegalArgumentException("설정이 다른 윈도우는 병합할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 스케치가 할당된 버킷 수
+     * */
+    synchronized int allocatedBuckets() {
+        int count = 0;
+        for (Bucket bucket : buckets) {
+            if (bucket.sketch != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 시각에 해당하는 버킷 (링의 이전 주기 버킷이면 비우고 재사용)
+     * */
+    private Bucket bucketAt(long start) {
+        Bucket bucket = buckets[slotOf(start)];
+        if (bucket.start != start) {
+            bucket.reset(start);
+        }
+        return bucket;
+    }
+
+    public record Entry(String key, long count) {
+    }
+
+    /**
+     * 조회 시 합산 중인 윈도우 (버킷 스케치 합 + 후보 합집합)
+     * */
+    private static final class WindowView {
+        private CountMinSketch merged;
+        private final Set<String> candidates = new HashSet<>();
+
+        private void include(Bucket[] buckets, long windowStart, long nowMillis) {
+            for (Bucket bucket : buckets) {
+                if (bucket.sketch != null && bucket.start >= windowStart && bucket.start <= nowMillis) {
+                    if (merged == null) {
+                        merged = bucket.sketch.copy();
+                    } else {
+                        merged.merge(bucket.sketch);
+                    }
+                    candidates.addAll(bucket.candidates.keySet());
+                }
+            }
+        }
+    }
+
+    private static final class Bucket {
+        // 첫 신호 시 할당, 이후 링 재사용 시 비우고 재사용
+        private CountMinSketch sketch;
+        private final Map<String, Long> candidates = new HashMap<>();
+        private long start = -1;
+        // 후보 중 최소 추정치의 하한 (추정치는 감소하지 않으므로 교체 시에만 다시 계산)
+        private long minCandidate;
+
+        private void reset(long start) {
+            this.start = start;
+            if (sketch != null) {
+                sketch.clear();
+            }
+            candidates.clear();
+            minCandidate = 0;
+        }
+
+        private void offer(String key, long estimate, int capacity) {
+            if (candidates.containsKey(key) || candidates.size() < capacity) {
+                candidates.put(key, estimate);
+                return;
+            }
+            if (estimate <= minCandidate) {
+                return;
+            }
+
+            String minKey = null;
+            long min = Long.MAX_VALUE;
+            for (Map.Entry<String, Long> entry : candidates.entrySet()) {
+                if (entry.getValue() < min) {
+                    min = entry.getValue();
+                    minKey = entry.getKey();
+                }
+            }
+            if (estimate > min) {
+                candidates.remove(minKey);
+                candidates.put(key, estimate);
+                min = candidates.values().stream().mapToLong(Long::longValue).min().orElse(0);
+            }
+            minCandidate = min;
+        }
+
+        private Bucket copy() {
+            Bucket copy = new Bucket();
+            copy.sketch = sketch.copy();
+            copy.start = start;
+            copy.candidates.putAll(candidates);
+            copy.minCandidate = minCandidate;
+            return copy;
+        }
+    }
+}
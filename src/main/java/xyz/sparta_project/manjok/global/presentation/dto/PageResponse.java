@@ -1,29 +1,80 @@
 package xyz.sparta_project.manjok.global.presentation.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
+import xyz.sparta_project.manjok.global.common.dto.CursorInfo;
 import xyz.sparta_project.manjok.global.common.dto.PageInfo;
+import xyz.sparta_project.manjok.global.common.dto.SliceInfo;
 
 import java.util.Collections;
 import java.util.List;
 
+/**
+ * 페이지 응답
+ * - 오프셋 모드: pageInfo (page, totalElements 등)
+ * - 커서 모드: cursorInfo (hasNext, nextCursor)
+ * - 슬라이스 모드: sliceInfo (count 없는 hasNext, 선택적 근사 전체 개수)
+ * - 사용하지 않는 모드의 정보는 응답에서 제외
+ * */
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
     private final List<T> content;
     private final PageInfo pageInfo;
+    private final CursorInfo cursorInfo;
+    private final SliceInfo sliceInfo;
 
     private PageResponse(List<T> content, PageInfo pageInfo) {
         validatePageInfo(pageInfo);
         this.content = content != null ? content : Collections.emptyList();
         this.pageInfo = pageInfo;
+        this.cursorInfo = null;
+        this.sliceInfo = null;
+    }
+
+    private PageResponse(List<T> content, CursorInfo cursorInfo) {
+        validateCursorInfo(cursorInfo);
+        this.content = content != null ? content : Collections.emptyList();
+        this.pageInfo = null;
+        this.cursorInfo = cursorInfo;
+        this.sliceInfo = null;
+    }
+
+    private PageResponse(List<T> content, SliceInfo sliceInfo) {
+        validateSliceInfo(sliceInfo);
+        this.content = content != null ? content : Collections.emptyList();
+        this.pageInfo = null;
+        this.cursorInfo = null;
+        this.sliceInfo = sliceInfo;
     }
 
     public static <T> PageResponse<T> of(List<T> content, PageInfo pageInfo) {
         return new PageResponse<>(content, pageInfo);
     }
 
+    public static <T> PageResponse<T> ofCursor(List<T> content, CursorInfo cursorInfo) {
+        return new PageResponse<>(content, cursorInfo);
+    }
+
+    public static <T> PageResponse<T> ofSlice(List<T> content, SliceInfo sliceInfo) {
+        return new PageResponse<>(content, sliceInfo);
+    }
+
     private void validatePageInfo(PageInfo pageInfo) {
         if (pageInfo == null) {
             throw new IllegalArgumentException("페이지 정보는 null이 될 수 없습니다.");
         }
     }
+
+    private void validateCursorInfo(CursorInfo cursorInfo) {
+        if (cursorInfo == null) {
+            throw new IllegalArgumentException("커서 정보는 null이 될 수 없습니다.");
+        }
+    }
+
+    private void validateSliceInfo(SliceInfo sliceInfo) {
+        if (sliceInfo == null) {
+            throw new IllegalArgumentException("슬라이스 정보는 null이 될 수 없습니다.");
+        }
+    }
 }
@@ -24,6 +24,7 @@ public enum GlobalErrorCode implements ErrorCode {
     INVALID_INPUT_VALUE("GLOBAL_101", "유효하지 않은 입력값입니다.", 400),
     INVALID_TYPE_VALUE("GLOBAL_102", "잘못된 데이터 타입입니다.", 400),
     MISSING_PARAMETER("GLOBAL_103", "필수 파라미터가 누락되었습니다.", 400),
+    INVALID_CURSOR("GLOBAL_104", "유효하지 않은 커서입니다.", 400),
 
     /**
      * 인증/인가 에러(401, 403)
@@ -2,6 +2,7 @@ package xyz.sparta_project.manjok.global.presentation.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.*;
@@ -97,6 +98,26 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
 
+    /**
+     * 낙관적 락 충돌 (커밋 시점 버전 불일치)
+     * */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            HttpServletRequest request,
+            OptimisticLockingFailureException e) {
+
+        log.warn("동시 수정 충돌: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                GlobalErrorCode.CONFLICT,
+                request.getRequestURI()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(errorResponse);
+    }
+
 	/**
 	 * 스프링 시큐리티 예외처리
 	 * */
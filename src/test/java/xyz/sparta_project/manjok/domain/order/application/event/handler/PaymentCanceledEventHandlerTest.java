@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 import xyz.sparta_project.manjok.domain.order.application.service.OrderCommandService;
 import xyz.sparta_project.manjok.domain.order.domain.model.*;
 import xyz.sparta_project.manjok.domain.order.domain.repository.OrderRepository;
@@ -55,6 +56,9 @@ class PaymentCanceledEventHandlerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private static final String TEST_USER_ID = "user-123";
     private static final String TEST_PAYMENT_ID = "payment-123";
     private static final String CANCEL_REASON = "고객 변심";
@@ -372,9 +376,11 @@ class PaymentCanceledEventHandlerTest {
 
         EventLog savedLog = savedLogs.get(0);
 
-        // Payload 역직렬화 검증
+        // Payload 역직렬화 검증 (페이로드는 지연 로딩 컬럼 → 트랜잭션 안에서 조회)
+        String payload = transactionTemplate.execute(status ->
+                eventLogRepository.findById(savedLog.getId()).orElseThrow().getPayload());
         PaymentCanceledEvent savedEvent = objectMapper.readValue(
-                savedLog.getPayload(),
+                payload,
                 PaymentCanceledEvent.class
         );
 
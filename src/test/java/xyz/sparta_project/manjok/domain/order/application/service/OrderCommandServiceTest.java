@@ -10,13 +10,17 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 import xyz.sparta_project.manjok.domain.order.application.event.OrderEventPublisher;
+import xyz.sparta_project.manjok.domain.order.domain.exception.OrderErrorCode;
 import xyz.sparta_project.manjok.domain.order.domain.exception.OrderException;
 import xyz.sparta_project.manjok.domain.order.domain.model.*;
 import xyz.sparta_project.manjok.domain.order.domain.repository.OrderRepository;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuStockRepository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +42,9 @@ class OrderCommandServiceTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private MenuStockRepository menuStockRepository;
+
     @MockitoBean
     private OrderEventPublisher orderEventPublisher;
 
@@ -131,6 +138,29 @@ class OrderCommandServiceTest {
             assertThat(foundOrder.getId()).isEqualTo(createdOrder.getId());
             assertThat(foundOrder.getStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
         }
+
+        @Test
+        @DisplayName("일일 재고를 설정한 메뉴는 주문 수량만큼 예약되고, 부족하면 품절 예외가 발생한다")
+        void createOrder_reservesDailyStock() {
+            // given - 남은 수량 3개
+            String menuId = UUID.randomUUID().toString();
+            menuStockRepository.saveDailyStock(testRestaurantId, menuId, 3, LocalDate.now());
+            Restaurant restaurant = testItems.get(0).getRestaurant();
+            List<OrderItem> twoItems = List.of(
+                    OrderItem.create(menuId, "한정 메뉴", new BigDecimal("10000"), 2, restaurant, List.of()));
+
+            // when
+            orderCommandService.createOrder(testOrderer, twoItems, "test-payment-key", testUserId);
+
+            // then - 2개 예약, 남은 1개로는 2개 주문 불가
+            assertThat(menuStockRepository.findByMenuId(menuId).orElseThrow().getRemainingOn(LocalDate.now()))
+                    .isEqualTo(1);
+            assertThatThrownBy(() -> orderCommandService.createOrder(
+                    testOrderer, twoItems, "test-payment-key-2", testUserId))
+                    .isInstanceOf(OrderException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(OrderErrorCode.MENU_SOLD_OUT);
+        }
     }
 
     @Nested
@@ -188,6 +218,77 @@ class OrderCommandServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("결제 실패/만료 처리")
+    class FailPayment {
+
+        @Test
+        @DisplayName("결제가 실패하면 주문이 취소되고 예약한 재고가 반환된다")
+        void failPayment_releasesStock() {
+            // given - 남은 수량 3개 중 2개 예약
+            String menuId = UUID.randomUUID().toString();
+            Order order = createStockedOrder(menuId);
+
+            // when
+            orderCommandService.failPayment(order.getId(), "금액 불일치");
+
+            // then
+            Order updatedOrder = orderRepository.findById(order.getId()).orElseThrow();
+            assertThat(updatedOrder.getStatus()).isEqualTo(OrderStatus.CANCELED);
+            assertThat(menuStockRepository.findByMenuId(menuId).orElseThrow().getRemainingOn(LocalDate.now()))
+                    .isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("결제 대기 시간이 지난 주문은 만료되고, 이미 처리된 주문은 다시 반환하지 않는다")
+        void expirePaymentPending_releasesStockOnce() {
+            // given
+            String menuId = UUID.randomUUID().toString();
+            Order order = createStockedOrder(menuId);
+            LocalDateTime createdBefore = LocalDateTime.now().plusMinutes(1);
+
+            // when
+            boolean expired = orderCommandService.expirePaymentPending(order.getId(), createdBefore);
+            boolean expiredAgain = orderCommandService.expirePaymentPending(order.getId(), createdBefore);
+
+            // then
+            assertThat(expired).isTrue();
+            assertThat(expiredAgain).isFalse();
+            assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus())
+                    .isEqualTo(OrderStatus.CANCELED);
+            assertThat(menuStockRepository.findByMenuId(menuId).orElseThrow().getRemainingOn(LocalDate.now()))
+                    .isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("결제가 완료된 주문은 만료되지 않는다")
+        void expirePaymentPending_skipsCompletedOrder() {
+            // given
+            Order order = createTestOrder();
+            orderCommandService.completePayment(order.getId(), "payment-123", LocalDateTime.now(), testUserId);
+
+            // when
+            boolean expired = orderCommandService.expirePaymentPending(
+                    order.getId(), LocalDateTime.now().plusMinutes(1));
+
+            // then
+            assertThat(expired).isFalse();
+            assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus())
+                    .isEqualTo(OrderStatus.PENDING);
+        }
+
+        private Order createStockedOrder(String menuId) {
+            menuStockRepository.saveDailyStock(testRestaurantId, menuId, 3, LocalDate.now());
+            Restaurant restaurant = testItems.get(0).getRestaurant();
+            List<OrderItem> items = List.of(
+                    OrderItem.create(menuId, "한정 메뉴", new BigDecimal("10000"), 2, restaurant, List.of()));
+            Order order = orderCommandService.createOrder(testOrderer, items, "test-payment-key", testUserId);
+            assertThat(menuStockRepository.findByMenuId(menuId).orElseThrow().getRemainingOn(LocalDate.now()))
+                    .isEqualTo(1);
+            return order;
+        }
+    }
+
     @Nested
     @DisplayName("주문 상태 변경")
     class ChangeOrderStatus {
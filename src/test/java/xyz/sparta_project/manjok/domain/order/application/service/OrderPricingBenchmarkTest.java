@@ -0,0 +1,206 @@
+package xyz.sparta_project.manjok.domain.order.application.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.order.domain.model.Address;
+import xyz.sparta_project.manjok.domain.order.domain.model.Coordinate;
+import xyz.sparta_project.manjok.domain.order.domain.model.OrderItem;
+import xyz.sparta_project.manjok.domain.order.domain.model.OrderLine;
+import xyz.sparta_project.manjok.domain.order.domain.model.OrderLine.OptionSelection;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.MenuCatalogChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.MenuPriceIndex;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.DayType;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuOptionGroup;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.OperatingTimeType;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Restaurant;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantStatus;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 주문 가격 계산 벤치마크
+ * - 100개 메뉴(메뉴당 필수 사이즈 그룹 + 선택 토핑 그룹) 식당에 200라인 주문
+ * - 가격표 적재 후에는 주문 라인 수와 무관하게 DB 조회 없음 (가격표 재적재 없음)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("주문 가격 계산 벤치마크 (200 라인)")
+class OrderPricingBenchmarkTest {
+
+    private static final int MENU_COUNT = 100;
+    private static final int LINE_COUNT = 200;
+    private static final int ITERATIONS = 500;
+
+    @Autowired
+    private OrderPricingEngine orderPricingEngine;
+
+    @Autowired
+    private MenuPriceIndex menuPriceIndex;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("가격표 캐시 - 첫 주문만 적재 쿼리, 이후 주문은 쿼리 없이 계산")
+    void price_200Lines() {
+        // given
+        Restaurant restaurant = saveRestaurant();
+        entityManager.flush();
+        entityManager.clear();
+        List<OrderLine> lines = buildLines(restaurant);
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        try {
+            // when - 첫 주문 (가격표 적재)
+            statistics.clear();
+            long coldStart = System.nanoTime();
+            List<OrderItem> items = orderPricingEngine.price(lines);
+            long coldMicros = (System.nanoTime() - coldStart) / 1_000;
+            long coldQueries = statistics.getPrepareStatementCount();
+            long version = menuPriceIndex.get(restaurant.getId()).getVersion();
+
+            // when - 반복 주문 (캐시된 가격표)
+            statistics.clear();
+            long warmStart = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                items = orderPricingEngine.price(lines);
+            }
+            long warmMicrosPerOrder = (System.nanoTime() - warmStart) / 1_000 / ITERATIONS;
+            long warmQueries = statistics.getPrepareStatementCount();
+            long versionAfter = menuPriceIndex.get(restaurant.getId()).getVersion();
+
+            BigDecimal total = items.stream()
+                    .map(OrderItem::getTotalPrice)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            System.out.printf(
+                    "[benchmark] orderPricing: menus=%d, lines=%d, coldQueries=%d, cold=%dus, warmQueries=%d, warm=%dus/order, lines/s=%d%n",
+                    MENU_COUNT, LINE_COUNT, coldQueries, coldMicros, warmQueries, warmMicrosPerOrder,
+                    warmMicrosPerOrder > 0 ? LINE_COUNT * 1_000_000L / warmMicrosPerOrder : -1);
+
+            // then - 라인당 (10000 + 2000 + 500 * 2) * 2 = 26000
+            assertThat(items).hasSize(LINE_COUNT);
+            assertThat(total).isEqualByComparingTo(BigDecimal.valueOf(26_000L * LINE_COUNT));
+            assertThat(items.get(0).getRestaurant().getRestaurantName()).isEqualTo("가격표 식당");
+            assertThat(items.get(0).getRestaurant().getPhone()).isEqualTo("02-555-0000");
+            assertThat(items.get(0).getRestaurant().getAddress().getDetailAddress()).isEqualTo("가격표 빌딩 1층");
+            assertThat(coldQueries).isPositive();
+            // 통계는 SessionFactory 전역 (스케줄러 쿼리 포함) → 재적재 여부는 가격표 version으로 확인
+            assertThat(versionAfter).isEqualTo(version);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @DisplayName("메뉴판 변경 이벤트 - 가격표 무효화 후 새 version으로 재적재")
+    void invalidate_onCatalogChanged() {
+        // given
+        Restaurant restaurant = saveRestaurant();
+        entityManager.flush();
+        long version = menuPriceIndex.get(restaurant.getId()).getVersion();
+        assertThat(menuPriceIndex.get(restaurant.getId()).getVersion()).isEqualTo(version);
+
+        // when
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(restaurant.getId()));
+
+        // then
+        assertThat(menuPriceIndex.get(restaurant.getId()).getVersion()).isGreaterThan(version);
+    }
+
+    private List<OrderLine> buildLines(Restaurant restaurant) {
+        Address address = Address.create("서울특별시", "강남구", "역삼동", "123-45",
+                Coordinate.create(new BigDecimal("37.5665"), new BigDecimal("126.9780")));
+        xyz.sparta_project.manjok.domain.order.domain.model.Restaurant orderRestaurant =
+                xyz.sparta_project.manjok.domain.order.domain.model.Restaurant.create(
+                        restaurant.getId(), "클라이언트 식당명", "02-1234-5678", address);
+
+        List<OrderLine> lines = new ArrayList<>(LINE_COUNT);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            Menu menu = restaurant.getMenus().get(i % MENU_COUNT);
+            MenuOptionGroup size = menu.getOptionGroups().get(0);
+            MenuOptionGroup topping = menu.getOptionGroups().get(1);
+            lines.add(new OrderLine(menu.getId(), 2, orderRestaurant, List.of(
+                    new OptionSelection(size.getId(), size.getOptions().get(1).getId(), 1),
+                    new OptionSelection(topping.getId(), topping.getOptions().get(i % 5).getId(), 1),
+                    new OptionSelection(topping.getId(), topping.getOptions().get((i + 1) % 5).getId(), 1))));
+        }
+        return lines;
+    }
+
+    private Restaurant saveRestaurant() {
+        Restaurant restaurant = Restaurant.builder()
+                .id(UUID.randomUUID().toString())
+                .createdAt(LocalDateTime.now())
+                .ownerId("1")
+                .ownerName("홍길동")
+                .restaurantName("가격표 식당")
+                .status(RestaurantStatus.PREPARING)
+                .address(xyz.sparta_project.manjok.domain.restaurant.domain.model.Address.builder()
+                        .province("서울특별시")
+                        .city("강남구")
+                        .district("역삼동")
+                        .detailAddress("가격표 빌딩 1층")
+                        .build())
+                .coordinate(xyz.sparta_project.manjok.domain.restaurant.domain.model.Coordinate.of(
+                        new BigDecimal("37.5000"), new BigDecimal("127.0360")))
+                .contactNumber("02-555-0000")
+                .tags(new ArrayList<>())
+                .isActive(true)
+                .menus(new ArrayList<>())
+                .menuCategories(new ArrayList<>())
+                .operatingDays(new HashSet<>())
+                .categoryRelations(new HashSet<>())
+                .createdBy("benchmark")
+                .isDeleted(false)
+                .build();
+
+        for (int m = 0; m < MENU_COUNT; m++) {
+            Menu menu = restaurant.addMenu("메뉴 " + m, null, new BigDecimal("10000"), "benchmark");
+            MenuOptionGroup size = menu.addOptionGroup("사이즈", null, true, 1, 1, "benchmark");
+            size.addOption("보통", 0, 0, "benchmark");
+            size.addOption("곱빼기", 2000, 1, "benchmark");
+            MenuOptionGroup topping = menu.addOptionGroup("토핑", null, false, 0, 3, "benchmark");
+            for (int o = 0; o < 5; o++) {
+                topping.addOption("토핑 " + o, 500, o, "benchmark");
+            }
+        }
+
+        // 메뉴 구성 후 종일 영업으로 전환 (주문 접수 가능)
+        for (DayType dayType : DayType.values()) {
+            restaurant.setOperatingDay(dayType, OperatingTimeType.REGULAR,
+                    LocalTime.MIN, LocalTime.of(23, 59, 59), false, null);
+        }
+        restaurant.changeStatus(RestaurantStatus.OPEN, "benchmark");
+        return restaurantRepository.save(restaurant);
+    }
+}
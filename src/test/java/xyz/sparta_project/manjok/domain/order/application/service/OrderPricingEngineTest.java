@@ -0,0 +1,243 @@
+package xyz.sparta_project.manjok.domain.order.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import xyz.sparta_project.manjok.domain.order.domain.exception.OrderErrorCode;
+import xyz.sparta_project.manjok.domain.order.domain.exception.OrderException;
+import xyz.sparta_project.manjok.domain.order.domain.model.*;
+import xyz.sparta_project.manjok.domain.order.domain.model.MenuPriceBook.MenuPrice;
+import xyz.sparta_project.manjok.domain.order.domain.model.MenuPriceBook.OptionGroupPrice;
+import xyz.sparta_project.manjok.domain.order.domain.model.MenuPriceBook.OptionPrice;
+import xyz.sparta_project.manjok.domain.order.domain.model.MenuPriceBook.RestaurantLocation;
+import xyz.sparta_project.manjok.domain.order.domain.model.OrderLine.OptionSelection;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * OrderPricingEngine 단위 테스트
+ */
+@DisplayName("OrderPricingEngine 단위 테스트")
+class OrderPricingEngineTest {
+
+    private static final String RESTAURANT_ID = "rest-1";
+
+    private AtomicInteger priceBookLookups;
+    private AtomicBoolean acceptingOrders;
+    private AtomicReference<RestaurantLocation> location;
+    private OrderPricingEngine engine;
+    private Restaurant requestedRestaurant;
+
+    @BeforeEach
+    void setUp() {
+        OptionGroupPrice size = new OptionGroupPrice("group-size", "사이즈", 1, 1, Map.of(
+                "size-r", new OptionPrice("size-r", "보통", null, BigDecimal.ZERO),
+                "size-l", new OptionPrice("size-l", "곱빼기", "면 추가", new BigDecimal("2000"))));
+        OptionGroupPrice topping = new OptionGroupPrice("group-topping", "토핑", 0, 2, Map.of(
+                "egg", new OptionPrice("egg", "계란", null, new BigDecimal("500")),
+                "cheese", new OptionPrice("cheese", "치즈", null, new BigDecimal("1000"))));
+        MenuPrice noodle = new MenuPrice("menu-noodle", "짜장면", new BigDecimal("7000"),
+                Map.of(size.optionGroupId(), size, topping.optionGroupId(), topping));
+        MenuPrice dumpling = new MenuPrice("menu-dumpling", "군만두", new BigDecimal("5000"), Map.of());
+
+        MenuPriceBook book = new MenuPriceBook() {
+            @Override
+            public String getRestaurantId() {
+                return RESTAURANT_ID;
+            }
+
+            @Override
+            public String getRestaurantName() {
+                return "서버 식당명";
+            }
+
+            @Override
+            public String getContactNumber() {
+                return "02-9999-0000";
+            }
+
+            @Override
+            public RestaurantLocation getLocation() {
+                return location.get();
+            }
+
+            @Override
+            public long getVersion() {
+                return 1L;
+            }
+
+            @Override
+            public boolean isAcceptingOrders() {
+                return acceptingOrders.get();
+            }
+
+            @Override
+            public Optional<MenuPrice> findMenu(String menuId) {
+                return Optional.ofNullable(Map.of(noodle.menuId(), noodle, dumpling.menuId(), dumpling).get(menuId));
+            }
+        };
+
+        priceBookLookups = new AtomicInteger();
+        acceptingOrders = new AtomicBoolean(true);
+        location = new AtomicReference<>(new RestaurantLocation("서울특별시", "강남구", "역삼동", "서버 상세주소",
+                new BigDecimal("37.5000"), new BigDecimal("127.0360")));
+        engine = new OrderPricingEngine(restaurantId -> {
+            priceBookLookups.incrementAndGet();
+            return RESTAURANT_ID.equals(restaurantId) ? Optional.of(book) : Optional.empty();
+        });
+
+        Address address = Address.create("서울특별시", "중구", "명동", "1번지",
+                Coordinate.create(new BigDecimal("37.5665"), new BigDecimal("126.9780")));
+        requestedRestaurant = Restaurant.create(RESTAURANT_ID, "클라이언트 식당명", "02-1234-5678", address);
+    }
+
+    @Nested
+    @DisplayName("가격 계산")
+    class Price {
+
+        @Test
+        @DisplayName("메뉴/옵션 이름과 가격을 가격표로 계산하고, 가격표는 식당당 1회 조회한다")
+        void price_usesPriceBook() {
+            // given
+            List<OrderLine> lines = List.of(
+                    new OrderLine("menu-noodle", 2, requestedRestaurant, List.of(
+                            new OptionSelection("group-size", "size-l", 1),
+                            new OptionSelection("group-topping", "egg", 1),
+                            new OptionSelection("group-topping", "cheese", 1))),
+                    new OrderLine("menu-dumpling", 1, requestedRestaurant, null));
+
+            // when
+            List<OrderItem> items = engine.price(lines);
+
+            // then - (7000 + 2000 + 500 + 1000) * 2 = 21000, 5000 * 1
+            assertThat(items).hasSize(2);
+            assertThat(items.get(0).getMenuName()).isEqualTo("짜장면");
+            assertThat(items.get(0).getTotalPrice()).isEqualByComparingTo("21000");
+            assertThat(items.get(0).getOptionGroups()).extracting(OrderOptionGroup::getGroupName)
+                    .containsExactly("사이즈", "토핑");
+            assertThat(items.get(0).getRestaurant().getRestaurantName()).isEqualTo("서버 식당명");
+            assertThat(items.get(0).getRestaurant().getPhone()).isEqualTo("02-9999-0000");
+            assertThat(items.get(0).getRestaurant().getAddress().getDistrict()).isEqualTo("역삼동");
+            assertThat(items.get(0).getRestaurant().getAddress().getDetailAddress()).isEqualTo("서버 상세주소");
+            assertThat(items.get(0).getRestaurant().getAddress().getCoordinate().getLatitude())
+                    .isEqualByComparingTo("37.5000");
+            assertThat(items.get(1).getTotalPrice()).isEqualByComparingTo("5000");
+            assertThat(priceBookLookups.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("좌표 미등록 식당은 주소는 가격표 값, 좌표만 요청 값으로 보완한다")
+        void price_locationWithoutCoordinate_usesRequestedCoordinate() {
+            location.set(new RestaurantLocation("서울특별시", "강남구", "역삼동", "서버 상세주소", null, null));
+            List<OrderLine> lines = List.of(new OrderLine("menu-dumpling", 1, requestedRestaurant, null));
+
+            List<OrderItem> items = engine.price(lines);
+
+            Address address = items.get(0).getRestaurant().getAddress();
+            assertThat(address.getCity()).isEqualTo("강남구");
+            assertThat(address.getDetailAddress()).isEqualTo("서버 상세주소");
+            assertThat(address.getCoordinate()).isEqualTo(requestedRestaurant.getAddress().getCoordinate());
+        }
+
+        @Test
+        @DisplayName("가격표에 없는 메뉴는 주문할 수 없다")
+        void price_unknownMenu() {
+            List<OrderLine> lines = List.of(new OrderLine("menu-unknown", 1, requestedRestaurant, null));
+
+            assertThatThrownBy(() -> engine.price(lines))
+                    .isInstanceOf(OrderException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(OrderErrorCode.MENU_NOT_ORDERABLE);
+        }
+
+        @Test
+        @DisplayName("가격표가 없는 식당은 주문할 수 없다")
+        void price_unknownRestaurant() {
+            Restaurant other = Restaurant.create("rest-unknown", "다른 식당", "02-0000-0000",
+                    requestedRestaurant.getAddress());
+            List<OrderLine> lines = List.of(new OrderLine("menu-dumpling", 1, other, null));
+
+            assertThatThrownBy(() -> engine.price(lines))
+                    .isInstanceOf(OrderException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(OrderErrorCode.MENU_NOT_ORDERABLE);
+        }
+
+        @Test
+        @DisplayName("영업 중이 아닌 식당은 주문할 수 없다")
+        void price_restaurantNotAcceptingOrders() {
+            acceptingOrders.set(false);
+            List<OrderLine> lines = List.of(new OrderLine("menu-dumpling", 1, requestedRestaurant, null));
+
+            assertThatThrownBy(() -> engine.price(lines))
+                    .isInstanceOf(OrderException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(OrderErrorCode.RESTAURANT_NOT_ACCEPTING_ORDERS);
+        }
+
+        @Test
+        @DisplayName("메뉴에 없는 옵션은 선택할 수 없다")
+        void price_unknownOption() {
+            List<OrderLine> lines = List.of(new OrderLine("menu-noodle", 1, requestedRestaurant, List.of(
+                    new OptionSelection("group-size", "size-xl", 1))));
+
+            assertThatThrownBy(() -> engine.price(lines))
+                    .isInstanceOf(OrderException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(OrderErrorCode.OPTION_NOT_ORDERABLE);
+        }
+    }
+
+    @Nested
+    @DisplayName("옵션 선택 규칙")
+    class SelectionRule {
+
+        @Test
+        @DisplayName("필수 옵션 그룹을 선택하지 않으면 실패한다")
+        void price_requiredGroupMissing() {
+            List<OrderLine> lines = List.of(new OrderLine("menu-noodle", 1, requestedRestaurant, List.of()));
+
+            assertThatThrownBy(() -> engine.price(lines))
+                    .isInstanceOf(OrderException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(OrderErrorCode.INVALID_OPTION_SELECTION);
+        }
+
+        @Test
+        @DisplayName("최대 선택 수를 넘으면 실패한다 (옵션 수량 합 기준)")
+        void price_maxSelectionExceeded() {
+            List<OrderLine> lines = List.of(new OrderLine("menu-noodle", 1, requestedRestaurant, List.of(
+                    new OptionSelection("group-size", "size-r", 1),
+                    new OptionSelection("group-topping", "egg", 2),
+                    new OptionSelection("group-topping", "cheese", 1))));
+
+            assertThatThrownBy(() -> engine.price(lines))
+                    .isInstanceOf(OrderException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(OrderErrorCode.INVALID_OPTION_SELECTION);
+        }
+
+        @Test
+        @DisplayName("같은 옵션을 중복 선택하면 실패한다")
+        void price_duplicateOption() {
+            List<OrderLine> lines = List.of(new OrderLine("menu-noodle", 1, requestedRestaurant, List.of(
+                    new OptionSelection("group-size", "size-r", 1),
+                    new OptionSelection("group-topping", "egg", 1),
+                    new OptionSelection("group-topping", "egg", 1))));
+
+            assertThatThrownBy(() -> engine.price(lines))
+                    .isInstanceOf(OrderException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(OrderErrorCode.INVALID_OPTION_SELECTION);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.*;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.jpa.RestaurantJpaRepository;
+import xyz.sparta_project.manjok.global.infrastructure.event.dto.ReviewCreatedEvent;
+import xyz.sparta_project.manjok.global.infrastructure.event.dto.WishlistChangedEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 통계 이벤트 동시 처리 테스트
+ * - 여러 스레드가 같은 레스토랑/메뉴 행을 동시에 갱신해도 증감이 유실되지 않는지 검증
+ * - 통계 증감은 버전을 올리지 않으므로 사장님 편집과 충돌하지 않고, 편집이 통계를 덮어쓰지도 않음
+ * - 스레드마다 별도 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("통계 이벤트 동시 처리 테스트")
+class StatisticsEventConcurrencyTest {
+
+    private static final int THREADS = 4;
+    private static final int EVENTS_PER_THREAD = 5;
+
+    @Autowired
+    private WishlistEventHandler wishlistEventHandler;
+
+    @Autowired
+    private ReviewEventHandler reviewEventHandler;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private RestaurantJpaRepository restaurantJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String restaurantId;
+    private String menuId;
+
+    @BeforeEach
+    void setUp() {
+        Restaurant restaurant = Restaurant.builder()
+                .id("REST" + UUID.randomUUID().toString().substring(0, 8))
+                .createdAt(LocalDateTime.now())
+                .ownerId("1")
+                .ownerName("테스트 사장님")
+                .restaurantName("동시성 레스토랑")
+                .status(RestaurantStatus.PREPARING)
+                .address(Address.builder()
+                        .province("서울특별시")
+                        .city("강남구")
+                        .district("역삼동")
+                        .detailAddress("123-45")
+                        .build())
+                .coordinate(Coordinate.builder()
+                        .latitude(new BigDecimal("37.5665"))
+                        .longitude(new BigDecimal("126.9780"))
+                        .build())
+                .contactNumber("02-1234-5678")
+                .tags(new ArrayList<>())
+                .isActive(true)
+                .createdBy("test")
+                .menus(new ArrayList<>())
+                .menuCategories(new ArrayList<>())
+                .operatingDays(new HashSet<>())
+                .categoryRelations(new HashSet<>())
+                .build();
+        restaurant.addMenu("김치찌개", "얼큰한 김치찌개", new BigDecimal("8000"), "test");
+
+        Restaurant saved = transactionTemplate.execute(status -> restaurantRepository.save(restaurant));
+        restaurantId = saved.getId();
+        menuId = saved.getMenus().get(0).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> restaurantJpaRepository.deleteById(restaurantId));
+    }
+
+    @Test
+    @DisplayName("성공: 동시에 들어온 레스토랑/메뉴 찜 증가가 모두 반영됨")
+    void concurrentWishlistEvents_noLostUpdates() throws Exception {
+        // given
+        Long versionBefore = transactionTemplate.execute(status ->
+                restaurantRepository.findById(restaurantId).orElseThrow().getVersion());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < EVENTS_PER_THREAD; i++) {
+                    wishlistEventHandler.handle(new WishlistChangedEvent(
+                            restaurantId, null, WishlistChangedEvent.WishlistAction.ADDED));
+                    wishlistEventHandler.handle(new WishlistChangedEvent(
+                            restaurantId, menuId, WishlistChangedEvent.WishlistAction.ADDED));
+                }
+                return null;
+            }));
+        }
+
+        // when
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        Restaurant result = transactionTemplate.execute(status ->
+                restaurantRepository.findByIdWithMenus(restaurantId).orElseThrow());
+        assertThat(result.getWishlistCount()).isEqualTo(THREADS * EVENTS_PER_THREAD);
+        assertThat(result.findMenuById(menuId).getWishlistCount()).isEqualTo(THREADS * EVENTS_PER_THREAD);
+        assertThat(result.getVersion()).isEqualTo(versionBefore);
+    }
+
+    @Test
+    @DisplayName("성공: 동시에 들어온 리뷰가 모두 개수/평균 평점에 반영됨")
+    void concurrentReviewEvents_noLostUpdates() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < EVENTS_PER_THREAD; i++) {
+                    reviewEventHandler.handle(new ReviewCreatedEvent(
+                            UUID.randomUUID().toString(), restaurantId, new BigDecimal("4.50")));
+                }
+                return null;
+            }));
+        }
+
+        // when
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        Restaurant result = transactionTemplate.execute(status ->
+                restaurantRepository.findById(restaurantId).orElseThrow());
+        assertThat(result.getReviewCount()).isEqualTo(THREADS * EVENTS_PER_THREAD);
+        assertThat(result.getReviewRating()).isEqualByComparingTo("4.50");
+        assertThat(result.getRankingScore()).isPositive();
+    }
+
+    @Test
+    @DisplayName("성공: 통계 증감 사이에 이전에 읽은 식당을 편집해도 충돌하지 않고 통계를 덮어쓰지 않음")
+    void ownerEditAfterCounterUpdates_keepsCounters() throws Exception {
+        // given: 사장님이 편집 화면을 연 뒤 찜 3건 반영
+        Restaurant editing = transactionTemplate.execute(status ->
+                restaurantRepository.findById(restaurantId).orElseThrow());
+        for (int i = 0; i < 3; i++) {
+            wishlistEventHandler.handle(new WishlistChangedEvent(
+                    restaurantId, null, WishlistChangedEvent.WishlistAction.ADDED));
+        }
+
+        // when
+        editing.updateBasicInfo(editing.getRestaurantName(), "02-3333-3333", "owner");
+        transactionTemplate.executeWithoutResult(status -> restaurantRepository.save(editing));
+
+        // then
+        Restaurant result = transactionTemplate.execute(status ->
+                restaurantRepository.findById(restaurantId).orElseThrow());
+        assertThat(result.getContactNumber()).isEqualTo("02-3333-3333");
+        assertThat(result.getWishlistCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실패: 다른 트랜잭션이 먼저 변경한 뒤 이전 버전으로 저장하면 충돌")
+    void staleWrite_rejected() {
+        // given: 같은 버전을 읽은 두 작성자
+        Restaurant first = transactionTemplate.execute(status ->
+                restaurantRepository.findById(restaurantId).orElseThrow());
+        Restaurant second = transactionTemplate.execute(status ->
+                restaurantRepository.findById(restaurantId).orElseThrow());
+
+        first.updateBasicInfo(first.getRestaurantName(), "02-1111-1111", "owner");
+        transactionTemplate.executeWithoutResult(status -> restaurantRepository.save(first));
+
+        // when & then: 늦게 저장한 쪽은 덮어쓰지 않고 충돌
+        second.updateBasicInfo(second.getRestaurantName(), "02-2222-2222", "admin");
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> restaurantRepository.save(second)))
+                .isInstanceOf(RestaurantException.class)
+                .satisfies(e -> assertThat(((RestaurantException) e).getErrorCode())
+                        .isEqualTo(RestaurantErrorCode.CONCURRENT_MODIFICATION));
+
+        Restaurant result = transactionTemplate.execute(status ->
+                restaurantRepository.findById(restaurantId).orElseThrow());
+        assertThat(result.getContactNumber()).isEqualTo("02-1111-1111");
+    }
+}
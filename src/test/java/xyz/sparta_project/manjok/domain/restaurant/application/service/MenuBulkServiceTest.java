@@ -0,0 +1,262 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.MenuErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.*;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuRepository;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.jpa.RestaurantJpaRepository;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.response.MenuImportResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MenuBulkService 통합 테스트
+ * - CSV/NDJSON 스트리밍 일괄 등록, 행별 오류 보고, 내보내기 → 재등록 왕복 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MenuBulkService 통합 테스트")
+class MenuBulkServiceTest {
+
+    @Autowired
+    private MenuBulkService menuBulkService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private RestaurantJpaRepository restaurantJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Restaurant testRestaurant;
+    private MenuCategory testCategory;
+    private final String CREATED_BY = "test-owner";
+
+    private static final String CSV_HEADER_LINE = String.join(",", MenuBulkService.CSV_HEADER);
+
+    @BeforeEach
+    void setUp() {
+        testRestaurant = Restaurant.builder()
+                .id("REST" + UUID.randomUUID().toString().substring(0, 8))
+                .createdAt(LocalDateTime.now())
+                .ownerId("1")
+                .ownerName("테스트 사장님")
+                .restaurantName("일괄 등록 레스토랑")
+                .status(RestaurantStatus.PREPARING)
+                .address(Address.builder()
+                        .province("서울특별시")
+                        .city("강남구")
+                        .district("역삼동")
+                        .detailAddress("123-45")
+                        .build())
+                .coordinate(Coordinate.builder()
+                        .latitude(new BigDecimal("37.5665"))
+                        .longitude(new BigDecimal("126.9780"))
+                        .build())
+                .contactNumber("02-1234-5678")
+                .tags(new ArrayList<>())
+                .isActive(true)
+                .createdBy(CREATED_BY)
+                .menus(new ArrayList<>())
+                .menuCategories(new ArrayList<>())
+                .operatingDays(new HashSet<>())
+                .categoryRelations(new HashSet<>())
+                .build();
+
+        testCategory = testRestaurant.addMenuCategory("메인메뉴", "대표 메인 메뉴", null, 1, CREATED_BY);
+        testRestaurant = restaurantRepository.save(testRestaurant);
+        testCategory = testRestaurant.getMenuCategories().get(0);
+    }
+
+    @Test
+    @DisplayName("성공: 메뉴 1,000개(옵션 그룹 2개, 옵션 3개씩) CSV를 수 초 안에 등록")
+    void importCsv_thousandMenus_withinSeconds() {
+        // given
+        StringBuilder csv = new StringBuilder(CSV_HEADER_LINE).append('\n');
+        for (int i = 0; i < 1_000; i++) {
+            for (String group : List.of("맵기", "추가")) {
+                for (int option = 0; option < 3; option++) {
+                    csv.append(String.join(",",
+                            "M" + i, "메뉴" + i, "\"설명, " + i + "\"", "", "9000", "500",
+                            "true", "false", "false", testCategory.getId(), testCategory.getId(),
+                            group, "", "false", "0", "1", group + option, String.valueOf(option * 500)))
+                            .append('\n');
+                }
+            }
+        }
+
+        // when
+        MenuImportResponse response = importCsv(csv.toString());
+
+        // then
+        assertThat(response.getErrors()).isEmpty();
+        assertThat(response.getImportedMenus()).isEqualTo(1_000);
+        assertThat(response.getImportedOptionGroups()).isEqualTo(2_000);
+        assertThat(response.getImportedOptions()).isEqualTo(6_000);
+        assertThat(response.getElapsedMillis()).isLessThan(10_000);
+
+        List<Menu> menus = menuRepository.findMenusForExport(testRestaurant.getId(), null, 2_000);
+        assertThat(menus).hasSize(1_000);
+        Menu first = menus.stream().filter(menu -> menu.getMenuName().equals("메뉴0")).findFirst().orElseThrow();
+        assertThat(first.getDescription()).isEqualTo("설명, 0");
+        assertThat(first.getPrimaryCategoryId()).isEqualTo(testCategory.getId());
+        assertThat(first.getOptionGroups()).hasSize(2);
+        assertThat(first.getOptionGroups().get(0).getOptions()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("부분 성공: 잘못된 행은 줄 번호와 오류 코드로 보고하고 나머지는 등록")
+    void importCsv_invalidRows_reportedPerRow() {
+        // given
+        String csv = CSV_HEADER_LINE + "\n"
+                + "M1,김치찌개,,,8000,,,,,,,,,,,,,\n"
+                + "M2,된장찌개,,,가격,,,,,,,,,,,,,\n"
+                + "M2,된장찌개,,,가격,,,,,,,,,,,,,\n"
+                + "M3,순두부,,,7000,,,,,CAT_UNKNOWN,,,,,,,,\n"
+                + "M4,제육볶음,,,9000,,,,,,,,,,,,,\n"
+                + "M5,\"닫히지 않은,,,9000\n";
+
+        // when
+        MenuImportResponse response = importCsv(csv);
+
+        // then
+        assertThat(response.getImportedMenus()).isEqualTo(2);
+        assertThat(response.getFailedMenus()).isEqualTo(3);
+        assertThat(response.getErrors())
+                .extracting(MenuImportResponse.RowError::getLineNumber, MenuImportResponse.RowError::getCode)
+                .containsExactly(
+                        tuple(3L, MenuErrorCode.INVALID_IMPORT_ROW.getCode()),
+                        tuple(5L, MenuErrorCode.CATEGORY_NOT_FOUND.getCode()),
+                        tuple(7L, MenuErrorCode.INVALID_IMPORT_FILE.getCode()));
+        assertThat(menuRepository.findMenusForExport(testRestaurant.getId(), null, 10))
+                .extracting(Menu::getMenuName)
+                .containsExactlyInAnyOrder("김치찌개", "제육볶음");
+    }
+
+    @Test
+    @DisplayName("성공: NDJSON 한 줄당 메뉴 1개 등록")
+    void importNdjson_success() {
+        // given
+        String ndjson = "{\"menuName\":\"비빔밥\",\"price\":9000,\"categoryIds\":[\"" + testCategory.getId() + "\"],"
+                + "\"optionGroups\":[{\"groupName\":\"사이즈\",\"isRequired\":true,\"minSelection\":1,\"maxSelection\":1,"
+                + "\"options\":[{\"optionName\":\"보통\",\"additionalPrice\":0},{\"optionName\":\"곱빼기\",\"additionalPrice\":1000}]}]}\n"
+                + "\n"
+                + "{\"menuName\":\"잘못된 옵션\",\"price\":9000,\"optionGroups\":[{\"groupName\":\"추가\","
+                + "\"options\":[{\"optionName\":\"치즈\",\"additionalPrice\":-100}]}]}\n"
+                + "{\"menuName\":\n";
+
+        // when
+        MenuImportResponse response = menuBulkService.importMenus(testRestaurant.getId(),
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), MenuFileFormat.NDJSON, CREATED_BY);
+
+        // then
+        assertThat(response.getImportedMenus()).isEqualTo(1);
+        assertThat(response.getImportedOptions()).isEqualTo(2);
+        assertThat(response.getErrors())
+                .extracting(MenuImportResponse.RowError::getLineNumber, MenuImportResponse.RowError::getCode)
+                .containsExactly(
+                        tuple(3L, MenuErrorCode.INVALID_OPTION_PRICE.getCode()),
+                        tuple(4L, MenuErrorCode.INVALID_IMPORT_ROW.getCode()));
+    }
+
+    @Test
+    @DisplayName("성공: 내보낸 CSV/NDJSON을 그대로 다시 등록할 수 있음")
+    void export_thenImport_roundTrip() throws IOException {
+        // given
+        importCsv(CSV_HEADER_LINE + "\n"
+                + "M1,\"김치찌개, 얼큰\",\"줄\n바꿈\",,8000,450,true,true,false," + testCategory.getId() + ","
+                + testCategory.getId() + ",맵기,,true,1,1,순한맛,0\n"
+                + "M1,\"김치찌개, 얼큰\",\"줄\n바꿈\",,8000,450,true,true,false," + testCategory.getId() + ","
+                + testCategory.getId() + ",맵기,,true,1,1,매운맛,500\n"
+                + "M2,공기밥,,,1000,,false,,,,,,,,,,,\n");
+
+        int expectedMenus = 2;
+        for (MenuFileFormat format : MenuFileFormat.values()) {
+            // when
+            ByteArrayOutputStream exported = new ByteArrayOutputStream();
+            menuBulkService.exportMenus(testRestaurant.getId(), format, exported);
+            MenuImportResponse response = menuBulkService.importMenus(testRestaurant.getId(),
+                    new ByteArrayInputStream(exported.toByteArray()), format, CREATED_BY);
+
+            // then: 내보낸 메뉴 전부가 오류 없이 다시 등록됨
+            assertThat(response.getErrors()).isEmpty();
+            assertThat(response.getImportedMenus()).isEqualTo(expectedMenus);
+            assertThat(response.getImportedOptions()).isEqualTo(expectedMenus);
+            expectedMenus *= 2;
+        }
+
+        List<Menu> menus = menuRepository.findMenusForExport(testRestaurant.getId(), null, 20);
+        assertThat(menus).hasSize(8);
+        assertThat(menus).filteredOn(menu -> menu.getMenuName().equals("김치찌개, 얼큰"))
+                .hasSize(4)
+                .allSatisfy(menu -> {
+                    assertThat(menu.getDescription()).isEqualTo("줄\n바꿈");
+                    assertThat(menu.getCalorie()).isEqualTo(450);
+                    assertThat(menu.getIsMain()).isTrue();
+                    assertThat(menu.getPrimaryCategoryId()).isEqualTo(testCategory.getId());
+                    assertThat(menu.getOptionGroups()).hasSize(1);
+                    assertThat(menu.getOptionGroups().get(0).getIsRequired()).isTrue();
+                });
+        assertThat(menus).filteredOn(menu -> menu.getMenuName().equals("공기밥"))
+                .allSatisfy(menu -> assertThat(menu.getIsAvailable()).isFalse());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("부분 성공: 저장 단계에서 실패한 메뉴만 행별 오류로 보고하고 같은 청크의 나머지는 등록")
+    void importCsv_insertFailure_reportedPerRowWithinChunk() {
+        // given - 재료가 컬럼 길이(500)를 넘는 메뉴는 검증은 통과하지만 INSERT에서 실패
+        String csv = CSV_HEADER_LINE + "\n"
+                + "M1,김치찌개,,,8000,,,,,,,,,,,,,\n"
+                + "M2,된장찌개,," + "콩".repeat(600) + ",7000,,,,,,,,,,,,,\n"
+                + "M3,제육볶음,,,9000,,,,,,,,,,,,,\n";
+
+        try {
+            // when
+            MenuImportResponse response = importCsv(csv);
+
+            // then
+            assertThat(response.getImportedMenus()).isEqualTo(2);
+            assertThat(response.getFailedMenus()).isEqualTo(1);
+            assertThat(response.getErrors())
+                    .extracting(MenuImportResponse.RowError::getLineNumber, MenuImportResponse.RowError::getCode)
+                    .containsExactly(tuple(3L, MenuErrorCode.IMPORT_CHUNK_FAILED.getCode()));
+            List<Menu> menus = transactionTemplate.execute(status ->
+                    menuRepository.findMenusForExport(testRestaurant.getId(), null, 10));
+            assertThat(menus)
+                    .extracting(Menu::getMenuName)
+                    .containsExactlyInAnyOrder("김치찌개", "제육볶음");
+        } finally {
+            transactionTemplate.executeWithoutResult(status ->
+                    restaurantJpaRepository.deleteById(testRestaurant.getId()));
+        }
+    }
+
+    private MenuImportResponse importCsv(String csv) {
+        return menuBulkService.importMenus(testRestaurant.getId(),
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), MenuFileFormat.CSV, CREATED_BY);
+    }
+}
@@ -0,0 +1,286 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.*;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuRepository;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.request.MenuCreateRequest;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.owner.dto.response.MenuResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MenuCatalogCache 통합 테스트
+ * - 미리 직렬화한 메뉴판 본문/ETag, 변경 이벤트에 의한 무효화, gzip 본문 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MenuCatalogCache 통합 테스트")
+class MenuCatalogCacheTest {
+
+    @Autowired
+    private MenuCatalogCache menuCatalogCache;
+
+    @Autowired
+    private MenuCommandService menuCommandService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuMapper menuMapper;
+
+    private Restaurant testRestaurant;
+    private MenuCategory testCategory;
+    private final String CREATED_BY = "test-owner";
+
+    @BeforeEach
+    void setUp() {
+        testRestaurant = Restaurant.builder()
+                .id("REST" + UUID.randomUUID().toString().substring(0, 8))
+                .createdAt(LocalDateTime.now())
+                .ownerId("1")
+                .ownerName("테스트 사장님")
+                .restaurantName("메뉴판 레스토랑")
+                .status(RestaurantStatus.PREPARING)
+                .address(Address.builder()
+                        .province("서울특별시")
+                        .city("강남구")
+                        .district("역삼동")
+                        .detailAddress("123-45")
+                        .build())
+                .coordinate(Coordinate.builder()
+                        .latitude(new BigDecimal("37.5665"))
+                        .longitude(new BigDecimal("126.9780"))
+                        .build())
+                .contactNumber("02-1234-5678")
+                .tags(new ArrayList<>())
+                .isActive(true)
+                .createdBy(CREATED_BY)
+                .menus(new ArrayList<>())
+                .menuCategories(new ArrayList<>())
+                .operatingDays(new HashSet<>())
+                .categoryRelations(new HashSet<>())
+                .build();
+
+        testRestaurant.addMenuCategory("메인메뉴", "대표 메인 메뉴", null, 1, CREATED_BY);
+        testRestaurant = restaurantRepository.save(testRestaurant);
+        testCategory = testRestaurant.getMenuCategories().get(0);
+    }
+
+    @Test
+    @DisplayName("성공: 본문은 ApiResponse로 감싼 메뉴판 JSON, 카테고리별 메뉴 ID 포함")
+    void get_bodyIsSerializedCatalog() throws IOException {
+        // given
+        MenuResponse menu = createMenu("김치찌개", "8000");
+
+        // when
+        MenuCatalogSnapshot snapshot = menuCatalogCache.get(testRestaurant.getId());
+
+        // then
+        JsonNode body = readBody(snapshot, false);
+        assertThat(body.get("success").asBoolean()).isTrue();
+        JsonNode data = body.get("data");
+        assertThat(data.get("restaurantId").asText()).isEqualTo(testRestaurant.getId());
+        assertThat(data.get("restaurantName").asText()).isEqualTo("메뉴판 레스토랑");
+        assertThat(data.get("menus")).hasSize(1);
+        assertThat(data.get("menus").get(0).get("menuName").asText()).isEqualTo("김치찌개");
+        assertThat(data.get("categories").get(0).get("categoryId").asText()).isEqualTo(testCategory.getId());
+        assertThat(data.get("categories").get(0).get("menuIds").get(0).asText()).isEqualTo(menu.getMenuId());
+        assertThat(snapshot.contentLength(false)).isEqualTo(snapshot.openBody(false).readAllBytes().length);
+    }
+
+    @Test
+    @DisplayName("성공: 변경이 없으면 같은 스냅샷, 재생성해도 ETag 유지")
+    void get_unchanged_sameEtag() {
+        // given
+        createMenu("김치찌개", "8000");
+        MenuCatalogSnapshot first = menuCatalogCache.get(testRestaurant.getId());
+
+        // when
+        MenuCatalogSnapshot cached = menuCatalogCache.get(testRestaurant.getId());
+        menuCatalogCache.invalidate(testRestaurant.getId());
+        MenuCatalogSnapshot rebuilt = menuCatalogCache.get(testRestaurant.getId());
+
+        // then
+        assertThat(cached).isSameAs(first);
+        assertThat(rebuilt).isNotSameAs(first);
+        assertThat(rebuilt.getEtag()).isEqualTo(first.getEtag());
+        assertThat(rebuilt.matches(first.getEtag())).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: 메뉴가 바뀌면 변경 이벤트로 무효화되어 ETag가 바뀜")
+    void get_afterMenuChange_newEtag() {
+        // given
+        createMenu("김치찌개", "8000");
+        MenuCatalogSnapshot before = menuCatalogCache.get(testRestaurant.getId());
+
+        // when
+        createMenu("된장찌개", "7000");
+        MenuCatalogSnapshot after = menuCatalogCache.get(testRestaurant.getId());
+
+        // then
+        assertThat(after.getMenuCount()).isEqualTo(2);
+        assertThat(after.getEtag()).isNotEqualTo(before.getEtag());
+        assertThat(after.matches(before.getEtag())).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: If-None-Match 목록/약한 비교/와일드카드 처리")
+    void matches_ifNoneMatchForms() {
+        // given
+        MenuCatalogSnapshot snapshot = menuCatalogCache.get(testRestaurant.getId());
+        String etag = snapshot.getEtag();
+
+        // when & then
+        assertThat(snapshot.matches(etag)).isTrue();
+        assertThat(snapshot.matches("W/" + etag)).isTrue();
+        assertThat(snapshot.matches("\"other\", " + etag)).isTrue();
+        assertThat(snapshot.matches("*")).isTrue();
+        assertThat(snapshot.matches("\"other\"")).isFalse();
+        assertThat(snapshot.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 큰 메뉴판은 gzip 본문을 함께 보관하고 풀면 원본과 같음")
+    void get_largeCatalog_hasGzipBody() throws IOException {
+        // given
+        for (int i = 0; i < 30; i++) {
+            createMenu("메뉴" + i, "9000");
+        }
+
+        // when
+        MenuCatalogSnapshot snapshot = menuCatalogCache.get(testRestaurant.getId());
+
+        // then
+        assertThat(snapshot.hasGzip()).isTrue();
+        assertThat(snapshot.contentLength(true)).isLessThan(snapshot.contentLength(false));
+        assertThat(readBody(snapshot, true)).isEqualTo(readBody(snapshot, false));
+    }
+
+    @Test
+    @DisplayName("성공: gzip 본문은 \"-gzip\" 접미사가 붙은 별도 ETag로 비교")
+    void etag_gzipBody_distinctEtag() {
+        // given
+        for (int i = 0; i < 30; i++) {
+            createMenu("메뉴" + i, "9000");
+        }
+        MenuCatalogSnapshot snapshot = menuCatalogCache.get(testRestaurant.getId());
+        String etag = snapshot.getEtag(false);
+        String gzipEtag = snapshot.getEtag(true);
+
+        // when & then
+        assertThat(gzipEtag).isEqualTo(etag.substring(0, etag.length() - 1) + "-gzip\"");
+        assertThat(snapshot.matches(gzipEtag, true)).isTrue();
+        assertThat(snapshot.matches(etag, true)).isFalse();
+        assertThat(snapshot.matches(gzipEtag, false)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: Accept-Encoding의 q 값에 따라 gzip 허용 여부 판단")
+    void acceptsGzip_qualityValues() {
+        assertThat(MenuCatalogSnapshot.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(MenuCatalogSnapshot.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue();
+        assertThat(MenuCatalogSnapshot.acceptsGzip("GZIP")).isTrue();
+        assertThat(MenuCatalogSnapshot.acceptsGzip("*")).isTrue();
+        assertThat(MenuCatalogSnapshot.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(MenuCatalogSnapshot.acceptsGzip("gzip; q=0.0, identity")).isFalse();
+        assertThat(MenuCatalogSnapshot.acceptsGzip("*, gzip;q=0")).isFalse();
+        assertThat(MenuCatalogSnapshot.acceptsGzip("*;q=0")).isFalse();
+        assertThat(MenuCatalogSnapshot.acceptsGzip("identity")).isFalse();
+        assertThat(MenuCatalogSnapshot.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 조회되지 않은 식당의 무효화는 세대를 남기지 않고, 스냅샷 제거 시 세대도 제거")
+    void generations_evictedWithSnapshots() {
+        // given - 식당 1곳만 보관하는 캐시
+        MenuCatalogCache cache = new MenuCatalogCache(menuRepository, restaurantRepository, menuMapper,
+                objectMapper, 60_000, 1);
+        Restaurant other = restaurantRepository.save(Restaurant.builder()
+                .id("REST" + UUID.randomUUID().toString().substring(0, 8))
+                .createdAt(LocalDateTime.now())
+                .ownerId("2")
+                .ownerName("다른 사장님")
+                .restaurantName("다른 레스토랑")
+                .status(RestaurantStatus.OPEN)
+                .address(testRestaurant.getAddress())
+                .coordinate(testRestaurant.getCoordinate())
+                .contactNumber("02-9876-5432")
+                .tags(new ArrayList<>())
+                .isActive(true)
+                .createdBy(CREATED_BY)
+                .menus(new ArrayList<>())
+                .menuCategories(new ArrayList<>())
+                .operatingDays(new HashSet<>())
+                .categoryRelations(new HashSet<>())
+                .build());
+
+        // when & then
+        cache.invalidate("REST-NEVER-LOADED");
+        assertThat(cache.trackedGenerations()).isZero();
+
+        cache.get(testRestaurant.getId());
+        cache.invalidate(testRestaurant.getId());
+        assertThat(cache.trackedGenerations()).isEqualTo(1);
+
+        cache.get(other.getId());
+        assertThat(cache.trackedGenerations()).isEqualTo(1);
+
+        assertThatThrownBy(() -> cache.get("REST-UNKNOWN")).isInstanceOf(RestaurantException.class);
+        assertThat(cache.trackedGenerations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패: 존재하지 않는 식당")
+    void get_unknownRestaurant_notFound() {
+        assertThatThrownBy(() -> menuCatalogCache.get("REST-UNKNOWN"))
+                .isInstanceOf(RestaurantException.class)
+                .extracting("errorCode")
+                .isEqualTo(RestaurantErrorCode.RESTAURANT_NOT_FOUND);
+    }
+
+    private MenuResponse createMenu(String menuName, String price) {
+        MenuCreateRequest request = MenuCreateRequest.builder()
+                .menuName(menuName)
+                .description(menuName + " 설명")
+                .price(new BigDecimal(price))
+                .categoryIds(Set.of(testCategory.getId()))
+                .primaryCategoryId(testCategory.getId())
+                .build();
+        return menuCommandService.createMenu(testRestaurant.getId(), request, CREATED_BY);
+    }
+
+    private JsonNode readBody(MenuCatalogSnapshot snapshot, boolean gzip) throws IOException {
+        try (InputStream body = gzip
+                ? new GZIPInputStream(snapshot.openBody(true))
+                : snapshot.openBody(false)) {
+            return objectMapper.readTree(body);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package xyz.sparta_project.manjok.domain.restaurant.application.service;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -44,6 +47,9 @@ class MenuCommandServiceTest {
     @Autowired
     private RestaurantRepository restaurantRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     // 테스트 데이터
     private Restaurant testRestaurant;
     private MenuCategory testCategory;
@@ -794,4 +800,110 @@ class MenuCommandServiceTest {
             assertThat(deletedMenu.getCategoryRelations()).allMatch(rel -> rel.isDeleted());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("메뉴 단위 저장 테스트")
+    class MenuScopedPersistenceTest {
+
+        @Test
+        @DisplayName("성공: 부분 수정 결과가 저장되고 다른 메뉴는 그대로 유지됨")
+        void patchMenu_persistsOnlyTargetMenu() {
+            // given
+            Menu target = testRestaurant.addMenu("김치찌개", "얼큰한 김치찌개", new BigDecimal("8000"), CREATED_BY);
+            Menu other = testRestaurant.addMenu("된장찌개", "구수한 된장찌개", new BigDecimal("7000"), CREATED_BY);
+            testRestaurant.addMenuToCategory(other.getId(), testCategory.getId(), true, CREATED_BY);
+            testRestaurant = restaurantRepository.save(testRestaurant);
+            entityManager.flush();
+            entityManager.clear();
+
+            MenuUpdateRequest request = MenuUpdateRequest.builder()
+                    .price(new BigDecimal("9000"))
+                    .build();
+
+            // when
+            menuCommandService.patchMenu(testRestaurant.getId(), target.getId(), request, UPDATED_BY);
+            entityManager.flush();
+            entityManager.clear();
+
+            // then
+            Restaurant reloaded = restaurantRepository.findById(testRestaurant.getId()).orElseThrow();
+            assertThat(reloaded.getMenus()).hasSize(2);
+            assertThat(reloaded.findMenuById(target.getId()).getPrice()).isEqualByComparingTo("9000");
+            assertThat(reloaded.findMenuById(other.getId()).getPrice()).isEqualByComparingTo("7000");
+            assertThat(reloaded.findMenuById(other.getId()).belongsToCategory(testCategory.getId())).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 메뉴 수정 SQL 수는 식당의 메뉴 수와 무관")
+        void updateMenu_statementCount_independentOfMenuCount() {
+            // given - 메뉴 1개 식당과 메뉴 30개 식당
+            Menu smallTarget = testRestaurant.addMenu("메뉴0", "설명", new BigDecimal("1000"), CREATED_BY);
+            smallTarget.addOptionGroup("맵기", "맵기 선택", false, 0, 1, CREATED_BY)
+                    .addOption("보통", 0, 1, CREATED_BY);
+            testRestaurant.addMenuToCategory(smallTarget.getId(), testCategory.getId(), true, CREATED_BY);
+            testRestaurant = restaurantRepository.save(testRestaurant);
+
+            Restaurant large = Restaurant.builder()
+                    .id("REST" + UUID.randomUUID().toString().substring(0, 8))
+                    .createdAt(LocalDateTime.now())
+                    .ownerId(OWNER_ID)
+                    .ownerName(OWNER_NAME)
+                    .restaurantName("메뉴 많은 레스토랑")
+                    .status(RestaurantStatus.PREPARING)
+                    .address(testRestaurant.getAddress())
+                    .coordinate(testRestaurant.getCoordinate())
+                    .contactNumber("02-1234-5678")
+                    .isActive(true)
+                    .createdBy(CREATED_BY)
+                    .menus(new ArrayList<>())
+                    .menuCategories(new ArrayList<>())
+                    .operatingDays(new HashSet<>())
+                    .categoryRelations(new HashSet<>())
+                    .build();
+            MenuCategory largeCategory = large.addMenuCategory("메인메뉴", "대표 메인 메뉴", null, 1, CREATED_BY);
+            Menu largeTarget = null;
+            for (int i = 0; i < 30; i++) {
+                Menu menu = large.addMenu("메뉴" + i, "설명", new BigDecimal("1000"), CREATED_BY);
+                menu.addOptionGroup("맵기", "맵기 선택", false, 0, 1, CREATED_BY)
+                        .addOption("보통", 0, 1, CREATED_BY);
+                large.addMenuToCategory(menu.getId(), largeCategory.getId(), true, CREATED_BY);
+                largeTarget = largeTarget == null ? menu : largeTarget;
+            }
+            large = restaurantRepository.save(large);
+
+            MenuUpdateRequest request = MenuUpdateRequest.builder()
+                    .price(new BigDecimal("2000"))
+                    .build();
+
+            // when
+            long smallStatements = countStatements(() -> menuCommandService.updateMenu(
+                    testRestaurant.getId(), smallTarget.getId(), request, UPDATED_BY));
+            String largeRestaurantId = large.getId();
+            String largeMenuId = largeTarget.getId();
+            long largeStatements = countStatements(() -> menuCommandService.updateMenu(
+                    largeRestaurantId, largeMenuId, request, UPDATED_BY));
+
+            // then - 헤더/메뉴/하위 컬렉션 조회 + 메뉴 UPDATE 뿐, 다른 메뉴 29개는 조회/저장하지 않음
+            assertThat(largeStatements).isEqualTo(smallStatements);
+            assertThat(largeStatements).isLessThan(15);
+        }
+
+        private long countStatements(Runnable action) {
+            entityManager.flush();
+            entityManager.clear();
+
+            Statistics statistics = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            statistics.setStatisticsEnabled(true);
+            try {
+                statistics.clear();
+                action.run();
+                entityManager.flush();
+                return statistics.getPrepareStatementCount();
+            } finally {
+                statistics.setStatisticsEnabled(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.*;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.MenuRepository;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantOpenHoursIndex;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MenuPriceIndex 통합 테스트
+ * - 가격표에 담기는 식당 정보, 보관 식당 수 상한과 세대 정리 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MenuPriceIndex 통합 테스트")
+class MenuPriceIndexTest {
+
+    @Autowired
+    private MenuPriceIndex menuPriceIndex;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private RestaurantOpenHoursIndex openHoursIndex;
+
+    private final String CREATED_BY = "test-owner";
+
+    @Test
+    @DisplayName("성공: 가격표에 서버에 저장된 식당 연락처/주소/좌표가 담긴다")
+    void get_snapshotCarriesRestaurantContact() {
+        // given
+        Restaurant restaurant = saveRestaurant("가격표 레스토랑", "02-1234-5678");
+
+        // when
+        MenuPriceSnapshot snapshot = menuPriceIndex.get(restaurant.getId());
+
+        // then
+        assertThat(snapshot.getRestaurantName()).isEqualTo("가격표 레스토랑");
+        assertThat(snapshot.getContactNumber()).isEqualTo("02-1234-5678");
+        assertThat(snapshot.getAddress()).isEqualTo(restaurant.getAddress());
+        assertThat(snapshot.getCoordinate().getLatitude()).isEqualByComparingTo("37.5665");
+        assertThat(snapshot.getCoordinate().getLongitude()).isEqualByComparingTo("126.9780");
+    }
+
+    @Test
+    @DisplayName("성공: 상한 초과 시 가장 오래 전에 적재한 식당부터 스냅샷과 세대를 함께 제거")
+    void get_overCapacity_evictsOldestLoaded() {
+        // given - 식당 2곳만 보관하는 가격표
+        MenuPriceIndex index = new MenuPriceIndex(menuRepository, openHoursIndex, 60_000, 2);
+        Restaurant first = saveRestaurant("첫 번째", "02-1111-1111");
+        Restaurant second = saveRestaurant("두 번째", "02-2222-2222");
+        Restaurant third = saveRestaurant("세 번째", "02-3333-3333");
+
+        // when
+        long firstVersion = index.get(first.getId()).getVersion();
+        long secondVersion = index.get(second.getId()).getVersion();
+        index.get(third.getId());
+
+        // then - 첫 번째만 제거, 나머지는 캐시된 가격표 그대로
+        assertThat(index.cachedRestaurants()).isEqualTo(2);
+        assertThat(index.trackedGenerations()).isEqualTo(2);
+        assertThat(index.get(second.getId()).getVersion()).isEqualTo(secondVersion);
+        assertThat(index.get(first.getId()).getVersion()).isGreaterThan(firstVersion);
+        assertThat(index.cachedRestaurants()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공: 적재하지 않은 식당의 무효화, 없는 식당 조회는 세대를 남기지 않는다")
+    void invalidate_unloaded_keepsNoGeneration() {
+        // given
+        MenuPriceIndex index = new MenuPriceIndex(menuRepository, openHoursIndex, 60_000, 10);
+        Restaurant restaurant = saveRestaurant("가격표 레스토랑", "02-1234-5678");
+
+        // when & then
+        index.invalidate("REST-NEVER-LOADED");
+        assertThat(index.trackedGenerations()).isZero();
+
+        long version = index.get(restaurant.getId()).getVersion();
+        index.invalidate(restaurant.getId());
+        assertThat(index.trackedGenerations()).isEqualTo(1);
+        assertThat(index.get(restaurant.getId()).getVersion()).isGreaterThan(version);
+
+        assertThatThrownBy(() -> index.get("REST-UNKNOWN")).isInstanceOf(RestaurantException.class);
+        assertThat(index.trackedGenerations()).isEqualTo(1);
+    }
+
+    private Restaurant saveRestaurant(String restaurantName, String contactNumber) {
+        return restaurantRepository.save(Restaurant.builder()
+                .id("REST" + UUID.randomUUID().toString().substring(0, 8))
+                .createdAt(LocalDateTime.now())
+                .ownerId("1")
+                .ownerName("테스트 사장님")
+                .restaurantName(restaurantName)
+                .status(RestaurantStatus.PREPARING)
+                .address(Address.builder()
+                        .province("서울특별시")
+                        .city("강남구")
+                        .district("역삼동")
+                        .detailAddress("123-45")
+                        .build())
+                .coordinate(Coordinate.builder()
+                        .latitude(new BigDecimal("37.5665"))
+                        .longitude(new BigDecimal("126.9780"))
+                        .build())
+                .contactNumber(contactNumber)
+                .tags(new ArrayList<>())
+                .isActive(true)
+                .createdBy(CREATED_BY)
+                .menus(new ArrayList<>())
+                .menuCategories(new ArrayList<>())
+                .operatingDays(new HashSet<>())
+                .categoryRelations(new HashSet<>())
+                .build());
+    }
+}
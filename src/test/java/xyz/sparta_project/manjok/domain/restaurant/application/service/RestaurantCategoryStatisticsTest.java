@@ -0,0 +1,119 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantCategoryMembershipChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCategoryRepository;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RestaurantCategoryStatistics 테스트")
+class RestaurantCategoryStatisticsTest {
+
+    @Mock
+    private RestaurantCategoryRepository categoryRepository;
+
+    private RestaurantCategoryStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new RestaurantCategoryStatistics(categoryRepository, 3, 1);
+    }
+
+    @Test
+    @DisplayName("집계 대상 변경과 주문을 모아 한 번에 반영하고 인기 카테고리를 갱신")
+    void flush_applies_accumulated_deltas() {
+        // Given - 식당 2곳 한식 등록, 1곳 한식 -> 일식 이동, 한식 주문 3건
+        statistics.onMembershipChanged(new RestaurantCategoryMembershipChangedEvent("R1", Set.of(), Set.of("KOREAN")));
+        statistics.onMembershipChanged(new RestaurantCategoryMembershipChangedEvent("R2", Set.of(), Set.of("KOREAN")));
+        statistics.onMembershipChanged(new RestaurantCategoryMembershipChangedEvent(
+                "R2", Set.of("KOREAN"), Set.of("JAPANESE")));
+        statistics.recordOrder(Set.of("KOREAN"));
+        statistics.recordOrder(Set.of("KOREAN"));
+        statistics.recordOrder(Set.of("KOREAN", "JAPANESE"));
+
+        // When
+        statistics.flush();
+
+        // Then
+        verify(categoryRepository).applyStatisticsDeltas(
+                Map.of("KOREAN", 1, "JAPANESE", 1),
+                Map.of("KOREAN", 3, "JAPANESE", 1));
+        verify(categoryRepository).refreshPopularCategories(3, 1);
+    }
+
+    @Test
+    @DisplayName("주문 증감이 없으면 인기 카테고리는 갱신하지 않는다")
+    void flush_without_orders_skips_popular_refresh() {
+        // Given
+        statistics.onMembershipChanged(new RestaurantCategoryMembershipChangedEvent("R1", Set.of("KOREAN"), Set.of()));
+
+        // When
+        statistics.flush();
+
+        // Then
+        verify(categoryRepository).applyStatisticsDeltas(Map.of("KOREAN", -1), Map.of());
+        verify(categoryRepository, never()).refreshPopularCategories(3, 1);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증감분을 보존했다가 다음 주기에 다시 반영")
+    void failed_flush_is_retried() {
+        // Given
+        statistics.recordOrder(Set.of("KOREAN"));
+        when(categoryRepository.applyStatisticsDeltas(anyMap(), anyMap()))
+                .thenThrow(new IllegalStateException("DB 장애"))
+                .thenReturn(1);
+        statistics.flush();
+
+        // When - 실패 후 주문 1건 추가
+        statistics.recordOrder(Set.of("KOREAN"));
+        statistics.flush();
+
+        // Then
+        verify(categoryRepository).applyStatisticsDeltas(Map.of(), Map.of("KOREAN", 1));
+        verify(categoryRepository).applyStatisticsDeltas(Map.of(), Map.of("KOREAN", 2));
+    }
+
+    @Test
+    @DisplayName("증감분이 없으면 DB에 접근하지 않는다")
+    void empty_flush_does_nothing() {
+        // Given - 서로 상쇄되는 변경
+        statistics.onMembershipChanged(new RestaurantCategoryMembershipChangedEvent("R1", Set.of(), Set.of("KOREAN")));
+        statistics.onMembershipChanged(new RestaurantCategoryMembershipChangedEvent("R1", Set.of("KOREAN"), Set.of()));
+
+        // When
+        statistics.flush();
+
+        // Then
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    @DisplayName("재계산 시 남은 증감분은 버리고 DB 기준으로 다시 계산")
+    void reconcile_discards_pending_deltas() {
+        // Given
+        statistics.recordOrder(Set.of("KOREAN"));
+
+        // When
+        statistics.reconcile();
+        statistics.flush();
+
+        // Then
+        verify(categoryRepository).reconcileStatistics();
+        verify(categoryRepository).refreshPopularCategories(3, 1);
+        verify(categoryRepository, never()).applyStatisticsDeltas(anyMap(), anyMap());
+    }
+}
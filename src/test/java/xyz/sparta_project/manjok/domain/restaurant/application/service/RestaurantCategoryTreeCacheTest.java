@@ -0,0 +1,186 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantCategoryChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCategory;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCategoryRepository;
+import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.common.dto.CategoryResponse;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RestaurantCategoryTreeCache 테스트")
+class RestaurantCategoryTreeCacheTest {
+
+    @Mock
+    private RestaurantCategoryRepository categoryRepository;
+
+    private RestaurantCategoryTreeCache cache;
+    private RestaurantCategoryQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RestaurantCategoryTreeCache(categoryRepository);
+        queryService = new RestaurantCategoryQueryService(cache);
+    }
+
+    @Test
+    @DisplayName("스냅샷에서 1차/계층/하위/인기 카테고리를 응답한다")
+    void serve_category_views_from_snapshot() {
+        // Given
+        when(categoryRepository.findChangeStamp()).thenReturn("v1");
+        when(categoryRepository.findAllForTree()).thenReturn(sampleTree());
+
+        // When
+        List<CategoryResponse> roots = queryService.getRootCategories();
+        List<CategoryResponse> hierarchy = queryService.getCategoryHierarchy();
+        List<CategoryResponse> subCategories = queryService.getSubCategoriesByParentId("KOREAN", 2);
+        List<CategoryResponse> popular = queryService.getPopularCategories();
+
+        // Then
+        assertThat(roots).extracting(CategoryResponse::getId).containsExactly("KOREAN", "CHINESE");
+        assertThat(hierarchy.get(0).getSubCategories()).extracting(CategoryResponse::getId)
+                .containsExactly("SOUP", "RICE");
+        assertThat(hierarchy.get(0).getSubCategories().get(0).getSubCategories())
+                .extracting(CategoryResponse::getId).containsExactly("STEW");
+        assertThat(hierarchy.get(1).hasSubCategories()).isFalse();
+        assertThat(subCategories).extracting(CategoryResponse::getParentCategoryName).containsOnly("한식");
+        assertThat(popular).extracting(CategoryResponse::getId).containsExactly("CHINESE", "KOREAN");
+        assertThat(queryService.getCategoryById("STEW").getParentCategoryName()).isEqualTo("국/탕");
+
+        // 모든 조회가 한 번 적재한 스냅샷을 공유
+        verify(categoryRepository, times(1)).findAllForTree();
+    }
+
+    @Test
+    @DisplayName("비활성 카테고리는 목록에서 빠지고 상세 조회 시 예외")
+    void inactive_category_is_hidden() {
+        // Given
+        when(categoryRepository.findChangeStamp()).thenReturn("v1");
+        when(categoryRepository.findAllForTree()).thenReturn(sampleTree());
+
+        // When & Then
+        assertThat(queryService.getSubCategoriesByParentId("KOREAN", 2))
+                .extracting(CategoryResponse::getId).doesNotContain("NOODLE");
+        assertThatThrownBy(() -> queryService.getCategoryById("NOODLE"))
+                .isInstanceOf(RestaurantException.class);
+        assertThatThrownBy(() -> queryService.getCategoryById("UNKNOWN"))
+                .isInstanceOf(RestaurantException.class);
+    }
+
+    @Test
+    @DisplayName("카테고리 ID를 사용 가능한 하위 트리 전체로 확장")
+    void expand_descendants() {
+        // Given
+        when(categoryRepository.findChangeStamp()).thenReturn("v1");
+        when(categoryRepository.findAllForTree()).thenReturn(sampleTree());
+        RestaurantCategoryTreeSnapshot snapshot = cache.get();
+
+        // When & Then
+        assertThat(snapshot.expandDescendants(Set.of("KOREAN")))
+                .containsExactlyInAnyOrder("KOREAN", "SOUP", "STEW", "RICE");
+        assertThat(snapshot.expandDescendants(Set.of("SOUP", "CHINESE")))
+                .containsExactlyInAnyOrder("SOUP", "STEW", "CHINESE");
+        assertThat(snapshot.expandDescendants(Set.of("UNKNOWN"))).containsExactly("UNKNOWN");
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 이벤트를 받으면 다음 조회에서 새 스냅샷으로 교체")
+    void change_event_swaps_snapshot() {
+        // Given
+        when(categoryRepository.findChangeStamp()).thenReturn("v1", "v2");
+        when(categoryRepository.findAllForTree()).thenReturn(
+                List.of(category("KOREAN", "한식", null, 1, 1)),
+                List.of(category("KOREAN", "한식", null, 1, 1), category("JAPANESE", "일식", null, 1, 2)));
+        RestaurantCategoryTreeSnapshot before = cache.get();
+
+        // When
+        cache.onCategoryChanged(new RestaurantCategoryChangedEvent("JAPANESE"));
+        RestaurantCategoryTreeSnapshot after = cache.get();
+
+        // Then
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(after.getRootCategories()).extracting(CategoryResponse::getId)
+                .containsExactly("KOREAN", "JAPANESE");
+        assertThat(before.getRootCategories()).extracting(CategoryResponse::getId)
+                .containsExactly("KOREAN");
+    }
+
+    @Test
+    @DisplayName("변경 스탬프가 그대로면 폴링해도 재적재하지 않고, 달라지면 재적재")
+    void poll_rebuilds_only_when_stamp_changes() {
+        // Given
+        when(categoryRepository.findChangeStamp()).thenReturn("v1", "v1", "v2", "v2");
+        when(categoryRepository.findAllForTree()).thenReturn(
+                List.of(category("KOREAN", "한식", null, 1, 1)),
+                List.of(category("KOREAN", "한식(수정)", null, 1, 1)));
+        cache.get();
+
+        // When - 다른 노드 변경 없음
+        cache.pollChanges();
+
+        // Then
+        verify(categoryRepository, times(1)).findAllForTree();
+
+        // When - 다른 노드에서 변경
+        cache.pollChanges();
+
+        // Then
+        verify(categoryRepository, times(2)).findAllForTree();
+        assertThat(cache.get().getRootCategories().get(0).getCategoryName()).isEqualTo("한식(수정)");
+        assertThat(cache.get().getChangeStamp()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 폴링해도 적재하지 않는다")
+    void poll_does_nothing_before_first_load() {
+        // When
+        cache.pollChanges();
+
+        // Then
+        verify(categoryRepository, times(0)).findChangeStamp();
+        verify(categoryRepository, times(0)).findAllForTree();
+    }
+
+    private List<RestaurantCategory> sampleTree() {
+        RestaurantCategory noodle = category("NOODLE", "면", "KOREAN", 2, 3);
+        noodle.setActive(false, "admin");
+        RestaurantCategory korean = category("KOREAN", "한식", null, 1, 1);
+        korean.setPopular(true, "admin");
+        korean.updateStatistics(10);
+        RestaurantCategory chinese = category("CHINESE", "중식", null, 1, 2);
+        chinese.setPopular(true, "admin");
+        chinese.updateStatistics(30);
+        return List.of(
+                category("STEW", "찌개", "SOUP", 3, 1),
+                category("RICE", "밥", "KOREAN", 2, 2),
+                korean,
+                noodle,
+                category("SOUP", "국/탕", "KOREAN", 2, 1),
+                chinese);
+    }
+
+    private RestaurantCategory category(String id, String name, String parentId, int depth, int displayOrder) {
+        return RestaurantCategory.builder()
+                .id(id)
+                .categoryCode(id)
+                .categoryName(name)
+                .parentCategoryId(parentId)
+                .depth(depth)
+                .displayOrder(displayOrder)
+                .build();
+    }
+}
@@ -286,6 +286,9 @@ class RestaurantCommandServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(RestaurantStatus.CLOSED.name());
+        assertThat(result.getTotalMenuCount()).isZero();
+        assertThat(restaurantRepository.findById(created.getRestaurantId()).orElseThrow().getStatus())
+                .isEqualTo(RestaurantStatus.CLOSED);
     }
 
     @Test
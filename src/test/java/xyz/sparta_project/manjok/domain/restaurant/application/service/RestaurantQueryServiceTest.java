@@ -13,6 +13,7 @@ import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantEx
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.*;
 import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCategoryRepository;
 import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantBestSellerIndex;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.admin.dto.response.AdminRestaurantResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.RestaurantDetailResponse;
 import xyz.sparta_project.manjok.domain.restaurant.presentation.rest.customer.dto.response.RestaurantSummaryResponse;
@@ -40,6 +41,12 @@ class RestaurantQueryServiceTest {
     @Autowired
     private RestaurantCategoryRepository restaurantCategoryRepository;
 
+    @Autowired
+    private RestaurantBestSellerIndex bestSellerIndex;
+
+    @Autowired
+    private RestaurantCardProjector restaurantCardProjector;
+
     private Restaurant testRestaurant;
     private RestaurantCategory testCategory;
     private final String OWNER_ID = "1";
@@ -114,6 +121,7 @@ class RestaurantQueryServiceTest {
 
         // 6. Restaurant 저장
         testRestaurant = restaurantRepository.save(testRestaurant);
+        restaurantCardProjector.flush();
     }
 
     // ==================== Customer 조회 테스트 ====================
@@ -126,7 +134,7 @@ class RestaurantQueryServiceTest {
 
         // when
         PageResponse<RestaurantSummaryResponse> result = restaurantQueryService.searchRestaurants(
-                "서울특별시", "강남구", null, null, null, pageable
+                "서울특별시", "강남구", null, null, null, null, pageable
         );
 
         // then
@@ -154,6 +162,28 @@ class RestaurantQueryServiceTest {
         assertThat(result.getViewCount()).isEqualTo(initialViewCount + 1);
     }
 
+    @Test
+    @DisplayName("식당 상세 조회 - 베스트셀러는 최근 구매량 순")
+    void getRestaurantDetail_BestSellers() {
+        // given
+        testRestaurant.changeStatus(RestaurantStatus.CLOSED, "TEST");
+        Menu burger = testRestaurant.addMenu("치즈버거", "설명", new BigDecimal("8000"), "TEST");
+        Menu cola = testRestaurant.addMenu("콜라", "설명", new BigDecimal("2000"), "TEST");
+        testRestaurant = restaurantRepository.save(testRestaurant);
+
+        bestSellerIndex.recordPurchase(testRestaurant.getId(), burger.getId(), 1);
+        bestSellerIndex.recordPurchase(testRestaurant.getId(), cola.getId(), 3);
+
+        // when
+        RestaurantDetailResponse result = restaurantQueryService.getRestaurantDetail(testRestaurant.getId());
+
+        // then
+        assertThat(result.getBestSellers())
+                .extracting(RestaurantDetailResponse.BestSellerMenuDto::getMenuName)
+                .containsExactly("콜라", "치즈버거");
+        assertThat(result.getBestSellers().get(0).getRank()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("식당 상세 조회 실패 - 존재하지 않는 식당")
     void getRestaurantDetail_NotFound() {
@@ -331,12 +361,13 @@ class RestaurantQueryServiceTest {
                 .isDeleted(false)
                 .build();
         restaurantRepository.save(noCategoryRestaurant);
+        restaurantCardProjector.flush();
 
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
         PageResponse<RestaurantSummaryResponse> result = restaurantQueryService.searchRestaurants(
-                null, null, null, null, "카테고리없는", pageable
+                null, null, null, null, null, "카테고리없는", pageable
         );
 
         // then
@@ -372,12 +403,13 @@ class RestaurantQueryServiceTest {
                 .build();
         testRestaurant.getCategoryRelations().add(inactiveRelation);
         restaurantRepository.save(testRestaurant);
+        restaurantCardProjector.flush();
 
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
         PageResponse<RestaurantSummaryResponse> result = restaurantQueryService.searchRestaurants(
-                null, null, null, null, "테스트식당", pageable
+                null, null, null, null, null, "테스트식당", pageable
         );
 
         // then
@@ -387,4 +419,77 @@ class RestaurantQueryServiceTest {
                 .contains("한식")
                 .doesNotContain("비활성카테고리");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("상위 카테고리로 검색하면 하위 카테고리 식당까지 포함")
+    void searchRestaurants_IncludeDescendantCategories() {
+        // given - 한식 > 국/탕 > 찌개
+        RestaurantCategory soup = restaurantCategoryRepository.save(RestaurantCategory.builder()
+                .categoryCode("KOREAN_SOUP")
+                .categoryName("국/탕")
+                .parentCategoryId(testCategory.getId())
+                .depth(2)
+                .displayOrder(1)
+                .createdAt(LocalDateTime.now())
+                .createdBy("TEST")
+                .build());
+        RestaurantCategory stew = restaurantCategoryRepository.save(RestaurantCategory.builder()
+                .categoryCode("KOREAN_STEW")
+                .categoryName("찌개")
+                .parentCategoryId(soup.getId())
+                .depth(3)
+                .displayOrder(1)
+                .createdAt(LocalDateTime.now())
+                .createdBy("TEST")
+                .build());
+
+        Restaurant stewRestaurant = Restaurant.builder()
+                .id(UUID.randomUUID().toString())
+                .createdAt(LocalDateTime.now())
+                .ownerId("2")
+                .ownerName("김철수")
+                .restaurantName("찌개전문점")
+                .status(RestaurantStatus.OPEN)
+                .address(testRestaurant.getAddress())
+                .contactNumber("02-8888-8888")
+                .tags(List.of())
+                .isActive(true)
+                .viewCount(0)
+                .wishlistCount(0)
+                .reviewCount(0)
+                .reviewRating(BigDecimal.ZERO)
+                .purchaseCount(0)
+                .menus(new ArrayList<>())
+                .menuCategories(new ArrayList<>())
+                .operatingDays(new HashSet<>())
+                .categoryRelations(new HashSet<>())
+                .createdBy("TEST")
+                .isDeleted(false)
+                .build();
+        stewRestaurant.getCategoryRelations().add(RestaurantCategoryRelation.builder()
+                .categoryId(stew.getId())
+                .isPrimary(true)
+                .createdAt(LocalDateTime.now())
+                .createdBy("TEST")
+                .isDeleted(false)
+                .build());
+        restaurantRepository.save(stewRestaurant);
+        restaurantCardProjector.flush();
+
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when
+        PageResponse<RestaurantSummaryResponse> byRoot = restaurantQueryService.searchRestaurants(
+                null, null, null, Set.of(testCategory.getId()), null, null, pageable
+        );
+        PageResponse<RestaurantSummaryResponse> byMiddle = restaurantQueryService.searchRestaurants(
+                null, null, null, Set.of(soup.getId()), null, null, pageable
+        );
+
+        // then
+        assertThat(byRoot.getContent()).extracting(RestaurantSummaryResponse::getRestaurantName)
+                .containsExactlyInAnyOrder("테스트식당", "찌개전문점");
+        assertThat(byMiddle.getContent()).extracting(RestaurantSummaryResponse::getRestaurantName)
+                .containsExactly("찌개전문점");
+    }
+}
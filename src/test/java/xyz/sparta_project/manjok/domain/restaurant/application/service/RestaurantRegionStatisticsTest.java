@@ -0,0 +1,153 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantRegionMembershipChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Address;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantRegionFacetIndex;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantRegionFacetIndex.RegionFacet;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RestaurantRegionStatistics 테스트")
+class RestaurantRegionStatisticsTest {
+
+    private static final String SEOUL = "서울특별시";
+    private static final String BUSAN = "부산광역시";
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    private RestaurantRegionFacetIndex regionFacetIndex;
+    private RestaurantRegionStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        regionFacetIndex = new RestaurantRegionFacetIndex();
+        statistics = new RestaurantRegionStatistics(restaurantRepository, regionFacetIndex);
+    }
+
+    @Test
+    @DisplayName("등록/이전/삭제 이벤트로 시/도·시/군/구·동별 식당 수를 갱신")
+    void membership_changes_update_region_counts() {
+        // Given - 강남구 2곳, 해운대구 1곳 등록 후 1곳은 역삼동 -> 삼성동 이전, 해운대 식당 삭제
+        statistics.onMembershipChanged(changed("R1", SEOUL, "강남구", "역삼동"));
+        statistics.onMembershipChanged(changed("R2", SEOUL, "강남구", "역삼동"));
+        statistics.onMembershipChanged(changed("R3", BUSAN, "해운대구", "우동"));
+        statistics.onMembershipChanged(changed("R2", SEOUL, "강남구", "삼성동"));
+        statistics.onMembershipChanged(changed("R3", null, null, null));
+
+        // When & Then
+        assertThat(regionFacetIndex.getFacets(null, null))
+                .extracting(RegionFacet::name, RegionFacet::restaurantCount)
+                .containsExactly(tuple(SEOUL, 2L));
+        assertThat(regionFacetIndex.getFacets(SEOUL, null))
+                .extracting(RegionFacet::name, RegionFacet::restaurantCount)
+                .containsExactly(tuple("강남구", 2L));
+        assertThat(regionFacetIndex.getFacets(SEOUL, "강남구"))
+                .extracting(RegionFacet::name, RegionFacet::restaurantCount)
+                .containsExactly(tuple("삼성동", 1L), tuple("역삼동", 1L));
+    }
+
+    @Test
+    @DisplayName("같은 변경이 두 번 와도 중복 집계하지 않음")
+    void duplicate_change_is_idempotent() {
+        // Given
+        statistics.onMembershipChanged(changed("R1", SEOUL, "강남구", "역삼동"));
+        statistics.onMembershipChanged(changed("R1", SEOUL, "강남구", "역삼동"));
+
+        // When & Then
+        assertThat(regionFacetIndex.count(SEOUL, "강남구", "역삼동")).isEqualTo(1);
+        assertThat(regionFacetIndex.count(null, null, null)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재계산은 식당 테이블 기준으로 전체 교체")
+    void reconcile_replaces_counts_from_repository() {
+        // Given - 이벤트 누락으로 어긋난 집계
+        statistics.onMembershipChanged(changed("GONE", BUSAN, "해운대구", "우동"));
+        when(restaurantRepository.findCountedRestaurantRegions()).thenReturn(Map.of(
+                "R1", region(SEOUL, "강남구", "역삼동"),
+                "R2", region(SEOUL, "마포구", "서교동"),
+                "R3", region(SEOUL, "마포구", "합정동")
+        ));
+
+        // When
+        statistics.reconcile();
+
+        // Then
+        assertThat(regionFacetIndex.getFacets(null, null))
+                .extracting(RegionFacet::name, RegionFacet::restaurantCount)
+                .containsExactly(tuple(SEOUL, 3L));
+        assertThat(regionFacetIndex.getFacets(SEOUL, null))
+                .extracting(RegionFacet::name, RegionFacet::restaurantCount)
+                .containsExactly(tuple("마포구", 2L), tuple("강남구", 1L));
+
+        // 재계산 이후 변경은 교체된 집계 위에 반영
+        statistics.onMembershipChanged(changed("R1", null, null, null));
+        assertThat(regionFacetIndex.count(SEOUL, "강남구", null)).isZero();
+    }
+
+    @Test
+    @DisplayName("조회는 메모리 인덱스만 읽고 다른 노드의 변경은 주기 재계산으로 반영")
+    void getFacets_readsMemoryOnly_refreshAppliesOtherNodeChanges() {
+        // Given - 적재 후 다른 노드에서 식당 추가
+        when(restaurantRepository.findCountedRestaurantRegions())
+                .thenReturn(Map.of("R1", region(SEOUL, "강남구", "역삼동")))
+                .thenReturn(Map.of(
+                        "R1", region(SEOUL, "강남구", "역삼동"),
+                        "R2", region(BUSAN, "해운대구", "우동")));
+        statistics.warmUp();
+
+        // When & Then - 조회는 DB를 읽지 않음
+        assertThat(statistics.getFacets(null, null))
+                .extracting(RegionFacet::name, RegionFacet::restaurantCount)
+                .containsExactly(tuple(SEOUL, 1L));
+        assertThat(statistics.getFacets(SEOUL, null)).hasSize(1);
+        verify(restaurantRepository, times(1)).findCountedRestaurantRegions();
+
+        // When & Then - 주기 재계산 후 다른 노드 변경 반영
+        statistics.refresh();
+        assertThat(statistics.getFacets(null, null))
+                .extracting(RegionFacet::name, RegionFacet::restaurantCount)
+                .containsExactly(tuple(BUSAN, 1L), tuple(SEOUL, 1L));
+        verify(restaurantRepository, times(2)).findCountedRestaurantRegions();
+    }
+
+    @Test
+    @DisplayName("주기 재계산이 실패하면 기존 집계를 유지")
+    void refresh_failure_keepsExistingCounts() {
+        // Given
+        statistics.onMembershipChanged(changed("R1", SEOUL, "강남구", "역삼동"));
+        when(restaurantRepository.findCountedRestaurantRegions()).thenThrow(new IllegalStateException("db down"));
+
+        // When
+        statistics.refresh();
+
+        // Then
+        assertThat(statistics.getFacets(null, null))
+                .extracting(RegionFacet::name, RegionFacet::restaurantCount)
+                .containsExactly(tuple(SEOUL, 1L));
+    }
+
+    private static RestaurantRegionMembershipChangedEvent changed(String restaurantId, String province,
+                                                                  String city, String district) {
+        return new RestaurantRegionMembershipChangedEvent(restaurantId, province, city, district);
+    }
+
+    private static Address region(String province, String city, String district) {
+        return Address.builder().province(province).city(city).district(district).build();
+    }
+}
@@ -0,0 +1,71 @@
+package xyz.sparta_project.manjok.domain.restaurant.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.TrendingPeriod;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.TrendingSnapshotRepository;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache.RestaurantTrendingIndex;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * RestaurantTrendingExchange 통합 테스트
+ * - 두 노드(인덱스 + 교환)가 같은 스냅샷 테이블로 트렌딩 집계를 주고받는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("RestaurantTrendingExchange 통합 테스트")
+class RestaurantTrendingExchangeTest {
+
+    private static final String SEOUL = "서울특별시";
+
+    @Autowired
+    private TrendingSnapshotRepository snapshotRepository;
+
+    @Test
+    @DisplayName("성공: 각 노드가 발행한 윈도우를 다른 노드가 폴링해 합산한다")
+    void exchange_mergesOtherNodeWindows() {
+        // given
+        RestaurantTrendingIndex indexA = newIndex();
+        RestaurantTrendingIndex indexB = newIndex();
+        RestaurantTrendingExchange nodeA = new RestaurantTrendingExchange(indexA, snapshotRepository, "node-a", 30_000);
+        RestaurantTrendingExchange nodeB = new RestaurantTrendingExchange(indexB, snapshotRepository, "node-b", 30_000);
+        indexA.recordRestaurant("R1", "서울치킨", SEOUL, Set.of("CHICKEN"), 5);
+
+        // when - A 발행 -> B 폴링
+        nodeA.exchange();
+        nodeB.exchange();
+
+        // then
+        assertThat(indexB.topRestaurants(TrendingPeriod.LAST_HOUR, SEOUL, "CHICKEN", 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::name, RestaurantTrendingIndex.TrendingItem::score)
+                .containsExactly(tuple("서울치킨", 5L));
+
+        // when - B 신호 발행 -> A 폴링, B는 이미 받은 A 스냅샷을 다시 더하지 않음
+        indexB.recordRestaurant("R1", "서울치킨", SEOUL, Set.of("CHICKEN"), 3);
+        nodeB.exchange();
+        nodeA.exchange();
+        nodeB.exchange();
+
+        // then
+        assertThat(indexA.topRestaurants(TrendingPeriod.TODAY, null, null, 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::score)
+                .containsExactly(8L);
+        assertThat(indexB.topRestaurants(TrendingPeriod.TODAY, null, null, 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::score)
+                .containsExactly(8L);
+        assertThat(snapshotRepository.findUpdatedSince("node-c", 0)).hasSize(2 * 8);
+    }
+
+    private static RestaurantTrendingIndex newIndex() {
+        return new RestaurantTrendingIndex(512, 4, 20, 1000, 128, 100);
+    }
+}
@@ -0,0 +1,84 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("RankingScorePolicy 도메인 모델 테스트")
+class RankingScorePolicyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+    private final RankingScorePolicy policy = RankingScorePolicy.defaults();
+
+    @Test
+    @DisplayName("리뷰가 적은 고평점 식당은 사전 평점 쪽으로 보정된다")
+    void should_pull_low_review_count_toward_prior() {
+        // when
+        double fewReviews = policy.calculate(new BigDecimal("5.0"), 1, 0, 0, NOW, NOW);
+        double manyReviews = policy.calculate(new BigDecimal("4.8"), 300, 0, 0, NOW, NOW);
+
+        // then
+        assertThat(manyReviews).isGreaterThan(fewReviews);
+    }
+
+    @Test
+    @DisplayName("점수는 0 ~ 1 범위이고 포화 기준을 넘어도 1을 넘지 않는다")
+    void should_stay_in_unit_range() {
+        // when
+        double max = policy.calculate(new BigDecimal("5.0"), 100_000, 1_000_000, 1_000_000, NOW, NOW);
+        double min = policy.calculate(null, 0, 0, 0, null, NOW);
+
+        // then
+        assertThat(max).isCloseTo(1.0, within(1e-3));
+        assertThat(min).isBetween(0.0, 1.0);
+    }
+
+    @Test
+    @DisplayName("최근 구매 점수는 반감기마다 절반으로 감쇠한다")
+    void should_decay_purchase_score_by_half_life() {
+        // when
+        double afterHalfLife = policy.decayPurchaseScore(80, NOW, NOW.plusDays(7));
+        double afterTwoHalfLives = policy.decayPurchaseScore(80, NOW, NOW.plusDays(14));
+
+        // then
+        assertThat(afterHalfLife).isCloseTo(40, within(1e-9));
+        assertThat(afterTwoHalfLives).isCloseTo(20, within(1e-9));
+        assertThat(policy.decayPurchaseScore(80, null, NOW)).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("다른 조건이 같으면 신규 식당과 최근 구매가 많은 식당이 앞선다")
+    void should_prefer_fresh_and_recently_purchased() {
+        // when
+        double fresh = policy.calculate(new BigDecimal("4.0"), 10, 0, 0, NOW, NOW);
+        double old = policy.calculate(new BigDecimal("4.0"), 10, 0, 0, NOW.minusYears(1), NOW);
+        double purchased = policy.calculate(new BigDecimal("4.0"), 10, 50, 0, NOW.minusYears(1), NOW);
+
+        // then
+        assertThat(fresh).isGreaterThan(old);
+        assertThat(purchased).isGreaterThan(old);
+    }
+
+    @Test
+    @DisplayName("가중치를 설정으로 바꾸면 점수 구성이 달라진다")
+    void should_apply_configured_weights() {
+        // given - 평점만 반영
+        RankingScorePolicy ratingOnly = RankingScorePolicy.builder()
+                .purchaseWeight(0)
+                .wishlistWeight(0)
+                .freshnessWeight(0)
+                .priorWeight(0)
+                .build();
+
+        // when
+        double score = ratingOnly.calculate(new BigDecimal("4.0"), 10, 500, 500, NOW, NOW);
+
+        // then
+        assertThat(score).isCloseTo(0.8, within(1e-9));
+    }
+}
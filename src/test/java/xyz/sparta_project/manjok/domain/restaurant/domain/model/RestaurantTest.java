@@ -10,6 +10,7 @@ import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantEx
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -269,6 +270,40 @@ class RestaurantTest {
                 .hasFieldOrPropertyWithValue("errorCode", MenuErrorCode.MENU_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("베스트셀러 메뉴 - 순위 순서 유지, 판매 중지 메뉴 제외")
+    void getBestSellerMenus_ranked() {
+        // given
+        restaurant.changeStatus(RestaurantStatus.CLOSED, userId);
+        Menu burger = restaurant.addMenu("치즈버거", "설명", new BigDecimal("8000"), userId);
+        Menu fries = restaurant.addMenu("감자튀김", "설명", new BigDecimal("3000"), userId);
+        Menu cola = restaurant.addMenu("콜라", "설명", new BigDecimal("2000"), userId);
+        fries.setAvailable(false, userId);
+
+        // when
+        List<Menu> bestSellers = restaurant.getBestSellerMenus(
+                List.of(cola.getId(), fries.getId(), "DELETED_MENU", burger.getId()), 5);
+
+        // then
+        assertThat(bestSellers).extracting(Menu::getMenuName).containsExactly("콜라", "치즈버거");
+    }
+
+    @Test
+    @DisplayName("베스트셀러 메뉴 - 순위 정보가 없으면 인기 메뉴로 대체")
+    void getBestSellerMenus_fallbackToPopular() {
+        // given
+        restaurant.changeStatus(RestaurantStatus.CLOSED, userId);
+        restaurant.addMenu("치즈버거", "설명", new BigDecimal("8000"), userId);
+        Menu popular = restaurant.addMenu("불고기버거", "설명", new BigDecimal("9000"), userId);
+        popular.setPopular(true, userId);
+
+        // when
+        List<Menu> bestSellers = restaurant.getBestSellerMenus(List.of(), 5);
+
+        // then
+        assertThat(bestSellers).extracting(Menu::getMenuName).containsExactly("불고기버거");
+    }
+
     @Test
     @DisplayName("메뉴 카테고리 추가 - 최상위")
     void addMenuCategory_root() {
@@ -0,0 +1,138 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WeeklyOperatingBitmap 도메인 모델 테스트")
+class WeeklyOperatingBitmapTest {
+
+    // 2024-01-01은 월요일
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private OperatingDay day(DayType dayType, LocalTime start, LocalTime end,
+                             LocalTime breakStart, LocalTime breakEnd, boolean holiday) {
+        return OperatingDay.builder()
+                .restaurantId("REST001")
+                .dayType(dayType)
+                .timeType(OperatingTimeType.REGULAR)
+                .startTime(start)
+                .endTime(end)
+                .breakStartTime(breakStart)
+                .breakEndTime(breakEnd)
+                .isHoliday(holiday)
+                .build();
+    }
+
+    @Test
+    @DisplayName("운영 시간/브레이크 타임이 5분 슬롯 비트로 반영된다")
+    void should_mark_operating_slots() {
+        // given
+        WeeklyOperatingBitmap bitmap = WeeklyOperatingBitmap.from(Set.of(
+                day(DayType.MON, LocalTime.of(9, 0), LocalTime.of(22, 0),
+                        LocalTime.of(15, 0), LocalTime.of(17, 0), false)
+        ));
+
+        // then
+        assertThat(bitmap.isOpenAt(MONDAY.withHour(8).withMinute(55))).isFalse();
+        assertThat(bitmap.isOpenAt(MONDAY.withHour(9))).isTrue();
+        assertThat(bitmap.isOpenAt(MONDAY.withHour(14).withMinute(59))).isTrue();
+        assertThat(bitmap.isOpenAt(MONDAY.withHour(15))).isFalse();
+        assertThat(bitmap.isOpenAt(MONDAY.withHour(17))).isTrue();
+        assertThat(bitmap.isOpenAt(MONDAY.withHour(21).withMinute(59))).isTrue();
+        assertThat(bitmap.isOpenAt(MONDAY.withHour(22))).isFalse();
+        assertThat(bitmap.isOpenAt(MONDAY.plusDays(1).withHour(12))).isFalse();
+    }
+
+    @Test
+    @DisplayName("5분 단위 시각에서는 OperatingDay.isOpenAt과 결과가 같다")
+    void should_match_operating_day_rule_on_slot_boundaries() {
+        // given
+        List<OperatingDay> days = List.of(
+                day(DayType.MON, LocalTime.of(9, 0), LocalTime.of(22, 0),
+                        LocalTime.of(15, 0), LocalTime.of(17, 0), false),
+                day(DayType.FRI, LocalTime.of(20, 0), LocalTime.of(2, 0), null, null, false),
+                day(DayType.SUN, LocalTime.of(10, 0), LocalTime.of(20, 0), null, null, true)
+        );
+        WeeklyOperatingBitmap bitmap = WeeklyOperatingBitmap.from(days);
+
+        // when & then
+        for (int slot = 0; slot < WeeklyOperatingBitmap.SLOTS_PER_WEEK; slot++) {
+            LocalDateTime at = MONDAY.plusMinutes((long) slot * WeeklyOperatingBitmap.SLOT_MINUTES);
+            boolean expected = days.stream()
+                    .anyMatch(d -> d.isOpenAt(at) && !at.toLocalTime().equals(d.getEndTime()));
+            assertThat(bitmap.isOpenAt(at)).as("slot %d (%s)", slot, at).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("휴무일은 영업 슬롯이 없다")
+    void should_skip_holiday() {
+        // given
+        WeeklyOperatingBitmap bitmap = WeeklyOperatingBitmap.from(Set.of(
+                day(DayType.TUE, LocalTime.of(9, 0), LocalTime.of(18, 0), null, null, true)
+        ));
+
+        // then
+        assertThat(bitmap.hasAnyOpenSlot()).isFalse();
+    }
+
+    @Test
+    @DisplayName("바이너리 변환 후 복원하면 같은 비트맵이다")
+    void should_round_trip_bytes() {
+        // given
+        WeeklyOperatingBitmap bitmap = WeeklyOperatingBitmap.from(Set.of(
+                day(DayType.WED, LocalTime.of(11, 0), LocalTime.of(21, 0), null, null, false),
+                day(DayType.SUN, LocalTime.of(0, 0), LocalTime.of(23, 59), null, null, false)
+        ));
+
+        // when
+        byte[] bytes = bitmap.toBytes();
+
+        // then
+        assertThat(bytes).hasSize(WeeklyOperatingBitmap.BYTE_LENGTH);
+        assertThat(WeeklyOperatingBitmap.fromBytes(bytes)).isEqualTo(bitmap);
+        assertThat(WeeklyOperatingBitmap.fromBytes(null).hasAnyOpenSlot()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다음 영업 시작 시각 - 영업 전, 브레이크 타임, 영업 종료 후")
+    void should_find_next_opening_time() {
+        // given
+        WeeklyOperatingBitmap bitmap = WeeklyOperatingBitmap.from(Set.of(
+                day(DayType.MON, LocalTime.of(9, 0), LocalTime.of(22, 0),
+                        LocalTime.of(15, 0), LocalTime.of(17, 0), false)
+        ));
+
+        // then
+        assertThat(bitmap.nextOpeningAfter(MONDAY.withHour(8).withMinute(3)))
+                .contains(MONDAY.withHour(9));
+        assertThat(bitmap.nextOpeningAfter(MONDAY.withHour(15).withMinute(31).withSecond(20)))
+                .contains(MONDAY.withHour(17));
+        // 월요일 영업 종료 후에는 다음 주 월요일
+        assertThat(bitmap.nextOpeningAfter(MONDAY.withHour(23)))
+                .contains(MONDAY.plusWeeks(1).withHour(9));
+    }
+
+    @Test
+    @DisplayName("다음 영업 시작 시각 - 영업 슬롯이 없거나 항상 영업이면 empty")
+    void should_return_empty_when_no_transition() {
+        // given
+        WeeklyOperatingBitmap alwaysOpen = WeeklyOperatingBitmap.from(
+                Arrays.stream(DayType.values())
+                        .map(dayType -> day(dayType, LocalTime.of(0, 0), LocalTime.of(23, 59), null, null, false))
+                        .toList()
+        );
+
+        // then
+        assertThat(WeeklyOperatingBitmap.empty().nextOpeningAfter(MONDAY)).isEmpty();
+        assertThat(alwaysOpen.nextOpeningAfter(MONDAY)).isEmpty();
+    }
+}
@@ -0,0 +1,95 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuStock;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메뉴 재고 경합 벤치마크
+ * - 64개 스레드가 같은 메뉴를 동시에 주문 (스레드마다 예약 1건 = 트랜잭션 1개)
+ * - 스레드마다 별도 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("메뉴 재고 경합 벤치마크")
+class MenuStockContentionBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int ORDERS_PER_THREAD = 50;
+    private static final int DAILY_STOCK = 2_000;
+
+    @Autowired
+    private MenuStockRepository menuStockRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final String menuId = UUID.randomUUID().toString();
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> menuStockRepository.deleteByMenuId(menuId));
+    }
+
+    @Test
+    @DisplayName("64 스레드 동시 예약 - 일일 재고만큼만 성공, 초과 판매 없음")
+    void reserve_64ThreadsSameMenu() throws Exception {
+        // given
+        LocalDate today = LocalDate.now();
+        transactionTemplate.executeWithoutResult(status ->
+                menuStockRepository.saveDailyStock(UUID.randomUUID().toString(), menuId, DAILY_STOCK, today));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                    Boolean success = transactionTemplate.execute(status ->
+                            menuStockRepository.reserve(menuId, 1, today));
+                    (Boolean.TRUE.equals(success) ? reserved : rejected).incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        // when
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(120, TimeUnit.SECONDS);
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - begin) / 1_000_000);
+        executor.shutdown();
+
+        int attempts = THREADS * ORDERS_PER_THREAD;
+        System.out.printf(
+                "[benchmark] menuStockContention: threads=%d, attempts=%d, reserved=%d, rejected=%d, elapsed=%dms, throughput=%d ops/s%n",
+                THREADS, attempts, reserved.get(), rejected.get(), elapsedMillis, attempts * 1000L / elapsedMillis);
+
+        // then - 정확히 일일 재고만큼 예약, 남은 수량 0 (품절)
+        MenuStock stock = menuStockRepository.findByMenuId(menuId).orElseThrow();
+        assertThat(reserved.get()).isEqualTo(DAILY_STOCK);
+        assertThat(rejected.get()).isEqualTo(attempts - DAILY_STOCK);
+        assertThat(stock.getRemainingOn(today)).isZero();
+        assertThat(stock.isSoldOutOn(today)).isTrue();
+    }
+}
@@ -0,0 +1,133 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.MenuStock;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MenuStockRepository 통합 테스트")
+class MenuStockRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private MenuStockRepository menuStockRepository;
+
+    private String restaurantId;
+    private String menuId;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = UUID.randomUUID().toString();
+        menuId = UUID.randomUUID().toString();
+    }
+
+    @Test
+    @DisplayName("재고 미설정 메뉴 - 수량과 관계없이 예약 성공")
+    void reserve_Unlimited() {
+        // when & then
+        assertThat(menuStockRepository.reserve(menuId, 1_000, TODAY)).isTrue();
+        assertThat(menuStockRepository.findByMenuId(menuId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예약 - 남은 수량만큼만 성공, 부족하면 변경 없이 실패 후 품절")
+    void reserve_UntilSoldOut() {
+        // given
+        menuStockRepository.saveDailyStock(restaurantId, menuId, 3, TODAY);
+
+        // when & then
+        assertThat(menuStockRepository.reserve(menuId, 2, TODAY)).isTrue();
+        assertThat(menuStockRepository.reserve(menuId, 2, TODAY)).isFalse();
+        assertThat(remaining()).isEqualTo(1);
+
+        assertThat(menuStockRepository.reserve(menuId, 1, TODAY)).isTrue();
+        MenuStock stock = menuStockRepository.findByMenuId(menuId).orElseThrow();
+        assertThat(stock.getRemainingOn(TODAY)).isZero();
+        assertThat(stock.isSoldOutOn(TODAY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("반환 - 예약한 날 재고에만 반환, 일일 재고 초과 불가")
+    void release_SameDayOnly() {
+        // given
+        menuStockRepository.saveDailyStock(restaurantId, menuId, 5, TODAY);
+        menuStockRepository.reserve(menuId, 4, TODAY);
+
+        // when
+        menuStockRepository.release(menuId, 2, TODAY);
+        menuStockRepository.release(menuId, 2, TODAY.minusDays(1));
+
+        // then
+        assertThat(remaining()).isEqualTo(3);
+
+        menuStockRepository.release(menuId, 10, TODAY);
+        assertThat(remaining()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("날짜 변경 - 전날 품절이어도 그날 첫 예약은 일일 재고에서 차감")
+    void reserve_RollsOverNextDay() {
+        // given - 전날 품절
+        menuStockRepository.saveDailyStock(restaurantId, menuId, 2, TODAY.minusDays(1));
+        menuStockRepository.reserve(menuId, 2, TODAY.minusDays(1));
+        assertThat(menuStockRepository.findByMenuId(menuId).orElseThrow().isSoldOutOn(TODAY.minusDays(1))).isTrue();
+        assertThat(menuStockRepository.findByMenuId(menuId).orElseThrow().isSoldOutOn(TODAY)).isFalse();
+
+        // when & then
+        assertThat(menuStockRepository.reserve(menuId, 3, TODAY)).isFalse();
+        assertThat(menuStockRepository.reserve(menuId, 1, TODAY)).isTrue();
+        assertThat(menuStockRepository.reserve(menuId, 1, TODAY)).isTrue();
+        assertThat(menuStockRepository.reserve(menuId, 1, TODAY)).isFalse();
+        assertThat(remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("일일 재고 변경 - 오늘 판매 수량 유지, 다음 날부터 새 재고")
+    void saveDailyStock_KeepsSoldToday() {
+        // given - 10개 중 7개 판매
+        menuStockRepository.saveDailyStock(restaurantId, menuId, 10, TODAY);
+        menuStockRepository.reserve(menuId, 7, TODAY);
+
+        // when & then - 20개로 늘리면 13개, 5개로 줄이면 품절
+        assertThat(menuStockRepository.saveDailyStock(restaurantId, menuId, 20, TODAY).getRemainingOn(TODAY))
+                .isEqualTo(13);
+        assertThat(menuStockRepository.saveDailyStock(restaurantId, menuId, 5, TODAY).isSoldOutOn(TODAY))
+                .isTrue();
+        assertThat(menuStockRepository.saveDailyStock(restaurantId, menuId, 5, TODAY.plusDays(1))
+                .getRemainingOn(TODAY.plusDays(1))).isEqualTo(5);
+        assertThat(menuStockRepository.findByRestaurantId(restaurantId))
+                .extracting(MenuStock::getMenuId)
+                .containsExactly(menuId);
+    }
+
+    @Test
+    @DisplayName("재고 설정 해제 - 이후 수량 제한 없음")
+    void deleteByMenuId_Unlimited() {
+        // given
+        menuStockRepository.saveDailyStock(restaurantId, menuId, 0, TODAY);
+        assertThat(menuStockRepository.reserve(menuId, 1, TODAY)).isFalse();
+
+        // when
+        menuStockRepository.deleteByMenuId(menuId);
+
+        // then
+        assertThat(menuStockRepository.reserve(menuId, 1, TODAY)).isTrue();
+    }
+
+    private int remaining() {
+        return menuStockRepository.findByMenuId(menuId).orElseThrow().getRemainingOn(TODAY);
+    }
+}
@@ -0,0 +1,337 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantErrorCode;
+import xyz.sparta_project.manjok.domain.restaurant.domain.exception.RestaurantException;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.*;
+import xyz.sparta_project.manjok.domain.restaurant.infrastructure.entity.RestaurantEntity;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 300개 메뉴 레스토랑 단건 조회 벤치마크
+ * - 단계별 일괄 로딩: 메뉴/옵션 그룹/옵션/관계 단계마다 쿼리 1회
+ * - 비교 대상: 모든 컬렉션을 한 쿼리로 Fetch Join한 곱집합 행 수
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Restaurant 연관 로딩 벤치마크 (300 메뉴)")
+class RestaurantAssociationLoadBenchmarkTest {
+
+    private static final int MENU_COUNT = 300;
+    private static final int GROUPS_PER_MENU = 5;
+    private static final int OPTIONS_PER_GROUP = 10;
+    private static final int CATEGORIES = 3;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("단계별 일괄 로딩 - 쿼리 수 고정, 전송 행 수는 자식 수의 합")
+    void findById_300Menus() {
+        // given
+        String restaurantId = saveRestaurantWith300Menus();
+        entityManager.flush();
+        entityManager.clear();
+
+        long productRows = entityManager.createQuery(
+                        "select count(m) from MenuEntity m " +
+                                "left join m.optionGroups g " +
+                                "left join g.options o " +
+                                "left join m.categoryRelations r " +
+                                "where m.restaurant.id = :restaurantId", Long.class)
+                .setParameter("restaurantId", restaurantId)
+                .getSingleResult();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        try {
+            // when
+            statistics.clear();
+            long start = System.nanoTime();
+            Restaurant restaurant = restaurantRepository.findById(restaurantId).orElseThrow();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            long statements = countRestaurantQueries(statistics);
+            long lazyCollectionLoads = statistics.getCollectionFetchCount();
+
+            // then - 전체 그래프가 로딩되고 쿼리 수는 메뉴 수와 무관
+            long batchedRows = MENU_COUNT
+                    + (long) MENU_COUNT * GROUPS_PER_MENU
+                    + (long) MENU_COUNT * GROUPS_PER_MENU * OPTIONS_PER_GROUP
+                    + (long) MENU_COUNT * CATEGORIES;
+
+            System.out.printf(
+                    "[benchmark] menus=%d, queries=%d, lazyLoads=%d, elapsed=%dms, batchedRows=%d, fetchJoinProductRows=%d%n",
+                    MENU_COUNT, statements, lazyCollectionLoads, elapsedMillis, batchedRows, productRows);
+
+            assertThat(restaurant.getMenus()).hasSize(MENU_COUNT);
+            assertThat(restaurant.getMenus()).allSatisfy(menu -> {
+                assertThat(menu.getOptionGroups()).hasSize(GROUPS_PER_MENU);
+                assertThat(menu.getOptionGroups())
+                        .allSatisfy(group -> assertThat(group.getOptions()).hasSize(OPTIONS_PER_GROUP));
+                assertThat(menu.getCategoryRelations()).hasSize(CATEGORIES);
+            });
+            assertThat(statements).isEqualTo(9);
+            assertThat(lazyCollectionLoads).isZero();
+            assertThat(productRows).isEqualTo((long) MENU_COUNT * GROUPS_PER_MENU * OPTIONS_PER_GROUP * CATEGORIES);
+            assertThat(batchedRows).isLessThan(productRows);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @DisplayName("헤더/부분 조회 - 필요한 컬렉션만 로딩, 헤더 저장은 하위 행을 건드리지 않음")
+    void findByIdHeaderOnly_300Menus() {
+        // given
+        String restaurantId = saveRestaurantWith300Menus();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        try {
+            // when - 헤더만 조회 후 기본 정보 변경 저장
+            statistics.clear();
+            long start = System.nanoTime();
+            Restaurant header = restaurantRepository.findById(restaurantId, RestaurantPart.none()).orElseThrow();
+            long elapsedMicros = (System.nanoTime() - start) / 1_000;
+            long headerStatements = countRestaurantQueries(statistics);
+            long headerEntities = statistics.getEntityLoadCount();
+
+            header.updateBasicInfo(header.getRestaurantName(), "02-9999-0000", "owner");
+            restaurantRepository.save(header);
+            entityManager.flush();
+            long headerLazyLoads = statistics.getCollectionFetchCount();
+
+            // when - 메뉴 카테고리만 조회
+            entityManager.clear();
+            statistics.clear();
+            Restaurant withCategories = restaurantRepository
+                    .findById(restaurantId, EnumSet.of(RestaurantPart.MENU_CATEGORIES)).orElseThrow();
+            long partialStatements = countRestaurantQueries(statistics);
+
+            System.out.printf(
+                    "[benchmark] header: queries=%d, entities=%d, lazyLoads=%d, elapsed=%dus / menuCategories: queries=%d%n",
+                    headerStatements, headerEntities, headerLazyLoads, elapsedMicros, partialStatements);
+
+            // then - 헤더 조회는 식당 행 1건, 하위 컬렉션 로딩 없음
+            assertThat(headerStatements).isEqualTo(1);
+            assertThat(headerEntities).isEqualTo(1);
+            assertThat(headerLazyLoads).isZero();
+            assertThatThrownBy(header::getMenus)
+                    .isInstanceOf(RestaurantException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(RestaurantErrorCode.RESTAURANT_PART_NOT_LOADED);
+
+            // then - 부분 조회는 지정한 컬렉션 단계만 (식당 + 메뉴 카테고리 + 메뉴 연결)
+            assertThat(partialStatements).isEqualTo(3);
+            assertThat(withCategories.getMenuCategories()).hasSize(CATEGORIES);
+
+            // then - 헤더 저장 후 기본 정보는 반영되고 메뉴는 그대로
+            Restaurant full = restaurantRepository.findById(restaurantId).orElseThrow();
+            assertThat(full.getContactNumber()).isEqualTo("02-9999-0000");
+            assertThat(full.getMenus()).hasSize(MENU_COUNT);
+            assertThat(full.getMenuCategories()).hasSize(CATEGORIES);
+
+            // then - 메뉴 수 집계 쿼리는 전체 조회한 메뉴 목록 집계와 같음
+            assertThat(restaurantRepository.countMenus(restaurantId))
+                    .isEqualTo(RestaurantMenuCounts.of(full.getMenus()));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @DisplayName("변경 없는 flush - 영속성 컨텍스트 엔티티 수/할당량, UPDATE 없음")
+    void flush_300MenusUnchanged() {
+        // given
+        String restaurantId = saveRestaurantWith300Menus();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        try {
+            long loadAllocated = allocatedBytes();
+            restaurantRepository.findById(restaurantId).orElseThrow();
+            loadAllocated = allocatedBytes() - loadAllocated;
+            int managedEntities = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+            boolean selfDirtyTracking = entityManager.find(RestaurantEntity.class, restaurantId)
+                    instanceof SelfDirtinessTracker;
+
+            // when
+            statistics.clear();
+            long flushAllocated = allocatedBytes();
+            long start = System.nanoTime();
+            entityManager.flush();
+            long elapsedMicros = (System.nanoTime() - start) / 1_000;
+            flushAllocated = allocatedBytes() - flushAllocated;
+
+            System.out.printf(
+                    "[benchmark] flush: entities=%d, selfDirtyTracking=%s, elapsed=%dus, allocated=%dKB, loadAllocated=%dKB%n",
+                    managedEntities, selfDirtyTracking, elapsedMicros, flushAllocated / 1024, loadAllocated / 1024);
+
+            // then - 식당 + 메뉴/옵션 그룹/옵션/카테고리 전체가 관리 대상, 변경이 없으면 UPDATE 없음
+            assertThat(managedEntities).isGreaterThan(MENU_COUNT * GROUPS_PER_MENU * OPTIONS_PER_GROUP);
+            assertThat(statistics.getEntityUpdateCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    /**
+     * 현재 스레드 누적 힙 할당량 (바이트)
+     */
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * 실행된 Restaurant/Menu 조회 쿼리 수 (백그라운드 이벤트 재시도 스케줄러 쿼리 제외)
+     */
+    private long countRestaurantQueries(Statistics statistics) {
+        return Arrays.stream(statistics.getQueries())
+                .filter(query -> query.contains("Restaurant") || query.contains("Menu"))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+    }
+
+    private String saveRestaurantWith300Menus() {
+        String restaurantId = UUID.randomUUID().toString();
+
+        List<MenuCategory> menuCategories = new ArrayList<>();
+        for (int c = 0; c < CATEGORIES; c++) {
+            menuCategories.add(MenuCategory.builder()
+                    .id(UUID.randomUUID().toString())
+                    .createdAt(LocalDateTime.now())
+                    .categoryName("카테고리 " + c)
+                    .depth(1)
+                    .displayOrder(c)
+                    .isActive(true)
+                    .menuIds(new HashSet<>())
+                    .createdBy("benchmark")
+                    .isDeleted(false)
+                    .build());
+        }
+
+        List<Menu> menus = new ArrayList<>();
+        for (int m = 0; m < MENU_COUNT; m++) {
+            List<MenuOptionGroup> groups = new ArrayList<>();
+            for (int g = 0; g < GROUPS_PER_MENU; g++) {
+                List<MenuOption> options = new ArrayList<>();
+                for (int o = 0; o < OPTIONS_PER_GROUP; o++) {
+                    options.add(MenuOption.builder()
+                            .id(UUID.randomUUID().toString())
+                            .createdAt(LocalDateTime.now())
+                            .optionName("옵션 " + o)
+                            .additionalPrice(new BigDecimal("500"))
+                            .isAvailable(true)
+                            .isDefault(o == 0)
+                            .displayOrder(o)
+                            .purchaseCount(0)
+                            .createdBy("benchmark")
+                            .isDeleted(false)
+                            .build());
+                }
+                groups.add(MenuOptionGroup.builder()
+                        .id(UUID.randomUUID().toString())
+                        .createdAt(LocalDateTime.now())
+                        .groupName("그룹 " + g)
+                        .minSelection(0)
+                        .maxSelection(1)
+                        .isRequired(false)
+                        .displayOrder(g)
+                        .isActive(true)
+                        .options(options)
+                        .createdBy("benchmark")
+                        .isDeleted(false)
+                        .build());
+            }
+
+            Set<MenuCategoryRelation> relations = new HashSet<>();
+            for (MenuCategory category : menuCategories) {
+                relations.add(MenuCategoryRelation.builder()
+                        .categoryId(category.getId())
+                        .restaurantId(restaurantId)
+                        .isPrimary(relations.isEmpty())
+                        .createdAt(LocalDateTime.now())
+                        .createdBy("benchmark")
+                        .isDeleted(false)
+                        .build());
+            }
+
+            menus.add(Menu.builder()
+                    .id(UUID.randomUUID().toString())
+                    .createdAt(LocalDateTime.now())
+                    .menuName("메뉴 " + m)
+                    .price(new BigDecimal("9000"))
+                    .isAvailable(true)
+                    .isMain(false)
+                    .isPopular(false)
+                    .isNew(false)
+                    .purchaseCount(0)
+                    .wishlistCount(0)
+                    .reviewCount(0)
+                    .reviewRating(BigDecimal.ZERO)
+                    .optionGroups(groups)
+                    .categoryRelations(relations)
+                    .createdBy("benchmark")
+                    .isDeleted(false)
+                    .build());
+        }
+
+        Restaurant restaurant = Restaurant.builder()
+                .id(restaurantId)
+                .createdAt(LocalDateTime.now())
+                .ownerId("benchmark-owner")
+                .ownerName("벤치마크")
+                .restaurantName("300 메뉴 식당")
+                .status(RestaurantStatus.OPEN)
+                .address(Address.builder()
+                        .province("서울특별시")
+                        .city("중구")
+                        .district("명동")
+                        .build())
+                .isActive(true)
+                .menus(menus)
+                .menuCategories(menuCategories)
+                .operatingDays(new HashSet<>())
+                .categoryRelations(new HashSet<>())
+                .createdBy("benchmark")
+                .isDeleted(false)
+                .build();
+
+        return restaurantRepository.save(restaurant).getId();
+    }
+}
@@ -0,0 +1,416 @@
+package xyz.sparta_project.manjok.domain.restaurant.domain.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantOpenStateChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.RestaurantCardProjector;
+import xyz.sparta_project.manjok.domain.restaurant.application.service.RestaurantRankingScorer;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Address;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.DayType;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.OperatingTimeType;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Restaurant;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCategory;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCategoryRelation;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantStatus;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantSummary;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
+import xyz.sparta_project.manjok.global.common.utils.CursorUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("RestaurantCardRepository 통합 테스트")
+class RestaurantCardRepositoryTest {
+
+    @Autowired
+    private RestaurantCardRepository restaurantCardRepository;
+
+    @Autowired
+    private RestaurantCardProjector restaurantCardProjector;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private RestaurantRankingScorer restaurantRankingScorer;
+
+    @Autowired
+    private RestaurantCategoryRepository restaurantCategoryRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private RestaurantCategory koreanCategory;
+
+    @BeforeEach
+    void setUp() {
+        koreanCategory = restaurantCategoryRepository.save(RestaurantCategory.builder()
+                .categoryCode("CARD_KOREAN")
+                .categoryName("한식")
+                .depth(1)
+                .displayOrder(1)
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .createdBy("TEST")
+                .isDeleted(false)
+                .restaurantRelations(new HashSet<>())
+                .build());
+    }
+
+    @Test
+    @DisplayName("식당 저장 후 갱신 - 카드 생성, 카테고리 ID 포함")
+    void flush_CreatesCard() {
+        // given
+        Restaurant restaurant = saveRestaurant("카드식당", "카드동", List.of("한식"), true);
+
+        // when
+        restaurantCardProjector.flush();
+
+        // then
+        Page<RestaurantSummary> result = search("카드동", null, null, PageRequest.of(0, 10));
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        RestaurantSummary summary = result.getContent().get(0);
+        assertThat(summary.getId()).isEqualTo(restaurant.getId());
+        assertThat(summary.getRestaurantName()).isEqualTo("카드식당");
+        assertThat(summary.getTags()).containsExactly("한식");
+        assertThat(summary.getCategoryIds()).containsExactly(koreanCategory.getId());
+    }
+
+    @Test
+    @DisplayName("식당 수정 후 갱신 - 이름/통계 변경 반영")
+    void flush_ReflectsUpdates() {
+        // given
+        Restaurant restaurant = saveRestaurant("변경전식당", "카드동", List.of(), false);
+        restaurantCardProjector.flush();
+
+        restaurant.updateBasicInfo("변경후식당", restaurant.getContactNumber(), "TEST");
+        restaurantRepository.save(restaurant);
+        restaurantRankingScorer.recordReview(restaurant.getId(), new BigDecimal("4.50"));
+
+        // when
+        restaurantCardProjector.flush();
+
+        // then
+        RestaurantSummary summary = search("카드동", null, null, PageRequest.of(0, 10)).getContent().get(0);
+        assertThat(summary.getRestaurantName()).isEqualTo("변경후식당");
+        assertThat(summary.getReviewCount()).isEqualTo(1);
+        assertThat(summary.getReviewRating()).isEqualByComparingTo("4.50");
+    }
+
+    @Test
+    @DisplayName("식당 삭제/비활성화 후 갱신 - 카드 제거")
+    void flush_RemovesHiddenRestaurants() {
+        // given
+        Restaurant deleted = saveRestaurant("삭제식당", "카드동", List.of(), false);
+        Restaurant inactive = saveRestaurant("비활성식당", "카드동", List.of(), false);
+        restaurantCardProjector.flush();
+        assertThat(search("카드동", null, null, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(2);
+
+        // when
+        restaurantRepository.delete(deleted.getId(), "TEST");
+        inactive.setActive(false, "TEST");
+        restaurantRepository.save(inactive);
+        restaurantCardProjector.flush();
+
+        // then
+        assertThat(search("카드동", null, null, PageRequest.of(0, 10)).getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("카드 검색 - 지역/카테고리/태그 필터와 정렬")
+    void search_FiltersAndSorts() {
+        // given
+        saveRestaurant("평점높은식당", "카드동", List.of("한식", "카드맛집"), true, 5, "4.80");
+        saveRestaurant("평점낮은식당", "카드동", List.of("한식"), false, 5, "3.10");
+        saveRestaurant("다른동네식당", "카드이웃동", List.of("한식", "카드맛집"), true);
+        restaurantCardProjector.flush();
+
+        // when
+        Page<RestaurantSummary> byRating = search("카드동", null, null,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "reviewRating")));
+        Page<RestaurantSummary> byCategory = search("카드동", Set.of(koreanCategory.getId()), null,
+                PageRequest.of(0, 10));
+        Page<RestaurantSummary> byTags = search(null, null, Set.of("한식", "카드맛집"), PageRequest.of(0, 10));
+
+        // then
+        assertThat(byRating.getContent()).extracting(RestaurantSummary::getRestaurantName)
+                .containsExactly("평점높은식당", "평점낮은식당");
+        assertThat(byCategory.getContent()).extracting(RestaurantSummary::getRestaurantName)
+                .containsExactly("평점높은식당");
+        assertThat(byTags.getContent()).extracting(RestaurantSummary::getRestaurantName)
+                .containsExactlyInAnyOrder("평점높은식당", "다른동네식당");
+    }
+
+    @Test
+    @DisplayName("카드 검색 - 태그/카테고리 변경 후 갱신하면 카드 연결 행도 교체")
+    void flush_ReplacesTagAndCategoryLinks() {
+        // given - 태그 2개 + 카테고리 연결
+        Restaurant saved = saveRestaurant("연결식당", "연결동", List.of("한식", "연결맛집"), true);
+        restaurantCardProjector.flush();
+        assertThat(search("연결동", Set.of(koreanCategory.getId()), Set.of("한식", "연결맛집"),
+                PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+
+        // when - 태그 하나 교체, 카테고리 연결 해제
+        Restaurant restaurant = restaurantRepository.findById(saved.getId()).orElseThrow();
+        restaurant.removeTag("연결맛집");
+        restaurant.addTag("새태그");
+        restaurant.removeRestaurantCategory(koreanCategory.getId(), "TEST");
+        restaurantRepository.save(restaurant);
+        restaurantCardProjector.flush();
+
+        // then
+        assertThat(search("연결동", null, Set.of("연결맛집"), PageRequest.of(0, 10)).getTotalElements()).isZero();
+        assertThat(search("연결동", null, Set.of(" 새태그 ", "한식"), PageRequest.of(0, 10)).getContent())
+                .extracting(RestaurantSummary::getId)
+                .containsExactly(restaurant.getId());
+        assertThat(search("연결동", Set.of(koreanCategory.getId()), null, PageRequest.of(0, 10)).getTotalElements())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("카드 검색 - 같은 정렬값은 식당 ID 순으로 고정되어 페이지 간 누락/중복 없음")
+    void search_TieBreaksByRestaurantId() {
+        // given - 리뷰 수가 모두 같은 4곳 (카테고리 연결 행에서 조회)
+        Set<String> savedIds = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            savedIds.add(saveRestaurant("동점식당" + i, "동점동", List.of(), true, 3, "4.00").getId());
+        }
+        restaurantCardProjector.flush();
+
+        // when - 리뷰 많은순 2건씩
+        Sort sort = Sort.by(Sort.Direction.DESC, "reviewCount");
+        List<String> first = ids(search("동점동", Set.of(koreanCategory.getId()), null, PageRequest.of(0, 2, sort)));
+        List<String> second = ids(search("동점동", Set.of(koreanCategory.getId()), null, PageRequest.of(1, 2, sort)));
+
+        // then - 식당 ID 내림차순 (마지막 정렬과 같은 방향)
+        List<String> visited = new ArrayList<>(first);
+        visited.addAll(second);
+        assertThat(new HashSet<>(visited)).isEqualTo(savedIds);
+        assertThat(visited).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("전체 재생성 - 갱신 대기 없이 식당 테이블 기준으로 카드 생성")
+    void rebuildAll_MatchesRestaurantTable() {
+        // given
+        saveRestaurant("재생성식당1", "카드동", List.of(), false);
+        saveRestaurant("재생성식당2", "카드동", List.of(), false);
+
+        // when
+        int rebuilt = restaurantCardRepository.rebuildAll();
+
+        // then
+        assertThat(rebuilt).isGreaterThanOrEqualTo(2);
+        assertThat(search("카드동", null, null, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(2);
+        assertThat(restaurantCardRepository.count("서울특별시", "강남구", "카드동", null, null, null, false))
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카드 검색 - openNow 필터는 현재 영업 중인 OPEN 상태 식당만 조회")
+    void search_OpenNowFilter() {
+        // given - 매일 종일 영업 1곳, 매일 휴무 1곳, 종일 영업이지만 CLOSED 상태 1곳
+        Restaurant alwaysOpen = saveRestaurantWithHours("항상영업", RestaurantStatus.OPEN, false);
+        saveRestaurantWithHours("항상휴무", RestaurantStatus.OPEN, true);
+        saveRestaurantWithHours("임시마감", RestaurantStatus.CLOSED, false);
+        restaurantCardProjector.flush();
+
+        // when
+        Page<RestaurantSummary> all = restaurantCardRepository.search(
+                "서울특별시", "강남구", "영업필터동", null, null, null, false, PageRequest.of(0, 10));
+        Page<RestaurantSummary> openOnly = restaurantCardRepository.search(
+                "서울특별시", "강남구", "영업필터동", null, null, null, true, PageRequest.of(0, 10));
+        long openCount = restaurantCardRepository.count(
+                "서울특별시", "강남구", "영업필터동", null, null, null, true);
+
+        // then
+        assertThat(all.getTotalElements()).isEqualTo(3);
+        assertThat(openOnly.getContent())
+                .extracting(RestaurantSummary::getId)
+                .containsExactly(alwaysOpen.getId());
+        assertThat(openOnly.getContent().get(0).isOpenNow()).isTrue();
+        assertThat(openCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("영업 상태 전환 이벤트 - 카드의 영업 여부만 갱신, 영업 시작은 OPEN 상태 카드에만 반영")
+    void onOpenStateChanged_UpdatesCardOpenState() {
+        // given
+        Restaurant open = saveRestaurantWithHours("전환식당", RestaurantStatus.OPEN, false);
+        Restaurant closed = saveRestaurantWithHours("마감식당", RestaurantStatus.CLOSED, false);
+        restaurantCardProjector.flush();
+
+        // when - 운영 시간 경계에서 영업 종료, CLOSED 식당은 영업 시작
+        eventPublisher.publishEvent(new RestaurantOpenStateChangedEvent(open.getId(), false, LocalDateTime.now()));
+        eventPublisher.publishEvent(new RestaurantOpenStateChangedEvent(closed.getId(), true, LocalDateTime.now()));
+        restaurantCardProjector.flush();
+
+        // then
+        assertThat(restaurantCardRepository.count(
+                "서울특별시", "강남구", "영업필터동", null, null, null, true)).isZero();
+        assertThat(search("영업필터동", null, null, PageRequest.of(0, 10)).getContent())
+                .noneMatch(RestaurantSummary::isOpenNow);
+
+        // when - 다시 영업 시작
+        eventPublisher.publishEvent(new RestaurantOpenStateChangedEvent(open.getId(), true, LocalDateTime.now()));
+        restaurantCardProjector.flush();
+
+        // then
+        assertThat(restaurantCardRepository.search("서울특별시", "강남구", "영업필터동",
+                null, null, null, true, PageRequest.of(0, 10)).getContent())
+                .extracting(RestaurantSummary::getId)
+                .containsExactly(open.getId());
+    }
+
+    @Test
+    @DisplayName("추천순 정렬 - 일괄 재계산한 랭킹 점수 내림차순으로 조회")
+    void search_SortByRecommended() {
+        // given - 평점/리뷰 수가 다른 3곳, 점수는 아직 0
+        Restaurant low = saveRestaurant("평범한집", "추천순동", List.of(), false, 5, "3.00");
+        Restaurant best = saveRestaurant("맛집", "추천순동", List.of(), false, 200, "4.90");
+        Restaurant fewReviews = saveRestaurant("리뷰적은집", "추천순동", List.of(), false, 1, "5.00");
+
+        // when
+        int updated = restaurantRankingScorer.recomputeAll();
+        restaurantCardRepository.rebuildAll();
+
+        Page<RestaurantSummary> page = search("추천순동", null, null,
+                PageRequest.of(0, 10, Sort.by("recommended")));
+
+        // then - 리뷰 1개짜리 5점은 베이지안 보정으로 200개 4.9점보다 뒤
+        assertThat(updated).isGreaterThanOrEqualTo(3);
+        assertThat(page.getContent())
+                .extracting(RestaurantSummary::getId)
+                .containsExactly(best.getId(), fewReviews.getId(), low.getId());
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 동일 정렬값이 있어도 누락/중복 없이 끝까지 조회, 카테고리 ID 포함")
+    void searchWithCursor_WalkAllPages() {
+        // given - 같은 이름 2개 포함 5개 (id 타이브레이커 검증)
+        Set<String> savedIds = new HashSet<>();
+        for (String name : List.of("가게A", "가게B", "가게B", "가게C", "가게D")) {
+            savedIds.add(saveRestaurant(name, "커서동", List.of(), true).getId());
+        }
+        restaurantCardProjector.flush();
+
+        // when - size 2로 다음 커서를 따라가며 조회
+        List<String> visitedIds = new ArrayList<>();
+        List<String> visitedNames = new ArrayList<>();
+        CursorRequest request = CursorRequest.first("restaurantName", true, 2);
+        int pages = 0;
+        while (true) {
+            CursorSlice<RestaurantSummary> slice = restaurantCardRepository.searchWithCursor(
+                    "서울특별시", "강남구", "커서동", Set.of(koreanCategory.getId()), null, null, request
+            );
+            pages++;
+            slice.getContent().forEach(summary -> {
+                visitedIds.add(summary.getId());
+                visitedNames.add(summary.getRestaurantName());
+                assertThat(summary.getCategoryIds()).containsExactly(koreanCategory.getId());
+            });
+            if (!slice.isHasNext()) {
+                break;
+            }
+            request = CursorUtils.decode(slice.getNextCursor(), 2);
+        }
+
+        // then
+        assertThat(pages).isEqualTo(3);
+        assertThat(visitedIds).hasSize(5).doesNotHaveDuplicates();
+        assertThat(new HashSet<>(visitedIds)).isEqualTo(savedIds);
+        assertThat(visitedNames).containsExactly("가게A", "가게B", "가게B", "가게C", "가게D");
+    }
+
+    private static List<String> ids(Page<RestaurantSummary> page) {
+        return page.getContent().stream().map(RestaurantSummary::getId).toList();
+    }
+
+    private Page<RestaurantSummary> search(String district, Set<String> categoryIds, Set<String> tags,
+                                           PageRequest pageable) {
+        return restaurantCardRepository.search(
+                district != null ? "서울특별시" : null, district != null ? "강남구" : null, district,
+                categoryIds, tags, null, false, pageable);
+    }
+
+    private Restaurant saveRestaurant(String name, String district, List<String> tags, boolean withCategory) {
+        return saveRestaurant(name, district, tags, withCategory, 0, "0");
+    }
+
+    /**
+     * 리뷰 통계를 가진 식당 저장 (통계 컬럼은 INSERT 시에만 엔티티 값으로 기록)
+     */
+    private Restaurant saveRestaurant(String name, String district, List<String> tags, boolean withCategory,
+                                      int reviewCount, String reviewRating) {
+        Restaurant restaurant = Restaurant.builder()
+                .id(UUID.randomUUID().toString())
+                .createdAt(LocalDateTime.now())
+                .ownerId("1")
+                .ownerName("홍길동")
+                .restaurantName(name)
+                .status(RestaurantStatus.OPEN)
+                .address(Address.builder()
+                        .province("서울특별시")
+                        .city("강남구")
+                        .district(district)
+                        .detailAddress("테헤란로 1")
+                        .build())
+                .contactNumber("02-1234-5678")
+                .tags(new ArrayList<>(tags))
+                .isActive(true)
+                .viewCount(0)
+                .wishlistCount(0)
+                .reviewCount(reviewCount)
+                .reviewRating(new BigDecimal(reviewRating))
+                .purchaseCount(0)
+                .menus(new ArrayList<>())
+                .menuCategories(new ArrayList<>())
+                .operatingDays(new HashSet<>())
+                .categoryRelations(new HashSet<>())
+                .createdBy("TEST")
+                .isDeleted(false)
+                .build();
+
+        if (withCategory) {
+            restaurant.getCategoryRelations().add(RestaurantCategoryRelation.builder()
+                    .categoryId(koreanCategory.getId())
+                    .isPrimary(true)
+                    .createdAt(LocalDateTime.now())
+                    .createdBy("TEST")
+                    .build());
+        }
+        return restaurantRepository.save(restaurant);
+    }
+
+    private Restaurant saveRestaurantWithHours(String name, RestaurantStatus status, boolean holiday) {
+        Restaurant restaurant = saveRestaurant(name, "영업필터동", List.of(), false);
+        restaurant.changeStatus(status, "TEST");
+        for (DayType dayType : DayType.values()) {
+            restaurant.setOperatingDay(dayType, OperatingTimeType.REGULAR,
+                    LocalTime.of(0, 0), LocalTime.of(23, 59), holiday, null);
+        }
+        return restaurantRepository.save(restaurant);
+    }
+}
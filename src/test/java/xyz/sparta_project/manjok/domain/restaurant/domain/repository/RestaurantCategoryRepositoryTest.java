@@ -1,5 +1,6 @@
 package xyz.sparta_project.manjok.domain.restaurant.domain.repository;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,12 +8,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Address;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Restaurant;
 import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCategory;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCategoryRelation;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantStatus;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -25,6 +34,12 @@ class RestaurantCategoryRepositoryTest {
     @Autowired
     private RestaurantCategoryRepository restaurantCategoryRepository;
 
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private RestaurantCategory koreanCategory;
     private RestaurantCategory japaneseCategory;
     private RestaurantCategory chineseCategory;
@@ -445,4 +460,115 @@ class RestaurantCategoryRepositoryTest {
         assertThat(children).allMatch(cat -> cat.getDepth() == 2);
         assertThat(children).allMatch(cat -> cat.getParentCategoryId().equals(parentId));
     }
-}
\ No newline at end of file
+
+    // ==================== 통계 테스트 ====================
+
+    @Test
+    @DisplayName("통계 증감 일괄 반영")
+    void applyStatisticsDeltas_Success() {
+        // when
+        int updated = restaurantCategoryRepository.applyStatisticsDeltas(
+                Map.of(koreanCategory.getId(), 2, japaneseCategory.getId(), 1),
+                Map.of(koreanCategory.getId(), 5));
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        RestaurantCategory korean = restaurantCategoryRepository.findById(koreanCategory.getId()).orElseThrow();
+        RestaurantCategory japanese = restaurantCategoryRepository.findById(japaneseCategory.getId()).orElseThrow();
+        assertThat(korean.getActiveRestaurantCount()).isEqualTo(2);
+        assertThat(korean.getTotalOrderCount()).isEqualTo(5);
+        assertThat(japanese.getActiveRestaurantCount()).isEqualTo(1);
+        assertThat(japanese.getTotalOrderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("인기 카테고리는 주문 수 상위 N개로 자동 갱신")
+    void refreshPopularCategories_Success() {
+        // given - 한식(수동 인기) 주문 1건, 일식 주문 10건
+        restaurantCategoryRepository.applyStatisticsDeltas(
+                Map.of(),
+                Map.of(koreanCategory.getId(), 1, japaneseCategory.getId(), 10));
+
+        // when
+        int changed = restaurantCategoryRepository.refreshPopularCategories(1, 1);
+        entityManager.clear();
+
+        // then
+        assertThat(changed).isEqualTo(2);
+        assertThat(restaurantCategoryRepository.findPopularCategories())
+                .extracting(RestaurantCategory::getCategoryCode)
+                .containsExactly("JAPANESE");
+    }
+
+    @Test
+    @DisplayName("카테고리 통계 재계산 - 연결된 식당 기준으로 보정")
+    void reconcileStatistics_Success() {
+        // given - 활성 식당 2곳(구매 3, 4), 비활성 식당 1곳(구매 5)이 한식에 연결,
+        //         한식 연결이 삭제된 식당 1곳(구매 7), 저장된 통계는 틀린 값
+        saveRestaurant("한식당1", koreanCategory.getId(), 3, true);
+        saveRestaurant("한식당2", koreanCategory.getId(), 4, true);
+        saveRestaurant("한식당3", koreanCategory.getId(), 5, false);
+        saveRestaurant("한식당4", koreanCategory.getId(), 7, true, true);
+        restaurantCategoryRepository.applyStatisticsDeltas(
+                Map.of(koreanCategory.getId(), 10, japaneseCategory.getId(), 1),
+                Map.of(koreanCategory.getId(), 1));
+
+        // when
+        int changed = restaurantCategoryRepository.reconcileStatistics();
+        entityManager.clear();
+
+        // then
+        assertThat(changed).isEqualTo(2);
+        RestaurantCategory korean = restaurantCategoryRepository.findById(koreanCategory.getId()).orElseThrow();
+        RestaurantCategory japanese = restaurantCategoryRepository.findById(japaneseCategory.getId()).orElseThrow();
+        assertThat(korean.getActiveRestaurantCount()).isEqualTo(2);
+        assertThat(korean.getTotalOrderCount()).isEqualTo(12);
+        assertThat(japanese.getActiveRestaurantCount()).isZero();
+        assertThat(restaurantCategoryRepository.reconcileStatistics()).isZero();
+    }
+
+    private void saveRestaurant(String name, String categoryId, int purchaseCount, boolean active) {
+        saveRestaurant(name, categoryId, purchaseCount, active, false);
+    }
+
+    private void saveRestaurant(String name, String categoryId, int purchaseCount, boolean active,
+                                boolean relationDeleted) {
+        Restaurant restaurant = Restaurant.builder()
+                .id(UUID.randomUUID().toString())
+                .createdAt(LocalDateTime.now())
+                .ownerId("1")
+                .ownerName("홍길동")
+                .restaurantName(name)
+                .status(RestaurantStatus.OPEN)
+                .address(Address.builder()
+                        .province("서울특별시")
+                        .city("강남구")
+                        .district("역삼동")
+                        .detailAddress("테헤란로 123")
+                        .build())
+                .contactNumber("02-1234-5678")
+                .tags(List.of())
+                .isActive(active)
+                .viewCount(0)
+                .wishlistCount(0)
+                .reviewCount(0)
+                .reviewRating(BigDecimal.ZERO)
+                .purchaseCount(purchaseCount)
+                .menus(new ArrayList<>())
+                .menuCategories(new ArrayList<>())
+                .operatingDays(new HashSet<>())
+                .categoryRelations(new HashSet<>())
+                .createdBy("TEST")
+                .isDeleted(false)
+                .build();
+        restaurant.getCategoryRelations().add(RestaurantCategoryRelation.builder()
+                .categoryId(categoryId)
+                .isPrimary(true)
+                .createdAt(LocalDateTime.now())
+                .createdBy("TEST")
+                .isDeleted(relationDeleted)
+                .build());
+        restaurantRepository.save(restaurant);
+    }
+}
@@ -1,5 +1,8 @@
 package xyz.sparta_project.manjok.domain.restaurant.domain.repository;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +36,9 @@ class RestaurantRepositoryTest {
     @Autowired
     private RestaurantCategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     // 테스트 데이터
     private Restaurant testRestaurant;
     private Menu testMenu;
@@ -480,7 +486,7 @@ class RestaurantRepositoryTest {
         // when
         Pageable pageable = PageRequest.of(0, 10);
         Page<Restaurant> page = restaurantRepository.searchRestaurants(
-                "서울특별시", "강남구", null, null, null, pageable
+                "서울특별시", "강남구", null, null, null, null, pageable
         );
 
         // then
@@ -497,7 +503,7 @@ class RestaurantRepositoryTest {
         // when
         Pageable pageable = PageRequest.of(0, 10);
         Page<Restaurant> page = restaurantRepository.searchRestaurants(
-                null, null, null, null, "테스트", pageable
+                null, null, null, null, null, "테스트", pageable
         );
 
         // then
@@ -514,15 +520,168 @@ class RestaurantRepositoryTest {
         // when
         Pageable pageable = PageRequest.of(0, 10, Sort.by("reviewRating").descending());
         Page<Restaurant> page = restaurantRepository.searchRestaurants(
-                "서울특별시", "강남구", "역삼동", null, "레스토랑", pageable
+                "서울특별시", "강남구", "역삼동", null, null, "레스토랑", pageable
         );
 
         // then
         assertThat(page.getContent()).hasSizeGreaterThanOrEqualTo(1);
     }
 
+    @Test
+    @DisplayName("Restaurant 검색 - 태그 정확 일치")
+    void searchRestaurants_ByTags() {
+        // given
+        restaurantRepository.save(testRestaurant);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when
+        Page<Restaurant> matched = restaurantRepository.searchRestaurants(
+                null, null, null, null, Set.of("한식", "찌개"), null, pageable
+        );
+        Page<Restaurant> partial = restaurantRepository.searchRestaurants(
+                null, null, null, null, Set.of("찌"), null, pageable
+        );
+        Page<Restaurant> missing = restaurantRepository.searchRestaurants(
+                null, null, null, null, Set.of("한식", "양식"), null, pageable
+        );
+
+        // then
+        assertThat(matched.getContent())
+                .extracting(Restaurant::getId)
+                .contains(testRestaurant.getId());
+        assertThat(partial.getContent())
+                .extracting(Restaurant::getId)
+                .doesNotContain(testRestaurant.getId());
+        assertThat(missing.getContent())
+                .extracting(Restaurant::getId)
+                .doesNotContain(testRestaurant.getId());
+    }
+
+    @Test
+    @DisplayName("태그 패싯 - 지역/카테고리 조건 내 태그별 개수")
+    void countTagFacets() {
+        // given
+        restaurantRepository.save(testRestaurant);
+
+        // when
+        Map<String, Long> facets = restaurantRepository.countTagFacets(
+                "서울특별시", "강남구", null, Set.of(savedCategory.getId()), null
+        );
+        Map<String, Long> otherRegion = restaurantRepository.countTagFacets(
+                "부산광역시", null, null, null, null
+        );
+
+        // then
+        assertThat(facets).containsKeys("한식", "찌개", "맛집");
+        assertThat(facets.get("한식")).isGreaterThanOrEqualTo(1L);
+        assertThat(otherRegion).doesNotContainKey("찌개");
+    }
+
+    @Test
+    @DisplayName("Restaurant 저장 - 운영 시간으로 계산한 주간 영업 비트맵이 함께 저장된다")
+    void save_PersistsWeeklyOperatingBitmap() {
+        // given
+        testRestaurant.setOperatingDay(DayType.MON, OperatingTimeType.REGULAR,
+                LocalTime.of(9, 0), LocalTime.of(18, 0), false, null);
+        Restaurant saved = restaurantRepository.save(testRestaurant);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Restaurant found = restaurantRepository.findById(saved.getId()).orElseThrow();
+
+        // then - 2024-01-01은 월요일
+        LocalDateTime monday = LocalDateTime.of(2024, 1, 1, 0, 0);
+        assertThat(found.getWeeklyOperatingBitmap())
+                .isEqualTo(WeeklyOperatingBitmap.from(found.getOperatingDays()));
+        assertThat(found.getWeeklyOperatingBitmap().isOpenAt(monday.withHour(10))).isTrue();
+        assertThat(found.getNextOpeningTime(monday.withHour(19))).contains(monday.plusWeeks(1).withHour(9));
+    }
+
     // ==================== READ - Menu 조회 테스트 ====================
 
+    @Test
+    @DisplayName("Menu 목록 조회 - 페이지 크기와 무관하게 쿼리 수 고정, 지연 로딩 없음")
+    void findMenusByRestaurantId_BatchLoadsAssociations() {
+        // given - 옵션 그룹/옵션을 가진 메뉴 6개
+        for (int i = 0; i < 5; i++) {
+            testRestaurant.getMenus().add(Menu.builder()
+                    .id(UUID.randomUUID().toString())
+                    .createdAt(LocalDateTime.now())
+                    .menuName("추가 메뉴 " + i)
+                    .price(new BigDecimal("7000"))
+                    .isAvailable(true)
+                    .isMain(false)
+                    .isPopular(false)
+                    .isNew(false)
+                    .purchaseCount(0)
+                    .wishlistCount(0)
+                    .reviewCount(0)
+                    .reviewRating(BigDecimal.ZERO)
+                    .optionGroups(new ArrayList<>(List.of(MenuOptionGroup.builder()
+                            .id(UUID.randomUUID().toString())
+                            .createdAt(LocalDateTime.now())
+                            .groupName("맵기")
+                            .minSelection(0)
+                            .maxSelection(1)
+                            .isRequired(false)
+                            .displayOrder(1)
+                            .isActive(true)
+                            .options(new ArrayList<>(List.of(MenuOption.builder()
+                                    .id(UUID.randomUUID().toString())
+                                    .createdAt(LocalDateTime.now())
+                                    .optionName("매운맛")
+                                    .additionalPrice(BigDecimal.ZERO)
+                                    .isAvailable(true)
+                                    .isDefault(false)
+                                    .displayOrder(1)
+                                    .purchaseCount(0)
+                                    .createdBy(CREATED_BY)
+                                    .isDeleted(false)
+                                    .build())))
+                            .createdBy(CREATED_BY)
+                            .isDeleted(false)
+                            .build())))
+                    .categoryRelations(new HashSet<>())
+                    .createdBy(CREATED_BY)
+                    .isDeleted(false)
+                    .build());
+        }
+        Restaurant saved = restaurantRepository.save(testRestaurant);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        try {
+            // when
+            statistics.clear();
+            Page<Menu> small = restaurantRepository.findMenusByRestaurantId(saved.getId(), PageRequest.of(0, 2));
+            long smallQueries = countRestaurantQueries(statistics);
+
+            entityManager.clear();
+            statistics.clear();
+            Page<Menu> large = restaurantRepository.findMenusByRestaurantId(saved.getId(), PageRequest.of(0, 10));
+            long largeQueries = countRestaurantQueries(statistics);
+            long lazyCollectionLoads = statistics.getCollectionFetchCount();
+
+            // then
+            assertThat(small.getContent()).hasSize(2);
+            assertThat(large.getContent()).hasSize(6);
+            assertThat(smallQueries).isEqualTo(largeQueries);
+            assertThat(lazyCollectionLoads).isZero();
+            assertThat(large.getContent()).allSatisfy(menu -> {
+                assertThat(menu.getOptionGroups()).hasSize(1);
+                assertThat(menu.getOptionGroups().get(0).getOptions()).hasSize(1);
+            });
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     @DisplayName("Menu 단건 조회 - 성공")
     void findMenuByRestaurantIdAndMenuId_Success() {
@@ -764,4 +923,14 @@ class RestaurantRepositoryTest {
         // then
         assertThat(found).isEmpty();
     }
-}
\ No newline at end of file
+
+    /**
+     * 실행된 Restaurant/Menu 조회 쿼리 수 (백그라운드 이벤트 재시도 스케줄러 쿼리 제외)
+     */
+    private long countRestaurantQueries(Statistics statistics) {
+        return Arrays.stream(statistics.getQueries())
+                .filter(query -> query.contains("Restaurant") || query.contains("Menu"))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+    }
+}
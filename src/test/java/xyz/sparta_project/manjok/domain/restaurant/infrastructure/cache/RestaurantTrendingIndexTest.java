@@ -0,0 +1,224 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.TrendingPeriod;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("RestaurantTrendingIndex 테스트")
+class RestaurantTrendingIndexTest {
+
+    private static final String SEOUL = "서울특별시";
+    private static final String BUSAN = "부산광역시";
+    private static final String JEJU = "제주특별자치도";
+
+    @Test
+    @DisplayName("지역/카테고리 범위별로 트렌딩 식당을 집계")
+    void top_restaurants_by_scope() {
+        // Given
+        RestaurantTrendingIndex index = newIndex(new MutableClock());
+        index.recordRestaurant("R1", "서울치킨", SEOUL, Set.of("CHICKEN"), 10);
+        index.recordRestaurant("R2", "서울피자", SEOUL, Set.of("PIZZA"), 5);
+        index.recordRestaurant("R3", "부산치킨", BUSAN, Set.of("CHICKEN"), 20);
+
+        // When & Then
+        assertThat(index.topRestaurants(TrendingPeriod.LAST_HOUR, null, null, 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::id)
+                .containsExactly("R3", "R1", "R2");
+        assertThat(index.topRestaurants(TrendingPeriod.LAST_HOUR, SEOUL, null, 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::id)
+                .containsExactly("R1", "R2");
+        assertThat(index.topRestaurants(TrendingPeriod.TODAY, null, "CHICKEN", 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::id)
+                .containsExactly("R3", "R1");
+        assertThat(index.topRestaurants(TrendingPeriod.LAST_HOUR, SEOUL, "CHICKEN", 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::name)
+                .containsExactly("서울치킨");
+    }
+
+    @Test
+    @DisplayName("1시간이 지나면 최근 1시간에서는 빠지고 오늘에는 남는다")
+    void last_hour_expires_but_today_remains() {
+        // Given
+        MutableClock clock = new MutableClock();
+        RestaurantTrendingIndex index = newIndex(clock);
+        index.recordMenu("M1", "후라이드", "R1", SEOUL, Set.of("CHICKEN"), 3);
+
+        // When
+        clock.advanceMinutes(70);
+
+        // Then
+        assertThat(index.topMenus(TrendingPeriod.LAST_HOUR, null, null, 10)).isEmpty();
+        List<RestaurantTrendingIndex.TrendingItem> today = index.topMenus(TrendingPeriod.TODAY, null, null, 10);
+        assertThat(today).extracting(RestaurantTrendingIndex.TrendingItem::id).containsExactly("M1");
+        assertThat(today.get(0).restaurantId()).isEqualTo("R1");
+    }
+
+    @Test
+    @DisplayName("자정이 지나면 오늘 집계가 초기화된다")
+    void today_resets_at_midnight() {
+        // Given - 23:30
+        MutableClock clock = new MutableClock();
+        clock.advanceMinutes(23 * 60 + 30);
+        RestaurantTrendingIndex index = newIndex(clock);
+        index.recordRestaurant("R1", "서울치킨", SEOUL, Set.of(), 10);
+
+        // When - 다음날 00:10
+        clock.advanceMinutes(40);
+
+        // Then
+        assertThat(index.topRestaurants(TrendingPeriod.TODAY, null, null, 10)).isEmpty();
+        assertThat(index.topRestaurants(TrendingPeriod.LAST_HOUR, null, null, 10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("지역+카테고리 조회는 전국 카테고리 상위에 밀리는 작은 지역도 자기 상위 항목을 응답")
+    void region_and_category_keeps_small_province() {
+        // Given - 전국 치킨 후보(20개)를 부산 식당이 모두 차지
+        RestaurantTrendingIndex index = newIndex(new MutableClock());
+        for (int i = 0; i < 30; i++) {
+            index.recordRestaurant("B" + i, "부산치킨" + i, BUSAN, Set.of("CHICKEN"), 100 + i);
+        }
+        index.recordRestaurant("J1", "제주치킨", JEJU, Set.of("CHICKEN"), 1);
+        index.recordRestaurant("J2", "제주치킨2", JEJU, Set.of("CHICKEN"), 2);
+
+        // When & Then
+        assertThat(index.topRestaurants(TrendingPeriod.LAST_HOUR, null, "CHICKEN", 20))
+                .extracting(RestaurantTrendingIndex.TrendingItem::id)
+                .doesNotContain("J1", "J2");
+        assertThat(index.topRestaurants(TrendingPeriod.LAST_HOUR, JEJU, "CHICKEN", 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::id, RestaurantTrendingIndex.TrendingItem::score)
+                .containsExactly(
+                        tuple("J2", 2L),
+                        tuple("J1", 1L));
+    }
+
+    @Test
+    @DisplayName("지역+카테고리 윈도우 상한을 넘으면 카테고리 범위를 지역으로 걸러서 응답하고, 유휴 윈도우는 정리된다")
+    void region_and_category_windows_are_bounded() {
+        // Given - 지역+카테고리 윈도우 2개(범위 1개 x 기간 2개)까지만
+        MutableClock clock = new MutableClock();
+        RestaurantTrendingIndex index = new RestaurantTrendingIndex(512, 4, 20, 1000, 128, 2, clock);
+        index.recordRestaurant("R1", "서울치킨", SEOUL, Set.of("CHICKEN"), 3);
+        index.recordRestaurant("R2", "부산치킨", BUSAN, Set.of("CHICKEN"), 20);
+        index.recordRestaurant("R3", "부산치킨2", BUSAN, Set.of("CHICKEN"), 7);
+
+        // When & Then - 부산+치킨은 윈도우 없이 카테고리 범위 근사
+        assertThat(index.regionCategoryWindowCount()).isEqualTo(2);
+        assertThat(index.topRestaurants(TrendingPeriod.LAST_HOUR, SEOUL, "CHICKEN", 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::id)
+                .containsExactly("R1");
+        assertThat(index.topRestaurants(TrendingPeriod.LAST_HOUR, BUSAN, "CHICKEN", 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::id)
+                .containsExactly("R2", "R3");
+
+        // When - 하루가 지나 모든 윈도우가 유휴 상태
+        clock.advanceMinutes(25 * 60);
+        index.evictIdleWindows();
+        index.recordRestaurant("R3", "부산치킨2", BUSAN, Set.of("CHICKEN"), 1);
+
+        // Then - 정리된 자리에 부산+치킨 윈도우 생성
+        assertThat(index.regionCategoryWindowCount()).isEqualTo(2);
+        assertThat(index.topRestaurants(TrendingPeriod.LAST_HOUR, BUSAN, "CHICKEN", 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::id)
+                .containsExactly("R3");
+        assertThat(index.topRestaurants(TrendingPeriod.LAST_HOUR, SEOUL, "CHICKEN", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드 스냅샷을 합산하고, 같은 노드의 새 스냅샷은 누적하지 않고 교체")
+    void remote_snapshots_are_merged_per_node() {
+        // Given
+        MutableClock clock = new MutableClock();
+        RestaurantTrendingIndex nodeA = newIndex(clock);
+        RestaurantTrendingIndex nodeB = newIndex(clock);
+        nodeA.recordRestaurant("R1", "서울치킨", SEOUL, Set.of("CHICKEN"), 5);
+        nodeB.recordRestaurant("R1", "서울치킨", SEOUL, Set.of("CHICKEN"), 3);
+        nodeB.recordMenu("M1", "후라이드", "R2", JEJU, Set.of("CHICKEN"), 4);
+
+        // When
+        Map<String, byte[]> first = nodeB.exportChanged();
+        first.forEach((key, payload) -> nodeA.applyRemote("B", key, payload, 1L));
+
+        // Then - 로컬 + 다른 노드 합산, 다른 노드에만 있는 항목은 라벨도 함께 전달
+        assertThat(nodeB.exportChanged()).isEmpty();
+        assertThat(nodeA.topRestaurants(TrendingPeriod.LAST_HOUR, SEOUL, "CHICKEN", 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::id, RestaurantTrendingIndex.TrendingItem::score)
+                .containsExactly(tuple("R1", 8L));
+        assertThat(nodeA.topMenus(TrendingPeriod.TODAY, JEJU, "CHICKEN", 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::name, RestaurantTrendingIndex.TrendingItem::restaurantId)
+                .containsExactly(tuple("후라이드", "R2"));
+
+        // When - 같은 스냅샷 재수신, 새 스냅샷 수신
+        first.forEach((key, payload) -> assertThat(nodeA.applyRemote("B", key, payload, 1L)).isFalse());
+        nodeB.recordRestaurant("R1", "서울치킨", SEOUL, Set.of("CHICKEN"), 1);
+        nodeB.exportChanged().forEach((key, payload) -> nodeA.applyRemote("B", key, payload, 2L));
+
+        // Then - B 누적치(4)로 교체
+        assertThat(nodeA.topRestaurants(TrendingPeriod.LAST_HOUR, null, null, 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::id, RestaurantTrendingIndex.TrendingItem::score)
+                .containsExactly(tuple("R1", 9L));
+
+        // When - 오래된 노드 스냅샷 정리
+        nodeA.pruneRemote(3L);
+
+        // Then
+        assertThat(nodeA.topRestaurants(TrendingPeriod.LAST_HOUR, null, null, 10))
+                .extracting(RestaurantTrendingIndex.TrendingItem::score)
+                .containsExactly(5L);
+        assertThat(nodeA.topMenus(TrendingPeriod.TODAY, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("설정이 다른 노드의 스냅샷은 반영하지 않는다")
+    void remote_snapshot_with_other_config_is_rejected() {
+        // Given
+        RestaurantTrendingIndex nodeA = newIndex(new MutableClock());
+        RestaurantTrendingIndex nodeB = new RestaurantTrendingIndex(256, 4, 20, 1000, 128, 100, new MutableClock());
+        nodeB.recordRestaurant("R1", "서울치킨", null, Set.of(), 1);
+
+        // When & Then
+        nodeB.exportChanged().forEach((key, payload) ->
+                assertThatThrownBy(() -> nodeA.applyRemote("B", key, payload, 1L))
+                        .isInstanceOf(IllegalArgumentException.class));
+        assertThat(nodeA.topRestaurants(TrendingPeriod.LAST_HOUR, null, null, 10)).isEmpty();
+    }
+
+    private static RestaurantTrendingIndex newIndex(Clock clock) {
+        return new RestaurantTrendingIndex(512, 4, 20, 1000, 128, 100, clock);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advanceMinutes(long minutes) {
+            now = now.plusSeconds(minutes * 60);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
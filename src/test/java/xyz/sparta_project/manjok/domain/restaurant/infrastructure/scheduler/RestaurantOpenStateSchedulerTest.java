@@ -0,0 +1,180 @@
+package xyz.sparta_project.manjok.domain.restaurant.infrastructure.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xyz.sparta_project.manjok.domain.restaurant.application.event.RestaurantOpenStateChangedEvent;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.DayType;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.OperatingDay;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.OperatingTimeType;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.WeeklyOperatingBitmap;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RestaurantOpenStateScheduler 테스트")
+class RestaurantOpenStateSchedulerTest {
+
+    // 2024-01-01은 월요일
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final List<RestaurantOpenStateChangedEvent> events = new ArrayList<>();
+
+    private WeeklyOperatingBitmap mondayHours(LocalTime start, LocalTime end,
+                                              LocalTime breakStart, LocalTime breakEnd) {
+        return WeeklyOperatingBitmap.from(Set.of(OperatingDay.builder()
+                .restaurantId("REST001")
+                .dayType(DayType.MON)
+                .timeType(OperatingTimeType.REGULAR)
+                .startTime(start)
+                .endTime(end)
+                .breakStartTime(breakStart)
+                .breakEndTime(breakEnd)
+                .isHoliday(false)
+                .build()));
+    }
+
+    private RestaurantOpenStateScheduler newScheduler(MutableClock clock) {
+        return new RestaurantOpenStateScheduler(event -> events.add((RestaurantOpenStateChangedEvent) event), clock);
+    }
+
+    @Test
+    @DisplayName("영업 시작/브레이크/종료 경계마다 영업 여부가 바뀌고 이벤트 발행")
+    void flip_on_each_boundary() {
+        // Given
+        MutableClock clock = new MutableClock(MONDAY.withHour(8).withMinute(59));
+        RestaurantOpenStateScheduler scheduler = newScheduler(clock);
+        scheduler.register("R1", mondayHours(LocalTime.of(9, 0), LocalTime.of(18, 0),
+                LocalTime.of(12, 0), LocalTime.of(13, 0)));
+        assertThat(scheduler.isOpen("R1")).isFalse();
+
+        // When & Then
+        clock.set(MONDAY.withHour(8).withMinute(59).withSecond(59));
+        scheduler.tick();
+        assertThat(events).isEmpty();
+
+        clock.set(MONDAY.withHour(9));
+        scheduler.tick();
+        assertThat(scheduler.isOpen("R1")).isTrue();
+
+        clock.set(MONDAY.withHour(12).withSecond(1));
+        scheduler.tick();
+        assertThat(scheduler.isOpen("R1")).isFalse();
+
+        clock.set(MONDAY.withHour(13));
+        scheduler.tick();
+        clock.set(MONDAY.withHour(18));
+        scheduler.tick();
+
+        assertThat(events).extracting(RestaurantOpenStateChangedEvent::isOpen)
+                .containsExactly(true, false, true, false);
+        assertThat(events).extracting(RestaurantOpenStateChangedEvent::getChangedAt)
+                .containsExactly(MONDAY.withHour(9), MONDAY.withHour(12),
+                        MONDAY.withHour(13), MONDAY.withHour(18));
+        assertThat(scheduler.isOpen("R1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("운영 시간 변경으로 영업 여부가 바뀌면 즉시 이벤트 발행, 이전 타이머는 취소")
+    void reregister_replaces_timer() {
+        // Given
+        MutableClock clock = new MutableClock(MONDAY.withHour(10));
+        RestaurantOpenStateScheduler scheduler = newScheduler(clock);
+        scheduler.register("R1", mondayHours(LocalTime.of(9, 0), LocalTime.of(18, 0), null, null));
+
+        // When - 11시 오픈으로 변경
+        scheduler.register("R1", mondayHours(LocalTime.of(11, 0), LocalTime.of(18, 0), null, null));
+        clock.set(MONDAY.withHour(11));
+        scheduler.tick();
+
+        // Then
+        assertThat(events).extracting(RestaurantOpenStateChangedEvent::isOpen)
+                .containsExactly(false, true);
+        assertThat(scheduler.isOpen("R1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("제거된 식당은 경계에 도달해도 이벤트 없음")
+    void unregister_cancels_timer() {
+        // Given
+        MutableClock clock = new MutableClock(MONDAY.withHour(8));
+        RestaurantOpenStateScheduler scheduler = newScheduler(clock);
+        scheduler.register("R1", mondayHours(LocalTime.of(9, 0), LocalTime.of(18, 0), null, null));
+
+        // When
+        scheduler.unregister("R1");
+        clock.set(MONDAY.withHour(9));
+        scheduler.tick();
+
+        // Then
+        assertThat(events).isEmpty();
+        assertThat(scheduler.isOpen("R1")).isNull();
+    }
+
+    @Test
+    @DisplayName("식당 10만 곳 - 전환 건수만큼만 처리 (전체 스캔 없음)")
+    void hundred_thousand_restaurants() {
+        // Given - 09:00 ~ 09:55 사이 5분 간격으로 오픈 시각 분산
+        MutableClock clock = new MutableClock(MONDAY.withHour(8).withMinute(50));
+        RestaurantOpenStateScheduler scheduler = newScheduler(clock);
+        WeeklyOperatingBitmap[] hours = new WeeklyOperatingBitmap[12];
+        for (int i = 0; i < hours.length; i++) {
+            hours[i] = mondayHours(LocalTime.of(9, i * 5), LocalTime.of(22, 0), null, null);
+        }
+        int restaurants = 100_000;
+        for (int i = 0; i < restaurants; i++) {
+            scheduler.register("R" + i, hours[i % hours.length]);
+        }
+
+        // When - 1분 간격으로 10:10까지 진행
+        long started = System.nanoTime();
+        for (int minute = 1; minute <= 80; minute++) {
+            clock.set(MONDAY.withHour(8).withMinute(50).plusMinutes(minute));
+            scheduler.tick();
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Then
+        System.out.printf("[benchmark] restaurants=%d, transitions=%d, tickElapsed=%dms%n",
+                restaurants, events.size(), elapsedMillis);
+        assertThat(events).hasSize(restaurants);
+        assertThat(events).allMatch(RestaurantOpenStateChangedEvent::isOpen);
+        assertThat(scheduler.isOpen("R0")).isTrue();
+        assertThat(scheduler.isOpen("R" + (restaurants - 1))).isTrue();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(LocalDateTime start) {
+            set(start);
+        }
+
+        void set(LocalDateTime dateTime) {
+            now = dateTime.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
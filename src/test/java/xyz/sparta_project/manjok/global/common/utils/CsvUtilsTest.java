@@ -0,0 +1,62 @@
+package xyz.sparta_project.manjok.global.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CsvUtils 테스트")
+class CsvUtilsTest {
+
+    @Test
+    @DisplayName("따옴표 필드의 쉼표/줄바꿈/이중 따옴표를 읽고 레코드 시작 줄 번호를 기록")
+    void read_quoted_fields() throws IOException {
+        // Given
+        String csv = "name,description\r\n"
+                + "김치찌개,\"얼큰, 매콤\"\n"
+                + "\n"
+                + "된장찌개,\"첫 줄\n둘째 줄\"\n"
+                + "\"\"\"특\"\"선\",\n";
+        CsvUtils.RecordReader reader = CsvUtils.reader(new StringReader(csv));
+
+        // When & Then
+        assertThat(reader.next()).containsExactly("name", "description");
+        assertThat(reader.next()).containsExactly("김치찌개", "얼큰, 매콤");
+        assertThat(reader.getRecordLineNumber()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("된장찌개", "첫 줄\n둘째 줄");
+        assertThat(reader.getRecordLineNumber()).isEqualTo(4);
+        assertThat(reader.next()).containsExactly("\"특\"선", "");
+        assertThat(reader.getRecordLineNumber()).isEqualTo(6);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("쓴 레코드를 다시 읽으면 원래 값으로 복원")
+    void format_and_read_round_trip() throws IOException {
+        // Given
+        List<String> fields = Arrays.asList("a,b", "say \"hi\"", null, "줄\n바꿈", "plain");
+
+        // When
+        String line = CsvUtils.formatRecord(fields);
+        List<String> read = CsvUtils.reader(new StringReader(line + "\n")).next();
+
+        // Then
+        assertThat(read).containsExactly("a,b", "say \"hi\"", "", "줄\n바꿈", "plain");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 예외")
+    void unclosed_quote_throws() {
+        // Given
+        CsvUtils.RecordReader reader = CsvUtils.reader(new StringReader("\"열린 따옴표,1\n"));
+
+        // When & Then
+        assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+    }
+}
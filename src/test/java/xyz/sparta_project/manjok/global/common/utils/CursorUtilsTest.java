@@ -0,0 +1,98 @@
+package xyz.sparta_project.manjok.global.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import xyz.sparta_project.manjok.global.common.dto.CursorRequest;
+import xyz.sparta_project.manjok.global.common.exception.CursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CursorUtils 테스트")
+class CursorUtilsTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 원래 값으로 복원")
+    void encode_and_decode() {
+        // Given
+        String cursor = CursorUtils.encode("createdAt", false, "id-1", "2025-01-01T10:00");
+
+        // When
+        CursorRequest request = CursorUtils.decode(cursor, 20);
+
+        // Then
+        assertThat(request.getSortProperty()).isEqualTo("createdAt");
+        assertThat(request.isAscending()).isFalse();
+        assertThat(request.getLastId()).isEqualTo("id-1");
+        assertThat(request.getLastSortValue()).isEqualTo("2025-01-01T10:00");
+        assertThat(request.getSize()).isEqualTo(20);
+        assertThat(request.isFirstPage()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정렬값에 구분자가 포함되어도 복원")
+    void decode_sort_value_with_delimiter() {
+        // Given
+        String cursor = CursorUtils.encode("restaurantName", true, "id-1", "김밥|천국");
+
+        // When
+        CursorRequest request = CursorUtils.decode(cursor, 10);
+
+        // Then
+        assertThat(request.getLastSortValue()).isEqualTo("김밥|천국");
+        assertThat(request.getLastId()).isEqualTo("id-1");
+    }
+
+    @Test
+    @DisplayName("Base64가 아닌 커서는 예외 발생")
+    void throw_exception_when_cursor_is_not_base64() {
+        // When & Then
+        assertThatThrownBy(() -> CursorUtils.decode("!!invalid!!", 10))
+                .isInstanceOf(CursorException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 커서는 예외 발생")
+    void throw_exception_when_cursor_format_is_invalid() {
+        // Given
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("createdAt|X|id".getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThatThrownBy(() -> CursorUtils.decode(cursor, 10))
+                .isInstanceOf(CursorException.class);
+    }
+
+    @Test
+    @DisplayName("커서 정렬 조건과 요청 정렬 조건이 다르면 예외 발생")
+    void throw_exception_when_sort_mismatch() {
+        // Given
+        String cursor = CursorUtils.encode("createdAt", false, "id-1", "2025-01-01T10:00");
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt"));
+
+        // When & Then
+        assertThatThrownBy(() -> CursorRequest.of(cursor, pageable))
+                .isInstanceOf(CursorException.class);
+    }
+
+    @Test
+    @DisplayName("커서 없이 요청하면 첫 페이지")
+    void first_page_without_cursor() {
+        // Given
+        PageRequest pageable = PageRequest.of(3, 15, Sort.by(Sort.Direction.DESC, "amount"));
+
+        // When
+        CursorRequest request = CursorRequest.of(null, pageable);
+
+        // Then
+        assertThat(request.isFirstPage()).isTrue();
+        assertThat(request.getSortProperty()).isEqualTo("amount");
+        assertThat(request.isAscending()).isFalse();
+        assertThat(request.getSize()).isEqualTo(15);
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import xyz.sparta_project.manjok.global.common.dto.CursorSlice;
 import xyz.sparta_project.manjok.global.presentation.dto.PageResponse;
 
 import java.util.Arrays;
@@ -89,6 +91,58 @@ class PageUtilsTest {
 
     }
 
+    @Test
+    @DisplayName("CursorSlice를 커서 PageResponse로 변환")
+    void convert_cursor_slice_to_page_response() {
+        // Given
+        CursorSlice<String> slice = CursorSlice.of(Arrays.asList("a", "b"), 2, true, "next-token");
+
+        // When
+        PageResponse<String> response = PageUtils.toCursorResponse(slice, String::toUpperCase);
+
+        // Then
+        assertThat(response.getContent()).containsExactly("A", "B");
+        assertThat(response.getPageInfo()).isNull();
+        assertThat(response.getCursorInfo().getSize()).isEqualTo(2);
+        assertThat(response.getCursorInfo().getNumberOfElements()).isEqualTo(2);
+        assertThat(response.getCursorInfo().isHasNext()).isTrue();
+        assertThat(response.getCursorInfo().getNextCursor()).isEqualTo("next-token");
+    }
+
+    @Test
+    @DisplayName("마지막 커서 페이지는 nextCursor가 없음")
+    void convert_last_cursor_slice() {
+        // Given
+        CursorSlice<String> slice = CursorSlice.of(Collections.singletonList("a"), 2, false, null);
+
+        // When
+        PageResponse<String> response = PageUtils.toCursorResponse(slice);
+
+        // Then
+        assertThat(response.getCursorInfo().isHasNext()).isFalse();
+        assertThat(response.getCursorInfo().getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Slice를 슬라이스 PageResponse로 변환 (근사 전체 개수 포함)")
+    void convert_slice_to_page_response() {
+        // Given
+        SliceImpl<String> slice = new SliceImpl<>(Arrays.asList("a", "b"), PageRequest.of(1, 2), true);
+
+        // When
+        PageResponse<String> none = PageUtils.toSliceResponse(slice, String::toUpperCase);
+        PageResponse<String> approximate = PageUtils.toSliceResponse(slice, 42L, String::toUpperCase);
+
+        // Then
+        assertThat(none.getContent()).containsExactly("A", "B");
+        assertThat(none.getPageInfo()).isNull();
+        assertThat(none.getSliceInfo().getPage()).isEqualTo(1);
+        assertThat(none.getSliceInfo().isHasNext()).isTrue();
+        assertThat(none.getSliceInfo().isHasPrevious()).isTrue();
+        assertThat(none.getSliceInfo().getApproximateTotalElements()).isNull();
+        assertThat(approximate.getSliceInfo().getApproximateTotalElements()).isEqualTo(42L);
+    }
+
     private class TestEntity {
         private Long id;
         private String name;
@@ -0,0 +1,103 @@
+package xyz.sparta_project.manjok.global.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CountCache 테스트")
+class CountCacheTest {
+
+    @Test
+    @DisplayName("TTL 내 같은 키는 count를 다시 실행하지 않음")
+    void reuse_count_within_ttl() {
+        // Given
+        MutableClock clock = new MutableClock();
+        CountCache cache = new CountCache(30, 100, clock);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        long first = cache.getOrCompute("k", () -> { calls.incrementAndGet(); return 10L; });
+        clock.advanceSeconds(29);
+        long second = cache.getOrCompute("k", () -> { calls.incrementAndGet(); return 20L; });
+
+        // Then
+        assertThat(first).isEqualTo(10L);
+        assertThat(second).isEqualTo(10L);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 count를 다시 실행")
+    void recompute_after_ttl() {
+        // Given
+        MutableClock clock = new MutableClock();
+        CountCache cache = new CountCache(30, 100, clock);
+        cache.getOrCompute("k", () -> 10L);
+
+        // When
+        clock.advanceSeconds(31);
+        long recomputed = cache.getOrCompute("k", () -> 20L);
+
+        // Then
+        assertThat(recomputed).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("네임스페이스 단위 무효화")
+    void evict_namespace() {
+        // Given
+        CountCache cache = new CountCache(30, 100, new MutableClock());
+        String key = CountCache.key("restaurant-search", "서울특별시");
+        cache.getOrCompute(key, () -> 10L);
+
+        // When
+        cache.evictAll("restaurant-search");
+
+        // Then
+        assertThat(cache.getOrCompute(key, () -> 20L)).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("키 정규화 - 컬렉션 순서, 대소문자, 공백 무관")
+    void normalize_key() {
+        // When
+        String a = CountCache.key("ns", " Seoul ", Set.of("b", "a"), null);
+        String b = CountCache.key("ns", "seoul", List.of("a", "b", " "), "");
+
+        // Then
+        assertThat(a).isEqualTo(b);
+        assertThat(a).isNotEqualTo(CountCache.key("ns", "busan", List.of("a", "b"), null));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advanceSeconds(long seconds) {
+            now = now.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package xyz.sparta_project.manjok.global.infrastructure.event.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.global.infrastructure.event.domain.EventLog;
+import xyz.sparta_project.manjok.global.infrastructure.event.domain.EventStatus;
+import xyz.sparta_project.manjok.global.infrastructure.event.repository.EventLogRepository;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("이벤트 재시도 배치 벤치마크 (페이로드 지연 로딩)")
+class EventRetryBatchBenchmarkTest {
+
+    private static final int EVENT_COUNT = 500;
+    private static final int PAYLOAD_LENGTH = 4 * 1024;
+    private static final String EVENT_NAME = "BenchmarkExhaustedEvent";
+
+    @Autowired
+    private EventLogRepository eventLogRepository;
+
+    @Autowired
+    private EventRetryService eventRetryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("재시도 초과 이벤트 DEAD_LETTER 전환 - 페이로드 없이 상태만 갱신")
+    void processRetry_ExhaustedBatch() {
+        // given - 재시도 횟수를 모두 쓴 실패 이벤트
+        String payload = "{\"data\":\"" + "x".repeat(PAYLOAD_LENGTH) + "\"}";
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            EventLog eventLog = EventLog.of(EVENT_NAME, payload);
+            eventLog.updateStatus(EventStatus.FAILED);
+            eventLog.setRetryCount(3);
+            eventLogRepository.save(eventLog);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        try {
+            // when
+            statistics.clear();
+            long allocated = allocatedBytes();
+            long start = System.nanoTime();
+            List<EventLog> batch = eventLogRepository.findAllByStatus(EventStatus.FAILED).stream()
+                    .filter(eventLog -> EVENT_NAME.equals(eventLog.getEventName()))
+                    .toList();
+            batch.forEach(eventRetryService::processRetry);
+            entityManager.flush();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            allocated = allocatedBytes() - allocated;
+
+            boolean lazyPayload = batch.get(0) instanceof PersistentAttributeInterceptable;
+            long payloadLoaded = batch.stream()
+                    .filter(eventLog -> Hibernate.isPropertyInitialized(eventLog, "payload"))
+                    .count();
+
+            System.out.printf(
+                    "[benchmark] retryBatch: events=%d, lazyPayload=%s, payloadLoaded=%d, elapsed=%dms, allocated=%dKB%n",
+                    batch.size(), lazyPayload, payloadLoaded, elapsedMillis, allocated / 1024);
+
+            // then - 전부 DEAD_LETTER, 바이트코드 확장 빌드에서는 페이로드를 읽지 않음
+            assertThat(batch).hasSize(EVENT_COUNT);
+            assertThat(batch).allSatisfy(eventLog ->
+                    assertThat(eventLog.getStatus()).isEqualTo(EventStatus.DEAD_LETTER));
+            assertThat(statistics.getEntityUpdateCount()).isEqualTo(EVENT_COUNT);
+            if (lazyPayload) {
+                assertThat(payloadLoaded).isZero();
+            }
+
+            // then - 필요할 때는 같은 트랜잭션 안에서 페이로드 로딩
+            assertThat(batch.get(0).getPayload()).isEqualTo(payload);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    /**
+     * 현재 스레드 누적 힙 할당량 (바이트)
+     */
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,556 @@
+package xyz.sparta_project.manjok.global.infrastructure.index;
+
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.sparta_project.manjok.domain.order.domain.model.Order;
+import xyz.sparta_project.manjok.domain.order.domain.model.OrderItem;
+import xyz.sparta_project.manjok.domain.order.domain.model.OrderStatus;
+import xyz.sparta_project.manjok.domain.order.domain.model.Orderer;
+import xyz.sparta_project.manjok.domain.order.domain.repository.OrderRepository;
+import xyz.sparta_project.manjok.domain.payment.domain.model.Payment;
+import xyz.sparta_project.manjok.domain.payment.domain.model.PaymentMethod;
+import xyz.sparta_project.manjok.domain.payment.domain.model.PaymentStatus;
+import xyz.sparta_project.manjok.domain.payment.domain.repository.PaymentRepository;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Address;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Menu;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.Restaurant;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCategory;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantCategoryRelation;
+import xyz.sparta_project.manjok.domain.restaurant.domain.model.RestaurantStatus;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCardRepository;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantCategoryRepository;
+import xyz.sparta_project.manjok.domain.restaurant.domain.repository.RestaurantRepository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 주요 조회 쿼리 인덱스 사용 검증
+ * - 실제 리포지토리 메서드를 호출해 Hibernate가 만든 SQL을 StatementInspector로 수집한 뒤 그대로 EXPLAIN
+ * - 지역/사장님/사용자/상태 값이 고르게 섞인 행을 넣고 ANALYZE로 선택도를 갱신한 상태의 실행 계획 (빈 테이블 계획 아님)
+ * - 대상 테이블을 FROM으로 조회하는 문장(목록/카운트)마다 전체 스캔(tableScan)이면 실패
+ * - 정렬까지 인덱스로 처리해야 하는 목록 조회는 선택된 인덱스가 (WHERE 등치 컬럼 → ORDER BY 컬럼) 순서가 아니면 실패
+ *   (H2는 정렬 컬럼이 인덱스 첫 컬럼일 때만 "index sorted"를 표시하므로 INFORMATION_SCHEMA의 인덱스 컬럼 순서로 판정)
+ * - 시/도만 또는 시/도·시/군/구까지만 주는 지역 검색은 인덱스 중간 컬럼(시/군/구, 동)이 비어 정렬을 인덱스로 처리할 수 없음
+ *   → 인덱스 범위 탐색까지만 검증 (정렬은 좁혀진 범위 안에서 수행)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("주요 조회 쿼리 인덱스 사용 (EXPLAIN)")
+class HotQueryIndexExplainTest {
+
+    private static final String[] PROVINCES = {"서울특별시", "부산광역시", "경기도"};
+    private static final int CITIES_PER_PROVINCE = 4;
+    private static final int DISTRICTS_PER_CITY = 5;
+    private static final int RESTAURANTS = 240;
+    private static final int OWNERS = 30;
+    private static final int USERS = 30;
+    private static final int ORDERS = 300;
+    private static final String[] TAGS = {"한식", "중식", "일식", "양식", "분식", "배달", "포장", "혼밥", "가성비", "야식"};
+
+    private static final Pageable LATEST = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+    // EXPLAIN 테이블 접근 주석: /* PUBLIC.인덱스명: 조건 */
+    private static final Pattern INDEX_ACCESS = Pattern.compile("/\\* PUBLIC\\.(\\w+)(?:: (.*?))? \\*/");
+    private static final Pattern EQUALITY = Pattern.compile("(\\w+) = \\?\\d+");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private RestaurantCardRepository restaurantCardRepository;
+
+    @Autowired
+    private RestaurantCategoryRepository restaurantCategoryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private final List<String> restaurantIds = new ArrayList<>();
+    private final List<String> categoryIds = new ArrayList<>();
+    private final List<String> orderIds = new ArrayList<>();
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+
+    /**
+     * 기록 중일 때 Hibernate가 실행하는 SQL 수집
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        @Override
+        public String inspect(String sql) {
+            if (recording) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        List<String> record(Runnable call) {
+            statements.clear();
+            recording = true;
+            try {
+                call.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(statements);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            categoryIds.add(restaurantCategoryRepository.save(RestaurantCategory.builder()
+                    .categoryCode("EXPLAIN_" + i + "_" + UUID.randomUUID().toString().substring(0, 8))
+                    .categoryName("카테고리" + i)
+                    .depth(1)
+                    .displayOrder(i)
+                    .isActive(true)
+                    .createdAt(LocalDateTime.now())
+                    .createdBy("TEST")
+                    .isDeleted(false)
+                    .restaurantRelations(new HashSet<>())
+                    .build()).getId());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < RESTAURANTS; i++) {
+            restaurantIds.add(saveRestaurant(i, now.minusMinutes(i)));
+        }
+
+        for (int i = 0; i < ORDERS; i++) {
+            String userId = "user-" + (i % USERS);
+            Order order = orderRepository.save(createOrder(userId, restaurantIds.get(i % RESTAURANTS), i));
+            orderIds.add(order.getId());
+
+            Payment payment = Payment.create(order.getId(), userId, "TOSS-" + order.getId(), "TOKEN-" + i,
+                    BigDecimal.valueOf(10000), PaymentMethod.CARD, "TEST", now.minusMinutes(i));
+            if (i % 2 == 0) {
+                payment.approve(now.minusMinutes(i), "TEST");
+            }
+            paymentRepository.save(payment);
+        }
+
+        entityManager.flush();
+        restaurantCardRepository.rebuildAll();
+        // 영업 시간 없이 저장했으므로 OPEN 상태 식당은 스케줄러 대신 직접 영업 중으로 전환
+        restaurantCardRepository.updateOpenState(restaurantIds, true);
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.createNativeQuery("ANALYZE").executeUpdate();
+    }
+
+    @Test
+    @DisplayName("리포지토리가 만든 SQL이 전체 스캔 없이 인덱스 사용 (정렬 목록은 인덱스 순서가 정렬 순서)")
+    void explain_RepositorySql_UsesIndex() {
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+        String province = PROVINCES[0];
+        String city = city(0);
+        String district = district(0);
+        String restaurantId = restaurantIds.get(0);
+
+        List<HotQuery> hotQueries = List.of(
+                // 식당 (원본 테이블)
+                HotQuery.sorted("사장님 식당 목록", "P_RESTAURANTS", "CREATED_AT",
+                        () -> restaurantRepository.findByOwnerId("owner-1", LATEST)),
+                HotQuery.sorted("식당 지역 검색 (시/도·시/군/구·동)", "P_RESTAURANTS", "CREATED_AT",
+                        () -> restaurantRepository.searchRestaurants(province, city, district,
+                                null, null, null, LATEST)),
+                HotQuery.indexed("식당 지역 검색 (시/도)", "P_RESTAURANTS",
+                        () -> restaurantRepository.searchRestaurants(province, null, null,
+                                null, null, null, LATEST)),
+                HotQuery.indexed("지역 패싯 재계산", "P_RESTAURANTS",
+                        () -> restaurantRepository.findCountedRestaurantRegions()),
+                // 식당 검색 카드
+                HotQuery.sorted("카드 지역 검색 (시/도·시/군/구·동)", "P_RESTAURANT_CARDS", "RESTAURANT_CREATED_AT",
+                        () -> restaurantCardRepository.search(province, city, district,
+                                null, null, null, false, LATEST)),
+                HotQuery.indexed("카드 지역 검색 (시/도·시/군/구)", "P_RESTAURANT_CARDS",
+                        () -> restaurantCardRepository.search(province, city, null,
+                                null, null, null, false, LATEST)),
+                HotQuery.indexed("카드 지역 검색 (시/도)", "P_RESTAURANT_CARDS",
+                        () -> restaurantCardRepository.search(province, null, null,
+                                null, null, null, false, LATEST)),
+                HotQuery.sorted("카드 영업 중 검색", "P_RESTAURANT_CARDS", "RESTAURANT_CREATED_AT",
+                        () -> restaurantCardRepository.search(province, city, district,
+                                null, null, null, true, LATEST)),
+                HotQuery.sorted("카드 추천순", "P_RESTAURANT_CARDS", "RANKING_SCORE",
+                        () -> restaurantCardRepository.searchSlice(null, null, null, null, null, null, false,
+                                PageRequest.of(0, 20, Sort.by("recommended")))),
+                HotQuery.indexed("카드 리뷰 많은순", "P_RESTAURANT_CARDS",
+                        () -> restaurantCardRepository.searchSlice(province, city, district,
+                                null, null, null, false, sortedBy("reviewCount"))),
+                HotQuery.indexed("카드 주문 많은순", "P_RESTAURANT_CARDS",
+                        () -> restaurantCardRepository.searchSlice(province, city, district,
+                                null, null, null, false, sortedBy("purchaseCount"))),
+                HotQuery.indexed("카드 이름순", "P_RESTAURANT_CARDS",
+                        () -> restaurantCardRepository.searchSlice(province, city, district,
+                                null, null, null, false, sortedBy("restaurantName"))),
+                HotQuery.sorted("카드 태그 필터", "P_RESTAURANT_CARD_TAGS", "RESTAURANT_CREATED_AT",
+                        () -> restaurantCardRepository.searchSlice(province, city, district,
+                                null, Set.of(TAGS[0]), null, false, LATEST)),
+                HotQuery.indexed("카드 태그 필터 (여러 태그, 시/도)", "P_RESTAURANT_CARD_TAGS",
+                        () -> restaurantCardRepository.searchSlice(province, null, null,
+                                null, Set.of(TAGS[0], TAGS[3]), null, false, LATEST)),
+                HotQuery.sorted("카드 카테고리 필터", "P_RESTAURANT_CARD_CATEGORIES", "RESTAURANT_CREATED_AT",
+                        () -> restaurantCardRepository.searchSlice(province, city, district,
+                                Set.of(categoryIds.get(0)), null, null, false, LATEST)),
+                HotQuery.indexed("카드 카테고리 필터 (리뷰 많은순)", "P_RESTAURANT_CARD_CATEGORIES",
+                        () -> restaurantCardRepository.searchSlice(province, city, district,
+                                Set.of(categoryIds.get(0)), null, null, false, sortedBy("reviewCount"))),
+                HotQuery.sorted("카드 카테고리 필터 (하위 카테고리 확장)", "P_RESTAURANT_CARDS", "RESTAURANT_CREATED_AT",
+                        () -> restaurantCardRepository.searchSlice(province, city, district,
+                                Set.copyOf(categoryIds), null, null, false, LATEST)),
+                // 메뉴
+                HotQuery.sorted("식당 메뉴 목록", "P_MENUS", "CREATED_AT",
+                        () -> restaurantRepository.findMenusByRestaurantId(restaurantId, LATEST)),
+                HotQuery.sorted("식당 메뉴 목록 (판매 중지 포함)", "P_MENUS", "CREATED_AT",
+                        () -> restaurantRepository.findMenusByRestaurantIdIncludingHidden(restaurantId, LATEST)),
+                // 주문
+                HotQuery.sorted("사용자 주문 목록", "P_ORDERS", "CREATED_AT",
+                        () -> orderRepository.findByUserId("user-1", LATEST)),
+                HotQuery.sorted("사용자 상태별 주문", "P_ORDERS", "CREATED_AT",
+                        () -> orderRepository.findByUserIdAndStatus("user-1", OrderStatus.PENDING, LATEST)),
+                HotQuery.sorted("상태별 주문", "P_ORDERS", "CREATED_AT",
+                        () -> orderRepository.findAllByStatus(OrderStatus.PENDING, LATEST)),
+                HotQuery.indexed("결제 완료 후 미접수 주문", "P_ORDERS",
+                        () -> orderRepository.findPendingOrdersAfterPaymentTime(to)),
+                HotQuery.sorted("결제 대기 만료 대상 주문", "P_ORDERS", "CREATED_AT",
+                        () -> orderRepository.findPaymentPendingOrderIdsCreatedBefore(to, 100)),
+                HotQuery.sorted("기간별 주문", "P_ORDERS", "CREATED_AT",
+                        () -> orderRepository.findByDateRange(from, to, LATEST)),
+                // 결제
+                HotQuery.indexed("주문 결제", "P_PAYMENTS",
+                        () -> paymentRepository.findByOrderId(orderIds.get(0))),
+                HotQuery.sorted("결제자 결제 목록", "P_PAYMENTS", "CREATED_AT",
+                        () -> paymentRepository.findByOrdererId("user-1", LATEST)),
+                HotQuery.sorted("결제자 상태별 결제", "P_PAYMENTS", "CREATED_AT",
+                        () -> paymentRepository.findByOrdererIdAndStatus("user-1", PaymentStatus.APPROVED, LATEST)),
+                HotQuery.sorted("상태별 결제", "P_PAYMENTS", "CREATED_AT",
+                        () -> paymentRepository.findAllByStatus(PaymentStatus.APPROVED, LATEST)),
+                HotQuery.indexed("미승인 결제 정리", "P_PAYMENTS",
+                        () -> paymentRepository.findPendingPaymentsBeforeTime(to)),
+                HotQuery.indexed("기간별 승인 결제", "P_PAYMENTS",
+                        () -> paymentRepository.findApprovedPaymentsByDateRange(from, to)),
+                HotQuery.sorted("기간별 결제", "P_PAYMENTS", "CREATED_AT",
+                        () -> paymentRepository.findByDateRange(from, to, LATEST))
+        );
+
+        SoftAssertions softly = new SoftAssertions();
+        for (HotQuery hotQuery : hotQueries) {
+            List<String> statements = sqlCapture.record(hotQuery.call()).stream()
+                    .filter(sql -> selectsFrom(sql, hotQuery.table()))
+                    .toList();
+            entityManager.clear();
+
+            softly.assertThat(statements).as("%s: %s 조회 SQL", hotQuery.name(), hotQuery.table()).isNotEmpty();
+            boolean sortChecked = false;
+            for (String sql : statements) {
+                String plan = explain(sql);
+                System.out.printf("[explain] %s: %s%n", hotQuery.name(), plan.replaceAll("\\s+", " "));
+
+                softly.assertThat(plan).as("%s 전체 스캔", hotQuery.name())
+                        .doesNotContainIgnoringCase("tableScan");
+                // 목록 본 쿼리(첫 ORDER BY 문장)만 정렬 검증, 이후 ID IN(...) 페치 조인 문장은 제외
+                if (hotQuery.sortColumn() != null && !sortChecked && isListQuery(sql)) {
+                    sortChecked = true;
+                    IndexAccess access = indexAccess(plan, hotQuery.table());
+                    softly.assertThat(access).as("%s 사용 인덱스", hotQuery.name()).isNotNull();
+                    if (access != null) {
+                        List<String> columns = indexColumns(access.indexName());
+                        int prefix = access.equalityColumns().size();
+                        softly.assertThat(columns.size()).as("%s %s 컬럼 수", hotQuery.name(), access.indexName())
+                                .isGreaterThan(prefix);
+                        if (columns.size() > prefix) {
+                            softly.assertThat(new HashSet<>(columns.subList(0, prefix)))
+                                    .as("%s %s 등치 접두 컬럼", hotQuery.name(), access.indexName())
+                                    .isEqualTo(access.equalityColumns());
+                            softly.assertThat(columns.get(prefix))
+                                    .as("%s %s 정렬 컬럼", hotQuery.name(), access.indexName())
+                                    .isEqualTo(hotQuery.sortColumn());
+                        }
+                    }
+                }
+            }
+            if (hotQuery.sortColumn() != null) {
+                softly.assertThat(sortChecked).as("%s 정렬 목록 SQL", hotQuery.name()).isTrue();
+            }
+        }
+        softly.assertAll();
+    }
+
+    /**
+     * H2는 등치 접두 컬럼 뒤의 정렬 컬럼을 비용에 반영하지 않아 같은 접두의 인덱스 중 먼저 선언된 것을 고름
+     * → 최신순 외 정렬은 실행 계획 대신 (지역 [+ 태그|카테고리], 정렬 컬럼) 인덱스가 모두 있는지 스키마로 검증
+     */
+    @Test
+    @DisplayName("검색 카드/카드 연결 테이블에 모든 정렬 컬럼의 (필터 접두, 정렬) 인덱스가 있음")
+    void cardSortIndexes_CoverEverySortColumn() {
+        List<String> region = List.of("PROVINCE", "CITY", "DISTRICT");
+        Map<String, List<String>> prefixes = Map.of(
+                "P_RESTAURANT_CARDS", region,
+                "P_RESTAURANT_CARD_TAGS", concat(List.of("TAG"), region),
+                "P_RESTAURANT_CARD_CATEGORIES", concat(List.of("CATEGORY_ID"), region)
+        );
+        List<String> sortColumns = List.of("RESTAURANT_CREATED_AT", "REVIEW_RATING", "RANKING_SCORE",
+                "REVIEW_COUNT", "PURCHASE_COUNT", "RESTAURANT_NAME");
+
+        SoftAssertions softly = new SoftAssertions();
+        prefixes.forEach((table, prefix) -> {
+            Collection<List<String>> indexes = tableIndexColumns(table);
+            for (String sortColumn : sortColumns) {
+                softly.assertThat(indexes).as("%s (%s, %s) 인덱스", table, prefix, sortColumn)
+                        .contains(concat(prefix, List.of(sortColumn)));
+            }
+        });
+        softly.assertAll();
+    }
+
+    /**
+     * 주요 조회 1건
+     *
+     * @param table FROM 첫 테이블 (이 테이블을 조회하는 문장만 EXPLAIN)
+     * @param sortColumn 인덱스 순서로 정렬을 처리해야 하는 컬럼 (null이면 인덱스 사용만 검증)
+     */
+    private record HotQuery(String name, String table, String sortColumn, Runnable call) {
+
+        static HotQuery indexed(String name, String table, Runnable call) {
+            return new HotQuery(name, table, null, call);
+        }
+
+        static HotQuery sorted(String name, String table, String sortColumn, Runnable call) {
+            return new HotQuery(name, table, sortColumn, call);
+        }
+    }
+
+    /**
+     * 실행 계획에서 대상 테이블에 선택된 인덱스와 등치(= ?) 조건 컬럼
+     */
+    private record IndexAccess(String indexName, Set<String> equalityColumns) {
+    }
+
+    private static IndexAccess indexAccess(String plan, String table) {
+        String normalized = plan.replaceAll("\\s+", " ");
+        int from = normalized.indexOf("FROM \"PUBLIC\".\"" + table + "\"");
+        if (from < 0) {
+            return null;
+        }
+        Matcher matcher = INDEX_ACCESS.matcher(normalized);
+        if (!matcher.find(from)) {
+            return null;
+        }
+        Set<String> equalityColumns = new HashSet<>();
+        if (matcher.group(2) != null) {
+            Matcher equality = EQUALITY.matcher(matcher.group(2));
+            while (equality.find()) {
+                equalityColumns.add(equality.group(1));
+            }
+        }
+        return new IndexAccess(matcher.group(1), equalityColumns);
+    }
+
+    private List<String> indexColumns(String indexName) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS"
+                            + " WHERE INDEX_SCHEMA = 'PUBLIC' AND INDEX_NAME = ? ORDER BY ORDINAL_POSITION")) {
+                statement.setString(1, indexName);
+                List<String> columns = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        columns.add(resultSet.getString(1));
+                    }
+                }
+                return columns;
+            }
+        });
+    }
+
+    private Collection<List<String>> tableIndexColumns(String table) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT INDEX_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS"
+                            + " WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = ?"
+                            + " ORDER BY INDEX_NAME, ORDINAL_POSITION")) {
+                statement.setString(1, table);
+                Map<String, List<String>> indexes = new LinkedHashMap<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        indexes.computeIfAbsent(resultSet.getString(1), name -> new ArrayList<>())
+                                .add(resultSet.getString(2));
+                    }
+                }
+                return indexes.values();
+            }
+        });
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> joined = new ArrayList<>(first);
+        joined.addAll(second);
+        return joined;
+    }
+
+    /**
+     * 파라미터(?)가 남은 SQL 그대로 EXPLAIN (H2는 EXPLAIN에 파라미터 바인딩을 요구하지 않음)
+     */
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                 ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+    }
+
+    /**
+     * 대상 테이블을 FROM 첫 테이블로 조회하는 SELECT인지
+     */
+    private static boolean selectsFrom(String sql, String table) {
+        String normalized = sql.toUpperCase(Locale.ROOT).replaceAll("\\s+", " ");
+        int from = normalized.indexOf(" FROM ");
+        return normalized.startsWith("SELECT") && from > 0 && normalized.startsWith(table + " ", from + 6);
+    }
+
+    private static boolean isListQuery(String sql) {
+        return sql.toUpperCase(Locale.ROOT).contains(" ORDER BY ");
+    }
+
+    private String saveRestaurant(int index, LocalDateTime createdAt) {
+        Restaurant restaurant = Restaurant.builder()
+                .id(UUID.randomUUID().toString())
+                .createdAt(createdAt)
+                .ownerId("owner-" + (index % OWNERS))
+                .ownerName("사장님" + index)
+                .restaurantName("식당" + index)
+                .status(RestaurantStatus.PREPARING)
+                .address(Address.builder()
+                        .province(PROVINCES[index % PROVINCES.length])
+                        .city(city(index / PROVINCES.length))
+                        .district(district(index / (PROVINCES.length * CITIES_PER_PROVINCE)))
+                        .detailAddress(index + "번지")
+                        .build())
+                .contactNumber("02-1234-5678")
+                .tags(new ArrayList<>(List.of(TAGS[index % TAGS.length], TAGS[(index + 3) % TAGS.length])))
+                .isActive(index % 10 != 9)
+                .viewCount(0)
+                .wishlistCount(0)
+                .reviewCount(0)
+                .reviewRating(BigDecimal.ZERO)
+                .purchaseCount(0)
+                .rankingScore((double) (index % 50))
+                .menus(new ArrayList<>())
+                .menuCategories(new ArrayList<>())
+                .operatingDays(new HashSet<>())
+                .categoryRelations(new HashSet<>())
+                .createdBy("TEST")
+                .isDeleted(index % 20 == 19)
+                .build();
+        restaurant.getCategoryRelations().add(RestaurantCategoryRelation.builder()
+                .categoryId(categoryIds.get(index % categoryIds.size()))
+                .isPrimary(true)
+                .createdAt(createdAt)
+                .createdBy("TEST")
+                .isDeleted(false)
+                .build());
+        for (int m = 0; m < 3; m++) {
+            Menu menu = restaurant.addMenu("메뉴" + m, null, BigDecimal.valueOf(8000 + m * 1000), "TEST");
+            if (m == 2) {
+                menu.setAvailable(false, "TEST");
+            }
+        }
+        if (index % 3 == 0) {
+            restaurant.changeStatus(RestaurantStatus.OPEN, "TEST");
+        }
+        return restaurantRepository.save(restaurant).getId();
+    }
+
+    private Order createOrder(String userId, String restaurantId, int index) {
+        xyz.sparta_project.manjok.domain.order.domain.model.Address address =
+                xyz.sparta_project.manjok.domain.order.domain.model.Address.create(
+                        "서울특별시", "중구", "명동", index + "번지",
+                        xyz.sparta_project.manjok.domain.order.domain.model.Coordinate.create(
+                                new BigDecimal("37.5665"), new BigDecimal("126.9780")));
+        Orderer orderer = Orderer.create(userId, "주문자", "010-1234-5678", address, null);
+        OrderItem item = OrderItem.create("menu-" + index, "메뉴", new BigDecimal("10000"), 1,
+                xyz.sparta_project.manjok.domain.order.domain.model.Restaurant.create(
+                        restaurantId, "식당", "02-1234-5678", address),
+                List.of());
+        Order order = Order.create(orderer, List.of(item),
+                xyz.sparta_project.manjok.domain.order.domain.model.Payment.createPending("PAY-" + index),
+                LocalDateTime.now(), userId);
+        if (index % 2 == 0) {
+            order.completePayment("PAY-" + index, LocalDateTime.now().minusMinutes(index), "TEST");
+            order.toPending("TEST");
+        }
+        return order;
+    }
+
+    private static Pageable sortedBy(String property) {
+        return PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, property));
+    }
+
+    private static String city(int index) {
+        return "시군구" + (index % CITIES_PER_PROVINCE);
+    }
+
+    private static String district(int index) {
+        return "동" + (index % DISTRICTS_PER_CITY);
+    }
+}
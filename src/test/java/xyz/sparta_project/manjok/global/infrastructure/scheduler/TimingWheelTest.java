@@ -0,0 +1,112 @@
+package xyz.sparta_project.manjok.global.infrastructure.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TimingWheel 테스트")
+class TimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L - (1_700_000_000_000L % 1000);
+
+    @Test
+    @DisplayName("1단계 범위 안의 타이머는 해당 틱에 만료")
+    void expire_in_first_level() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 60, START);
+        wheel.schedule("a", START + 5_000);
+        wheel.schedule("b", START + 5_500);
+
+        // When
+        List<TimingWheel.Timeout<String>> early = wheel.advanceTo(START + 4_999);
+        List<TimingWheel.Timeout<String>> onTime = wheel.advanceTo(START + 5_000);
+
+        // Then
+        assertThat(early).isEmpty();
+        assertThat(onTime).extracting(TimingWheel.Timeout::getPayload).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("상위 휠에 들어간 타이머는 하위로 내려와 정확한 틱에 만료")
+    void cascade_from_overflow_levels() {
+        // Given - 1초 x 60 -> 1분 x 60 -> 1시간 x 60
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 60, START);
+        long twoMinutes = START + 125_000;
+        long threeHours = START + 3 * 3_600_000L + 7_000;
+        wheel.schedule("2m", twoMinutes);
+        wheel.schedule("3h", threeHours);
+
+        // When & Then
+        assertThat(wheel.advanceTo(twoMinutes - 1000)).isEmpty();
+        assertThat(wheel.advanceTo(twoMinutes)).extracting(TimingWheel.Timeout::getPayload).containsExactly("2m");
+        assertThat(wheel.advanceTo(threeHours - 1000)).isEmpty();
+        assertThat(wheel.advanceTo(threeHours)).extracting(TimingWheel.Timeout::getPayload).containsExactly("3h");
+    }
+
+    @Test
+    @DisplayName("무작위 마감 시각 - 모든 타이머가 마감 틱에 한 번씩 만료")
+    void random_deadlines_expire_on_their_tick() {
+        // Given
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 60, START);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = START + 1000 + (long) random.nextInt(7 * 24 * 3600) * 1000;
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        // When - 1분 간격으로 일주일 진행
+        List<Long> fired = new ArrayList<>();
+        for (long now = START; now <= START + 7L * 24 * 3_600_000 + 60_000; now += 60_000) {
+            for (TimingWheel.Timeout<Long> timeout : wheel.advanceTo(now)) {
+                assertThat(timeout.getDeadlineMillis()).isLessThanOrEqualTo(now);
+                assertThat(timeout.getDeadlineMillis()).isGreaterThan(now - 60_000);
+                fired.add(timeout.getPayload());
+            }
+        }
+
+        // Then
+        assertThat(fired).containsExactlyInAnyOrderElementsOf(deadlines);
+    }
+
+    @Test
+    @DisplayName("취소된 타이머는 만료되지 않음")
+    void cancel_timeout() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 60, START);
+        TimingWheel.Timeout<String> timeout = wheel.schedule("a", START + 90_000);
+
+        // When
+        wheel.cancel(timeout);
+
+        // Then
+        assertThat(wheel.advanceTo(START + 120_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각은 등록하지 않고 null 반환")
+    void past_deadline_returns_null() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 60, START);
+
+        // When & Then
+        assertThat(wheel.schedule("a", START - 1)).isNull();
+        assertThat(wheel.schedule("b", START + 999)).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 틱/휠 크기는 예외")
+    void invalid_arguments() {
+        assertThatThrownBy(() -> new TimingWheel<String>(0, 60, START))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel<String>(1000, 1, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
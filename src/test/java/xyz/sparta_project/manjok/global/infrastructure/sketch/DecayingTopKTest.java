@@ -0,0 +1,82 @@
+package xyz.sparta_project.manjok.global.infrastructure.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("DecayingTopK 테스트")
+class DecayingTopKTest {
+
+    private static final long DAY = Duration.ofDays(1).toMillis();
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("점수 내림차순으로 상위 k개만 유지")
+    void keeps_top_k_in_order() {
+        // Given
+        DecayingTopK topK = new DecayingTopK(7 * DAY, 3, START);
+
+        // When
+        topK.add("a", 1, START);
+        topK.add("b", 5, START);
+        topK.add("c", 3, START);
+        topK.add("d", 4, START);
+        topK.add("a", 10, START);
+
+        // Then
+        assertThat(topK.top(10, START)).extracting(DecayingTopK.Entry::key)
+                .containsExactly("a", "b", "d");
+        assertThat(topK.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("반감기가 지나면 점수가 절반으로 감쇠")
+    void scores_decay_by_half_life() {
+        // Given
+        DecayingTopK topK = new DecayingTopK(7 * DAY, 5, START);
+        topK.add("a", 8, START);
+
+        // When
+        List<DecayingTopK.Entry> afterWeek = topK.top(1, START + 7 * DAY);
+
+        // Then
+        assertThat(afterWeek.get(0).score()).isCloseTo(4.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("오래된 판매량보다 최근 판매량이 앞선다")
+    void recent_purchases_overtake_old_ones() {
+        // Given
+        DecayingTopK topK = new DecayingTopK(7 * DAY, 5, START);
+        topK.add("old", 100, START);
+
+        // When - 4주 뒤 (1/16로 감쇠) 10개 판매
+        topK.add("new", 10, START + 28 * DAY);
+
+        // Then
+        assertThat(topK.top(2, START + 28 * DAY)).extracting(DecayingTopK.Entry::key)
+                .containsExactly("new", "old");
+    }
+
+    @Test
+    @DisplayName("기준 시각 재조정 후에도 순서와 감쇠 점수가 유지된다")
+    void rescale_keeps_order() {
+        // Given - 반감기 1일, 100일 경과 시 재조정 발생
+        DecayingTopK topK = new DecayingTopK(DAY, 5, START);
+        topK.add("a", 2, START + 50 * DAY);
+        topK.add("b", 1, START + 50 * DAY);
+
+        // When
+        topK.add("c", 1, START + 100 * DAY);
+
+        // Then
+        List<DecayingTopK.Entry> top = topK.top(3, START + 100 * DAY);
+        assertThat(top).extracting(DecayingTopK.Entry::key).containsExactly("c", "a", "b");
+        assertThat(top.get(0).score()).isCloseTo(1.0, within(1e-9));
+    }
+}
@@ -0,0 +1,190 @@
+package xyz.sparta_project.manjok.global.infrastructure.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CountMinSketch / SlidingWindowTopK 테스트")
+class SlidingWindowTopKTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long START = 1_700_000_000_000L - (1_700_000_000_000L % (5 * MINUTE));
+
+    @Test
+    @DisplayName("스케치 추정치는 실제 빈도 이상이고 충돌이 적으면 정확하다")
+    void sketch_estimate_never_underestimates() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(2048, 4);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            sketch.add("key-" + i, i % 10 + 1);
+        }
+
+        // Then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(sketch.estimate("key-" + i)).isGreaterThanOrEqualTo(i % 10 + 1);
+        }
+        assertThat(sketch.estimate("key-7")).isEqualTo(8);
+        assertThat(sketch.estimate("unknown")).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("스케치를 병합하면 두 버킷의 빈도가 합쳐진다")
+    void sketch_merge_buckets() {
+        // Given
+        CountMinSketch nodeA = new CountMinSketch(512, 4);
+        CountMinSketch nodeB = new CountMinSketch(512, 4);
+        nodeA.add("치킨", 3);
+        nodeB.add("치킨", 4);
+        nodeB.add("피자", 2);
+
+        // When
+        nodeA.merge(nodeB);
+
+        // Then
+        assertThat(nodeA.estimate("치킨")).isEqualTo(7);
+        assertThat(nodeA.estimate("피자")).isEqualTo(2);
+        assertThat(nodeA.getTotalCount()).isEqualTo(9);
+        assertThatThrownBy(() -> nodeA.merge(new CountMinSketch(256, 4)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("윈도우 상위 키를 빈도 내림차순으로 반환")
+    void top_returns_most_frequent_keys() {
+        // Given
+        SlidingWindowTopK window = new SlidingWindowTopK(5 * MINUTE, 12, 1024, 4, 10);
+
+        // When - 롱테일 키 500개 + 인기 키 3개
+        for (int i = 0; i < 500; i++) {
+            window.add("tail-" + i, 1, START + i);
+        }
+        window.add("hot-1", 30, START);
+        window.add("hot-2", 20, START + MINUTE);
+        window.add("hot-3", 10, START + 2 * MINUTE);
+
+        // Then
+        List<SlidingWindowTopK.Entry> top = window.top(3, START + 3 * MINUTE);
+        assertThat(top).extracting(SlidingWindowTopK.Entry::key)
+                .containsExactly("hot-1", "hot-2", "hot-3");
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 버킷은 집계에서 빠진다")
+    void expired_buckets_are_excluded() {
+        // Given
+        SlidingWindowTopK window = new SlidingWindowTopK(5 * MINUTE, 12, 256, 4, 10);
+        window.add("old", 100, START);
+        window.add("recent", 1, START + 30 * MINUTE);
+
+        // When - 1시간 5분 뒤
+        List<SlidingWindowTopK.Entry> top = window.top(10, START + 65 * MINUTE);
+
+        // Then
+        assertThat(top).extracting(SlidingWindowTopK.Entry::key).containsExactly("recent");
+    }
+
+    @Test
+    @DisplayName("버킷 스케치는 신호가 들어온 버킷에만 할당된다")
+    void bucket_sketches_are_allocated_lazily() {
+        // Given
+        SlidingWindowTopK window = new SlidingWindowTopK(5 * MINUTE, 12, 1024, 4, 10);
+        assertThat(window.allocatedBuckets()).isZero();
+        assertThat(window.top(10, START)).isEmpty();
+
+        // When - 같은 버킷 2건 + 10분 뒤 1건
+        window.add("a", 1, START);
+        window.add("b", 1, START + MINUTE);
+        window.add("a", 1, START + 10 * MINUTE);
+
+        // Then
+        assertThat(window.allocatedBuckets()).isEqualTo(2);
+        assertThat(window.top(10, START + 10 * MINUTE))
+                .containsExactly(new SlidingWindowTopK.Entry("a", 2), new SlidingWindowTopK.Entry("b", 1));
+    }
+
+    @Test
+    @DisplayName("후보 수를 넘으면 가장 작은 후보가 더 큰 키로 교체된다")
+    void candidates_are_bounded() {
+        // Given
+        SlidingWindowTopK window = new SlidingWindowTopK(5 * MINUTE, 1, 1024, 4, 3);
+
+        // When
+        window.add("a", 1, START);
+        window.add("b", 2, START);
+        window.add("c", 3, START);
+        window.add("d", 10, START);
+
+        // Then
+        assertThat(window.top(10, START)).extracting(SlidingWindowTopK.Entry::key)
+                .containsExactly("d", "c", "b");
+    }
+
+    @Test
+    @DisplayName("다른 노드 윈도우를 병합하면 같은 시각 버킷이 합쳐진다")
+    void merge_windows_by_bucket_start() {
+        // Given
+        SlidingWindowTopK nodeA = new SlidingWindowTopK(5 * MINUTE, 12, 512, 4, 10);
+        SlidingWindowTopK nodeB = new SlidingWindowTopK(5 * MINUTE, 12, 512, 4, 10);
+        nodeA.add("치킨", 3, START);
+        nodeB.add("치킨", 4, START + MINUTE);
+        nodeB.add("피자", 5, START + 10 * MINUTE);
+
+        // When
+        nodeA.merge(nodeB);
+
+        // Then
+        assertThat(nodeA.top(10, START + 10 * MINUTE))
+                .containsExactly(new SlidingWindowTopK.Entry("치킨", 7), new SlidingWindowTopK.Entry("피자", 5));
+        assertThatThrownBy(() -> nodeA.merge(new SlidingWindowTopK(5 * MINUTE, 12, 256, 4, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다른 윈도우를 함께 합산해 조회해도 양쪽 윈도우는 바뀌지 않는다")
+    void top_with_other_window() {
+        // Given
+        SlidingWindowTopK local = new SlidingWindowTopK(5 * MINUTE, 12, 512, 4, 10);
+        SlidingWindowTopK remote = new SlidingWindowTopK(5 * MINUTE, 12, 512, 4, 10);
+        local.add("치킨", 3, START);
+        remote.add("치킨", 4, START);
+        remote.add("피자", 5, START + MINUTE);
+
+        // When
+        List<SlidingWindowTopK.Entry> top = local.top(10, START + MINUTE, remote);
+
+        // Then
+        assertThat(top).containsExactly(new SlidingWindowTopK.Entry("치킨", 7), new SlidingWindowTopK.Entry("피자", 5));
+        assertThat(local.top(10, START + MINUTE)).containsExactly(new SlidingWindowTopK.Entry("치킨", 3));
+        assertThat(remote.top(10, START + MINUTE)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("직렬화 후 복원한 윈도우는 원본과 같은 상위 키와 추정치를 반환")
+    void window_bytes_round_trip() {
+        // Given
+        SlidingWindowTopK window = new SlidingWindowTopK(5 * MINUTE, 12, 256, 4, 5);
+        for (int i = 0; i < 50; i++) {
+            window.add("key-" + i, i + 1, START + (i % 6) * 5 * MINUTE);
+        }
+
+        // When
+        SlidingWindowTopK restored = SlidingWindowTopK.fromBytes(window.toBytes());
+
+        // Then
+        long now = START + 30 * MINUTE;
+        assertThat(restored.top(10, now)).isEqualTo(window.top(10, now));
+        assertThat(restored.allocatedBuckets()).isEqualTo(window.allocatedBuckets());
+        assertThat(restored.isCompatible(window)).isTrue();
+        assertThat(restored.isIdle(now + 24 * 60 * MINUTE)).isTrue();
+        CountMinSketch sketch = new CountMinSketch(64, 3);
+        sketch.add("치킨", 7);
+        assertThat(CountMinSketch.fromBytes(sketch.toBytes()).estimate("치킨")).isEqualTo(7);
+    }
+}